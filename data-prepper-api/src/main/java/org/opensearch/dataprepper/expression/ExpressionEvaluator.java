@@ -6,8 +6,13 @@
 package org.opensearch.dataprepper.expression;
 
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.BiPredicate;
 
 /**
  * @since 1.3
@@ -35,6 +40,58 @@ public interface ExpressionEvaluator {
         }
     }
 
+    /**
+     * @since 2.8
+     * Evaluates a conditional statement against the event of every record in a batch. Implementations can use this to
+     * resolve the statement once for the whole batch rather than once per event.
+     *
+     * @param statement string to be parsed and evaluated
+     * @param records records whose events are used to resolve external references in the statement
+     * @param failureHandler called with the event and the exception when the statement cannot be evaluated for an
+     *                       event. Its return value is used as the result for that event.
+     * @return a {@link BitSet} in which bit <code>i</code> is set when the statement evaluated to true for the
+     * <code>i</code>-th record in iteration order
+     */
+    default BitSet evaluateConditional(final String statement,
+                                       final Collection<Record<Event>> records,
+                                       final BiPredicate<Event, Exception> failureHandler) {
+        final BitSet results = new BitSet(records.size());
+        int index = 0;
+        for (final Record<Event> record : records) {
+            final Event event = record.getData();
+            boolean result;
+            try {
+                result = evaluateConditional(statement, event);
+            } catch (final Exception e) {
+                result = failureHandler.test(event, e);
+            }
+            results.set(index++, result);
+        }
+        return results;
+    }
+
+    /**
+     * @since 2.8
+     * Evaluates several conditional statements against the event of every record in a batch. Implementations can use
+     * this to evaluate sub-expressions which appear in more than one of the statements only once per event.
+     *
+     * @param statements strings to be parsed and evaluated
+     * @param records records whose events are used to resolve external references in the statements
+     * @param failureHandler called with the event and the exception when a statement cannot be evaluated for an
+     *                       event. Its return value is used as the result for that event.
+     * @return one {@link BitSet} per statement, in the order of the statements, as returned by
+     * {@link #evaluateConditional(String, Collection, BiPredicate)}
+     */
+    default List<BitSet> evaluateConditionals(final List<String> statements,
+                                              final Collection<Record<Event>> records,
+                                              final BiPredicate<Event, Exception> failureHandler) {
+        final List<BitSet> results = new ArrayList<>(statements.size());
+        for (final String statement : statements) {
+            results.add(evaluateConditional(statement, records, failureHandler));
+        }
+        return results;
+    }
+
     Boolean isValidExpressionStatement(final String statement);
 
     Boolean isValidFormatExpression(final String format);
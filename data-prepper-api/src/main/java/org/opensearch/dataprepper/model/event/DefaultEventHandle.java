@@ -10,21 +10,30 @@ import java.lang.ref.WeakReference;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.function.BiConsumer;
 import java.time.Instant;
 import java.io.Serializable;
 
+/**
+ * The default {@link EventHandle}. The list of release consumers is only created when the first consumer is
+ * registered, since most events have none.
+ */
 public class DefaultEventHandle implements EventHandle, InternalEventHandle, Serializable {
+    private static final AtomicIntegerFieldUpdater<DefaultEventHandle> REFERENCE_COUNT =
+            AtomicIntegerFieldUpdater.newUpdater(DefaultEventHandle.class, "referenceCount");
     private Instant externalOriginationTime;
     private final Instant internalOriginationTime;
     private WeakReference<AcknowledgementSet> acknowledgementSetRef;
     private List<BiConsumer<EventHandle, Boolean>> releaseConsumers;
+    private volatile int referenceCount;
+    private transient long processingMark;
 
     public DefaultEventHandle(final Instant internalOriginationTime) {
         this.acknowledgementSetRef = null;
         this.externalOriginationTime = null;
         this.internalOriginationTime = internalOriginationTime;
-        this.releaseConsumers = new ArrayList<>();
+        this.releaseConsumers = null;
     }
 
     @Override
@@ -44,6 +53,45 @@ public class DefaultEventHandle implements EventHandle, InternalEventHandle, Ser
         return acknowledgementSetRef.get();
     }
 
+    @Override
+    public boolean initializeReferenceCount() {
+        return REFERENCE_COUNT.getAndSet(this, 1) == 0;
+    }
+
+    @Override
+    public boolean acquireReference() {
+        int currentCount;
+        do {
+            currentCount = referenceCount;
+            if (currentCount <= 0) {
+                return false;
+            }
+        } while (!REFERENCE_COUNT.compareAndSet(this, currentCount, currentCount + 1));
+        return true;
+    }
+
+    @Override
+    public void setProcessingMark(final long processingMark) {
+        this.processingMark = processingMark;
+    }
+
+    @Override
+    public long getProcessingMark() {
+        return processingMark;
+    }
+
+    @Override
+    public int releaseReference() {
+        int currentCount;
+        do {
+            currentCount = referenceCount;
+            if (currentCount <= 0) {
+                return -1;
+            }
+        } while (!REFERENCE_COUNT.compareAndSet(this, currentCount, currentCount - 1));
+        return currentCount - 1;
+    }
+
     @Override
     public Instant getInternalOriginationTime() {
         return this.internalOriginationTime;
@@ -56,9 +104,11 @@ public class DefaultEventHandle implements EventHandle, InternalEventHandle, Ser
 
     @Override
     public void release(boolean result) {
-        synchronized (releaseConsumers) {
-            for (final BiConsumer<EventHandle, Boolean> consumer: releaseConsumers) {
-                consumer.accept(this, result);
+        synchronized (this) {
+            if (releaseConsumers != null) {
+                for (final BiConsumer<EventHandle, Boolean> consumer: releaseConsumers) {
+                    consumer.accept(this, result);
+                }
             }
         }
         AcknowledgementSet acknowledgementSet = getAcknowledgementSet();
@@ -69,7 +119,10 @@ public class DefaultEventHandle implements EventHandle, InternalEventHandle, Ser
 
     @Override
     public void onRelease(BiConsumer<EventHandle, Boolean> releaseConsumer) {
-        synchronized (releaseConsumers) {
+        synchronized (this) {
+            if (releaseConsumers == null) {
+                releaseConsumers = new ArrayList<>(1);
+            }
             releaseConsumers.add(releaseConsumer);
         }
     }
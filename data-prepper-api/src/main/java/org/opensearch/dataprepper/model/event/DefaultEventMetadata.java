@@ -8,6 +8,7 @@ package org.opensearch.dataprepper.model.event;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.time.Instant;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -20,11 +21,16 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
  * A Basic implementation of {@link EventMetadata} interfaces utilizing an immutable map for attributes.
+ * <p>
+ * Most events never have attributes or tags, so the attributes map and the tags set are only created when the
+ * first attribute or tag is added. Until then, the getters return shared immutable empty instances.
  *
  * @since 1.2
  */
 public class DefaultEventMetadata implements EventMetadata {
 
+    private static final int INITIAL_CAPACITY = 4;
+
     @JsonProperty("event_type")
     private String eventType;
 
@@ -51,9 +57,9 @@ public class DefaultEventMetadata implements EventMetadata {
 
         this.timeReceived = builder.timeReceived == null ? Instant.now() : builder.timeReceived;
 
-        this.attributes = builder.attributes == null ? new HashMap<>() : new HashMap<>(builder.attributes);
+        this.attributes = builder.attributes == null || builder.attributes.isEmpty() ? null : new HashMap<>(builder.attributes);
 
-        this.tags = builder.tags == null ? new HashSet<>() : new HashSet(builder.tags);
+        this.tags = builder.tags == null || builder.tags.isEmpty() ? null : new HashSet<>(builder.tags);
 
         this.externalOriginationTime = builder.externalOriginationTime;
     }
@@ -61,8 +67,8 @@ public class DefaultEventMetadata implements EventMetadata {
     private DefaultEventMetadata(final EventMetadata eventMetadata) {
         this.eventType = eventMetadata.getEventType();
         this.timeReceived = eventMetadata.getTimeReceived();
-        this.attributes = new HashMap<>(eventMetadata.getAttributes());
-        this.tags = new HashSet<>(eventMetadata.getTags());
+        this.attributes = eventMetadata.getAttributes().isEmpty() ? null : new HashMap<>(eventMetadata.getAttributes());
+        this.tags = eventMetadata.getTags().isEmpty() ? null : new HashSet<>(eventMetadata.getTags());
         this.externalOriginationTime = null;
     }
 
@@ -88,16 +94,22 @@ public class DefaultEventMetadata implements EventMetadata {
 
     @Override
     public Map<String, Object> getAttributes() {
-        return attributes;
+        return attributes == null ? Collections.emptyMap() : attributes;
     }
 
     @Override
     public void setAttribute(final String key, final Object value) {
+        if (attributes == null) {
+            attributes = new HashMap<>(INITIAL_CAPACITY);
+        }
         attributes.put(key, value);
     }
 
     @Override
     public Object getAttribute(final String attributeKey) {
+        if (attributes == null) {
+            return null;
+        }
         String key = (attributeKey.charAt(0) == '/') ? attributeKey.substring(1) : attributeKey;
 
         // Does not support recursive or inner-object lookups for now.
@@ -106,13 +118,14 @@ public class DefaultEventMetadata implements EventMetadata {
 
     @Override
     public Set<String> getTags() {
-        return tags;
+        return tags == null ? Collections.emptySet() : tags;
     }
 
     @Override
     public Boolean hasTags(final List<String> tagsList) {
+        final Set<String> currentTags = getTags();
         for (final String tag: tagsList) {
-            if (!tags.contains(tag)) {
+            if (!currentTags.contains(tag)) {
                 return false;
             }
         }
@@ -121,7 +134,10 @@ public class DefaultEventMetadata implements EventMetadata {
 
     @Override
     public void addTags(final List<String> newTags) {
-        if (Objects.nonNull(newTags)) {
+        if (Objects.nonNull(newTags) && !newTags.isEmpty()) {
+            if (tags == null) {
+                tags = new HashSet<>(Math.max(INITIAL_CAPACITY, newTags.size() * 2));
+            }
             tags.addAll(newTags);
         }
     }
@@ -133,13 +149,13 @@ public class DefaultEventMetadata implements EventMetadata {
         final DefaultEventMetadata that = (DefaultEventMetadata) o;
         return Objects.equals(eventType, that.eventType)
                 && Objects.equals(timeReceived, that.timeReceived)
-                && Objects.equals(attributes, that.attributes)
-                && Objects.equals(tags, that.tags);
+                && Objects.equals(getAttributes(), that.getAttributes())
+                && Objects.equals(getTags(), that.getTags());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(eventType, timeReceived, attributes);
+        return Objects.hash(eventType, timeReceived, getAttributes());
     }
 
     @Override
@@ -147,8 +163,8 @@ public class DefaultEventMetadata implements EventMetadata {
         return "DefaultEventMetadata{" +
                 "eventType='" + eventType + '\'' +
                 ", timeReceived=" + timeReceived +
-                ", attributes=" + attributes +
-                ", tags=" + tags +
+                ", attributes=" + getAttributes() +
+                ", tags=" + getTags() +
                 '}';
     }
 
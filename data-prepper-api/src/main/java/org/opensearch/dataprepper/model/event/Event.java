@@ -9,6 +9,7 @@ import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import com.fasterxml.jackson.databind.JsonNode;
 
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -65,6 +66,64 @@ public interface Event extends Serializable {
      */
     void delete(String key);
 
+    /**
+     * Adds or updates the key with a given value in the Event
+     *
+     * @param key   where the value will be set
+     * @param value value to set the key to
+     * @since 2.8
+     */
+    default void put(EventKey key, Object value) {
+        put(key.getKey(), value);
+    }
+
+    /**
+     * Retrieves the given key from the Event
+     *
+     * @param key   the value to retrieve from
+     * @param clazz the return type of the value
+     * @param <T>   The type
+     * @return T a clazz object from the key
+     * @since 2.8
+     */
+    default <T> T get(EventKey key, Class<T> clazz) {
+        return get(key.getKey(), clazz);
+    }
+
+    /**
+     * Retrieves the given key from the Event as a List
+     *
+     * @param key   the value to retrieve from
+     * @param clazz the return type of elements in the list
+     * @param <T>   The type
+     * @return {@literal List<T>} a list of clazz elements
+     * @since 2.8
+     */
+    default <T> List<T> getList(EventKey key, Class<T> clazz) {
+        return getList(key.getKey(), clazz);
+    }
+
+    /**
+     * Deletes the given key from the Event
+     *
+     * @param key the field to be deleted
+     * @since 2.8
+     */
+    default void delete(EventKey key) {
+        delete(key.getKey());
+    }
+
+    /**
+     * Checks if the key exists.
+     *
+     * @param key name of the key to look for
+     * @return returns true if the key exists, otherwise false
+     * @since 2.8
+     */
+    default boolean containsKey(EventKey key) {
+        return containsKey(key.getKey());
+    }
+
     /**
      * Delete all keys from the Event
      * @since 2.8
@@ -257,5 +316,16 @@ public interface Event extends Serializable {
          * @since 2.3
          */
         public abstract String toJsonString();
+
+        /**
+         * Returns the same json as {@link #toJsonString()} encoded as UTF-8. Implementations may override this
+         * to serialize directly to bytes without creating the intermediate string.
+         *
+         * @return json bytes
+         * @since 2.8
+         */
+        public byte[] toJsonBytes() {
+            return toJsonString().getBytes(StandardCharsets.UTF_8);
+        }
     }
 }
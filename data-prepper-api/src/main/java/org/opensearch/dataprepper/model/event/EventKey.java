@@ -0,0 +1,145 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.Objects;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A key into an {@link Event} which has been validated and compiled into its {@link JsonPointer} form once.
+ * <p>
+ * Plugins which access the same keys for every event should create their keys once, typically from configuration,
+ * and use the {@link Event} methods which accept an {@link EventKey}. Keys obtained through {@link #of(String)}
+ * are cached, so looking up the same string key repeatedly does not repeat the validation or compilation.
+ *
+ * @since 2.8
+ */
+public final class EventKey {
+    static final int MAX_CACHED_KEYS = 10_000;
+
+    private static final String SEPARATOR = "/";
+    private static final Cache<String, EventKey> CACHE = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_KEYS)
+            .build();
+
+    private final String key;
+    private final String trimmedKey;
+    private final JsonPointer jsonPointer;
+    private final String[] pathSegments;
+    private final JsonPointer parentJsonPointer;
+    private final String leafKey;
+
+    private EventKey(final String key) {
+        JacksonEvent.checkKey(key);
+        this.key = key;
+        this.trimmedKey = JacksonEvent.trimTrailingSlashInKey(key);
+        this.jsonPointer = toJsonPointer(trimmedKey);
+        this.pathSegments = trimmedKey.split(SEPARATOR, -1);
+
+        final int index = trimmedKey.lastIndexOf(SEPARATOR);
+        if (index == -1) {
+            this.parentJsonPointer = JsonPointer.empty();
+            this.leafKey = trimmedKey;
+        } else {
+            this.parentJsonPointer = toJsonPointer(trimmedKey.substring(0, index));
+            this.leafKey = trimmedKey.substring(index + 1);
+        }
+    }
+
+    /**
+     * Returns the {@link EventKey} for the given key. Up to a fixed number of keys are cached, and the keys
+     * which are used least are evicted when the cache is full.
+     *
+     * @param key the key, in the same format accepted by {@link Event#get(String, Class)}
+     * @return the event key
+     * @throws IllegalArgumentException if the key is not a valid event key
+     * @since 2.8
+     */
+    public static EventKey of(final String key) {
+        checkNotNull(key, "key cannot be null");
+        EventKey eventKey = CACHE.getIfPresent(key);
+        if (eventKey == null) {
+            eventKey = new EventKey(key);
+            CACHE.put(key, eventKey);
+        }
+        return eventKey;
+    }
+
+    static long cacheSize() {
+        CACHE.cleanUp();
+        return CACHE.estimatedSize();
+    }
+
+    static void clearCache() {
+        CACHE.invalidateAll();
+        CACHE.cleanUp();
+    }
+
+    /**
+     * @return the key as originally provided
+     * @since 2.8
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * @return true if this key refers to the root of the event
+     * @since 2.8
+     */
+    public boolean isEmpty() {
+        return key.isEmpty();
+    }
+
+    JsonPointer getJsonPointer() {
+        return jsonPointer;
+    }
+
+    String[] getPathSegments() {
+        return pathSegments;
+    }
+
+    JsonPointer getParentJsonPointer() {
+        return parentJsonPointer;
+    }
+
+    String getLeafKey() {
+        return leafKey;
+    }
+
+    private static JsonPointer toJsonPointer(final String key) {
+        if (key.isEmpty() || key.startsWith(SEPARATOR)) {
+            return JsonPointer.compile(key);
+        }
+        return JsonPointer.compile(SEPARATOR + key);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        return key.equals(((EventKey) other).key);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(key);
+    }
+
+    @Override
+    public String toString() {
+        return key;
+    }
+}
@@ -24,5 +24,46 @@ public interface InternalEventHandle {
      */
     AcknowledgementSet getAcknowledgementSet();
 
-}
+    /**
+     * Sets the number of outstanding references to the event to one. This is called when the event is added
+     * to an acknowledgement set.
+     *
+     * @return true if there were no outstanding references to the event before
+     * @since 2.8
+     */
+    boolean initializeReferenceCount();
 
+    /**
+     * Adds a reference to the event, unless all of its references have already been released.
+     *
+     * @return true if the reference was added
+     * @since 2.8
+     */
+    boolean acquireReference();
+
+    /**
+     * Releases a reference to the event.
+     *
+     * @return the number of references which remain, or -1 if the event had no references to release
+     * @since 2.8
+     */
+    int releaseReference();
+
+    /**
+     * Sets the processing mark of the event. Process workers use the mark to find the events which a processor
+     * dropped without building a collection of its output.
+     *
+     * @param processingMark the processing mark
+     * @since 2.8
+     */
+    void setProcessingMark(final long processingMark);
+
+    /**
+     * Gets the processing mark of the event.
+     *
+     * @return the last processing mark set on the event, or 0 if none was set
+     * @since 2.8
+     */
+    long getProcessingMark();
+
+}
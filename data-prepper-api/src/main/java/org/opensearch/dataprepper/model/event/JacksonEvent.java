@@ -5,6 +5,7 @@
 
 package org.opensearch.dataprepper.model.event;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -22,18 +23,19 @@ import org.opensearch.dataprepper.model.event.exceptions.EventKeyNotFoundExcepti
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
+import java.io.UncheckedIOException;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.StringJoiner;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -65,6 +67,12 @@ public class JacksonEvent implements Event {
             .registerModule(new JavaTimeModule())
             .registerModule(new Jdk8Module()); // required for using Optional with Jackson. Ref: https://github.com/FasterXML/jackson-modules-java8
 
+    private static final Object UNMAPPED = new Object();
+
+    static final int MAX_POOLED_JSON_BUFFER_SIZE = 1024 * 1024;
+
+    private static final ThreadLocal<ByteArrayOutputStream> JSON_BUFFER = ThreadLocal.withInitial(ByteArrayOutputStream::new);
+
     private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE = new TypeReference<Map<String, Object>>() {
     };
 
@@ -72,7 +80,14 @@ public class JacksonEvent implements Event {
 
     private transient EventHandle eventHandle;
 
-    private final JsonNode jsonNode;
+    private JsonNode jsonNode;
+
+    /**
+     * The container nodes which this event copied after it started to share its json node with copies of the
+     * event, or null if the event does not share its json node. Only these nodes are modified in place. Like the
+     * json node, the set is only used by the thread which currently owns the event.
+     */
+    private transient volatile Set<JsonNode> copiedNodes;
 
     static final int MAX_KEY_LENGTH = 2048;
 
@@ -92,7 +107,7 @@ public class JacksonEvent implements Event {
             this.eventMetadata = builder.eventMetadata;
         }
 
-        this.jsonNode = getInitialJsonNode(builder.data);
+        this.jsonNode = builder.jsonNodeData != null ? builder.jsonNodeData : getInitialJsonNode(builder.data);
         this.eventHandle = new DefaultEventHandle(eventMetadata.getTimeReceived());
         final Instant externalOriginationTime = this.eventMetadata.getExternalOriginationTime();
         if (externalOriginationTime != null) {
@@ -106,6 +121,22 @@ public class JacksonEvent implements Event {
         this.eventHandle = new DefaultEventHandle(eventMetadata.getTimeReceived());
     }
 
+    private JacksonEvent(final JsonNode sharedJsonNode, final EventMetadata otherEventMetadata) {
+        this.jsonNode = sharedJsonNode;
+        this.copiedNodes = newCopiedNodes();
+        this.eventMetadata = DefaultEventMetadata.fromEventMetadata(otherEventMetadata);
+        this.eventHandle = new DefaultEventHandle(eventMetadata.getTimeReceived());
+        final Instant externalOriginationTime = otherEventMetadata.getExternalOriginationTime();
+        if (externalOriginationTime != null) {
+            eventMetadata.setExternalOriginationTime(externalOriginationTime);
+            eventHandle.setExternalOriginationTime(externalOriginationTime);
+        }
+    }
+
+    private static Set<JsonNode> newCopiedNodes() {
+        return Collections.newSetFromMap(new IdentityHashMap<>(4));
+    }
+
     public static Event fromMessage(String message) {
         return JacksonEvent.builder()
                 .withEventType(EVENT_TYPE)
@@ -117,6 +148,8 @@ public class JacksonEvent implements Event {
 
         if (data == null) {
             return mapper.valueToTree(new HashMap<>());
+        } else if (data instanceof JsonNode) {
+            return ((JsonNode) data).deepCopy();
         } else if (data instanceof String) {
             try {
                 return mapper.readTree((String) data);
@@ -127,6 +160,12 @@ public class JacksonEvent implements Event {
         return mapper.valueToTree(data);
     }
 
+    /**
+     * Returns the node which holds the data of the event. The node can be shared with copies of the event created
+     * by {@link #copyOnWrite(Event)}, so it must not be modified directly.
+     *
+     * @return the json node
+     */
     @Override
     public JsonNode getJsonNode() {
         return jsonNode;
@@ -142,23 +181,30 @@ public class JacksonEvent implements Event {
     @Override
     public void put(final String key, final Object value) {
         checkArgument(!key.isEmpty(), "key cannot be an empty string for put method");
+        put(EventKey.of(key), value);
+    }
 
-        final String trimmedKey = checkAndTrimKey(key);
+    /**
+     * Adds or updates the key with a given value in the Event.
+     *
+     * @param key   where the value will be set
+     * @param value value to set the key to
+     * @since 2.8
+     */
+    @Override
+    public void put(final EventKey key, final Object value) {
+        checkArgument(!key.isEmpty(), "key cannot be an empty string for put method");
 
-        final LinkedList<String> keys = new LinkedList<>(Arrays.asList(trimmedKey.split(SEPARATOR, -1)));
+        final String[] keys = key.getPathSegments();
 
-        JsonNode parentNode = jsonNode;
+        JsonNode parentNode = getModifiableRootNode();
 
-        while (!keys.isEmpty()) {
-            if (keys.size() == 1) {
-                setNode(parentNode, keys.removeFirst(), value);
-            } else {
-                final String childKey = keys.removeFirst();
-                if (!childKey.isEmpty()) {
-                    parentNode = getOrCreateNode(parentNode, childKey);
-                }
+        for (int i = 0; i < keys.length - 1; i++) {
+            if (!keys[i].isEmpty()) {
+                parentNode = getOrCreateNode(parentNode, keys[i]);
             }
         }
+        setNode(parentNode, keys[keys.length - 1], value);
     }
 
     @Override
@@ -180,10 +226,71 @@ public class JacksonEvent implements Event {
         if (childNode == null) {
             childNode = mapper.createObjectNode();
             ((ObjectNode) node).set(key, childNode);
+            markCopied(childNode);
+        } else if (!isModifiable(childNode)) {
+            childNode = copyContainerNode(childNode);
+            ((ObjectNode) node).set(key, childNode);
         }
         return childNode;
     }
 
+    /**
+     * Returns the root node for a modification, replacing it with a shallow copy if it is shared with copies of
+     * this event. Nodes below the root are copied as a modification reaches them, so that the nodes which are
+     * not modified remain shared.
+     */
+    private JsonNode getModifiableRootNode() {
+        if (!isModifiable(jsonNode)) {
+            jsonNode = copyContainerNode(jsonNode);
+        }
+        return jsonNode;
+    }
+
+    /**
+     * Returns the node at the pointer for a modification, replacing the shared nodes on the path to it with
+     * shallow copies. The node must exist.
+     */
+    private JsonNode getModifiableNode(final JsonPointer jsonPointer) {
+        JsonNode node = getModifiableRootNode();
+        for (JsonPointer remaining = jsonPointer; !remaining.matches(); remaining = remaining.tail()) {
+            if (node.isArray()) {
+                final int index = remaining.getMatchingIndex();
+                JsonNode childNode = node.get(index);
+                if (!isModifiable(childNode)) {
+                    childNode = copyContainerNode(childNode);
+                    ((ArrayNode) node).set(index, childNode);
+                }
+                node = childNode;
+            } else {
+                node = getOrCreateNode(node, remaining.getMatchingProperty());
+            }
+        }
+        return node;
+    }
+
+    private boolean isModifiable(final JsonNode node) {
+        final Set<JsonNode> nodes = copiedNodes;
+        return nodes == null || !node.isContainerNode() || nodes.contains(node);
+    }
+
+    private JsonNode copyContainerNode(final JsonNode node) {
+        final JsonNode copiedNode;
+        if (node.isArray()) {
+            copiedNode = mapper.createArrayNode().addAll((ArrayNode) node);
+        } else {
+            copiedNode = mapper.createObjectNode().setAll((ObjectNode) node);
+        }
+        markCopied(copiedNode);
+        return copiedNode;
+    }
+
+    private void markCopied(final JsonNode node) {
+        final Set<JsonNode> nodes = copiedNodes;
+        if (nodes != null) {
+            nodes.add(node);
+        }
+    }
+
     /**
      * Retrieves the value of type clazz from the key.
      *
@@ -195,23 +302,37 @@ public class JacksonEvent implements Event {
      */
     @Override
     public <T> T get(final String key, final Class<T> clazz) {
+        return get(EventKey.of(key), clazz);
+    }
 
-        final String trimmedKey = checkAndTrimKey(key);
-
-        final JsonNode node = getNode(trimmedKey);
+    /**
+     * Retrieves the value of type clazz from the key.
+     *
+     * @param key   the value to retrieve from
+     * @param clazz the return type of the value
+     * @return the value
+     * @throws RuntimeException if it is unable to map the value to the provided clazz
+     * @since 2.8
+     */
+    @Override
+    public <T> T get(final EventKey key, final Class<T> clazz) {
+        final JsonNode node = jsonNode.at(key.getJsonPointer());
         if (node.isMissingNode()) {
             return null;
         }
 
-        return mapNodeToObject(key, node, clazz);
+        return mapNodeToObject(key.getKey(), node, clazz);
     }
 
     private JsonNode getNode(final String key) {
-        final JsonPointer jsonPointer = toJsonPointer(key);
-        return jsonNode.at(jsonPointer);
+        return jsonNode.at(EventKey.of(key).getJsonPointer());
     }
 
     private <T> T mapNodeToObject(final String key, final JsonNode node, final Class<T> clazz) {
+        final Object scalarValue = mapScalarNode(node, clazz);
+        if (scalarValue != UNMAPPED) {
+            return clazz.cast(scalarValue);
+        }
         try {
             return mapper.treeToValue(node, clazz);
         } catch (final JsonProcessingException e) {
@@ -220,6 +341,33 @@ public class JacksonEvent implements Event {
         }
     }
 
+    /**
+     * Maps the common scalar node types directly, without going through the {@link ObjectMapper}. The results
+     * are the same as those produced by {@link ObjectMapper#treeToValue}.
+     */
+    private static Object mapScalarNode(final JsonNode node, final Class<?> clazz) {
+        if (clazz == Object.class) {
+            if (node.isTextual()) {
+                return node.textValue();
+            } else if (node.isInt() || node.isLong()) {
+                return node.numberValue();
+            } else if (node.isBoolean()) {
+                return node.booleanValue();
+            } else if (node.isNull()) {
+                return null;
+            }
+        } else if (clazz == String.class && node.isTextual()) {
+            return node.textValue();
+        } else if (clazz == Integer.class && node.isInt()) {
+            return node.intValue();
+        } else if (clazz == Long.class && (node.isInt() || node.isLong())) {
+            return node.longValue();
+        } else if (clazz == Boolean.class && node.isBoolean()) {
+            return node.booleanValue();
+        }
+        return UNMAPPED;
+    }
+
     /**
      * Retrieves the given key from the Event as a List
      *
@@ -231,15 +379,26 @@ public class JacksonEvent implements Event {
      */
     @Override
     public <T> List<T> getList(final String key, final Class<T> clazz) {
+        return getList(EventKey.of(key), clazz);
+    }
 
-        final String trimmedKey = checkAndTrimKey(key);
-
-        final JsonNode node = getNode(trimmedKey);
+    /**
+     * Retrieves the given key from the Event as a List
+     *
+     * @param key   the value to retrieve from
+     * @param clazz the return type of elements in the list
+     * @return a List of clazz
+     * @throws RuntimeException if it is unable to map the elements in the list to the provided clazz
+     * @since 2.8
+     */
+    @Override
+    public <T> List<T> getList(final EventKey key, final Class<T> clazz) {
+        final JsonNode node = jsonNode.at(key.getJsonPointer());
         if (node.isMissingNode()) {
             return null;
         }
 
-        return mapNodeToList(key, node, clazz);
+        return mapNodeToList(key.getKey(), node, clazz);
     }
 
     private <T> List<T> mapNodeToList(final String key, final JsonNode node, final Class<T> clazz) {
@@ -252,16 +411,6 @@ public class JacksonEvent implements Event {
         }
     }
 
-    private JsonPointer toJsonPointer(final String key) {
-        final String jsonPointerExpression;
-        if (key.isEmpty() || key.startsWith("/")) {
-            jsonPointerExpression = key;
-        } else {
-            jsonPointerExpression = SEPARATOR + key;
-        }
-        return JsonPointer.compile(jsonPointerExpression);
-    }
-
     /**
      * Deletes the key from the event.
      *
@@ -269,45 +418,79 @@ public class JacksonEvent implements Event {
      */
     @Override
     public void delete(final String key) {
-
         checkArgument(!key.isEmpty(), "key cannot be an empty string for delete method");
-        final String trimmedKey = checkAndTrimKey(key);
-        final int index = trimmedKey.lastIndexOf(SEPARATOR);
+        delete(EventKey.of(key));
+    }
 
-        JsonNode baseNode = jsonNode;
-        String leafKey = trimmedKey;
+    /**
+     * Deletes the key from the event.
+     *
+     * @param key the field to be deleted
+     * @since 2.8
+     */
+    @Override
+    public void delete(final EventKey key) {
+        checkArgument(!key.isEmpty(), "key cannot be an empty string for delete method");
 
-        if (index != -1) {
-            final JsonPointer jsonPointer = toJsonPointer(trimmedKey.substring(0, index));
-            baseNode = jsonNode.at(jsonPointer);
-            leafKey = trimmedKey.substring(index + 1);
-        }
+        final JsonNode baseNode = jsonNode.at(key.getParentJsonPointer());
 
         if (!baseNode.isMissingNode()) {
-            ((ObjectNode) baseNode).remove(leafKey);
+            final JsonNode parentNode = isModifiable(baseNode) ? baseNode : getModifiableNode(key.getParentJsonPointer());
+            ((ObjectNode) parentNode).remove(key.getLeafKey());
         }
     }
 
     @Override
     public void clear() {
         // Delete all entries from the event
-        Iterator iter = toMap().keySet().iterator();
-        JsonNode baseNode = jsonNode;
-        while (iter.hasNext()) {
-            ((ObjectNode) baseNode).remove((String)iter.next());
-        }
+        ((ObjectNode) getModifiableRootNode()).removeAll();
     }
 
     @Override
     public String toJsonString() {
-        return jsonNode.toString();
+        return getJsonNodeForSerialization().toString();
+    }
+
+    /**
+     * Returns the node which represents this event when it is serialized by {@link #toJsonString()} or
+     * {@link Event.JsonStringBuilder#toJsonBytes()}. Events which serialize differently from their underlying
+     * node override this method.
+     *
+     * @return the node to serialize
+     * @since 2.8
+     */
+    protected JsonNode getJsonNodeForSerialization() {
+        return jsonNode;
+    }
+
+    /**
+     * Writes json using a thread-local buffer which is reused across calls, so that only the returned array
+     * is allocated for each call.
+     */
+    static byte[] writeJsonBytes(final JsonWriter jsonWriter) {
+        final ByteArrayOutputStream outputStream = JSON_BUFFER.get();
+        outputStream.reset();
+        try (final JsonGenerator generator = mapper.getFactory().createGenerator(outputStream)) {
+            jsonWriter.write(generator);
+        } catch (final IOException e) {
+            JSON_BUFFER.remove();
+            throw new UncheckedIOException(e);
+        }
+        final byte[] bytes = outputStream.toByteArray();
+        if (bytes.length > MAX_POOLED_JSON_BUFFER_SIZE) {
+            JSON_BUFFER.remove();
+        }
+        return bytes;
+    }
+
+    @FunctionalInterface
+    interface JsonWriter {
+        void write(JsonGenerator generator) throws IOException;
     }
 
     @Override
     public String getAsJsonString(final String key) {
-        final String trimmedKey = checkAndTrimKey(key);
-
-        final JsonNode node = getNode(trimmedKey);
+        final JsonNode node = getNode(key);
         if (node.isMissingNode()) {
             return null;
         }
@@ -398,19 +581,17 @@ public class JacksonEvent implements Event {
 
     @Override
     public boolean containsKey(final String key) {
+        return containsKey(EventKey.of(key));
+    }
 
-        final String trimmedKey = checkAndTrimKey(key);
-
-        final JsonNode node = getNode(trimmedKey);
-
-        return !node.isMissingNode();
+    @Override
+    public boolean containsKey(final EventKey key) {
+        return !jsonNode.at(key.getJsonPointer()).isMissingNode();
     }
 
     @Override
     public boolean isValueAList(final String key) {
-        final String trimmedKey = checkAndTrimKey(key);
-
-        final JsonNode node = getNode(trimmedKey);
+        final JsonNode node = getNode(key);
 
         return node.isArray();
     }
@@ -429,12 +610,7 @@ public class JacksonEvent implements Event {
             return false;
         }
     }
-    private String checkAndTrimKey(final String key) {
-        checkKey(key);
-        return trimTrailingSlashInKey(key);
-    }
-
-    private static void checkKey(final String key) {
+    static void checkKey(final String key) {
         checkNotNull(key, "key cannot be null");
         if (key.isEmpty()) {
             // Empty string key is valid
@@ -454,7 +630,7 @@ public class JacksonEvent implements Event {
         return trimTrailingSlashInKey(trimmedLeadingSlash);
     }
 
-    private String trimTrailingSlashInKey(final String key) {
+    static String trimTrailingSlashInKey(final String key) {
         return key.length() > 1 && key.endsWith(SEPARATOR) ? key.substring(0, key.length() - 1) : key;
     }
 
@@ -498,6 +674,27 @@ public class JacksonEvent implements Event {
         return new JsonStringBuilder(this);
     }
 
+    /**
+     * Creates a copy of an event which shares the json node of the event instead of copying it. Both events copy
+     * only the nodes on the path to a key when they modify the key, so the parts of the data which neither event
+     * modifies are never copied. The metadata of the event is copied.
+     * <p>
+     * Creating a copy changes how the event is modified, so no other thread may use the event until the copy
+     * has been created. Copies for several components must all be created before any component receives the event.
+     *
+     * @param event the event to copy
+     * @return the copy of the event
+     * @since 2.8
+     */
+    public static JacksonEvent copyOnWrite(final Event event) {
+        if (event instanceof JacksonEvent) {
+            final JacksonEvent jacksonEvent = (JacksonEvent) event;
+            jacksonEvent.copiedNodes = newCopiedNodes();
+            return new JacksonEvent(jacksonEvent.jsonNode, jacksonEvent.eventMetadata);
+        }
+        return fromEvent(event);
+    }
+
     public static JacksonEvent fromEvent(final Event event) {
         if (event instanceof JacksonEvent) {
             return new JacksonEvent((JacksonEvent) event);
@@ -518,6 +715,7 @@ public class JacksonEvent implements Event {
 
         private EventMetadata eventMetadata;
         private Object data;
+        private JsonNode jsonNodeData;
         private String eventType;
         private Instant timeReceived;
         private Map<String, Object> eventMetadataAttributes;
@@ -581,6 +779,22 @@ public class JacksonEvent implements Event {
          */
         public Builder<T> withData(final Object data) {
             this.data = data;
+            this.jsonNodeData = null;
+            return this;
+        }
+
+        /**
+         * Sets the data of the event from a {@link JsonNode} which the caller hands over to the event. The node is
+         * used as the event data without being copied, so the caller must not keep or modify it after building the
+         * event. Use {@link #withData(Object)} for a node which is still used elsewhere.
+         *
+         * @param jsonNodeData the data
+         * @return returns the builder
+         * @since 2.8
+         */
+        public Builder<T> withJsonNodeData(final JsonNode jsonNodeData) {
+            this.jsonNodeData = jsonNodeData;
+            this.data = null;
             return this;
         }
 
@@ -642,6 +856,89 @@ public class JacksonEvent implements Event {
             return jsonString;
         }
 
+        @Override
+        public byte[] toJsonBytes() {
+            return writeJsonBytes(this::writeJson);
+        }
+
+        private void writeJson(final JsonGenerator generator) throws IOException {
+            final String tagsKey = getTagsKey();
+            if (getIncludeKeys() != null && !getIncludeKeys().isEmpty()) {
+                writeFiltered(generator, getBaseNode(), "", getIncludeKeys(), RETAIN_ALL, tagsKey);
+            } else if (getExcludeKeys() != null && !getExcludeKeys().isEmpty()) {
+                writeFiltered(generator, getBaseNode(), "", getExcludeKeys(), EXCLUDE_ALL, tagsKey);
+            } else {
+                final JsonNode baseNode = getBaseNode();
+                final JsonNode node = baseNode != event.getJsonNode() ? baseNode : event.getJsonNodeForSerialization();
+                if (tagsKey != null && node.isObject()) {
+                    generator.writeStartObject();
+                    for (final Map.Entry<String, JsonNode> entry : node.properties()) {
+                        generator.writeFieldName(entry.getKey());
+                        generator.writeTree(entry.getValue());
+                    }
+                    writeTags(generator, tagsKey);
+                    generator.writeEndObject();
+                } else {
+                    generator.writeTree(node);
+                }
+            }
+        }
+
+        private void writeTags(final JsonGenerator generator, final String tagsKey) throws IOException {
+            if (tagsKey != null) {
+                generator.writeFieldName(tagsKey);
+                generator.writeObject(event.getMetadata().getTags());
+            }
+        }
+
+        /**
+         * Writes the same filtered json as {@link #searchAndFilter(JsonNode, String, List, boolean)} directly to a
+         * generator. The tags are only written into the top-level object.
+         */
+        private void writeFiltered(final JsonGenerator generator, final JsonNode node, final String path,
+                                   final List<String> filterKeys, final boolean filterAction, final String tagsKey) throws IOException {
+            if (node.isArray()) {
+                generator.writeStartArray();
+                for (final JsonNode childNode : node) {
+                    writeFiltered(generator, childNode, path, filterKeys, filterAction, null);
+                }
+                generator.writeEndArray();
+                return;
+            }
+
+            generator.writeStartObject();
+            for (final Map.Entry<String, JsonNode> entry : node.properties()) {
+                final String keyPath = trimKey(path + SEPARATOR + entry.getKey());
+                boolean found = false;
+                for (String key : filterKeys) {
+                    key = trimKey(key);
+                    if (keyPath.equals(key)) {
+                        found = true;
+                        if (filterAction == RETAIN_ALL) {
+                            generator.writeFieldName(entry.getKey());
+                            generator.writeTree(entry.getValue());
+                        }
+                        break;
+                    } else if (key.startsWith(keyPath)) {
+                        found = true;
+                        generator.writeFieldName(entry.getKey());
+                        writeFiltered(generator, entry.getValue(), keyPath, filterKeys, filterAction, null);
+                        break;
+                    }
+                    if (key.compareTo(keyPath) > 0) {
+                        break;
+                    }
+                }
+
+                if (!found && filterAction == EXCLUDE_ALL) {
+                    generator.writeFieldName(entry.getKey());
+                    generator.writeTree(entry.getValue());
+                }
+            }
+            writeTags(generator, tagsKey);
+            generator.writeEndObject();
+        }
+
         /**
          * Perform DFS(Depth-first search) like traversing using recursion on the Json Tree and return the json string.
          * This supports filtering (to include or exclude) from a list of keys.
@@ -115,7 +115,7 @@ public class JacksonOtelLog extends JacksonEvent implements OpenTelemetryLog {
     }
 
     @Override
-    public String toJsonString() {
+    protected JsonNode getJsonNodeForSerialization() {
         Object anyAttributes = getJsonNode().get("attributes");
         if(anyAttributes instanceof ObjectNode) {
             final ObjectNode flattenedJsonNode = getJsonNode().deepCopy();
@@ -128,9 +128,9 @@ public class JacksonOtelLog extends JacksonEvent implements OpenTelemetryLog {
                     flattenedJsonNode.set(field, entry.getValue());
                 }
             }
-            return flattenedJsonNode.toString();
+            return flattenedJsonNode;
         }
-        return super.toJsonString();
+        return super.getJsonNodeForSerialization();
     }
     /**
      * Builder for creating {@link JacksonLog}.
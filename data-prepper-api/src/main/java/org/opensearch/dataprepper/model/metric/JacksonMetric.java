@@ -49,9 +49,9 @@ public abstract class JacksonMetric extends JacksonEvent implements Metric {
     }
 
     @Override
-    public String toJsonString() {
+    protected JsonNode getJsonNodeForSerialization() {
         if (!flattenAttributes) {
-            return getJsonNode().toString();
+            return getJsonNode();
         }
         final ObjectNode attributesNode = (ObjectNode) getJsonNode().get(ATTRIBUTES_KEY);
         final ObjectNode flattenedJsonNode = getJsonNode().deepCopy();
@@ -65,7 +65,7 @@ public abstract class JacksonMetric extends JacksonEvent implements Metric {
                 }
             }
         }
-        return flattenedJsonNode.toString();
+        return flattenedJsonNode;
     }
 
     @Override
@@ -189,7 +189,7 @@ public class JacksonSpan extends JacksonEvent implements Span {
     }
 
     @Override
-    public String toJsonString() {
+    protected JsonNode getJsonNodeForSerialization() {
         final ObjectNode attributesNode = (ObjectNode) getJsonNode().get("attributes");
         final ObjectNode flattenedJsonNode = getJsonNode().deepCopy();
         if (attributesNode != null) {
@@ -202,7 +202,7 @@ public class JacksonSpan extends JacksonEvent implements Span {
                 }
             }
         }
-        return flattenedJsonNode.toString();
+        return flattenedJsonNode;
     }
 
     /**
@@ -213,6 +213,7 @@ public class JacksonSpan extends JacksonEvent implements Span {
     public static class Builder extends JacksonEvent.Builder<Builder> {
 
         private final Map<String, Object> data;
+        private ObjectNode jsonNode;
 
         public Builder() {
             data = new HashMap();
@@ -252,6 +253,36 @@ public class JacksonSpan extends JacksonEvent implements Span {
             return this;
         }
 
+        /**
+         * Sets the data of the span from a {@link JsonNode} which the caller hands over to the span. An object node
+         * is used as the span data directly, as with {@link #withJsonNode(ObjectNode)}.
+         *
+         * @param jsonNodeData the span fields
+         * @return returns the builder
+         * @since 2.8
+         */
+        @Override
+        public Builder withJsonNodeData(final JsonNode jsonNodeData) {
+            if (jsonNodeData instanceof ObjectNode) {
+                return withJsonNode((ObjectNode) jsonNodeData);
+            }
+            return withData(jsonNodeData);
+        }
+
+        /**
+         * Sets the data of the span from a JSON object holding the span fields. The object is used as the span
+         * data directly rather than being converted into a map and back, so the caller should not modify it after
+         * building the span. Fields set through the other builder methods are added to the object.
+         *
+         * @param jsonNode the span fields
+         * @return returns the builder
+         * @since 2.8
+         */
+        public Builder withJsonNode(final ObjectNode jsonNode) {
+            this.jsonNode = jsonNode;
+            return this;
+        }
+
         /**
          * Sets the metadata.
          *
@@ -501,6 +532,9 @@ public class JacksonSpan extends JacksonEvent implements Span {
          */
         @Override
         public JacksonSpan build() {
+            if (jsonNode != null) {
+                return buildFromJsonNode();
+            }
             validateParameters();
             checkAndSetDefaultValues();
             super.withData(data);
@@ -508,6 +542,15 @@ public class JacksonSpan extends JacksonEvent implements Span {
             return new JacksonSpan(this);
         }
 
+        private JacksonSpan buildFromJsonNode() {
+            data.forEach((key, value) -> jsonNode.set(key, mapper.valueToTree(value)));
+            validateJsonNode();
+            setJsonNodeDefaultValues();
+            super.withJsonNodeData(jsonNode);
+            this.withEventType(EventType.TRACE.toString());
+            return new JacksonSpan(this);
+        }
+
         private void validateParameters() {
             REQUIRED_KEYS.forEach(key -> {
                 checkState(data.containsKey(key), key + " need to be assigned");
@@ -525,6 +568,23 @@ public class JacksonSpan extends JacksonEvent implements Span {
             });
         }
 
+        private void validateJsonNode() {
+            REQUIRED_KEYS.forEach(key -> {
+                checkState(jsonNode.has(key), key + " need to be assigned");
+            });
+
+            REQUIRED_NON_EMPTY_KEYS.forEach(key -> {
+                final JsonNode value = jsonNode.get(key);
+                checkNotNull(value == null ? null : value.textValue(), key + " cannot be null");
+                checkArgument(!value.textValue().isEmpty(), key + " cannot be an empty string");
+            });
+
+            REQUIRED_NON_NULL_KEYS.forEach(key -> {
+                final JsonNode value = jsonNode.get(key);
+                checkNotNull(value == null || value.isNull() ? null : value, key + " cannot be null");
+            });
+        }
+
         private void checkAndSetDefaultValues() {
             data.computeIfAbsent(ATTRIBUTES_KEY, k -> new HashMap<>());
             data.putIfAbsent(DROPPED_ATTRIBUTES_COUNT_KEY, 0);
@@ -534,5 +594,26 @@ public class JacksonSpan extends JacksonEvent implements Span {
             data.putIfAbsent(DROPPED_EVENTS_COUNT_KEY, 0);
         }
 
+        private void setJsonNodeDefaultValues() {
+            if (!jsonNode.has(ATTRIBUTES_KEY)) {
+                jsonNode.putObject(ATTRIBUTES_KEY);
+            }
+            if (!jsonNode.has(DROPPED_ATTRIBUTES_COUNT_KEY)) {
+                jsonNode.put(DROPPED_ATTRIBUTES_COUNT_KEY, 0);
+            }
+            if (!jsonNode.has(LINKS_KEY)) {
+                jsonNode.putArray(LINKS_KEY);
+            }
+            if (!jsonNode.has(DROPPED_LINKS_COUNT_KEY)) {
+                jsonNode.put(DROPPED_LINKS_COUNT_KEY, 0);
+            }
+            if (!jsonNode.has(EVENTS_KEY)) {
+                jsonNode.putArray(EVENTS_KEY);
+            }
+            if (!jsonNode.has(DROPPED_EVENTS_COUNT_KEY)) {
+                jsonNode.put(DROPPED_EVENTS_COUNT_KEY, 0);
+            }
+        }
+
     }
 }
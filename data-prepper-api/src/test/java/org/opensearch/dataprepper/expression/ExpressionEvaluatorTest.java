@@ -8,7 +8,9 @@ package org.opensearch.dataprepper.expression;
 import org.junit.jupiter.api.Test;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.record.Record;
 
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
 
@@ -57,6 +59,40 @@ public class ExpressionEvaluatorTest {
         assertThrows(ClassCastException.class, () -> expressionEvaluator.evaluateConditional("/status", event("{\"status\":200}")));
     }
 
+    @Test
+    public void testDefaultBatchEvaluateConditional() {
+        expressionEvaluator = new TestExpressionEvaluator();
+        final List<Record<Event>> records = List.of(
+                new Record<>(event("{\"status\":true}")),
+                new Record<>(event("{\"status\":false}")),
+                new Record<>(event("{\"status\":200}")),
+                new Record<>(event("{\"status\":true}")));
+
+        final BitSet resultsWhenFailuresAreFalse = expressionEvaluator.evaluateConditional("/status", records, (event, e) -> false);
+        assertThat(resultsWhenFailuresAreFalse.get(0), equalTo(true));
+        assertThat(resultsWhenFailuresAreFalse.get(1), equalTo(false));
+        assertThat(resultsWhenFailuresAreFalse.get(2), equalTo(false));
+        assertThat(resultsWhenFailuresAreFalse.get(3), equalTo(true));
+
+        final BitSet resultsWhenFailuresAreTrue = expressionEvaluator.evaluateConditional("/status", records, (event, e) -> e instanceof ClassCastException);
+        assertThat(resultsWhenFailuresAreTrue.get(2), equalTo(true));
+    }
+
+    @Test
+    public void testDefaultBatchEvaluateConditionals() {
+        expressionEvaluator = new TestExpressionEvaluator();
+        final List<Record<Event>> records = List.of(
+                new Record<>(event("{\"a\":true,\"b\":false}")),
+                new Record<>(event("{\"a\":false,\"b\":true}")));
+
+        final List<BitSet> results = expressionEvaluator.evaluateConditionals(List.of("/a", "/b"), records, (event, e) -> false);
+        assertThat(results.size(), equalTo(2));
+        assertThat(results.get(0).get(0), equalTo(true));
+        assertThat(results.get(0).get(1), equalTo(false));
+        assertThat(results.get(1).get(0), equalTo(false));
+        assertThat(results.get(1).get(1), equalTo(true));
+    }
+
     private static Event event(final String data) {
         return JacksonEvent.builder().withEventType("event").withData(data).build();
     }
@@ -69,4 +69,30 @@ class DefaultEventHandleTests {
 
     }
 
+    @Test
+    void testReferenceCounting() {
+        DefaultEventHandle eventHandle = new DefaultEventHandle(Instant.now());
+        assertThat(eventHandle.acquireReference(), equalTo(false));
+        assertThat(eventHandle.releaseReference(), equalTo(-1));
+
+        assertThat(eventHandle.initializeReferenceCount(), equalTo(true));
+        assertThat(eventHandle.acquireReference(), equalTo(true));
+        assertThat(eventHandle.acquireReference(), equalTo(true));
+        assertThat(eventHandle.initializeReferenceCount(), equalTo(false));
+        assertThat(eventHandle.acquireReference(), equalTo(true));
+        assertThat(eventHandle.releaseReference(), equalTo(1));
+        assertThat(eventHandle.releaseReference(), equalTo(0));
+        assertThat(eventHandle.releaseReference(), equalTo(-1));
+        assertThat(eventHandle.acquireReference(), equalTo(false));
+        assertThat(eventHandle.initializeReferenceCount(), equalTo(true));
+    }
+
+    @Test
+    void testProcessingMark() {
+        DefaultEventHandle eventHandle = new DefaultEventHandle(Instant.now());
+        assertThat(eventHandle.getProcessingMark(), equalTo(0L));
+        eventHandle.setProcessingMark(42L);
+        assertThat(eventHandle.getProcessingMark(), equalTo(42L));
+    }
+
 }
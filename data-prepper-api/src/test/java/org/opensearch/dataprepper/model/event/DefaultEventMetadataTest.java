@@ -233,6 +233,68 @@ public class DefaultEventMetadataTest {
         assertThat(eventMetadata.getTags(), equalTo(Collections.emptySet()));
     }
 
+    @Test
+    public void testEventMetadata_withEmptyTags() {
+        final EventMetadata eventMetadata = DefaultEventMetadata.builder()
+                .withEventType(testEventType)
+                .build();
+        eventMetadata.addTags(Collections.emptyList());
+        assertThat(eventMetadata.getTags(), equalTo(Collections.emptySet()));
+        assertFalse(eventMetadata.hasTags(List.of("tag1")));
+    }
+
+    @Test
+    public void testEventMetadata_addTags_and_setAttribute_without_tags_or_attributes() {
+        final EventMetadata eventMetadata = DefaultEventMetadata.builder()
+                .withEventType(testEventType)
+                .build();
+        final String key = UUID.randomUUID().toString();
+        final String value = UUID.randomUUID().toString();
+
+        assertThat(eventMetadata.getAttribute(key), nullValue());
+
+        eventMetadata.addTags(List.of("tag1", "tag2"));
+        eventMetadata.setAttribute(key, value);
+
+        assertThat(eventMetadata.getTags(), equalTo(Set.of("tag1", "tag2")));
+        assertTrue(eventMetadata.hasTags(List.of("tag1", "tag2")));
+        assertThat(eventMetadata.getAttribute(key), equalTo(value));
+        assertThat(eventMetadata.getAttributes(), equalTo(Map.of(key, value)));
+    }
+
+    @Test
+    void fromEventMetadata_without_tags_or_attributes_returns_equal_EventMetadata() {
+        final EventMetadata originalMetadata = DefaultEventMetadata.builder()
+                .withEventType(testEventType)
+                .withTimeReceived(testTimeReceived)
+                .build();
+
+        final EventMetadata copiedMetadata = DefaultEventMetadata.fromEventMetadata(originalMetadata);
+
+        assertThat(copiedMetadata, equalTo(originalMetadata));
+        assertThat(copiedMetadata.getAttributes(), is(anEmptyMap()));
+        assertThat(copiedMetadata.getTags(), equalTo(Collections.emptySet()));
+
+        copiedMetadata.addTags(List.of("tag1"));
+        assertThat(originalMetadata.getTags(), equalTo(Collections.emptySet()));
+    }
+
+    @Test
+    public void testBuild_withEmptyMap_equals_withoutMap() {
+        final EventMetadata withEmptyMap = DefaultEventMetadata.builder()
+                .withEventType(testEventType)
+                .withTimeReceived(testTimeReceived)
+                .withAttributes(Collections.emptyMap())
+                .build();
+        final EventMetadata withoutMap = DefaultEventMetadata.builder()
+                .withEventType(testEventType)
+                .withTimeReceived(testTimeReceived)
+                .build();
+
+        assertThat(withEmptyMap, equalTo(withoutMap));
+        assertThat(withEmptyMap.hashCode(), equalTo(withoutMap.hashCode()));
+    }
+
     @Test
     public void testBuild_withTags() {
         final String testEventType = UUID.randomUUID().toString();
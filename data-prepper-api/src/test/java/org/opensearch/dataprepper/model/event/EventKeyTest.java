@@ -0,0 +1,106 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EventKeyTest {
+    @AfterEach
+    void tearDown() {
+        EventKey.clearCache();
+    }
+
+    @Test
+    void of_returns_same_instance_for_same_key() {
+        final String key = "key" + UUID.randomUUID();
+
+        final EventKey eventKey = EventKey.of(key);
+
+        assertThat(EventKey.of(key), sameInstance(eventKey));
+        assertThat(eventKey.getKey(), equalTo(key));
+        assertThat(eventKey.toString(), equalTo(key));
+    }
+
+    @Test
+    void of_evicts_keys_when_cache_is_full() {
+        for (int i = 0; i < EventKey.MAX_CACHED_KEYS * 2; i++) {
+            EventKey.of("key" + i);
+        }
+
+        assertThat(EventKey.cacheSize(), lessThanOrEqualTo((long) EventKey.MAX_CACHED_KEYS));
+
+        final String key = "key" + UUID.randomUUID();
+        final EventKey eventKey = EventKey.of(key);
+        assertThat(EventKey.of(key), equalTo(eventKey));
+        assertThat(EventKey.cacheSize(), lessThanOrEqualTo((long) EventKey.MAX_CACHED_KEYS));
+    }
+
+    @Test
+    void of_throws_for_null_key() {
+        assertThrows(NullPointerException.class, () -> EventKey.of(null));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"key with space", "key?", "key*", "key\\\\"})
+    void of_throws_for_invalid_keys(final String key) {
+        assertThrows(IllegalArgumentException.class, () -> EventKey.of(key));
+        assertThat(EventKey.cacheSize(), equalTo(0L));
+    }
+
+    @Test
+    void isEmpty_is_true_only_for_root_key() {
+        assertThat(EventKey.of("").isEmpty(), is(true));
+        assertThat(EventKey.of("/").isEmpty(), is(false));
+        assertThat(EventKey.of("a").isEmpty(), is(false));
+    }
+
+    @Test
+    void nested_key_has_parent_pointer_and_leaf_key() {
+        final EventKey eventKey = EventKey.of("/a/b/c/");
+
+        assertThat(eventKey.getJsonPointer().toString(), equalTo("/a/b/c"));
+        assertThat(eventKey.getParentJsonPointer().toString(), equalTo("/a/b"));
+        assertThat(eventKey.getLeafKey(), equalTo("c"));
+    }
+
+    @Test
+    void top_level_key_has_root_parent_pointer() {
+        final EventKey eventKey = EventKey.of("a");
+
+        assertThat(eventKey.getJsonPointer().toString(), equalTo("/a"));
+        assertThat(eventKey.getParentJsonPointer().toString(), equalTo(""));
+        assertThat(eventKey.getLeafKey(), equalTo("a"));
+    }
+
+    @Test
+    void equals_and_hashCode_use_key() {
+        final EventKey eventKey = EventKey.of("a");
+
+        assertThat(eventKey.equals(eventKey), is(true));
+        assertThat(eventKey.equals(null), is(false));
+        assertThat(eventKey.equals("a"), is(false));
+        assertThat(eventKey.equals(EventKey.of("b")), is(false));
+
+        EventKey.clearCache();
+        final EventKey otherEventKey = EventKey.of("a");
+        assertThat(otherEventKey, not(sameInstance(eventKey)));
+        assertThat(otherEventKey.equals(eventKey), is(true));
+        assertThat(otherEventKey.hashCode(), equalTo(eventKey.hashCode()));
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class EventTest {
+    private Event event;
+    private String key;
+    private EventKey eventKey;
+
+    @BeforeEach
+    void setUp() {
+        event = mock(Event.class, CALLS_REAL_METHODS);
+        key = "key" + UUID.randomUUID();
+        eventKey = EventKey.of(key);
+    }
+
+    @Test
+    void put_with_EventKey_delegates_to_put_with_String() {
+        final Object value = UUID.randomUUID();
+        doNothing().when(event).put(key, value);
+
+        event.put(eventKey, value);
+
+        verify(event).put(key, value);
+    }
+
+    @Test
+    void get_with_EventKey_delegates_to_get_with_String() {
+        final String value = UUID.randomUUID().toString();
+        doReturn(value).when(event).get(key, String.class);
+
+        assertThat(event.get(eventKey, String.class), equalTo(value));
+    }
+
+    @Test
+    void getList_with_EventKey_delegates_to_getList_with_String() {
+        final List<String> value = List.of(UUID.randomUUID().toString());
+        doReturn(value).when(event).getList(key, String.class);
+
+        assertThat(event.getList(eventKey, String.class), equalTo(value));
+    }
+
+    @Test
+    void delete_with_EventKey_delegates_to_delete_with_String() {
+        doNothing().when(event).delete(key);
+
+        event.delete(eventKey);
+
+        verify(event).delete(key);
+    }
+
+    @Test
+    void containsKey_with_EventKey_delegates_to_containsKey_with_String() {
+        doReturn(true).when(event).containsKey(key);
+
+        assertThat(event.containsKey(eventKey), is(true));
+    }
+
+    @Test
+    void JsonStringBuilder_toJsonBytes_encodes_toJsonString_as_UTF8() {
+        final String jsonString = "{\"key\":\"\u00e9\"}";
+        final Event.JsonStringBuilder jsonStringBuilder = new Event.JsonStringBuilder() {
+            @Override
+            public String toJsonString() {
+                return jsonString;
+            }
+        };
+
+        assertThat(jsonStringBuilder.toJsonBytes(), equalTo(jsonString.getBytes(StandardCharsets.UTF_8)));
+    }
+}
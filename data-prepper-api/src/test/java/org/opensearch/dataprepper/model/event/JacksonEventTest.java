@@ -5,6 +5,8 @@
 
 package org.opensearch.dataprepper.model.event;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +16,9 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.model.event.exceptions.EventKeyNotFoundException;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
@@ -58,6 +63,64 @@ public class JacksonEventTest {
 
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"/", "foo", "/foo", "/foo/", "foo/bar", "/foo/bar/baz"})
+    void testPutAndGet_withEventKey(final String key) {
+        final EventKey eventKey = EventKey.of(key);
+        final UUID value = UUID.randomUUID();
+
+        event.put(eventKey, value);
+
+        assertThat(event.containsKey(eventKey), is(true));
+        assertThat(event.get(eventKey, UUID.class), equalTo(value));
+        assertThat(event.get(key, UUID.class), equalTo(value));
+
+        event.delete(eventKey);
+        assertThat(event.containsKey(eventKey), is(false));
+        assertThat(event.get(eventKey, UUID.class), is(nullValue()));
+    }
+
+    @Test
+    void testGetList_withEventKey() {
+        final EventKey eventKey = EventKey.of("foo/list");
+        event.put(eventKey, List.of(1, 2, 3));
+
+        assertThat(event.getList(eventKey, Integer.class), equalTo(List.of(1, 2, 3)));
+        assertThat(event.getList(EventKey.of("foo/missing"), Integer.class), is(nullValue()));
+    }
+
+    @Test
+    void testPutAndDelete_withEmptyEventKey_throws() {
+        final EventKey eventKey = EventKey.of("");
+
+        assertThrows(IllegalArgumentException.class, () -> event.put(eventKey, UUID.randomUUID()));
+        assertThrows(IllegalArgumentException.class, () -> event.delete(eventKey));
+    }
+
+    @Test
+    void testGet_scalarValues_matchObjectMapperConversion() {
+        event.put("string", "value");
+        event.put("int", 42);
+        event.put("long", 1L + Integer.MAX_VALUE);
+        event.put("boolean", true);
+        event.put("double", 1.5);
+        event.put("null", null);
+
+        assertThat(event.get("string", Object.class), equalTo("value"));
+        assertThat(event.get("string", String.class), equalTo("value"));
+        assertThat(event.get("int", Object.class), equalTo(42));
+        assertThat(event.get("int", Integer.class), equalTo(42));
+        assertThat(event.get("int", Long.class), equalTo(42L));
+        assertThat(event.get("int", String.class), equalTo("42"));
+        assertThat(event.get("long", Object.class), equalTo(1L + Integer.MAX_VALUE));
+        assertThat(event.get("long", Long.class), equalTo(1L + Integer.MAX_VALUE));
+        assertThat(event.get("boolean", Object.class), equalTo(true));
+        assertThat(event.get("boolean", Boolean.class), equalTo(true));
+        assertThat(event.get("double", Object.class), equalTo(1.5));
+        assertThat(event.get("null", Object.class), is(nullValue()));
+        assertThat(event.get("null", String.class), is(nullValue()));
+    }
+
     @Test
     public void testPutAndGet_withRandomString() {
         final String key = "aRandomKey" + UUID.randomUUID();
@@ -540,6 +603,39 @@ public class JacksonEventTest {
         assertThat(event.get("field1", String.class), is(equalTo(value)));
     }
 
+    @Test
+    public void testBuild_withData_copies_a_json_node() {
+
+        final String value = UUID.randomUUID().toString();
+        final ObjectNode jsonNode = new ObjectMapper().createObjectNode();
+        jsonNode.put("field1", value);
+
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(jsonNode)
+                .build();
+        jsonNode.put("field1", UUID.randomUUID().toString());
+
+        assertThat(event.get("field1", String.class), is(equalTo(value)));
+        assertThat(event.getJsonNode(), is(not(sameInstance(jsonNode))));
+    }
+
+    @Test
+    public void testBuild_withJsonNodeData_uses_the_node_without_copying() {
+
+        final String value = UUID.randomUUID().toString();
+        final ObjectNode jsonNode = new ObjectMapper().createObjectNode();
+        jsonNode.put("field1", value);
+
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withJsonNodeData(jsonNode)
+                .build();
+
+        assertThat(event.get("field1", String.class), is(equalTo(value)));
+        assertThat(event.getJsonNode(), is(sameInstance(jsonNode)));
+    }
+
     @Test
     public void testBuild_withStringData() {
 
@@ -751,6 +847,143 @@ public class JacksonEventTest {
         assertThat(createdEvent.getMetadata(), equalTo(eventMetadata));
     }
 
+    @Test
+    void copyOnWrite_shares_the_json_node_and_copies_the_metadata() {
+        final Map<String, Object> dataObject = createComplexDataMap();
+        final JacksonEvent originalEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(dataObject)
+                .build();
+
+        final JacksonEvent createdEvent = JacksonEvent.copyOnWrite(originalEvent);
+
+        assertThat(createdEvent, not(sameInstance(originalEvent)));
+        assertThat(createdEvent.getJsonNode(), sameInstance(originalEvent.getJsonNode()));
+        assertThat(createdEvent.toMap(), equalTo(dataObject));
+        assertThat(createdEvent.getEventHandle(), not(sameInstance(originalEvent.getEventHandle())));
+        assertThat(createdEvent.getMetadata(), not(sameInstance(originalEvent.getMetadata())));
+        assertThat(createdEvent.getMetadata(), equalTo(originalEvent.getMetadata()));
+    }
+
+    @Test
+    void copyOnWrite_keeps_the_external_origination_time() {
+        final Instant externalOriginationTime = Instant.now().minusSeconds(60);
+        final JacksonEvent originalEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(createComplexDataMap())
+                .build();
+        originalEvent.getMetadata().setExternalOriginationTime(externalOriginationTime);
+
+        final JacksonEvent createdEvent = JacksonEvent.copyOnWrite(originalEvent);
+
+        assertThat(createdEvent.getMetadata().getExternalOriginationTime(), equalTo(externalOriginationTime));
+        assertThat(createdEvent.getEventHandle().getExternalOriginationTime(), equalTo(externalOriginationTime));
+    }
+
+    @Test
+    void copyOnWrite_with_a_non_JacksonEvent() {
+        final Map<String, Object> dataObject = createComplexDataMap();
+        final EventMetadata eventMetadata = mock(EventMetadata.class);
+        final Event originalEvent = mock(Event.class);
+        when(originalEvent.toMap()).thenReturn(dataObject);
+        when(originalEvent.getMetadata()).thenReturn(eventMetadata);
+
+        final JacksonEvent createdEvent = JacksonEvent.copyOnWrite(originalEvent);
+
+        assertThat(createdEvent.toMap(), equalTo(dataObject));
+        assertThat(createdEvent.getMetadata(), equalTo(eventMetadata));
+    }
+
+    @Test
+    void copyOnWrite_put_on_the_copy_does_not_modify_the_original_event() {
+        final JacksonEvent originalEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(Map.of("foo", Map.of("bar", "baz", "list", List.of(1, 2)), "other", Map.of("key", "value")))
+                .build();
+        final Map<String, Object> originalData = originalEvent.toMap();
+
+        final JacksonEvent createdEvent = JacksonEvent.copyOnWrite(originalEvent);
+        createdEvent.put("foo/bar", "new");
+        createdEvent.put("foo/list/0", 3);
+        createdEvent.put("new/nested/key", "value");
+
+        assertThat(originalEvent.toMap(), equalTo(originalData));
+        assertThat(createdEvent.get("foo/bar", String.class), equalTo("new"));
+        assertThat(createdEvent.getList("foo/list", Integer.class), equalTo(List.of(3, 2)));
+        assertThat(createdEvent.get("new/nested/key", String.class), equalTo("value"));
+        assertThat(createdEvent.getJsonNode().get("other"), sameInstance(originalEvent.getJsonNode().get("other")));
+    }
+
+    @Test
+    void copyOnWrite_put_on_the_original_event_does_not_modify_the_copy() {
+        final JacksonEvent originalEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(Map.of("foo", Map.of("bar", "baz")))
+                .build();
+        final JacksonEvent createdEvent = JacksonEvent.copyOnWrite(originalEvent);
+        final Map<String, Object> copiedData = createdEvent.toMap();
+
+        originalEvent.put("foo/bar", "new");
+        originalEvent.put("foo/other", "value");
+
+        assertThat(createdEvent.toMap(), equalTo(copiedData));
+        assertThat(originalEvent.get("foo/bar", String.class), equalTo("new"));
+        assertThat(originalEvent.get("foo/other", String.class), equalTo("value"));
+    }
+
+    @Test
+    void copyOnWrite_delete_and_clear_do_not_modify_the_other_events() {
+        final JacksonEvent originalEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(Map.of("foo", Map.of("bar", "baz", "fizz", "buzz"), "other", "value"))
+                .build();
+        final Map<String, Object> originalData = originalEvent.toMap();
+        final JacksonEvent firstCopy = JacksonEvent.copyOnWrite(originalEvent);
+        final JacksonEvent secondCopy = JacksonEvent.copyOnWrite(originalEvent);
+
+        firstCopy.delete("foo/bar");
+        secondCopy.clear();
+
+        assertThat(originalEvent.toMap(), equalTo(originalData));
+        assertThat(firstCopy.toMap(), equalTo(Map.of("foo", Map.of("fizz", "buzz"), "other", "value")));
+        assertThat(secondCopy.toMap(), equalTo(Map.of()));
+    }
+
+    @Test
+    void copyOnWrite_copy_modifies_copied_nodes_in_place() {
+        final JacksonEvent originalEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(Map.of("foo", Map.of("bar", "baz")))
+                .build();
+        final JacksonEvent createdEvent = JacksonEvent.copyOnWrite(originalEvent);
+
+        createdEvent.put("foo/first", 1);
+        final Object copiedRootNode = createdEvent.getJsonNode();
+        final Object copiedFooNode = createdEvent.getJsonNode().get("foo");
+        createdEvent.put("foo/second", 2);
+
+        assertThat(createdEvent.getJsonNode(), sameInstance(copiedRootNode));
+        assertThat(createdEvent.getJsonNode().get("foo"), sameInstance(copiedFooNode));
+        assertThat(originalEvent.toMap(), equalTo(Map.of("foo", Map.of("bar", "baz"))));
+    }
+
+    @Test
+    void copyOnWrite_of_a_copy_does_not_share_the_modified_nodes() {
+        final JacksonEvent originalEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(Map.of("foo", Map.of("bar", "baz")))
+                .build();
+        final JacksonEvent firstCopy = JacksonEvent.copyOnWrite(originalEvent);
+        firstCopy.put("foo/bar", "first");
+
+        final JacksonEvent secondCopy = JacksonEvent.copyOnWrite(firstCopy);
+        firstCopy.put("foo/bar", "second");
+
+        assertThat(originalEvent.get("foo/bar", String.class), equalTo("baz"));
+        assertThat(secondCopy.get("foo/bar", String.class), equalTo("first"));
+        assertThat(firstCopy.get("foo/bar", String.class), equalTo("second"));
+    }
+
     @Test
     void testJsonStringBuilder() {
         final String jsonString = "{\"foo\":\"bar\"}";
@@ -767,6 +1000,67 @@ public class JacksonEventTest {
         assertThat(event.jsonBuilder().toJsonString(), equalTo(jsonString));
     }
 
+    @Test
+    void testJsonStringBuilderToJsonBytes() {
+        final String jsonString = "{\"id\":1,\"foo\":\"b\u00e4r\",\"info\":{\"name\":\"hello\",\"foo\":\"bar\"},\"tags\":[{\"key\":\"a\",\"value\":\"b\"},{\"key\":\"c\",\"value\":\"d\"}]}";
+        final JacksonEvent event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(jsonString)
+                .build();
+        event.getMetadata().addTags(List.of("tag1"));
+
+        final List<Event.JsonStringBuilder> jsonStringBuilders = List.of(
+                event.jsonBuilder(),
+                event.jsonBuilder().includeTags("tags1"),
+                event.jsonBuilder().rootKey("info"),
+                event.jsonBuilder().rootKey("info").includeTags("tags1"),
+                event.jsonBuilder().rootKey("foo"),
+                event.jsonBuilder().rootKey("hello"),
+                event.jsonBuilder().includeKeys(Arrays.asList("foo", "info/name")),
+                event.jsonBuilder().includeKeys(Arrays.asList("foo", "tags/key")).includeTags("tags1"),
+                event.jsonBuilder().includeKeys(Arrays.asList("foo", "info/age")),
+                event.jsonBuilder().rootKey("info").includeKeys(List.of("name")),
+                event.jsonBuilder().includeKeys(Collections.emptyList()),
+                event.jsonBuilder().excludeKeys(Arrays.asList("foo", "info/name")),
+                event.jsonBuilder().excludeKeys(Arrays.asList("foo", "tags/key")).includeTags("tags1"),
+                event.jsonBuilder().excludeKeys(List.of("hello")),
+                event.jsonBuilder().rootKey("info").excludeKeys(List.of("name")),
+                event.jsonBuilder().excludeKeys(Collections.emptyList()));
+
+        for (final Event.JsonStringBuilder jsonStringBuilder : jsonStringBuilders) {
+            assertThat(new String(jsonStringBuilder.toJsonBytes(), StandardCharsets.UTF_8), equalTo(jsonStringBuilder.toJsonString()));
+        }
+    }
+
+    @Test
+    void testJsonStringBuilderToJsonBytesWithTagsOnNonObjectRoot() {
+        final JacksonEvent event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData("{\"foo\":[1,2]}")
+                .build();
+        event.getMetadata().addTags(List.of("tag1"));
+
+        assertThat(new String(event.jsonBuilder().rootKey("foo").includeTags("tags").toJsonBytes(), StandardCharsets.UTF_8),
+                equalTo("[1,2]"));
+    }
+
+    @Test
+    void writeJsonBytes_reuses_the_buffer_only_for_small_documents() {
+        final String largeValue = RandomStringUtils.randomAlphabetic(JacksonEvent.MAX_POOLED_JSON_BUFFER_SIZE);
+        final byte[] largeBytes = JacksonEvent.writeJsonBytes(generator -> generator.writeString(largeValue));
+        assertThat(largeBytes.length, equalTo(JacksonEvent.MAX_POOLED_JSON_BUFFER_SIZE + 2));
+
+        final byte[] smallBytes = JacksonEvent.writeJsonBytes(generator -> generator.writeString("a"));
+        assertThat(new String(smallBytes, StandardCharsets.UTF_8), equalTo("\"a\""));
+    }
+
+    @Test
+    void writeJsonBytes_throws_UncheckedIOException_when_writing_fails() {
+        assertThrows(UncheckedIOException.class, () -> JacksonEvent.writeJsonBytes(generator -> {
+            throw new IOException("test");
+        }));
+    }
+
     @Test
     void testJsonStringBuilderWithIncludeKeys() {
         final String jsonString = "{\"id\":1,\"foo\":\"bar\",\"info\":{\"name\":\"hello\",\"foo\":\"bar\"},\"tags\":[{\"key\":\"a\",\"value\":\"b\"},{\"key\":\"c\",\"value\":\"d\"}]}";
@@ -8,6 +8,7 @@ package org.opensearch.dataprepper.model.trace;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.ImmutableMap;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -17,6 +18,7 @@ import org.opensearch.dataprepper.model.event.EventType;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.model.event.DefaultEventHandle;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Date;
@@ -254,6 +256,7 @@ public class JacksonSpanTest {
         assertThat(resultMap.containsKey("key1"), is(true));
         assertThat(resultMap.containsKey("key2"), is(true));
         assertThat(resultMap.containsKey("attributes"), is(false));
+        assertThat(new String(jacksonSpan.jsonBuilder().toJsonBytes(), StandardCharsets.UTF_8), equalTo(jsonResult));
     }
 
     @Test
@@ -698,6 +701,111 @@ public class JacksonSpanTest {
         }
     }
 
+    @Nested
+    class JacksonSpanJsonNodeBuilder {
+        private ObjectNode createJsonNode() {
+            final ObjectNode jsonNode = mapper.createObjectNode();
+            jsonNode.put("traceId", TEST_TRACE_ID);
+            jsonNode.put("spanId", TEST_SPAN_ID);
+            jsonNode.put("traceState", TEST_TRACE_STATE);
+            jsonNode.put("parentSpanId", TEST_PARENT_SPAN_ID);
+            jsonNode.put("name", TEST_NAME);
+            jsonNode.put("kind", TEST_KIND);
+            jsonNode.put("startTime", TEST_START_TIME);
+            jsonNode.put("endTime", TEST_END_TIME);
+            jsonNode.put("traceGroup", TEST_TRACE_GROUP);
+            jsonNode.put("durationInNanos", TEST_DURATION_IN_NANOS);
+            jsonNode.set("traceGroupFields", mapper.valueToTree(defaultTraceGroupFields));
+            return jsonNode;
+        }
+
+        @Test
+        void build_uses_the_json_node_as_the_span_data() {
+            final ObjectNode jsonNode = createJsonNode();
+            jsonNode.put("serviceName", TEST_SERVICE_NAME);
+            jsonNode.set("attributes", mapper.valueToTree(TEST_ATTRIBUTES));
+            jsonNode.put("droppedAttributesCount", TEST_DROPPED_ATTRIBUTES_COUNT);
+            jsonNode.set("events", mapper.valueToTree(Arrays.asList(defaultSpanEvent)));
+            jsonNode.put("droppedEventsCount", TEST_DROPPED_EVENTS_COUNT);
+            jsonNode.set("links", mapper.valueToTree(Arrays.asList(defaultLink)));
+            jsonNode.put("droppedLinksCount", TEST_DROPPED_LINKS_COUNT);
+
+            final JacksonSpan span = JacksonSpan.builder()
+                    .withJsonNode(jsonNode)
+                    .build();
+
+            assertThat(span.getJsonNode(), sameInstance(jsonNode));
+            assertThat(span.getJsonNode(), equalTo(jacksonSpan.getJsonNode()));
+            assertThat(span.getMetadata().getEventType(), equalTo(EventType.TRACE.toString()));
+        }
+
+        @Test
+        void build_sets_default_values() {
+            final JacksonSpan span = JacksonSpan.builder()
+                    .withJsonNode(createJsonNode())
+                    .build();
+
+            assertThat(span.getAttributes(), equalTo(new HashMap<>()));
+            assertThat(span.getDroppedAttributesCount(), equalTo(0));
+            assertThat(span.getEvents(), equalTo(new LinkedList<>()));
+            assertThat(span.getDroppedEventsCount(), equalTo(0));
+            assertThat(span.getLinks(), equalTo(new LinkedList<>()));
+            assertThat(span.getDroppedLinksCount(), equalTo(0));
+        }
+
+        @Test
+        void build_adds_fields_set_through_the_builder() {
+            final Instant now = Instant.now();
+            final JacksonSpan span = JacksonSpan.builder()
+                    .withJsonNode(createJsonNode())
+                    .withServiceName(TEST_SERVICE_NAME)
+                    .withAttributes(TEST_ATTRIBUTES)
+                    .withTimeReceived(now)
+                    .build();
+
+            assertThat(span.getServiceName(), equalTo(TEST_SERVICE_NAME));
+            assertThat(span.getAttributes(), equalTo(TEST_ATTRIBUTES));
+            assertThat(span.getTraceId(), equalTo(TEST_TRACE_ID));
+            assertThat(span.getMetadata().getTimeReceived(), equalTo(now));
+        }
+
+        @Test
+        void build_without_trace_group_throwsIllegalStateException() {
+            final ObjectNode jsonNode = createJsonNode();
+            jsonNode.remove("traceGroup");
+            final JacksonSpan.Builder builder = JacksonSpan.builder().withJsonNode(jsonNode);
+
+            assertThrows(IllegalStateException.class, builder::build);
+        }
+
+        @Test
+        void build_without_span_id_throwsNullPointerException() {
+            final ObjectNode jsonNode = createJsonNode();
+            jsonNode.remove("spanId");
+            final JacksonSpan.Builder builder = JacksonSpan.builder().withJsonNode(jsonNode);
+
+            assertThrows(NullPointerException.class, builder::build);
+        }
+
+        @Test
+        void build_with_empty_name_throwsIllegalArgumentException() {
+            final ObjectNode jsonNode = createJsonNode();
+            jsonNode.put("name", "");
+            final JacksonSpan.Builder builder = JacksonSpan.builder().withJsonNode(jsonNode);
+
+            assertThrows(IllegalArgumentException.class, builder::build);
+        }
+
+        @Test
+        void build_with_null_trace_group_fields_throwsNullPointerException() {
+            final ObjectNode jsonNode = createJsonNode();
+            jsonNode.putNull("traceGroupFields");
+            final JacksonSpan.Builder builder = JacksonSpan.builder().withJsonNode(jsonNode);
+
+            assertThrows(NullPointerException.class, builder::build);
+        }
+    }
+
     @Test
     void fromSpan_with_a_Jackson_Span() {
         final JacksonEvent createdEvent = JacksonSpan.fromSpan(jacksonSpan);
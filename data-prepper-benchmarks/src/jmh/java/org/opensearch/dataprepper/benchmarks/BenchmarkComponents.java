@@ -0,0 +1,104 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.opensearch.dataprepper.parser.DataFlowComponent;
+import org.opensearch.dataprepper.pipeline.router.RouterFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.lang.reflect.Constructor;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Creates the Data Prepper components which the benchmarks need in the same way as the Data Prepper
+ * runtime does, without starting a pipeline.
+ */
+public final class BenchmarkComponents {
+    private static final String EXPRESSION_PACKAGE = "org.opensearch.dataprepper.expression";
+    private static final String ROUTER_PACKAGE = "org.opensearch.dataprepper.pipeline.router";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Validator VALIDATOR = Validation.byDefaultProvider()
+            .configure()
+            .messageInterpolator(new ParameterMessageInterpolator())
+            .buildValidatorFactory()
+            .getValidator();
+
+    private BenchmarkComponents() {
+    }
+
+    /**
+     * Creates the expression evaluator from the expression application context.
+     *
+     * @return the expression evaluator
+     */
+    public static ExpressionEvaluator expressionEvaluator() {
+        return createApplicationContext(EXPRESSION_PACKAGE).getBean(ExpressionEvaluator.class);
+    }
+
+    /**
+     * Creates the router factory from the expression and router application contexts.
+     *
+     * @return the router factory
+     */
+    public static RouterFactory routerFactory() {
+        return createApplicationContext(EXPRESSION_PACKAGE, ROUTER_PACKAGE).getBean(RouterFactory.class);
+    }
+
+    /**
+     * Creates a {@link DataFlowComponent}, as the pipeline parser does for each sink.
+     *
+     * @param component the component
+     * @param routes the routes of the component
+     * @return the data flow component
+     * @param <T> the component type
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> DataFlowComponent<T> dataFlowComponent(final T component, final Collection<String> routes) {
+        try {
+            final Constructor<DataFlowComponent> constructor = DataFlowComponent.class.getDeclaredConstructor(Object.class, Collection.class);
+            constructor.setAccessible(true);
+            return constructor.newInstance(component, routes);
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to create the data flow component for " + component, e);
+        }
+    }
+
+    private static AnnotationConfigApplicationContext createApplicationContext(final String... packages) {
+        final AnnotationConfigApplicationContext applicationContext = new AnnotationConfigApplicationContext();
+        applicationContext.scan(packages);
+        applicationContext.refresh();
+        return applicationContext;
+    }
+
+    /**
+     * Converts and validates a plugin configuration, as the plugin framework does for pipeline configurations.
+     *
+     * @param settings the plugin settings as they would appear in the pipeline configuration
+     * @param configurationType the plugin configuration type
+     * @return the validated plugin configuration
+     * @param <T> the plugin configuration type
+     */
+    public static <T> T pluginConfiguration(final Map<String, Object> settings, final Class<T> configurationType) {
+        final T configuration = OBJECT_MAPPER.convertValue(settings, configurationType);
+        final Set<ConstraintViolation<T>> constraintViolations = VALIDATOR.validate(configuration);
+        if (!constraintViolations.isEmpty()) {
+            final String violations = constraintViolations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .collect(Collectors.joining(", "));
+            throw new IllegalArgumentException("Invalid benchmark configuration for " + configurationType.getSimpleName() + ": " + violations);
+        }
+        return configuration;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.plugins.buffer.blockingbuffer.BlockingBuffer;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Measures writing batches of records to the blocking buffer and reading them back, first from a single
+ * thread and then with a writer and a reader running concurrently.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BlockingBufferBenchmark {
+    private static final int BUFFER_CAPACITY = 12_800;
+    private static final int WRITE_TIMEOUT_MILLIS = 100;
+
+    @Param({"1", "125"})
+    private int writeBatchSize;
+
+    private BlockingBuffer<Record<Event>> blockingBuffer;
+    private List<Record<Event>> records;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        blockingBuffer = new BlockingBuffer<>(BUFFER_CAPACITY, writeBatchSize, "benchmark");
+        records = EventFixtures.accessLogRecords(writeBatchSize);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        while (!blockingBuffer.isEmpty()) {
+            blockingBuffer.checkpoint(blockingBuffer.read(0).getValue());
+        }
+    }
+
+    @Benchmark
+    @Group("write_then_read")
+    public Collection<Record<Event>> writeThenRead() throws Exception {
+        write();
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> readResult = blockingBuffer.read(0);
+        blockingBuffer.checkpoint(readResult.getValue());
+        return readResult.getKey();
+    }
+
+    @Benchmark
+    @Group("concurrent")
+    public boolean concurrentWrite() throws Exception {
+        try {
+            write();
+            return true;
+        } catch (final TimeoutException e) {
+            // The buffer stays full when the reader stops first at the end of an iteration.
+            return false;
+        }
+    }
+
+    @Benchmark
+    @Group("concurrent")
+    public Collection<Record<Event>> concurrentRead() {
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> readResult = blockingBuffer.read(0);
+        blockingBuffer.checkpoint(readResult.getValue());
+        return readResult.getKey();
+    }
+
+    private void write() throws Exception {
+        if (writeBatchSize == 1) {
+            blockingBuffer.write(records.get(0), WRITE_TIMEOUT_MILLIS);
+        } else {
+            blockingBuffer.writeAll(records, WRITE_TIMEOUT_MILLIS);
+        }
+    }
+}
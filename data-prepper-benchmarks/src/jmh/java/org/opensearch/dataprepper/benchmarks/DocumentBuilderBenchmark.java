@@ -0,0 +1,73 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.plugins.sink.opensearch.index.DocumentBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building the OpenSearch bulk documents for events, with and without the document options
+ * of the OpenSearch sink.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DocumentBuilderBenchmark {
+    private static final int EVENT_COUNT = 1024;
+    private static final List<String> INCLUDE_KEYS = List.of("client_ip", "timestamp", "http", "status_code");
+    private static final List<String> EXCLUDE_KEYS = List.of("message");
+
+    private List<Event> events;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        events = EventFixtures.accessLogEvents(EVENT_COUNT);
+        for (final Event event : events) {
+            event.getMetadata().addTags(List.of("benchmark"));
+        }
+    }
+
+    private Event nextEvent() {
+        index = (index + 1) & (EVENT_COUNT - 1);
+        return events.get(index);
+    }
+
+    @Benchmark
+    public String build() {
+        return DocumentBuilder.build(nextEvent(), null, null);
+    }
+
+    @Benchmark
+    public byte[] buildBytes() {
+        return DocumentBuilder.buildBytes(nextEvent(), null, null, null, null);
+    }
+
+    @Benchmark
+    public String build_with_include_keys() {
+        return DocumentBuilder.build(nextEvent(), null, "tags", INCLUDE_KEYS, null);
+    }
+
+    @Benchmark
+    public String build_with_exclude_keys() {
+        return DocumentBuilder.build(nextEvent(), null, "tags", null, EXCLUDE_KEYS);
+    }
+
+    @Benchmark
+    public String build_with_document_root_key() {
+        return DocumentBuilder.build(nextEvent(), "http", null);
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.benchmarks;
+
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.log.JacksonLog;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generates the events used by the benchmarks. The events resemble HTTP access logs, with a raw message
+ * as received from a source and the fields a pipeline typically extracts from it. A fixed seed keeps the
+ * generated events identical across runs, so that results are comparable between releases.
+ */
+public final class EventFixtures {
+    public static final String MESSAGE_KEY = "message";
+    public static final String TIMESTAMP_KEY = "timestamp";
+
+    private static final long SEED = 42L;
+    private static final DateTimeFormatter APACHE_TIMESTAMP_FORMATTER =
+            DateTimeFormatter.ofPattern("dd/MMM/yyyy:HH:mm:ss Z", Locale.ENGLISH);
+    private static final ZonedDateTime START_TIME = ZonedDateTime.of(2024, 3, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    private static final String[] VERBS = {"GET", "GET", "GET", "POST", "PUT", "DELETE"};
+    private static final String[] PATHS = {"/", "/index.html", "/api/v1/orders", "/api/v1/customers", "/api/v2/search",
+            "/static/app.js", "/static/style.css", "/login", "/logout", "/health"};
+    private static final int[] STATUS_CODES = {200, 200, 200, 200, 201, 204, 301, 304, 400, 401, 403, 404, 500, 503};
+    private static final String[] USERS = {"-", "frank", "alice", "bob", "carol", "dave"};
+    private static final String[] AGENTS = {"Mozilla/5.0 (X11; Linux x86_64)", "curl/8.4.0", "okhttp/4.12.0",
+            "Mozilla/5.0 (Macintosh; Intel Mac OS X 14_3)"};
+
+    private EventFixtures() {
+    }
+
+    /**
+     * Creates records of events with an access log line in {@link #MESSAGE_KEY} and the fields parsed from it.
+     *
+     * @param count the number of records
+     * @return the records
+     */
+    public static List<Record<Event>> accessLogRecords(final int count) {
+        final Random random = new Random(SEED);
+        final List<Record<Event>> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            records.add(new Record<>(accessLogEvent(random, i)));
+        }
+        return records;
+    }
+
+    /**
+     * Creates records of events with a single raw message in {@link #MESSAGE_KEY}.
+     *
+     * @param count the number of records
+     * @param messageType the kind of message to generate
+     * @return the records
+     */
+    public static List<Record<Event>> messageRecords(final int count, final MessageType messageType) {
+        final Random random = new Random(SEED);
+        final List<Record<Event>> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final Map<String, Object> data = new LinkedHashMap<>();
+            data.put(MESSAGE_KEY, messageType.generate(random, i));
+            records.add(new Record<>(JacksonLog.builder().withData(data).build()));
+        }
+        return records;
+    }
+
+    /**
+     * Creates the events of the records created by {@link #accessLogRecords(int)}.
+     *
+     * @param count the number of events
+     * @return the events
+     */
+    public static List<Event> accessLogEvents(final int count) {
+        final List<Event> events = new ArrayList<>(count);
+        for (final Record<Event> record : accessLogRecords(count)) {
+            events.add(record.getData());
+        }
+        return events;
+    }
+
+    private static Event accessLogEvent(final Random random, final int index) {
+        final String clientIp = ipAddress(random);
+        final String user = pick(random, USERS);
+        final String verb = pick(random, VERBS);
+        final String path = pick(random, PATHS);
+        final int statusCode = STATUS_CODES[random.nextInt(STATUS_CODES.length)];
+        final int bytes = random.nextInt(65536);
+        final String timestamp = timestamp(index);
+
+        final Map<String, Object> http = new LinkedHashMap<>();
+        http.put("verb", verb);
+        http.put("path", path);
+        http.put("version", "1.1");
+        http.put("user_agent", pick(random, AGENTS));
+
+        final Map<String, Object> data = new LinkedHashMap<>();
+        data.put(MESSAGE_KEY, accessLogLine(clientIp, user, timestamp, verb, path, statusCode, bytes));
+        data.put("client_ip", clientIp);
+        data.put("user", user);
+        data.put(TIMESTAMP_KEY, timestamp);
+        data.put("http", http);
+        data.put("status_code", statusCode);
+        data.put("bytes", bytes);
+        data.put("latency_ms", random.nextDouble() * 250);
+        data.put("tags", List.of("web", random.nextBoolean() ? "us-east-1" : "eu-west-1"));
+
+        return JacksonLog.builder().withData(data).build();
+    }
+
+    private static String accessLogLine(final String clientIp, final String user, final String timestamp, final String verb,
+                                        final String path, final int statusCode, final int bytes) {
+        return clientIp + " - " + user + " [" + timestamp + "] \"" + verb + " " + path + " HTTP/1.1\" " + statusCode + " " + bytes;
+    }
+
+    private static String keyValueLine(final Random random, final int index) {
+        return "request_id=" + index + "&user=" + pick(random, USERS) + "&action=" + pick(random, VERBS).toLowerCase(Locale.ROOT) +
+                "&path=" + pick(random, PATHS) + "&status=" + STATUS_CODES[random.nextInt(STATUS_CODES.length)] +
+                "&duration_ms=" + random.nextInt(1000) + "&region=" + (random.nextBoolean() ? "us-east-1" : "eu-west-1");
+    }
+
+    private static String jsonDocument(final Random random, final int index) {
+        return "{\"request_id\":" + index + ",\"user\":{\"name\":\"" + pick(random, USERS) + "\",\"ip\":\"" + ipAddress(random) +
+                "\"},\"http\":{\"verb\":\"" + pick(random, VERBS) + "\",\"path\":\"" + pick(random, PATHS) +
+                "\",\"status\":" + STATUS_CODES[random.nextInt(STATUS_CODES.length)] + "},\"bytes\":" + random.nextInt(65536) +
+                ",\"tags\":[\"web\",\"" + (random.nextBoolean() ? "us-east-1" : "eu-west-1") + "\"]}";
+    }
+
+    private static String timestamp(final int index) {
+        return APACHE_TIMESTAMP_FORMATTER.format(START_TIME.plusSeconds(index));
+    }
+
+    private static String ipAddress(final Random random) {
+        return (10 + random.nextInt(200)) + "." + random.nextInt(256) + "." + random.nextInt(256) + "." + (1 + random.nextInt(254));
+    }
+
+    private static String pick(final Random random, final String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * The kinds of raw messages which {@link #messageRecords(int, MessageType)} generates.
+     */
+    public enum MessageType {
+        ACCESS_LOG {
+            @Override
+            String generate(final Random random, final int index) {
+                return accessLogLine(ipAddress(random), pick(random, USERS), timestamp(index), pick(random, VERBS),
+                        pick(random, PATHS), STATUS_CODES[random.nextInt(STATUS_CODES.length)], random.nextInt(65536));
+            }
+        },
+        KEY_VALUE {
+            @Override
+            String generate(final Random random, final int index) {
+                return keyValueLine(random, index);
+            }
+        },
+        JSON {
+            @Override
+            String generate(final Random random, final int index) {
+                return jsonDocument(random, index);
+            }
+        };
+
+        abstract String generate(Random random, int index);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.opensearch.dataprepper.model.event.DefaultEventHandle;
+import org.opensearch.dataprepper.model.event.DefaultEventMetadata;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventMetadata;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures creating the objects which every event holds. Run with the gc profiler, whose
+ * gc.alloc.rate.norm result is the number of bytes allocated for each event.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventFootprintBenchmark {
+    private static final String EVENT_TYPE = "event";
+    private static final Map<String, Object> DATA = Map.of(EventFixtures.MESSAGE_KEY, "GET /api/v1/orders HTTP/1.1");
+    private static final List<String> TAGS = List.of("benchmark");
+
+    private Instant timeReceived;
+    private Event event;
+
+    @Setup
+    public void setUp() {
+        timeReceived = Instant.now();
+        event = EventFixtures.accessLogEvents(1).get(0);
+    }
+
+    @Benchmark
+    public EventMetadata metadata() {
+        return DefaultEventMetadata.builder()
+                .withEventType(EVENT_TYPE)
+                .withTimeReceived(timeReceived)
+                .build();
+    }
+
+    @Benchmark
+    public EventMetadata metadata_with_tags() {
+        final EventMetadata eventMetadata = metadata();
+        eventMetadata.addTags(TAGS);
+        return eventMetadata;
+    }
+
+    @Benchmark
+    public DefaultEventHandle event_handle() {
+        return new DefaultEventHandle(timeReceived);
+    }
+
+    @Benchmark
+    public Event event() {
+        return JacksonEvent.builder()
+                .withEventType(EVENT_TYPE)
+                .withTimeReceived(timeReceived)
+                .withData(DATA)
+                .build();
+    }
+
+    @Benchmark
+    public Event copied_event() {
+        return JacksonEvent.copyOnWrite(event);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.opensearch.dataprepper.model.event.Event;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures evaluating conditional and arithmetic expressions against a single event.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExpressionEvaluatorBenchmark {
+    private static final int EVENT_COUNT = 1024;
+
+    @Param({
+            "/status_code >= 400",
+            "/status_code >= 400 and /status_code < 500",
+            "/http/verb == \"POST\" or /http/verb == \"PUT\"",
+            "/http/path =~ \"^/api/v[0-9]+/.*\"",
+            "/http/verb != \"GET\" and /bytes > 1024",
+            "contains(/http/user_agent, \"curl\")",
+            "/bytes / 1024"
+    })
+    private String statement;
+
+    private ExpressionEvaluator expressionEvaluator;
+    private List<Event> events;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        expressionEvaluator = BenchmarkComponents.expressionEvaluator();
+        events = EventFixtures.accessLogEvents(EVENT_COUNT);
+    }
+
+    @Benchmark
+    public Object evaluate() {
+        index = (index + 1) & (EVENT_COUNT - 1);
+        return expressionEvaluator.evaluate(statement, events.get(index));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.peerforwarder.HashRing;
+import org.opensearch.dataprepper.peerforwarder.HashRingAlgorithm;
+import org.opensearch.dataprepper.peerforwarder.PeerForwarderClientFactory;
+import org.opensearch.dataprepper.peerforwarder.discovery.StaticPeerListProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures choosing the peer for the identification keys of an event, as the peer forwarder does for
+ * every event of a stateful processor.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HashRingBenchmark {
+    private static final int EVENT_COUNT = 1024;
+
+    @Param({"3", "30"})
+    private int peerCount;
+
+    @Param({"MD5", "XXHASH64"})
+    private HashRingAlgorithm hashRingAlgorithm;
+
+    private HashRing hashRing;
+    private List<List<String>> identificationKeyValues;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        final List<String> endpoints = new ArrayList<>(peerCount);
+        for (int i = 0; i < peerCount; i++) {
+            endpoints.add("10.0." + (i / 250) + "." + (i % 250 + 1));
+        }
+        final PluginMetrics pluginMetrics = PluginMetrics.fromNames("peerForwarder", "benchmark");
+        hashRing = new HashRing(new StaticPeerListProvider(endpoints, pluginMetrics),
+                PeerForwarderClientFactory.NUM_VIRTUAL_NODES, hashRingAlgorithm, pluginMetrics);
+
+        identificationKeyValues = new ArrayList<>(EVENT_COUNT);
+        for (final Event event : EventFixtures.accessLogEvents(EVENT_COUNT)) {
+            identificationKeyValues.add(List.of(event.get("client_ip", String.class), event.get("http/path", String.class)));
+        }
+    }
+
+    @Benchmark
+    public Optional<String> getServerIp() {
+        index = (index + 1) & (EVENT_COUNT - 1);
+        return hashRing.getServerIp(identificationKeyValues.get(index));
+    }
+}
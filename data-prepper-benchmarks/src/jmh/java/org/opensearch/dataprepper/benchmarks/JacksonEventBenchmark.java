@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading and writing event fields, and serializing events to JSON.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JacksonEventBenchmark {
+    private static final int EVENT_COUNT = 1024;
+
+    @Param({"status_code", "http/verb"})
+    private String key;
+
+    private List<Event> events;
+    private EventKey eventKey;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        events = EventFixtures.accessLogEvents(EVENT_COUNT);
+        eventKey = EventKey.of(key);
+    }
+
+    private Event nextEvent() {
+        index = (index + 1) & (EVENT_COUNT - 1);
+        return events.get(index);
+    }
+
+    @Benchmark
+    public Object get() {
+        return nextEvent().get(key, Object.class);
+    }
+
+    @Benchmark
+    public Object get_with_event_key() {
+        return nextEvent().get(eventKey, Object.class);
+    }
+
+    @Benchmark
+    public void put(final Blackhole blackhole) {
+        final Event event = nextEvent();
+        event.put(key, index);
+        blackhole.consume(event);
+    }
+
+    @Benchmark
+    public void put_with_event_key(final Blackhole blackhole) {
+        final Event event = nextEvent();
+        event.put(eventKey, index);
+        blackhole.consume(event);
+    }
+
+    @Benchmark
+    public String toJsonString() {
+        return nextEvent().toJsonString();
+    }
+}
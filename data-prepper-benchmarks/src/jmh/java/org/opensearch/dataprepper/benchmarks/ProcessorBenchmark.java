@@ -0,0 +1,135 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.model.configuration.PluginSetting;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.processor.Processor;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.plugins.processor.date.DateProcessor;
+import org.opensearch.dataprepper.plugins.processor.date.DateProcessorConfig;
+import org.opensearch.dataprepper.plugins.processor.grok.GrokProcessor;
+import org.opensearch.dataprepper.plugins.processor.keyvalue.KeyValueProcessor;
+import org.opensearch.dataprepper.plugins.processor.keyvalue.KeyValueProcessorConfig;
+import org.opensearch.dataprepper.plugins.processor.mutateevent.AddEntryProcessor;
+import org.opensearch.dataprepper.plugins.processor.mutateevent.AddEntryProcessorConfig;
+import org.opensearch.dataprepper.plugins.processor.parse.json.ParseJsonProcessor;
+import org.opensearch.dataprepper.plugins.processor.parse.json.ParseJsonProcessorConfig;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the processors which most pipelines use, with the configurations of a typical access log
+ * pipeline. The batches are created before each iteration and processed in turn. The processors are
+ * configured to overwrite the keys they write, so processing a batch again does the same work.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProcessorBenchmark {
+    private static final int BATCH_SIZE = 100;
+    private static final int BATCH_COUNT = 16;
+    private static final List<String> GROK_KEYS = List.of(
+            "clientip", "ident", "auth", "timestamp", "verb", "request", "httpversion", "rawrequest", "response", "bytes");
+    private static final String PIPELINE_NAME = "benchmark";
+
+    @Param({"grok", "key_value", "date", "add_entries", "parse_json"})
+    private String processorName;
+
+    private Processor<Record<Event>, Record<Event>> processor;
+    private EventFixtures.MessageType messageType;
+    private List<List<Record<Event>>> batches;
+    private int nextBatch;
+
+    @Setup(Level.Trial)
+    public void setUpProcessor() {
+        final ExpressionEvaluator expressionEvaluator = BenchmarkComponents.expressionEvaluator();
+        final PluginMetrics pluginMetrics = PluginMetrics.fromNames(processorName, PIPELINE_NAME);
+
+        switch (processorName) {
+            case "grok":
+                final PluginSetting pluginSetting = new PluginSetting(processorName,
+                        new HashMap<>(Map.of(
+                                "match", Map.of(EventFixtures.MESSAGE_KEY, List.of("%{COMMONAPACHELOG}")),
+                                "keys_to_overwrite", GROK_KEYS)));
+                pluginSetting.setPipelineName(PIPELINE_NAME);
+                processor = new GrokProcessor(pluginSetting, expressionEvaluator);
+                messageType = EventFixtures.MessageType.ACCESS_LOG;
+                break;
+            case "key_value":
+                processor = new KeyValueProcessor(pluginMetrics,
+                        BenchmarkComponents.pluginConfiguration(Map.of(), KeyValueProcessorConfig.class), expressionEvaluator);
+                messageType = EventFixtures.MessageType.KEY_VALUE;
+                break;
+            case "date":
+                processor = new DateProcessor(pluginMetrics, BenchmarkComponents.pluginConfiguration(
+                        Map.of("match", List.of(Map.of("key", EventFixtures.TIMESTAMP_KEY, "patterns", List.of("dd/MMM/yyyy:HH:mm:ss Z")))),
+                        DateProcessorConfig.class), expressionEvaluator);
+                messageType = null;
+                break;
+            case "add_entries":
+                processor = new AddEntryProcessor(pluginMetrics, BenchmarkComponents.pluginConfiguration(
+                        Map.of("entries", List.of(
+                                Map.of("key", "environment", "value", "production", "overwrite_if_key_exists", true),
+                                Map.of("key", "request", "format", "${/http/verb} ${/http/path}", "overwrite_if_key_exists", true),
+                                Map.of("key", "response_class", "value", "error", "add_when", "/status_code >= 400",
+                                        "overwrite_if_key_exists", true))),
+                        AddEntryProcessorConfig.class), expressionEvaluator);
+                messageType = null;
+                break;
+            case "parse_json":
+                processor = new ParseJsonProcessor(pluginMetrics,
+                        BenchmarkComponents.pluginConfiguration(Map.of(), ParseJsonProcessorConfig.class), expressionEvaluator);
+                messageType = EventFixtures.MessageType.JSON;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown processor " + processorName);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpBatches() {
+        batches = new ArrayList<>(BATCH_COUNT);
+        for (int i = 0; i < BATCH_COUNT; i++) {
+            batches.add(messageType == null ?
+                    EventFixtures.accessLogRecords(BATCH_SIZE) :
+                    EventFixtures.messageRecords(BATCH_SIZE, messageType));
+        }
+        nextBatch = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        processor.prepareForShutdown();
+        processor.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public Collection<Record<Event>> execute() {
+        final List<Record<Event>> records = batches.get(nextBatch);
+        nextBatch = (nextBatch + 1) % BATCH_COUNT;
+        return processor.execute(records);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.dataprepper.model.configuration.ConditionalRoute;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.parser.DataFlowComponent;
+import org.opensearch.dataprepper.pipeline.router.Router;
+import org.opensearch.dataprepper.pipeline.router.RouterGetRecordStrategy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures routing a batch of records to three conditionally routed sinks. The {@link Router} is created
+ * by the same {@link org.opensearch.dataprepper.pipeline.router.RouterFactory} which pipelines use.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RouterBenchmark {
+    private static final int BATCH_SIZE = 100;
+    private static final Set<ConditionalRoute> ROUTES = Set.of(
+            new ConditionalRoute("errors", "/status_code >= 400"),
+            new ConditionalRoute("api", "/http/path =~ \"^/api/.*\""),
+            new ConditionalRoute("writes", "/http/verb != \"GET\""));
+
+    private Router router;
+    private Collection<Record> records;
+    private Collection<DataFlowComponent<String>> dataFlowComponents;
+    private RouterGetRecordStrategy getRecordStrategy;
+
+    @Setup
+    public void setUp() {
+        router = BenchmarkComponents.routerFactory().createRouter(ROUTES);
+        records = new ArrayList<>(EventFixtures.accessLogRecords(BATCH_SIZE));
+        dataFlowComponents = List.of(
+                BenchmarkComponents.dataFlowComponent("errors-sink", List.of("errors")),
+                BenchmarkComponents.dataFlowComponent("api-sink", List.of("api")),
+                BenchmarkComponents.dataFlowComponent("writes-sink", List.of("writes", "errors")));
+        getRecordStrategy = new RouterGetRecordStrategy() {
+            @Override
+            public Record getRecord(final Record record) {
+                return record;
+            }
+
+            @Override
+            public Collection<Record> getAllRecords(final Collection<Record> allRecords) {
+                return allRecords;
+            }
+        };
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void route(final Blackhole blackhole) {
+        router.route(records, dataFlowComponents, getRecordStrategy, (component, componentRecords) -> blackhole.consume(componentRecords));
+    }
+}
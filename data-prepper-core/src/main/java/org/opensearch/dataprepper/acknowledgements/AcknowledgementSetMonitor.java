@@ -10,10 +10,15 @@ import org.opensearch.dataprepper.model.event.DefaultEventHandle;
 import org.opensearch.dataprepper.model.event.InternalEventHandle;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSet;
 
-import java.util.concurrent.locks.ReentrantLock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.Set;
-import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,13 +27,23 @@ import org.slf4j.LoggerFactory;
  * <p>
  * Every acknowledgement set must complete (ie get acknowledgements from all the events in it)
  * by a specified time. If it is not completed, then it is considered 'expired' and it is
- * cleaned up. The 'run' method is invoked periodically to cleanup the acknowledgement sets
- * that are either completed or expired.
+ * cleaned up. The sets are kept in a hashed timer wheel with one bucket per tick, so the
+ * periodic 'run' method only visits the sets which are due to expire rather than all of them.
+ * Completed sets remove themselves as soon as their callback has run.
+ * <p>
+ * Acquires and releases do not go through any shared lock. Whether an acknowledgement set is
+ * still alive is checked on the set itself.
  */
 class AcknowledgementSetMonitor implements Runnable {
     private static final Logger LOG = LoggerFactory.getLogger(AcknowledgementSetMonitor.class);
-    private final Set<AcknowledgementSet> acknowledgementSets;
-    private final ReentrantLock lock;
+    static final int WHEEL_SIZE = 512;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private final long tickNanos;
+    private final long startNanos;
+    private final List<List<Entry>> wheel;
+    private final Queue<Entry> addedEntries;
+    private long processedTick;
+    private final AtomicInteger size;
     private final AtomicInteger numInvalidAcquires;
     private final AtomicInteger numInvalidReleases;
     private final AtomicInteger numNullHandles;
@@ -42,9 +57,16 @@ class AcknowledgementSetMonitor implements Runnable {
         }
     }
 
-    public AcknowledgementSetMonitor() {
-        this.acknowledgementSets = new HashSet<>();
-        this.lock = new ReentrantLock(true);
+    public AcknowledgementSetMonitor(final Duration tickDuration) {
+        this.tickNanos = Math.max(1L, tickDuration.toNanos());
+        this.startNanos = System.nanoTime();
+        this.wheel = new ArrayList<>(WHEEL_SIZE);
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel.add(new ArrayList<>());
+        }
+        this.addedEntries = new ConcurrentLinkedQueue<>();
+        this.processedTick = 0;
+        this.size = new AtomicInteger(0);
         this.numInvalidAcquires = new AtomicInteger(0);
         this.numInvalidReleases = new AtomicInteger(0);
         this.numNullHandles = new AtomicInteger(0);
@@ -59,12 +81,11 @@ class AcknowledgementSetMonitor implements Runnable {
     }
 
     public void add(final AcknowledgementSet acknowledgementSet) {
-        lock.lock();
-        try {
-            acknowledgementSets.add(acknowledgementSet);
-        } finally {
-            lock.unlock();
-        }
+        final DefaultAcknowledgementSet defaultAcknowledgementSet = (DefaultAcknowledgementSet) acknowledgementSet;
+        final Entry entry = new Entry(defaultAcknowledgementSet);
+        size.incrementAndGet();
+        addedEntries.add(entry);
+        defaultAcknowledgementSet.setDoneListener(entry::remove);
     }
 
     public void acquire(final EventHandle eventHandle) {
@@ -74,17 +95,10 @@ class AcknowledgementSetMonitor implements Runnable {
         }
 
         DefaultAcknowledgementSet acknowledgementSet = getAcknowledgementSet(eventHandle);
-        lock.lock();
-        boolean exists = false;
-        try {
-            exists = acknowledgementSets.contains(acknowledgementSet);
-        } finally {
-            lock.unlock();
-        }
-        // if acknowledgementSet doesn't exist then it means that the
+        // if acknowledgementSet is no longer active then it means that the
         // event still active even after the acknowledgement set is
         // cleaned up.
-        if (exists) {
+        if (acknowledgementSet != null && acknowledgementSet.isActive()) {
             acknowledgementSet.acquire(eventHandle);
         } else {
             LOG.warn("Trying acquire an event in an AcknowledgementSet that does not exist");
@@ -98,18 +112,11 @@ class AcknowledgementSetMonitor implements Runnable {
             return;
         }
         DefaultAcknowledgementSet acknowledgementSet = getAcknowledgementSet(eventHandle);
-        lock.lock();
-        boolean exists = false;
-        try {
-            exists = acknowledgementSets.contains(acknowledgementSet);
-        } finally {
-            lock.unlock();
-        }
-        // if acknowledgementSet doesn't exist then it means some late
+        // if acknowledgementSet is no longer active then it means some late
         // arrival of event handle release after the acknowledgement set
         // is cleaned up.
-        if (exists) {
-            boolean b = acknowledgementSet.release(eventHandle, success);
+        if (acknowledgementSet != null && acknowledgementSet.isActive()) {
+            acknowledgementSet.release(eventHandle, success);
         } else {
             LOG.warn("Trying to release from an AcknowledgementSet that does not exist");
             numInvalidReleases.incrementAndGet();
@@ -118,21 +125,83 @@ class AcknowledgementSetMonitor implements Runnable {
 
     /**
      * for testing
-     * @return the size
+     * @return the number of acknowledgement sets which have neither completed nor expired
      */
     int getSize() {
-        return acknowledgementSets.size();
+        return size.get();
     }
 
+    /**
+     * Advances the timer wheel to the current time, expiring the acknowledgement sets which are due.
+     * This must only be called from a single thread.
+     */
     @Override
     public void run() {
-        lock.lock();
-        try {
-            if (acknowledgementSets.size() > 0) {
-                acknowledgementSets.removeIf((ackSet) -> ((DefaultAcknowledgementSet) ackSet).isDone());
+        final long currentTick = (System.nanoTime() - startNanos) / tickNanos;
+
+        Entry entry;
+        while ((entry = addedEntries.poll()) != null) {
+            schedule(entry);
+        }
+
+        if (currentTick <= processedTick) {
+            return;
+        }
+        final long firstTick = Math.max(processedTick + 1, currentTick - WHEEL_SIZE + 1);
+        for (long tick = firstTick; tick <= currentTick; tick++) {
+            expireDueEntries(wheel.get((int) (tick & WHEEL_MASK)), currentTick);
+        }
+        processedTick = currentTick;
+    }
+
+    private void schedule(final Entry entry) {
+        final DefaultAcknowledgementSet acknowledgementSet = entry.get();
+        if (acknowledgementSet == null) {
+            return;
+        }
+        final long nanosUntilExpiry = Duration.between(Instant.now(), acknowledgementSet.getExpiryTime()).toNanos();
+        final long elapsedNanosAtExpiry = System.nanoTime() - startNanos + Math.max(0L, nanosUntilExpiry);
+        final long expiryTick = (elapsedNanosAtExpiry + tickNanos - 1) / tickNanos;
+        entry.expiryTick = Math.max(expiryTick, processedTick + 1);
+        wheel.get((int) (entry.expiryTick & WHEEL_MASK)).add(entry);
+    }
+
+    private void expireDueEntries(final List<Entry> bucket, final long currentTick) {
+        final List<Entry> notYetExpired = new ArrayList<>();
+        final Iterator<Entry> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            final Entry entry = iterator.next();
+            final DefaultAcknowledgementSet acknowledgementSet = entry.get();
+            if (acknowledgementSet == null) {
+                iterator.remove();
+            } else if (entry.expiryTick <= currentTick) {
+                iterator.remove();
+                if (acknowledgementSet.isDone()) {
+                    entry.remove();
+                } else {
+                    notYetExpired.add(entry);
+                }
+            }
+        }
+        // The wall clock and the monotonic clock can drift apart, so sets which are not yet
+        // expired by their own expiry time are checked again on the next tick.
+        for (final Entry entry : notYetExpired) {
+            entry.expiryTick = currentTick + 1;
+            wheel.get((int) (entry.expiryTick & WHEEL_MASK)).add(entry);
+        }
+    }
+
+    private class Entry extends AtomicReference<DefaultAcknowledgementSet> {
+        private long expiryTick;
+
+        private Entry(final DefaultAcknowledgementSet acknowledgementSet) {
+            super(acknowledgementSet);
+        }
+
+        private void remove() {
+            if (getAndSet(null) != null) {
+                size.decrementAndGet();
             }
-        } finally {
-            lock.unlock();
         }
     }
 }
@@ -17,31 +17,38 @@ import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
+/**
+ * An {@link AcknowledgementSet} which does not take any locks. The reference count of each event is kept in its
+ * {@link DefaultEventHandle}, so the set only counts the events which still have outstanding references. The
+ * set moves once from active to either completed, after its callback has run, or expired.
+ */
 public class DefaultAcknowledgementSet implements AcknowledgementSet {
     private static final Logger LOG = LoggerFactory.getLogger(DefaultAcknowledgementSet.class);
+    private static final int ACTIVE = 0;
+    private static final int CALLBACK_SCHEDULED = 1;
+    private static final int COMPLETED = 2;
+    private static final int EXPIRED = 3;
+
     private final Consumer<Boolean> callback;
-    private Consumer<ProgressCheck> progressCheckCallback;
+    private volatile Consumer<ProgressCheck> progressCheckCallback;
     private final Instant expiryTime;
     private final ScheduledExecutorService scheduledExecutor;
-    // This lock protects all the non-final members
-    private final ReentrantLock lock;
-    private boolean result;
-    private final Map<EventHandle, AtomicInteger> pendingAcknowledgments;
-    private Future<?> callbackFuture;
+    private final AtomicInteger state;
+    private volatile boolean result;
+    private final AtomicInteger pendingAcknowledgments;
+    private volatile Future<?> callbackFuture;
     private final DefaultAcknowledgementSetMetrics metrics;
-    private ScheduledFuture<?> progressCheckFuture;
-    private boolean completed;
-    private AtomicInteger totalEventsAdded;
+    private volatile ScheduledFuture<?> progressCheckFuture;
+    private volatile boolean completed;
+    private final AtomicInteger totalEventsAdded;
+    private volatile Runnable doneListener;
 
     public DefaultAcknowledgementSet(final ScheduledExecutorService scheduledExecutor,
                                      final Consumer<Boolean> callback,
@@ -56,8 +63,8 @@ public class DefaultAcknowledgementSet implements AcknowledgementSet {
         this.metrics = metrics;
         this.completed = false;
         this.progressCheckCallback = null;
-        pendingAcknowledgments = new HashMap<>();
-        lock = new ReentrantLock(true);
+        this.state = new AtomicInteger(ACTIVE);
+        pendingAcknowledgments = new AtomicInteger(0);
     }
 
     public void addProgressCheck(final Consumer<ProgressCheck> progressCheckCallback, final Duration progressCheckInterval) {
@@ -66,67 +73,54 @@ public class DefaultAcknowledgementSet implements AcknowledgementSet {
     }
 
     public void checkProgress() {
-        lock.lock();
-        int numberOfEventsPending = pendingAcknowledgments.size();
-        lock.unlock();
-        if (progressCheckCallback != null) {
-            progressCheckCallback.accept(new DefaultProgressCheck((double)numberOfEventsPending/totalEventsAdded.get()));
+        final int numberOfEventsPending = pendingAcknowledgments.get();
+        final Consumer<ProgressCheck> currentProgressCheckCallback = progressCheckCallback;
+        if (currentProgressCheckCallback != null) {
+            currentProgressCheckCallback.accept(new DefaultProgressCheck((double)numberOfEventsPending/totalEventsAdded.get()));
         }
     }
 
     @Override
     public void add(Event event) {
-        lock.lock();
-        try {
-            if (event instanceof JacksonEvent) {
-                EventHandle eventHandle = event.getEventHandle();
-                if (eventHandle instanceof DefaultEventHandle) {
-                    InternalEventHandle internalEventHandle = (InternalEventHandle)(DefaultEventHandle)eventHandle;
-                    internalEventHandle.setAcknowledgementSet(this);
-                    pendingAcknowledgments.put(eventHandle, new AtomicInteger(1));
-                    totalEventsAdded.incrementAndGet();
+        if (event instanceof JacksonEvent) {
+            EventHandle eventHandle = event.getEventHandle();
+            if (eventHandle instanceof DefaultEventHandle) {
+                InternalEventHandle internalEventHandle = (InternalEventHandle)(DefaultEventHandle)eventHandle;
+                final boolean alreadyInThisSet = internalEventHandle.getAcknowledgementSet() == this;
+                internalEventHandle.setAcknowledgementSet(this);
+                final boolean hadNoReferences = internalEventHandle.initializeReferenceCount();
+                if (hadNoReferences || !alreadyInThisSet) {
+                    pendingAcknowledgments.incrementAndGet();
                 }
+                totalEventsAdded.incrementAndGet();
             }
-        } finally {
-            lock.unlock();
         }
     }
 
     public void acquire(final EventHandle eventHandle) {
-        lock.lock();
-        try {
-            if (!pendingAcknowledgments.containsKey(eventHandle)) {
-                LOG.warn("Unexpected event handle acquire");
-                metrics.increment(DefaultAcknowledgementSetMetrics.INVALID_ACQUIRES_METRIC_NAME);
-                return;
-            }
-            pendingAcknowledgments.get(eventHandle).incrementAndGet();
-        } finally {
-            lock.unlock();
+        if (!belongsToThisSet(eventHandle) || !((InternalEventHandle) eventHandle).acquireReference()) {
+            LOG.warn("Unexpected event handle acquire");
+            metrics.increment(DefaultAcknowledgementSetMetrics.INVALID_ACQUIRES_METRIC_NAME);
         }
     }
 
+    /**
+     * Returns whether the set can still receive acknowledgements, that is, it has neither completed nor expired.
+     *
+     * @return true if the set is active
+     */
+    boolean isActive() {
+        return state.get() < COMPLETED;
+    }
+
     public boolean isDone() {
-        lock.lock();
-        try {
-            if (callbackFuture != null && callbackFuture.isDone()) {
-                metrics.increment(DefaultAcknowledgementSetMetrics.COMPLETED_METRIC_NAME);
-                return true;
-            }
-            if (Instant.now().isAfter(expiryTime)) {
-                if (progressCheckFuture != null) {
-                    progressCheckFuture.cancel(false);
-                }
-                if (callbackFuture != null) {
-                    callbackFuture.cancel(true);
-                    callbackFuture = null;
-                    LOG.warn("AcknowledgementSet expired");
-                }
-                metrics.increment(DefaultAcknowledgementSetMetrics.EXPIRED_METRIC_NAME);
-                return true;
-            }
-        } finally {
-            lock.unlock();
+        final int currentState = state.get();
+        if (currentState == COMPLETED || currentState == EXPIRED) {
+            return true;
+        }
+        if (Instant.now().isAfter(expiryTime)) {
+            expire();
+            return true;
         }
         return false;
     }
@@ -135,49 +129,107 @@ public class DefaultAcknowledgementSet implements AcknowledgementSet {
         return expiryTime;
     }
 
+    /**
+     * Sets a listener which is run once when the set completes or expires. It runs immediately if the set is
+     * already done.
+     *
+     * @param doneListener the listener
+     */
+    void setDoneListener(final Runnable doneListener) {
+        this.doneListener = doneListener;
+        if (state.get() >= COMPLETED) {
+            doneListener.run();
+        }
+    }
+
     @Override
     public void complete() {
-        lock.lock();
-        try {
-            completed = true;
-            if (pendingAcknowledgments.size() == 0) {
-                if (progressCheckFuture != null) {
-                    progressCheckFuture.cancel(false);
-                }
-                callbackFuture = scheduledExecutor.submit(() -> callback.accept(this.result));
-            }
-        } finally {
-            lock.unlock();
+        completed = true;
+        if (pendingAcknowledgments.get() == 0) {
+            scheduleCallback();
         }
     }
 
     @Override
     public boolean release(final EventHandle eventHandle, final boolean result) {
-        lock.lock();
         // Result indicates negative or positive acknowledgement. Even if one of the
         // events in the set report negative acknowledgement, then the end result
         // is negative acknowledgement
-        this.result = this.result && result;
+        if (!result) {
+            this.result = false;
+        }
+        if (!belongsToThisSet(eventHandle) || ((InternalEventHandle) eventHandle).releaseReference() != 0) {
+            return false;
+        }
+        if (pendingAcknowledgments.decrementAndGet() == 0) {
+            if (completed) {
+                return scheduleCallback();
+            }
+            LOG.debug("Acknowledgement set is not completed. Delaying callback until it is completed");
+        }
+        return false;
+    }
+
+    private boolean belongsToThisSet(final EventHandle eventHandle) {
+        return eventHandle instanceof DefaultEventHandle &&
+                ((InternalEventHandle) eventHandle).getAcknowledgementSet() == this;
+    }
+
+    private boolean scheduleCallback() {
+        if (!state.compareAndSet(ACTIVE, CALLBACK_SCHEDULED)) {
+            return false;
+        }
+        cancelProgressCheck();
+        final Future<?> future = scheduledExecutor.submit(this::runCallback);
+        callbackFuture = future;
+        if (state.get() == EXPIRED) {
+            future.cancel(true);
+        }
+        return true;
+    }
+
+    private void runCallback() {
         try {
-            if (!pendingAcknowledgments.containsKey(eventHandle) ||
-                pendingAcknowledgments.get(eventHandle).get() == 0) {
-                return false;
+            callback.accept(this.result);
+        } finally {
+            if (state.compareAndSet(CALLBACK_SCHEDULED, COMPLETED)) {
+                metrics.increment(DefaultAcknowledgementSetMetrics.COMPLETED_METRIC_NAME);
+                notifyDone();
             }
-            if (pendingAcknowledgments.get(eventHandle).decrementAndGet() == 0) {
-                pendingAcknowledgments.remove(eventHandle);
-                if (completed && pendingAcknowledgments.size() == 0) {
-                    if (progressCheckFuture != null) {
-                        progressCheckFuture.cancel(false);
-                    }
-                    callbackFuture = scheduledExecutor.submit(() -> callback.accept(this.result));
-                    return true;
-                } else if (pendingAcknowledgments.size() == 0) {
-                    LOG.debug("Acknowledgement set is not completed. Delaying callback until it is completed");
-                }
+        }
+    }
+
+    private void expire() {
+        int currentState;
+        do {
+            currentState = state.get();
+            if (currentState == COMPLETED || currentState == EXPIRED) {
+                return;
             }
-        } finally {
-            lock.unlock();
+        } while (!state.compareAndSet(currentState, EXPIRED));
+
+        cancelProgressCheck();
+        final Future<?> future = callbackFuture;
+        if (future != null) {
+            future.cancel(true);
+            callbackFuture = null;
+            LOG.warn("AcknowledgementSet expired");
+        }
+        metrics.increment(DefaultAcknowledgementSetMetrics.EXPIRED_METRIC_NAME);
+        notifyDone();
+    }
+
+    private void cancelProgressCheck() {
+        final ScheduledFuture<?> future = progressCheckFuture;
+        if (future != null) {
+            future.cancel(false);
+        }
+    }
+
+    private void notifyDone() {
+        final Runnable listener = doneListener;
+        if (listener != null) {
+            listener.run();
         }
-        return false;
     }
 }
@@ -34,7 +34,7 @@ public class DefaultAcknowledgementSetManager implements AcknowledgementSetManag
     }
 
     public DefaultAcknowledgementSetManager(final ScheduledExecutorService callbackExecutor, final Duration waitTime) {
-        this.acknowledgementSetMonitor = new AcknowledgementSetMonitor();
+        this.acknowledgementSetMonitor = new AcknowledgementSetMonitor(waitTime);
         this.scheduledExecutor = Objects.requireNonNull(callbackExecutor);
         acknowledgementSetMonitorThread = new AcknowledgementSetMonitorThread(acknowledgementSetMonitor, waitTime);
         acknowledgementSetMonitorThread.start();
@@ -6,43 +6,71 @@
 package org.opensearch.dataprepper.peerforwarder;
 
 import com.linecorp.armeria.client.Endpoint;
+import io.micrometer.core.instrument.Timer;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.peerforwarder.discovery.PeerListProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.annotation.concurrent.NotThreadSafe;
-import java.math.BigInteger;
-import java.nio.ByteBuffer;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import javax.annotation.concurrent.ThreadSafe;
+import java.net.InetAddress;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Consistent hashing implementation used to map identification keys to Data Prepper hosts.
  * See https://en.wikipedia.org/wiki/Consistent_hashing for more information.
+ * <p>
+ * The ring is kept as sorted arrays of hash positions which are searched with a binary search. Identification
+ * keys are hashed from a per-thread buffer, so looking up a host does not allocate for ASCII keys.
+ * <p>
+ * Whether a host is the local Data Prepper instance is resolved once for each host whenever the ring is built,
+ * so that the resolution does not run on the forwarding path.
  */
-@NotThreadSafe
+@ThreadSafe
 public class HashRing implements Consumer<List<Endpoint>> {
     private static final Logger LOG = LoggerFactory.getLogger(HashRing.class);
-    private static final String MD5 = "MD5";
-    private static final String DELIMITER = ",";
+    static final String LOCAL_ADDRESS_RESOLUTION_LATENCY = "localAddressResolutionLatency";
+    private static final byte DELIMITER = ',';
+    private static final byte[] NULL_VALUE = "null".getBytes(StandardCharsets.UTF_8);
+    private static final int INITIAL_KEY_BUFFER_SIZE = 256;
 
     /* Number of virtual nodes per Data Prepper host to be present on the hash ring */
     private final int numVirtualNodes;
 
     private final PeerListProvider peerListProvider;
 
-    private TreeMap<BigInteger, String> hashServerMap = new TreeMap<>();
+    private final HashRingAlgorithm hashRingAlgorithm;
 
-    public HashRing(final PeerListProvider peerListProvider, final int numVirtualNodes) {
+    private final ThreadLocal<KeyScratch> keyScratch;
+
+    private final Timer localAddressResolutionTimer;
+
+    private volatile Ring ring;
+
+    public HashRing(final PeerListProvider peerListProvider,
+                    final int numVirtualNodes,
+                    final HashRingAlgorithm hashRingAlgorithm,
+                    final PluginMetrics pluginMetrics) {
         Objects.requireNonNull(peerListProvider);
+        Objects.requireNonNull(hashRingAlgorithm);
         this.peerListProvider = peerListProvider;
         this.numVirtualNodes = numVirtualNodes;
+        this.hashRingAlgorithm = hashRingAlgorithm;
+        this.localAddressResolutionTimer = pluginMetrics.timer(LOCAL_ADDRESS_RESOLUTION_LATENCY);
+        this.keyScratch = ThreadLocal.withInitial(() -> new KeyScratch(hashRingAlgorithm.createKeyHasher()));
 
         buildHashServerMap();
 
@@ -50,31 +78,26 @@ public class HashRing implements Consumer<List<Endpoint>> {
     }
 
     public Optional<String> getServerIp(final List<String> identificationKeyValues) {
-        if (hashServerMap.isEmpty()) {
+        final Ring currentRing = ring;
+        if (currentRing.isEmpty()) {
             return Optional.empty();
         }
 
-        final byte[] identificationKeysInBytes = String.join(DELIMITER, identificationKeyValues).getBytes();
-
-        final MessageDigest md;
-        try {
-            md = MessageDigest.getInstance(MD5);
-        } catch (NoSuchAlgorithmException e) {
-            throw new AssertionError("unreachable", e);
-        }
-
-        md.update(identificationKeysInBytes);
-        final BigInteger hashcode = new BigInteger(md.digest());
+        final KeyScratch scratch = keyScratch.get();
+        scratch.hash(identificationKeyValues);
 
-        // obtain Map.Entry with key greater than the hashcode
-        final Map.Entry<BigInteger, String> entry = hashServerMap.higherEntry(hashcode);
+        return Optional.of(currentRing.getServerIp(scratch.hash[0], scratch.hash[1]));
+    }
 
-        if (entry == null) {
-            // return first node if no key is greater than the hashcode
-            return Optional.of(hashServerMap.firstEntry().getValue());
-        } else {
-            return Optional.of(entry.getValue());
-        }
+    /**
+     * Returns whether the server IP belongs to this Data Prepper instance. Servers on the ring are resolved
+     * when the ring is built, other addresses are resolved on first use until the ring is rebuilt.
+     *
+     * @param serverIp the server IP returned by {@link #getServerIp(List)}
+     * @return true if the server IP is a local address
+     */
+    public boolean isLocalServerIp(final String serverIp) {
+        return ring.isLocalServerIp(serverIp, this::isAddressDefinedLocally);
     }
 
     @Override
@@ -83,36 +106,197 @@ public class HashRing implements Consumer<List<Endpoint>> {
     }
 
     private void buildHashServerMap() {
-        final TreeMap<BigInteger, String> newHashValueMap = new TreeMap<>();
         final List<String> endpoints = peerListProvider.getPeerList();
 
         LOG.info("Building hash ring with endpoints: {}", endpoints);
+        final HashRingAlgorithm.KeyHasher keyHasher = hashRingAlgorithm.createKeyHasher();
+        final List<RingEntry> ringEntries = new ArrayList<>(endpoints.size() * numVirtualNodes);
+        final ConcurrentHashMap<String, Boolean> localServerIps = new ConcurrentHashMap<>();
         for (final String serverIp : endpoints) {
-            addServerIpToHashMap(serverIp, newHashValueMap);
+            addServerIpToRingEntries(serverIp, keyHasher, ringEntries);
+            localServerIps.computeIfAbsent(serverIp, this::isAddressDefinedLocally);
         }
 
-        this.hashServerMap = newHashValueMap;
+        this.ring = new Ring(ringEntries, localServerIps);
     }
 
-    private void addServerIpToHashMap(final String serverIp, final Map<BigInteger, String> targetMap) {
-        final byte[] serverIpInBytes = serverIp.getBytes();
-        final MessageDigest md;
+    private boolean isAddressDefinedLocally(final String address) {
+        final long startTime = System.nanoTime();
+        try {
+            return resolveAddressDefinedLocally(address);
+        } finally {
+            localAddressResolutionTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        }
+    }
 
+    static boolean resolveAddressDefinedLocally(final String address) {
+        final InetAddress inetAddress;
         try {
-            md = MessageDigest.getInstance(MD5);
-        } catch (NoSuchAlgorithmException e) {
-            throw new AssertionError("unreachable", e);
+            inetAddress = InetAddress.getByName(address);
+        } catch (final UnknownHostException e) {
+            return false;
+        }
+        if (inetAddress.isAnyLocalAddress() || inetAddress.isLoopbackAddress()) {
+            return true;
+        } else {
+            try {
+                return NetworkInterface.getByInetAddress(inetAddress) != null;
+            } catch (final SocketException e) {
+                return false;
+            }
         }
+    }
+
+    private void addServerIpToRingEntries(final String serverIp, final HashRingAlgorithm.KeyHasher keyHasher, final List<RingEntry> ringEntries) {
+        final byte[] serverIpInBytes = serverIp.getBytes(StandardCharsets.UTF_8);
+        final byte[] virtualNodeBytes = Arrays.copyOf(serverIpInBytes, serverIpInBytes.length + Integer.BYTES);
+        final long[] hash = new long[2];
 
-        final ByteBuffer intBuffer = ByteBuffer.allocate(4);
         for (int i = 0; i < numVirtualNodes; i++) {
-            md.update(serverIpInBytes);
-            intBuffer.putInt(i);
-            md.update(intBuffer.array());
-            final BigInteger hashcode = new BigInteger(md.digest());
-            targetMap.putIfAbsent(hashcode, serverIp);
-            md.reset();
-            intBuffer.clear();
+            virtualNodeBytes[serverIpInBytes.length] = (byte) (i >>> 24);
+            virtualNodeBytes[serverIpInBytes.length + 1] = (byte) (i >>> 16);
+            virtualNodeBytes[serverIpInBytes.length + 2] = (byte) (i >>> 8);
+            virtualNodeBytes[serverIpInBytes.length + 3] = (byte) i;
+            keyHasher.hash(virtualNodeBytes, virtualNodeBytes.length, hash);
+            ringEntries.add(new RingEntry(hash[0], hash[1], serverIp));
+        }
+    }
+
+    private static int compare(final long high, final long low, final long otherHigh, final long otherLow) {
+        final int highComparison = Long.compare(high, otherHigh);
+        return highComparison != 0 ? highComparison : Long.compareUnsigned(low, otherLow);
+    }
+
+    private static class RingEntry {
+        private final long high;
+        private final long low;
+        private final String serverIp;
+
+        private RingEntry(final long high, final long low, final String serverIp) {
+            this.high = high;
+            this.low = low;
+            this.serverIp = serverIp;
+        }
+    }
+
+    /**
+     * An immutable snapshot of the hash ring, sorted by hash position.
+     */
+    private static class Ring {
+        private final long[] highs;
+        private final long[] lows;
+        private final String[] serverIps;
+        private final int size;
+        private final ConcurrentHashMap<String, Boolean> localServerIps;
+
+        private Ring(final List<RingEntry> ringEntries, final ConcurrentHashMap<String, Boolean> localServerIps) {
+            this.localServerIps = localServerIps;
+
+            // A stable sort keeps the first server added for a hash position, should two positions collide
+            ringEntries.sort(Comparator.comparingLong((RingEntry entry) -> entry.high)
+                    .thenComparing((first, second) -> Long.compareUnsigned(first.low, second.low)));
+
+            highs = new long[ringEntries.size()];
+            lows = new long[ringEntries.size()];
+            serverIps = new String[ringEntries.size()];
+            int count = 0;
+            for (final RingEntry entry : ringEntries) {
+                if (count > 0 && compare(highs[count - 1], lows[count - 1], entry.high, entry.low) == 0) {
+                    continue;
+                }
+                highs[count] = entry.high;
+                lows[count] = entry.low;
+                serverIps[count] = entry.serverIp;
+                count++;
+            }
+            size = count;
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+
+        private boolean isLocalServerIp(final String serverIp, final Function<String, Boolean> localAddressResolver) {
+            final Boolean isLocal = localServerIps.get(serverIp);
+            return isLocal != null ? isLocal : localServerIps.computeIfAbsent(serverIp, localAddressResolver);
+        }
+
+        /**
+         * Returns the server with the lowest position greater than the hash, wrapping around to the first
+         * server when no position is greater.
+         */
+        private String getServerIp(final long high, final long low) {
+            int lowIndex = 0;
+            int highIndex = size;
+            while (lowIndex < highIndex) {
+                final int middle = (lowIndex + highIndex) >>> 1;
+                if (compare(highs[middle], lows[middle], high, low) <= 0) {
+                    lowIndex = middle + 1;
+                } else {
+                    highIndex = middle;
+                }
+            }
+            return serverIps[lowIndex == size ? 0 : lowIndex];
+        }
+    }
+
+    /**
+     * Reusable buffers for hashing identification keys. Each thread has its own instance.
+     */
+    private static class KeyScratch {
+        private final HashRingAlgorithm.KeyHasher keyHasher;
+        private final long[] hash = new long[2];
+        private byte[] bytes = new byte[INITIAL_KEY_BUFFER_SIZE];
+        private int length;
+
+        private KeyScratch(final HashRingAlgorithm.KeyHasher keyHasher) {
+            this.keyHasher = keyHasher;
+        }
+
+        /**
+         * Hashes the identification key values joined by the delimiter as UTF-8.
+         */
+        private void hash(final List<String> identificationKeyValues) {
+            length = 0;
+            boolean first = true;
+            for (final String identificationKeyValue : identificationKeyValues) {
+                if (!first) {
+                    ensureCapacity(1);
+                    bytes[length++] = DELIMITER;
+                }
+                first = false;
+                if (identificationKeyValue == null) {
+                    append(NULL_VALUE);
+                } else {
+                    append(identificationKeyValue);
+                }
+            }
+            keyHasher.hash(bytes, length, hash);
+        }
+
+        private void append(final String value) {
+            final int valueLength = value.length();
+            ensureCapacity(valueLength);
+            for (int i = 0; i < valueLength; i++) {
+                final char character = value.charAt(i);
+                if (character >= 0x80) {
+                    append(value.substring(i).getBytes(StandardCharsets.UTF_8));
+                    return;
+                }
+                bytes[length++] = (byte) character;
+            }
+        }
+
+        private void append(final byte[] value) {
+            ensureCapacity(value.length);
+            System.arraycopy(value, 0, bytes, length, value.length);
+            length += value.length;
+        }
+
+        private void ensureCapacity(final int additionalLength) {
+            if (length + additionalLength > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + additionalLength));
+            }
         }
     }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * The hash algorithm used to place identification keys and Data Prepper hosts on the {@link HashRing}.
+ * All Data Prepper hosts in a cluster must use the same algorithm.
+ * @since 2.8
+ */
+public enum HashRingAlgorithm {
+    /**
+     * The MD5 digest. This is the original placement of the hash ring, so it keeps routing identification keys
+     * to the same hosts as earlier versions of Data Prepper.
+     */
+    MD5 {
+        @Override
+        KeyHasher createKeyHasher() {
+            return new Md5KeyHasher();
+        }
+    },
+    /**
+     * The non-cryptographic 64-bit xxHash. This is considerably cheaper to compute than MD5, but places keys
+     * differently, so all hosts need to switch to it together.
+     */
+    XXHASH64 {
+        @Override
+        KeyHasher createKeyHasher() {
+            return (bytes, length, result) -> {
+                result[0] = XxHash64.hash(bytes, 0, length, 0);
+                result[1] = 0;
+            };
+        }
+    };
+
+    /**
+     * Creates a new {@link KeyHasher} for this algorithm. Key hashers may hold state, so each
+     * instance must only be used by one thread.
+     */
+    abstract KeyHasher createKeyHasher();
+
+    /**
+     * Hashes bytes to a position on the hash ring. Positions are 128-bit values given as the signed high
+     * 64 bits followed by the unsigned low 64 bits.
+     */
+    @FunctionalInterface
+    interface KeyHasher {
+        void hash(byte[] bytes, int length, long[] result);
+    }
+
+    private static class Md5KeyHasher implements KeyHasher {
+        private static final int MD5_DIGEST_LENGTH = 16;
+
+        private final MessageDigest messageDigest;
+        private final byte[] digest = new byte[MD5_DIGEST_LENGTH];
+
+        private Md5KeyHasher() {
+            try {
+                messageDigest = MessageDigest.getInstance("MD5");
+            } catch (final NoSuchAlgorithmException e) {
+                throw new AssertionError("unreachable", e);
+            }
+        }
+
+        @Override
+        public void hash(final byte[] bytes, final int length, final long[] result) {
+            messageDigest.update(bytes, 0, length);
+            try {
+                messageDigest.digest(digest, 0, MD5_DIGEST_LENGTH);
+            } catch (final DigestException e) {
+                throw new AssertionError("unreachable", e);
+            }
+            result[0] = readLong(digest, 0);
+            result[1] = readLong(digest, 8);
+        }
+
+        private static long readLong(final byte[] bytes, final int position) {
+            long value = 0;
+            for (int i = position; i < position + 8; i++) {
+                value = (value << 8) | (bytes[i] & 0xFFL);
+            }
+            return value;
+        }
+    }
+}
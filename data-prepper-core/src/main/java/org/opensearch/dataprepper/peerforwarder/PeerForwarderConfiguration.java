@@ -8,6 +8,7 @@ package org.opensearch.dataprepper.peerforwarder;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.apache.commons.lang3.StringUtils;
+import org.opensearch.dataprepper.peerforwarder.codec.PeerForwarderCodecType;
 import org.opensearch.dataprepper.peerforwarder.discovery.DiscoveryMode;
 
 import java.time.Duration;
@@ -64,6 +65,8 @@ public class PeerForwarderConfiguration {
     private Integer forwardingBatchQueueDepth = 1;
     private Duration forwardingBatchTimeout = DEFAULT_FORWARDING_BATCH_TIMEOUT;
     private boolean binaryCodec = true;
+    private HashRingAlgorithm hashAlgorithm = HashRingAlgorithm.MD5;
+    private PeerForwarderCodecType codec = PeerForwarderCodecType.JAVA;
 
     public PeerForwarderConfiguration() {}
 
@@ -101,7 +104,9 @@ public class PeerForwarderConfiguration {
             @JsonProperty("forwarding_batch_size") final Integer forwardingBatchSize,
             @JsonProperty("forwarding_batch_queue_depth") final Integer forwardingBatchQueueDepth,
             @JsonProperty("forwarding_batch_timeout") final Duration forwardingBatchTimeout,
-            @JsonProperty("binary_codec") final Boolean binaryCodec
+            @JsonProperty("binary_codec") final Boolean binaryCodec,
+            @JsonProperty("hash_algorithm") final String hashAlgorithm,
+            @JsonProperty("codec") final String codec
     ) {
         setServerPort(serverPort);
         setRequestTimeout(requestTimeout);
@@ -136,6 +141,8 @@ public class PeerForwarderConfiguration {
         setForwardingBatchQueueDepth(forwardingBatchQueueDepth);
         setForwardingBatchTimeout(forwardingBatchTimeout);
         setBinaryCodec(binaryCodec == null || binaryCodec);
+        setHashAlgorithm(hashAlgorithm);
+        setCodec(codec);
         checkForCertAndKeyFileInS3();
         validateSslAndAuthentication();
     }
@@ -260,6 +267,14 @@ public class PeerForwarderConfiguration {
         return binaryCodec;
     }
 
+    public HashRingAlgorithm getHashAlgorithm() {
+        return hashAlgorithm;
+    }
+
+    public PeerForwarderCodecType getCodec() {
+        return codec;
+    }
+
     private void setServerPort(final Integer serverPort) {
         if (serverPort != null) {
             if (serverPort < 0 || serverPort > 65535) {
@@ -553,4 +568,18 @@ public class PeerForwarderConfiguration {
     private void setBinaryCodec(final boolean binaryCodec) {
         this.binaryCodec = binaryCodec;
     }
+
+    private void setHashAlgorithm(final String hashAlgorithm) {
+        if (hashAlgorithm != null) {
+            this.hashAlgorithm = HashRingAlgorithm.valueOf(hashAlgorithm.toUpperCase());
+        }
+    }
+
+    private void setCodec(final String codec) {
+        if (codec != null) {
+            this.codec = PeerForwarderCodecType.valueOf(codec.toUpperCase());
+        } else {
+            this.codec = binaryCodec ? PeerForwarderCodecType.JAVA : PeerForwarderCodecType.JSON;
+        }
+    }
 }
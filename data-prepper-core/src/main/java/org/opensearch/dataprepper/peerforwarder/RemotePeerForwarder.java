@@ -17,17 +17,12 @@ import org.opensearch.dataprepper.peerforwarder.client.PeerForwarderClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.net.InetAddress;
-import java.net.NetworkInterface;
-import java.net.SocketException;
-import java.net.UnknownHostException;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -117,7 +112,7 @@ class RemotePeerForwarder implements PeerForwarder {
         for (final Map.Entry<String, List<Record<Event>>> entry : groupedRecords.entrySet()) {
             final String destinationIp = entry.getKey();
 
-            if (isAddressDefinedLocally(destinationIp)) {
+            if (hashRing.isLocalServerIp(destinationIp)) {
                 recordsToProcessLocally.addAll(entry.getValue());
                 recordsToBeProcessedLocallyCounter.increment(entry.getValue().size());
             } else {
@@ -150,12 +145,13 @@ class RemotePeerForwarder implements PeerForwarder {
             final Set<String> identificationKeys
     ) {
         final Map<String, List<Record<Event>>> groupedRecords = new HashMap<>();
+        final List<String> identificationKeyValues = new ArrayList<>(identificationKeys.size());
 
         // group records based on IP address calculated by HashRing
         for (final Record<Event> record : records) {
             final Event event = record.getData();
 
-            final List<String> identificationKeyValues = new LinkedList<>();
+            identificationKeyValues.clear();
             int numMissingIdentificationKeys = 0;
             for (final String identificationKey : identificationKeys) {
                 final Object identificationKeyValue = event.get(identificationKey, Object.class);
@@ -177,24 +173,6 @@ class RemotePeerForwarder implements PeerForwarder {
         return groupedRecords;
     }
 
-    private boolean isAddressDefinedLocally(final String address) {
-        final InetAddress inetAddress;
-        try {
-            inetAddress = InetAddress.getByName(address);
-        } catch (final UnknownHostException e) {
-            return false;
-        }
-        if (inetAddress.isAnyLocalAddress() || inetAddress.isLoopbackAddress()) {
-            return true;
-        } else {
-            try {
-                return NetworkInterface.getByInetAddress(inetAddress) != null;
-            } catch (final SocketException e) {
-                return false;
-            }
-        }
-    }
-
     private List<Record<Event>> batchRecordsForForwarding(final String destinationIp, final List<Record<Event>> records) {
         try {
             final List<Record<Event>> recordsFailedToBatch = populateBatchingQueue(destinationIp, records);
@@ -0,0 +1,40 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder.codec;
+
+import org.opensearch.dataprepper.peerforwarder.model.PeerForwardingEvents;
+
+import java.util.Objects;
+
+/**
+ * A {@link PeerForwarderCodec} which serializes with the configured codec, but also accepts requests in the
+ * Smile format. This lets Data Prepper hosts switch to the Smile codec one at a time, since hosts which
+ * have not yet switched still read the requests sent by hosts which have.
+ *
+ * @since 2.8
+ */
+public class FormatDetectingPeerForwarderCodec implements PeerForwarderCodec {
+    private final PeerForwarderCodec configuredCodec;
+    private final SmilePeerForwarderCodec smileCodec;
+
+    public FormatDetectingPeerForwarderCodec(final PeerForwarderCodec configuredCodec, final SmilePeerForwarderCodec smileCodec) {
+        this.configuredCodec = Objects.requireNonNull(configuredCodec);
+        this.smileCodec = Objects.requireNonNull(smileCodec);
+    }
+
+    @Override
+    public byte[] serialize(final PeerForwardingEvents peerForwardingEvents) throws Exception {
+        return configuredCodec.serialize(peerForwardingEvents);
+    }
+
+    @Override
+    public PeerForwardingEvents deserialize(final byte[] bytes) throws Exception {
+        if (SmilePeerForwarderCodec.isSmile(bytes)) {
+            return smileCodec.deserialize(bytes);
+        }
+        return configuredCodec.deserialize(bytes);
+    }
+}
@@ -23,8 +23,16 @@ public class PeerForwarderCodecAppConfig {
             final PeerForwarderConfiguration peerForwarderConfiguration,
             final ObjectInputFilter objectInputFilter,
             @Qualifier("peerForwarderObjectMapper") final ObjectMapper objectMapper) {
-        return peerForwarderConfiguration.getBinaryCodec() ?
-                new JavaPeerForwarderCodec(objectInputFilter) : new JacksonPeerForwarderCodec(objectMapper);
+        final SmilePeerForwarderCodec smilePeerForwarderCodec = new SmilePeerForwarderCodec(getMaxForwardingBatchSize(peerForwarderConfiguration));
+        switch (peerForwarderConfiguration.getCodec()) {
+            case SMILE:
+                return smilePeerForwarderCodec;
+            case JSON:
+                return new FormatDetectingPeerForwarderCodec(new JacksonPeerForwarderCodec(objectMapper), smilePeerForwarderCodec);
+            case JAVA:
+            default:
+                return new FormatDetectingPeerForwarderCodec(new JavaPeerForwarderCodec(objectInputFilter), smilePeerForwarderCodec);
+        }
     }
 
     @Bean(name = "peerForwarderObjectMapper")
@@ -42,12 +50,7 @@ public class PeerForwarderCodecAppConfig {
     public ObjectInputFilter objectInputFilter(final PeerForwarderConfiguration peerForwarderConfiguration) {
         final String baseModelPackage = "org.opensearch.dataprepper.model";
 
-        Integer maxArrayLength = peerForwarderConfiguration.getForwardingBatchSize();
-        if(maxArrayLength == null) {
-            maxArrayLength = PeerForwarderConfiguration.MAX_FORWARDING_BATCH_SIZE;
-        } else if(maxArrayLength < 10) {
-            maxArrayLength = 10;
-        }
+        final int maxArrayLength = getMaxForwardingBatchSize(peerForwarderConfiguration);
 
         final String pattern =
                 "maxarray=" + maxArrayLength + ";" +
@@ -80,4 +83,12 @@ public class PeerForwarderCodecAppConfig {
 
         return new LoggingObjectInputFilter(filter);
     }
+
+    private static int getMaxForwardingBatchSize(final PeerForwarderConfiguration peerForwarderConfiguration) {
+        final Integer forwardingBatchSize = peerForwarderConfiguration.getForwardingBatchSize();
+        if(forwardingBatchSize == null) {
+            return PeerForwarderConfiguration.MAX_FORWARDING_BATCH_SIZE;
+        }
+        return Math.max(forwardingBatchSize, 10);
+    }
 }
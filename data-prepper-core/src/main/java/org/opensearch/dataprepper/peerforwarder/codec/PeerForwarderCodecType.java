@@ -0,0 +1,25 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder.codec;
+
+/**
+ * The wire format used to send events to other Data Prepper hosts.
+ * @since 2.8
+ */
+public enum PeerForwarderCodecType {
+    /**
+     * Java object serialization, restricted by an {@link java.io.ObjectInputFilter}.
+     */
+    JAVA,
+    /**
+     * Jackson serialization with the event data embedded as JSON strings.
+     */
+    JSON,
+    /**
+     * The binary Smile format, written by the {@link SmilePeerForwarderCodec}.
+     */
+    SMILE
+}
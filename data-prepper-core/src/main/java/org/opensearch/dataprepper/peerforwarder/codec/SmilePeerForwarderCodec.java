@@ -0,0 +1,243 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileConstants;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.opensearch.dataprepper.model.event.DefaultEventMetadata;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventMetadata;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+import org.opensearch.dataprepper.peerforwarder.PeerForwarderConfiguration;
+import org.opensearch.dataprepper.peerforwarder.model.PeerForwardingEvents;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link PeerForwarderCodec} which writes the events in the binary Smile format. The event data is
+ * written as a nested Smile object rather than as an embedded JSON string, so each event is encoded once
+ * and read back directly into its {@link JsonNode}. Repeated field names are written as back-references,
+ * which keeps batches of similar events compact. Payloads with more events than the maximum forwarding batch
+ * size are rejected while they are read.
+ *
+ * @since 2.8
+ */
+public class SmilePeerForwarderCodec implements PeerForwarderCodec {
+    private static final String TRACE_EVENT_TYPE = "TRACE";
+    private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE = new TypeReference<>() {};
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+
+    static final String DESTINATION_PLUGIN_ID = "destinationPluginId";
+    static final String DESTINATION_PIPELINE_NAME = "destinationPipelineName";
+    static final String EVENTS = "events";
+    static final String EVENT_TYPE = "eventType";
+    static final String TIME_RECEIVED = "timeReceived";
+    static final String EXTERNAL_ORIGINATION_TIME = "externalOriginationTime";
+    static final String ATTRIBUTES = "attributes";
+    static final String TAGS = "tags";
+    static final String DATA = "data";
+
+    private final ObjectMapper objectMapper;
+    private final int maxEvents;
+
+    public SmilePeerForwarderCodec() {
+        this(PeerForwarderConfiguration.MAX_FORWARDING_BATCH_SIZE);
+    }
+
+    public SmilePeerForwarderCodec(final int maxEvents) {
+        final SmileFactory smileFactory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        objectMapper = new ObjectMapper(smileFactory)
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        this.maxEvents = maxEvents;
+    }
+
+    /**
+     * Returns whether the bytes start with the Smile header, which every payload written by this codec has.
+     *
+     * @param bytes the serialized bytes
+     * @return true if the bytes are in the Smile format
+     */
+    static boolean isSmile(final byte[] bytes) {
+        return bytes.length >= 3
+                && bytes[0] == SmileConstants.HEADER_BYTE_1
+                && bytes[1] == SmileConstants.HEADER_BYTE_2
+                && bytes[2] == SmileConstants.HEADER_BYTE_3;
+    }
+
+    @Override
+    public byte[] serialize(final PeerForwardingEvents peerForwardingEvents) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+        try (final JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+            generator.writeStartObject();
+            generator.writeStringField(DESTINATION_PLUGIN_ID, peerForwardingEvents.getDestinationPluginId());
+            generator.writeStringField(DESTINATION_PIPELINE_NAME, peerForwardingEvents.getDestinationPipelineName());
+            if (peerForwardingEvents.getEvents() != null) {
+                generator.writeArrayFieldStart(EVENTS);
+                for (final Event event : peerForwardingEvents.getEvents()) {
+                    writeEvent(generator, event);
+                }
+                generator.writeEndArray();
+            }
+            generator.writeEndObject();
+        }
+        return outputStream.toByteArray();
+    }
+
+    @Override
+    public PeerForwardingEvents deserialize(final byte[] bytes) throws IOException {
+        try (final JsonParser parser = objectMapper.createParser(bytes)) {
+            expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+
+            String destinationPluginId = null;
+            String destinationPipelineName = null;
+            List<Event> events = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String fieldName = parser.getCurrentName();
+                final JsonToken valueToken = parser.nextToken();
+                if (DESTINATION_PLUGIN_ID.equals(fieldName)) {
+                    destinationPluginId = parser.getValueAsString();
+                } else if (DESTINATION_PIPELINE_NAME.equals(fieldName)) {
+                    destinationPipelineName = parser.getValueAsString();
+                } else if (EVENTS.equals(fieldName)) {
+                    expectToken(parser, valueToken, JsonToken.START_ARRAY);
+                    events = new ArrayList<>();
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        if (events.size() >= maxEvents) {
+                            throw new JsonParseException(parser, "Forwarded events exceed the maximum of " + maxEvents + " events");
+                        }
+                        events.add(readEvent(parser));
+                    }
+                    expectToken(parser, parser.currentToken(), JsonToken.END_ARRAY);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            expectToken(parser, parser.currentToken(), JsonToken.END_OBJECT);
+
+            return new PeerForwardingEvents(events, destinationPluginId, destinationPipelineName);
+        }
+    }
+
+    private void writeEvent(final JsonGenerator generator, final Event event) throws IOException {
+        final EventMetadata eventMetadata = event.getMetadata();
+        generator.writeStartObject();
+        generator.writeStringField(EVENT_TYPE, eventMetadata.getEventType());
+        writeInstant(generator, TIME_RECEIVED, eventMetadata.getTimeReceived());
+        writeInstant(generator, EXTERNAL_ORIGINATION_TIME, eventMetadata.getExternalOriginationTime());
+        final Map<String, Object> attributes = eventMetadata.getAttributes();
+        if (attributes != null && !attributes.isEmpty()) {
+            generator.writeFieldName(ATTRIBUTES);
+            generator.writeObject(attributes);
+        }
+        final Set<String> tags = eventMetadata.getTags();
+        if (tags != null && !tags.isEmpty()) {
+            generator.writeArrayFieldStart(TAGS);
+            for (final String tag : tags) {
+                generator.writeString(tag);
+            }
+            generator.writeEndArray();
+        }
+        generator.writeFieldName(DATA);
+        generator.writeTree(event.getJsonNode());
+        generator.writeEndObject();
+    }
+
+    private Event readEvent(final JsonParser parser) throws IOException {
+        final DefaultEventMetadata.Builder eventMetadataBuilder = DefaultEventMetadata.builder();
+        String eventType = null;
+        JsonNode data = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String fieldName = parser.getCurrentName();
+            final JsonToken valueToken = parser.nextToken();
+            if (EVENT_TYPE.equals(fieldName)) {
+                eventType = parser.getValueAsString();
+                eventMetadataBuilder.withEventType(eventType);
+            } else if (TIME_RECEIVED.equals(fieldName)) {
+                eventMetadataBuilder.withTimeReceived(readInstant(parser, valueToken));
+            } else if (EXTERNAL_ORIGINATION_TIME.equals(fieldName)) {
+                eventMetadataBuilder.withExternalOriginationTime(readInstant(parser, valueToken));
+            } else if (ATTRIBUTES.equals(fieldName)) {
+                eventMetadataBuilder.withAttributes(parser.readValueAs(MAP_TYPE_REFERENCE));
+            } else if (TAGS.equals(fieldName)) {
+                expectToken(parser, valueToken, JsonToken.START_ARRAY);
+                final Set<String> tags = new HashSet<>();
+                while (parser.nextToken() == JsonToken.VALUE_STRING) {
+                    tags.add(parser.getText());
+                }
+                expectToken(parser, parser.currentToken(), JsonToken.END_ARRAY);
+                eventMetadataBuilder.withTags(tags);
+            } else if (DATA.equals(fieldName)) {
+                data = parser.readValueAsTree();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        expectToken(parser, parser.currentToken(), JsonToken.END_OBJECT);
+
+        if (eventType == null || data == null) {
+            throw new JsonParseException(parser, "Forwarded event is missing its event type or data");
+        }
+
+        final DefaultEventMetadata eventMetadata = eventMetadataBuilder.build();
+        if (eventType.equalsIgnoreCase(TRACE_EVENT_TYPE)) {
+            return JacksonSpan.builder()
+                    .withJsonNodeData(data)
+                    .withEventMetadata(eventMetadata)
+                    .build();
+        }
+        return JacksonEvent.builder()
+                .withJsonNodeData(data)
+                .withEventMetadata(eventMetadata)
+                .build();
+    }
+
+    private static void writeInstant(final JsonGenerator generator, final String fieldName, final Instant instant) throws IOException {
+        if (instant == null) {
+            return;
+        }
+        generator.writeArrayFieldStart(fieldName);
+        generator.writeNumber(instant.getEpochSecond());
+        generator.writeNumber(instant.getNano());
+        generator.writeEndArray();
+    }
+
+    private static Instant readInstant(final JsonParser parser, final JsonToken valueToken) throws IOException {
+        expectToken(parser, valueToken, JsonToken.START_ARRAY);
+        expectToken(parser, parser.nextToken(), JsonToken.VALUE_NUMBER_INT);
+        final long epochSecond = parser.getLongValue();
+        expectToken(parser, parser.nextToken(), JsonToken.VALUE_NUMBER_INT);
+        final int nanos = parser.getIntValue();
+        expectToken(parser, parser.nextToken(), JsonToken.END_ARRAY);
+        return Instant.ofEpochSecond(epochSecond, nanos);
+    }
+
+    private static void expectToken(final JsonParser parser, final JsonToken actualToken, final JsonToken expectedToken) throws IOException {
+        if (actualToken != expectedToken) {
+            throw new JsonParseException(parser, "Expected " + expectedToken + " but found " + actualToken);
+        }
+    }
+}
@@ -338,7 +338,7 @@ public class Pipeline {
         final List<Future<Void>> sinkFutures = new ArrayList<>(sinksSize);
 
         final RouterGetRecordStrategy getRecordStrategy =
-                new RouterCopyRecordStrategy(eventFactory,
+                new RouterCopyRecordStrategy(
                 (source.areAcknowledgementsEnabled() || buffer.areAcknowledgementsEnabled()) ?
                     acknowledgementSetManager :
                     InactiveAcknowledgementSetManager.getInstance(),
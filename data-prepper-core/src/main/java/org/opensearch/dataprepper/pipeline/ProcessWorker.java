@@ -20,19 +20,20 @@ import org.opensearch.dataprepper.pipeline.common.FutureHelperResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.Future;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
 
 @SuppressWarnings({"rawtypes", "unchecked"})
 public class ProcessWorker implements Runnable {
     private static final Logger LOG = LoggerFactory.getLogger(ProcessWorker.class);
 
     private static final String INVALID_EVENT_HANDLES = "invalidEventHandles";
+    private static final AtomicLong PROCESSING_MARKS = new AtomicLong(0);
     private final Buffer readBuffer;
     private final List<Processor> processors;
     private final Pipeline pipeline;
@@ -40,6 +41,7 @@ public class ProcessWorker implements Runnable {
     private PluginMetrics pluginMetrics;
     private final Counter invalidEventHandlesCounter;
     private boolean acknowledgementsEnabled;
+    private final List<Event> acknowledgedInputEvents;
 
     public ProcessWorker(
             final Buffer readBuffer,
@@ -51,6 +53,7 @@ public class ProcessWorker implements Runnable {
         this.pluginMetrics = PluginMetrics.fromNames("ProcessWorker", pipeline.getName());
         this.invalidEventHandlesCounter = pluginMetrics.counter(INVALID_EVENT_HANDLES);
         this.acknowledgementsEnabled = pipeline.getSource().areAcknowledgementsEnabled() || readBuffer.areAcknowledgementsEnabled();
+        this.acknowledgedInputEvents = new ArrayList<>();
     }
 
     @Override
@@ -93,21 +96,57 @@ public class ProcessWorker implements Runnable {
         }
     }
 
-    private void processAcknowledgements(List<Event> inputEvents, Collection<Record<Event>> outputRecords) {
-        Set<Event> outputEventsSet = outputRecords.stream().map(Record::getData).collect(Collectors.toSet());
-        // For each event in the input events list that is not present in the output events, send positive acknowledgement, if acknowledgements are enabled for it
-        inputEvents.forEach(event -> {
-            EventHandle eventHandle = event.getEventHandle();
-            if (eventHandle != null && eventHandle instanceof DefaultEventHandle) {
-                InternalEventHandle internalEventHandle = (InternalEventHandle)(DefaultEventHandle)eventHandle;
-                if (internalEventHandle.getAcknowledgementSet() != null && !outputEventsSet.contains(event)) {
-                    eventHandle.release(true);
+    /**
+     * Collects the events in the records which are part of an acknowledgement set into the reused
+     * {@link #acknowledgedInputEvents} list, so that the events dropped by the next processor can be released.
+     */
+    private void collectAcknowledgedInputEvents(final Collection<Record<Event>> records) {
+        acknowledgedInputEvents.clear();
+        for (final Record<Event> record : records) {
+            final Event event = record.getData();
+            final EventHandle eventHandle = event.getEventHandle();
+            if (eventHandle instanceof DefaultEventHandle) {
+                if (((InternalEventHandle) eventHandle).getAcknowledgementSet() != null) {
+                    acknowledgedInputEvents.add(event);
                 }
             } else if (eventHandle != null) {
                 invalidEventHandlesCounter.increment();
                 throw new RuntimeException("Unexpected EventHandle");
             }
-        });
+        }
+    }
+
+    /**
+     * Sends a positive acknowledgement for each collected input event which is not present in the output records.
+     * The output events are marked with a processing mark which is unique across all workers, so an input event
+     * without the mark was dropped by the processor. This finds dropped events by identity without building a set
+     * of the output events.
+     */
+    private void processAcknowledgements(final Collection<Record<Event>> outputRecords) {
+        if (acknowledgedInputEvents.isEmpty()) {
+            return;
+        }
+        final long processingMark = PROCESSING_MARKS.incrementAndGet();
+        for (final Record<Event> record : outputRecords) {
+            final EventHandle eventHandle = record.getData().getEventHandle();
+            if (eventHandle instanceof DefaultEventHandle) {
+                ((InternalEventHandle) eventHandle).setProcessingMark(processingMark);
+            }
+        }
+        for (final Event event : acknowledgedInputEvents) {
+            final EventHandle eventHandle = event.getEventHandle();
+            if (((InternalEventHandle) eventHandle).getProcessingMark() != processingMark) {
+                eventHandle.release(true);
+            }
+        }
+        acknowledgedInputEvents.clear();
+    }
+
+    private void releaseAcknowledgedInputEvents() {
+        for (final Event event : acknowledgedInputEvents) {
+            event.getEventHandle().release(true);
+        }
+        acknowledgedInputEvents.clear();
     }
 
     private void doRun() {
@@ -126,20 +165,19 @@ public class ProcessWorker implements Runnable {
         //Should Empty list from buffer should be sent to the processors? For now sending as the Stateful processors expects it.
         for (final Processor processor : processors) {
 
-            List<Event> inputEvents = null;
             if (acknowledgementsEnabled) {
-                inputEvents = ((List<Record<Event>>) records).stream().map(Record::getData).collect(Collectors.toList());
+                collectAcknowledgedInputEvents(records);
             }
 
             try {
                 records = processor.execute(records);
-                if (inputEvents != null) {
-                    processAcknowledgements(inputEvents, records);
+                if (acknowledgementsEnabled) {
+                    processAcknowledgements(records);
                 }
             } catch (final Exception e) {
                 LOG.error("A processor threw an exception. This batch of Events will be dropped, and their EventHandles will be released: ", e);
-                if (inputEvents != null) {
-                    processAcknowledgements(inputEvents, Collections.emptyList());
+                if (acknowledgementsEnabled) {
+                    releaseAcknowledgedInputEvents();
                 }
 
                 records = Collections.emptyList();
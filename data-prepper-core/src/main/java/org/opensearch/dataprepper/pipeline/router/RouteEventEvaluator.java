@@ -12,12 +12,16 @@ import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 class RouteEventEvaluator {
 
@@ -25,14 +29,19 @@ class RouteEventEvaluator {
 
     private final ExpressionEvaluator evaluator;
     private final Collection<ConditionalRoute> routes;
+    private final List<String> routeConditions;
+    private final List<String> routeNames;
 
     RouteEventEvaluator(final ExpressionEvaluator evaluator, final Collection<ConditionalRoute> routes) {
         this.evaluator = evaluator;
         this.routes = routes;
+        this.routeConditions = routes.stream().map(ConditionalRoute::getCondition).collect(Collectors.toList());
+        this.routeNames = routes.stream().map(ConditionalRoute::getName).collect(Collectors.toList());
     }
 
     Map<Record, Set<String>> evaluateEventRoutes(final Collection<Record> records) {
         final Map<Record, Set<String>> recordsToRoutes = new HashMap<>();
+        final List<Record<Event>> eventRecords = new ArrayList<>(records.size());
 
         int nonEventRecords = 0;
 
@@ -41,9 +50,7 @@ class RouteEventEvaluator {
             final Object data = record.getData();
 
             if (data instanceof Event) {
-                final Event event = (Event) data;
-                final Set<String> matchedRoutes = findMatchedRoutes(event);
-                recordsToRoutes.put(record, matchedRoutes);
+                eventRecords.add((Record<Event>) record);
             } else {
                 nonEventRecords++;
                 recordsToRoutes.put(record, Collections.emptySet());
@@ -54,20 +61,24 @@ class RouteEventEvaluator {
             LOG.warn("Received {} records which are not events. These will have no routes applied.", nonEventRecords);
         }
 
-        return recordsToRoutes;
-    }
+        for (final Record<Event> eventRecord : eventRecords) {
+            recordsToRoutes.put(eventRecord, new HashSet<>());
+        }
 
-    private Set<String> findMatchedRoutes(final Event event) {
-        final Set<String> matchRoutes = new HashSet<>();
-        for (ConditionalRoute route : routes) {
-            try {
-                if (evaluator.evaluateConditional(route.getCondition(), event)) {
-                    matchRoutes.add(route.getName());
-                }
-            } catch (final Exception ex) {
+        if (!routes.isEmpty() && !eventRecords.isEmpty()) {
+            final List<BitSet> matchedRoutes = evaluator.evaluateConditionals(routeConditions, eventRecords, (event, ex) -> {
                 LOG.error("Failed to evaluate route. This route will not be applied to any events.", ex);
+                return false;
+            });
+            for (int routeIndex = 0; routeIndex < routeNames.size(); routeIndex++) {
+                final String routeName = routeNames.get(routeIndex);
+                final BitSet matchedRecords = matchedRoutes.get(routeIndex);
+                for (int recordIndex = matchedRecords.nextSetBit(0); recordIndex >= 0; recordIndex = matchedRecords.nextSetBit(recordIndex + 1)) {
+                    recordsToRoutes.get(eventRecords.get(recordIndex)).add(routeName);
+                }
             }
         }
-        return matchRoutes;
+
+        return recordsToRoutes;
     }
 }
@@ -9,7 +9,10 @@ import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.parser.DataFlowComponent;
 
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.HashSet;
@@ -54,6 +57,9 @@ public class Router {
 
         final Set<Record> recordsUnRouted = (allRecordsRouted) ? null : new HashSet<>(allRecords);
 
+        // The records of every component are created before any component receives its records. A component can
+        // modify its records on another thread, and the copies for the other components share data with them.
+        final List<Map.Entry<C, Collection<Record>>> recordsForComponents = new ArrayList<>(dataFlowComponents.size());
         for (DataFlowComponent<C> dataFlowComponent : dataFlowComponents) {
             dataFlowComponentRouter.route(allRecords, dataFlowComponent, recordsToRoutes, getRecordStrategy, (component, records) -> { 
                 if (recordsUnRouted != null) {
@@ -61,10 +67,14 @@ public class Router {
                         recordsUnRouted.remove(record);
                     }
                 }
-                componentRecordsConsumer.accept(component, records);
+                recordsForComponents.add(new AbstractMap.SimpleImmutableEntry<>(component, records));
             });
         }
 
+        for (final Map.Entry<C, Collection<Record>> componentRecords : recordsForComponents) {
+            componentRecordsConsumer.accept(componentRecords.getKey(), componentRecords.getValue());
+        }
+
         if (recordsUnRouted != null) {
             for (Record record: recordsUnRouted) {
                 if (record.getData() instanceof Event) {
@@ -14,10 +14,7 @@ import org.opensearch.dataprepper.model.trace.JacksonSpan;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
-import org.opensearch.dataprepper.model.event.EventFactory;
 import org.opensearch.dataprepper.model.event.EventHandle;
-import org.opensearch.dataprepper.model.event.EventBuilder;
-import org.opensearch.dataprepper.model.event.EventMetadata;
 import org.opensearch.dataprepper.model.event.DefaultEventHandle;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSetManager;
 import org.opensearch.dataprepper.acknowledgements.InactiveAcknowledgementSetManager;
@@ -32,11 +29,9 @@ public class RouterCopyRecordStrategy implements RouterGetRecordStrategy {
     private Set<Record> routedRecords;
     private Set<Record> referencedRecords;
     private AcknowledgementSetManager acknowledgementSetManager;
-    private EventFactory eventFactory;
 
-    public <C> RouterCopyRecordStrategy(final EventFactory eventFactory, final AcknowledgementSetManager acknowledgementSetManager, final Collection<DataFlowComponent<C>> dataFlowComponents) {
+    public <C> RouterCopyRecordStrategy(final AcknowledgementSetManager acknowledgementSetManager, final Collection<DataFlowComponent<C>> dataFlowComponents) {
         this.acknowledgementSetManager = acknowledgementSetManager;
-        this.eventFactory = eventFactory;
         routedRecords = null;
         referencedRecords = new HashSet<Record>();
         /*
@@ -44,6 +39,8 @@ public class RouterCopyRecordStrategy implements RouterGetRecordStrategy {
          * pipeline connector, then we should make a copy of every
          * record that is routed to more than one sink, so, to keep
          * track of already routed records, initialize the set.
+         * The copies share the event data with the original event
+         * until one of them modifies it.
          */
         if (dataFlowComponents.size() > 1) {
             for (DataFlowComponent<C> dataFlowComponent : dataFlowComponents) {
@@ -94,22 +91,12 @@ public class RouterCopyRecordStrategy implements RouterGetRecordStrategy {
         } else if (record.getData() instanceof Event) {
             try {
                 final Event recordEvent = (Event) record.getData();
-                JacksonEvent newRecordEvent;
-                Record newRecord;
+                final JacksonEvent newRecordEvent = JacksonEvent.copyOnWrite(recordEvent);
+                final Record newRecord = new Record<>(newRecordEvent);
                 DefaultEventHandle eventHandle = (DefaultEventHandle)recordEvent.getEventHandle();
                 if (eventHandle != null && eventHandle.getAcknowledgementSet() != null) {
-                    final EventMetadata eventMetadata = recordEvent.getMetadata();
-                    final EventBuilder eventBuilder = (EventBuilder) eventFactory.eventBuilder(EventBuilder.class).withEventMetadata(eventMetadata).withData(recordEvent.toMap());
-                    newRecordEvent = (JacksonEvent) eventBuilder.build();
-
                     eventHandle.getAcknowledgementSet().add(newRecordEvent);
-                    newRecord = new Record<>(newRecordEvent);
                     acquireEventReference(newRecord);
-                } else {
-                    // TODO we should have a way to create from factory
-                    // even when acknowledgements are not used
-                    newRecordEvent = JacksonEvent.fromEvent(recordEvent);
-                    newRecord = new Record<>(newRecordEvent);
                 }
                 return newRecord;
             } catch (Exception ex) {
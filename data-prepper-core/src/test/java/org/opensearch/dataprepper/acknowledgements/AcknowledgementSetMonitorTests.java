@@ -8,19 +8,27 @@ package org.opensearch.dataprepper.acknowledgements;
 import org.opensearch.dataprepper.model.event.DefaultEventHandle;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.hamcrest.Matchers.equalTo;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 
 @ExtendWith(MockitoExtension.class)
 public class AcknowledgementSetMonitorTests {
-    private static final int DEFAULT_WAIT_TIME_MS = 500;
+    private static final Duration TICK_DURATION = Duration.ofMillis(20);
     @Mock
     DefaultAcknowledgementSet acknowledgementSet1;
     @Mock
@@ -31,80 +39,99 @@ public class AcknowledgementSetMonitorTests {
     private AcknowledgementSetMonitor acknowledgementSetMonitor;
 
     AcknowledgementSetMonitor createObjectUnderTest() {
-        return new AcknowledgementSetMonitor();
+        return new AcknowledgementSetMonitor(TICK_DURATION);
     }
 
     @BeforeEach
     void setup() {
         acknowledgementSet1 = mock(DefaultAcknowledgementSet.class);
         eventHandle1 = mock(DefaultEventHandle.class);
-        when(acknowledgementSet1.isDone()).thenReturn(true);
+        lenient().when(acknowledgementSet1.isDone()).thenReturn(true);
+        lenient().when(acknowledgementSet1.getExpiryTime()).thenReturn(Instant.now());
         acknowledgementSetMonitor = createObjectUnderTest();
     }
 
     @Test
     public void testBasic() {
         acknowledgementSetMonitor.add(acknowledgementSet1);
-        Thread shutdownThread = new Thread(() -> {
-            try {
-                Thread.sleep(DEFAULT_WAIT_TIME_MS);
-            } catch (Exception e){}
-        });
-        shutdownThread.start();
-        acknowledgementSetMonitor.run();
-        assertThat(acknowledgementSetMonitor.getSize(), equalTo(0));
+        assertThat(acknowledgementSetMonitor.getSize(), equalTo(1));
+
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> {
+                    acknowledgementSetMonitor.run();
+                    assertThat(acknowledgementSetMonitor.getSize(), equalTo(0));
+                });
+        verify(acknowledgementSet1).isDone();
     }
 
     @Test
     public void testMultipleAcknowledgementSets() {
         acknowledgementSet2 = mock(DefaultAcknowledgementSet.class);
-        when(acknowledgementSet2.isDone()).thenReturn(false);
+        when(acknowledgementSet2.getExpiryTime()).thenReturn(Instant.now().plus(Duration.ofHours(1)));
+
+        acknowledgementSetMonitor.add(acknowledgementSet1);
+        acknowledgementSetMonitor.add(acknowledgementSet2);
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> {
+                    acknowledgementSetMonitor.run();
+                    assertThat(acknowledgementSetMonitor.getSize(), equalTo(1));
+                });
+        verify(acknowledgementSet2, never()).isDone();
+    }
+
+    @Test
+    public void testAcknowledgementSetIsRecheckedWhenNotYetExpired() {
+        when(acknowledgementSet1.isDone()).thenReturn(false, true);
 
         acknowledgementSetMonitor.add(acknowledgementSet1);
+
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> {
+                    acknowledgementSetMonitor.run();
+                    assertThat(acknowledgementSetMonitor.getSize(), equalTo(0));
+                });
+    }
+
+    @Test
+    public void testCompletedAcknowledgementSetIsRemovedWithoutWaitingForExpiry() {
+        acknowledgementSet2 = mock(DefaultAcknowledgementSet.class);
+        lenient().when(acknowledgementSet2.getExpiryTime()).thenReturn(Instant.now().plus(Duration.ofHours(1)));
         acknowledgementSetMonitor.add(acknowledgementSet2);
-        Thread shutdownThread = new Thread(() -> {
-            try {
-                Thread.sleep(DEFAULT_WAIT_TIME_MS);
-            } catch (Exception e){}
-        });
-        shutdownThread.start();
         acknowledgementSetMonitor.run();
         assertThat(acknowledgementSetMonitor.getSize(), equalTo(1));
+
+        final ArgumentCaptor<Runnable> doneListenerCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(acknowledgementSet2).setDoneListener(doneListenerCaptor.capture());
+        doneListenerCaptor.getValue().run();
+        doneListenerCaptor.getValue().run();
+
+        assertThat(acknowledgementSetMonitor.getSize(), equalTo(0));
+        acknowledgementSetMonitor.run();
+        verify(acknowledgementSet2, never()).isDone();
     }
 
     @Test
     public void testAcknowledgementSetAcquireRelease() {
         when(eventHandle1.getAcknowledgementSet()).thenReturn(acknowledgementSet1);
-        try {
-            doAnswer((i) -> {return null; }).when(acknowledgementSet1).acquire(eventHandle1);
-        } catch (Exception e){}
+        when(acknowledgementSet1.isActive()).thenReturn(true);
         acknowledgementSetMonitor.add(acknowledgementSet1);
         acknowledgementSetMonitor.acquire(eventHandle1);
         acknowledgementSetMonitor.release(eventHandle1, true);
-        Thread shutdownThread = new Thread(() -> {
-            try {
-                Thread.sleep(DEFAULT_WAIT_TIME_MS);
-            } catch (Exception e){}
-        });
-        shutdownThread.start();
-        acknowledgementSetMonitor.run();
-        assertThat(acknowledgementSetMonitor.getSize(), equalTo(0));
+
+        verify(acknowledgementSet1).acquire(eventHandle1);
+        verify(acknowledgementSet1).release(eventHandle1, true);
+        assertThat(acknowledgementSetMonitor.getNumInvalidAcquires(), equalTo(0));
+        assertThat(acknowledgementSetMonitor.getNumInvalidReleases(), equalTo(0));
     }
 
     @Test
     public void testAcknowledgementSetInvalidAcquire() {
         acknowledgementSet2 = mock(DefaultAcknowledgementSet.class);
         when(eventHandle1.getAcknowledgementSet()).thenReturn(acknowledgementSet2);
+        when(acknowledgementSet2.isActive()).thenReturn(false);
         acknowledgementSetMonitor.add(acknowledgementSet1);
         acknowledgementSetMonitor.acquire(eventHandle1);
-        Thread shutdownThread = new Thread(() -> {
-            try {
-                Thread.sleep(DEFAULT_WAIT_TIME_MS);
-            } catch (Exception e){}
-        });
-        shutdownThread.start();
-        acknowledgementSetMonitor.run();
-        assertThat(acknowledgementSetMonitor.getSize(), equalTo(0));
+        verify(acknowledgementSet2, never()).acquire(eventHandle1);
         assertThat(acknowledgementSetMonitor.getNumInvalidAcquires(), equalTo(1));
     }
 
@@ -112,16 +139,21 @@ public class AcknowledgementSetMonitorTests {
     public void testAcknowledgementSetInvalidRelease() {
         acknowledgementSet2 = mock(DefaultAcknowledgementSet.class);
         when(eventHandle1.getAcknowledgementSet()).thenReturn(acknowledgementSet2);
+        when(acknowledgementSet2.isActive()).thenReturn(false);
         acknowledgementSetMonitor.add(acknowledgementSet1);
         acknowledgementSetMonitor.release(eventHandle1, true);
-        Thread shutdownThread = new Thread(() -> {
-            try {
-                Thread.sleep(DEFAULT_WAIT_TIME_MS);
-            } catch (Exception e){}
-        });
-        shutdownThread.start();
-        acknowledgementSetMonitor.run();
-        assertThat(acknowledgementSetMonitor.getSize(), equalTo(0));
+        verify(acknowledgementSet2, never()).release(eventHandle1, true);
+        assertThat(acknowledgementSetMonitor.getNumInvalidReleases(), equalTo(1));
+    }
+
+    @Test
+    public void testAcquireAndReleaseWithoutAcknowledgementSet() {
+        when(eventHandle1.getAcknowledgementSet()).thenReturn(null);
+        acknowledgementSetMonitor.acquire(eventHandle1);
+        acknowledgementSetMonitor.release(eventHandle1, true);
+        acknowledgementSetMonitor.acquire(null);
+        acknowledgementSetMonitor.release(null, true);
+        assertThat(acknowledgementSetMonitor.getNumInvalidAcquires(), equalTo(1));
         assertThat(acknowledgementSetMonitor.getNumInvalidReleases(), equalTo(1));
     }
 }
@@ -14,9 +14,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.model.event.DefaultEventHandle;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
-import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSet;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -28,6 +34,7 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class DefaultAcknowledgementSetTests {
@@ -37,9 +44,7 @@ class DefaultAcknowledgementSetTests {
     private JacksonEvent event;
     @Mock
     private JacksonEvent event2;
-    @Mock
     private DefaultEventHandle handle;
-    @Mock
     private DefaultEventHandle handle2;
 
     private double currentRatio;
@@ -86,20 +91,10 @@ class DefaultAcknowledgementSetTests {
         callbackInterrupted = new AtomicBoolean(false);
 
         event = mock(JacksonEvent.class);
-        handle = mock(DefaultEventHandle.class);
-        lenient().doAnswer(a -> {
-            AcknowledgementSet acknowledgementSet = a.getArgument(0);
-            lenient().when(handle.getAcknowledgementSet()).thenReturn(acknowledgementSet);
-            return null;
-        }).when(handle).setAcknowledgementSet(any(AcknowledgementSet.class));
+        handle = new DefaultEventHandle(Instant.now());
         lenient().when(event.getEventHandle()).thenReturn(handle);
         event2 = mock(JacksonEvent.class);
-        lenient().doAnswer(a -> {
-            AcknowledgementSet acknowledgementSet = a.getArgument(0);
-            lenient().when(handle2.getAcknowledgementSet()).thenReturn(acknowledgementSet);
-            return null;
-        }).when(handle2).setAcknowledgementSet(any(AcknowledgementSet.class));
-        handle2 = mock(DefaultEventHandle.class);
+        handle2 = new DefaultEventHandle(Instant.now());
         lenient().when(event2.getEventHandle()).thenReturn(handle2);
     }
 
@@ -182,11 +177,6 @@ class DefaultAcknowledgementSetTests {
         defaultAcknowledgementSet.add(event);
         defaultAcknowledgementSet.complete();
         assertThat(handle, not(equalTo(null)));
-        lenient().doAnswer(a -> {
-            AcknowledgementSet acknowledgementSet = a.getArgument(0);
-            lenient().when(handle.getAcknowledgementSet()).thenReturn(acknowledgementSet);
-            return null;
-        }).when(handle).setAcknowledgementSet(any(AcknowledgementSet.class));
         assertThat(handle.getAcknowledgementSet(), equalTo(defaultAcknowledgementSet));
         defaultAcknowledgementSet.acquire(handle);
         assertThat(defaultAcknowledgementSet.release(handle, true), equalTo(false));
@@ -215,11 +205,6 @@ class DefaultAcknowledgementSetTests {
         );
         defaultAcknowledgementSet.add(event);
         defaultAcknowledgementSet.complete();
-        lenient().doAnswer(a -> {
-            AcknowledgementSet acknowledgementSet = a.getArgument(0);
-            lenient().when(handle.getAcknowledgementSet()).thenReturn(acknowledgementSet);
-            return null;
-        }).when(handle).setAcknowledgementSet(any(AcknowledgementSet.class));
         assertThat(handle, not(equalTo(null)));
         assertThat(handle.getAcknowledgementSet(), equalTo(defaultAcknowledgementSet));
         assertThat(defaultAcknowledgementSet.release(handle, true), equalTo(true));
@@ -249,11 +234,6 @@ class DefaultAcknowledgementSetTests {
         defaultAcknowledgementSet.add(event);
         defaultAcknowledgementSet.add(event2);
         defaultAcknowledgementSet.complete();
-        lenient().doAnswer(a -> {
-            AcknowledgementSet acknowledgementSet = a.getArgument(0);
-            lenient().when(handle.getAcknowledgementSet()).thenReturn(acknowledgementSet);
-            return null;
-        }).when(handle).setAcknowledgementSet(any(AcknowledgementSet.class));
         assertThat(handle, not(equalTo(null)));
         assertThat(handle.getAcknowledgementSet(), equalTo(defaultAcknowledgementSet));
         await().atMost(Duration.ofSeconds(5))
@@ -274,4 +254,113 @@ class DefaultAcknowledgementSetTests {
                     assertThat(acknowledgementSetResult, equalTo(true));
                 });
     }
+
+    @Test
+    void testAddingTheSameEventTwiceIsPendingOnce() {
+        defaultAcknowledgementSet.add(event);
+        defaultAcknowledgementSet.add(event);
+        defaultAcknowledgementSet.complete();
+
+        assertThat(defaultAcknowledgementSet.release(handle, true), equalTo(true));
+    }
+
+    @Test
+    void testReleaseOfEventFromAnotherAcknowledgementSet() {
+        final DefaultAcknowledgementSet secondAcknowledgementSet = createObjectUnderTest();
+        secondAcknowledgementSet.add(event2);
+        defaultAcknowledgementSet.add(event);
+        defaultAcknowledgementSet.complete();
+
+        assertThat(defaultAcknowledgementSet.release(handle2, true), equalTo(false));
+        defaultAcknowledgementSet.acquire(handle2);
+        assertThat(invalidAcquiresCounter, equalTo(1));
+        assertThat(defaultAcknowledgementSet.release(handle, true), equalTo(true));
+    }
+
+    @Test
+    void testCompleteWithoutEventsRunsCallback() {
+        defaultAcknowledgementSet = createObjectUnderTestWithCallback(flag -> acknowledgementSetResult = flag);
+        assertThat(defaultAcknowledgementSet.isActive(), equalTo(true));
+
+        defaultAcknowledgementSet.complete();
+
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> {
+                    assertThat(acknowledgementSetResult, equalTo(true));
+                    assertThat(defaultAcknowledgementSet.isActive(), equalTo(false));
+                    assertThat(defaultAcknowledgementSet.isDone(), equalTo(true));
+                });
+    }
+
+    @Test
+    void testDoneListenerRunsOnceWhenCallbackCompletes() {
+        final AtomicInteger doneCount = new AtomicInteger();
+        defaultAcknowledgementSet.setDoneListener(doneCount::incrementAndGet);
+        defaultAcknowledgementSet.add(event);
+        defaultAcknowledgementSet.complete();
+        defaultAcknowledgementSet.release(handle, true);
+
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(doneCount.get(), equalTo(1)));
+        defaultAcknowledgementSet.setDoneListener(doneCount::incrementAndGet);
+        assertThat(doneCount.get(), equalTo(2));
+    }
+
+    @Test
+    void testReleaseAfterExpiryDoesNotRunCallback() {
+        defaultAcknowledgementSet = new DefaultAcknowledgementSet(executor, flag -> acknowledgementSetResult = flag, Duration.ofMillis(1), metrics);
+        defaultAcknowledgementSet.add(event);
+        defaultAcknowledgementSet.complete();
+
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> defaultAcknowledgementSet.isDone());
+
+        assertThat(defaultAcknowledgementSet.isActive(), equalTo(false));
+        assertThat(defaultAcknowledgementSet.release(handle, true), equalTo(false));
+        assertThat(acknowledgementSetResult, equalTo(null));
+    }
+
+    @Test
+    void testConcurrentAcquireAndReleaseRunsCallbackOnce() throws Exception {
+        final int numberOfEvents = 200;
+        final int numberOfThreads = 4;
+        final AtomicInteger callbackCount = new AtomicInteger();
+        defaultAcknowledgementSet = createObjectUnderTestWithCallback(flag -> callbackCount.incrementAndGet());
+        final List<DefaultEventHandle> handles = new ArrayList<>();
+        for (int i = 0; i < numberOfEvents; i++) {
+            final JacksonEvent jacksonEvent = mock(JacksonEvent.class);
+            final DefaultEventHandle eventHandle = new DefaultEventHandle(Instant.now());
+            when(jacksonEvent.getEventHandle()).thenReturn(eventHandle);
+            defaultAcknowledgementSet.add(jacksonEvent);
+            handles.add(eventHandle);
+        }
+        defaultAcknowledgementSet.complete();
+
+        final ExecutorService workers = Executors.newFixedThreadPool(numberOfThreads);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < numberOfThreads; thread++) {
+                futures.add(workers.submit(() -> {
+                    for (final DefaultEventHandle eventHandle : handles) {
+                        defaultAcknowledgementSet.acquire(eventHandle);
+                        defaultAcknowledgementSet.release(eventHandle, true);
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+            assertThat(callbackCount.get(), equalTo(0));
+
+            for (final DefaultEventHandle eventHandle : handles) {
+                defaultAcknowledgementSet.release(eventHandle, true);
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(callbackCount.get(), equalTo(1)));
+        assertThat(invalidAcquiresCounter, equalTo(0));
+    }
 }
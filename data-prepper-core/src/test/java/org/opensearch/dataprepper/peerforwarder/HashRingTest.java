@@ -8,15 +8,34 @@ package org.opensearch.dataprepper.peerforwarder;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
+import io.micrometer.core.instrument.Timer;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.peerforwarder.discovery.PeerListProvider;
 
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -34,20 +53,28 @@ class HashRingTest {
 
     private static final int SINGLE_VIRTUAL_NODE_COUNT = 1;
     private static final int MULTIPLE_VIRTUAL_NODE_COUNT = 100;
+    private static final int DEFAULT_VIRTUAL_NODE_COUNT = 128;
 
     private final PeerListProvider peerListProvider = mock(PeerListProvider.class);
+    private final PluginMetrics pluginMetrics = mock(PluginMetrics.class);
+    private final Timer localAddressResolutionTimer = mock(Timer.class);
 
     private HashRing hashRing;
 
     @BeforeEach
     public void setUp() {
         when(peerListProvider.getPeerList()).thenReturn(SERVER_IPS);
+        when(pluginMetrics.timer(HashRing.LOCAL_ADDRESS_RESOLUTION_LATENCY)).thenReturn(localAddressResolutionTimer);
+    }
+
+    private HashRing createObjectUnderTest(final int numVirtualNodes, final HashRingAlgorithm hashRingAlgorithm) {
+        return new HashRing(peerListProvider, numVirtualNodes, hashRingAlgorithm, pluginMetrics);
     }
 
     @Test
     void testGetServerIpEmptyMap() {
         when(peerListProvider.getPeerList()).thenReturn(Collections.emptyList());
-        hashRing = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT);
+        hashRing = createObjectUnderTest(SINGLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.MD5);
 
         Optional<String> result = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1);
 
@@ -56,7 +83,7 @@ class HashRingTest {
 
     @Test
     void testGetServerIpSingleNodeSameIdentificationKeys() {
-        hashRing = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT);
+        hashRing = createObjectUnderTest(SINGLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.MD5);
 
         Optional<String> result1 = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1);
         Optional<String> result2 = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1);
@@ -68,7 +95,7 @@ class HashRingTest {
 
     @Test
     void testGetServerIpSingleNodeDifferentIdentificationKeys() {
-        hashRing = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT);
+        hashRing = createObjectUnderTest(SINGLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.MD5);
 
         Optional<String> result1 = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1);
         Optional<String> result2 = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_2);
@@ -81,7 +108,7 @@ class HashRingTest {
 
     @Test
     void testGetServerIpMultipleNodesSameIdentificationKeys() {
-        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT);
+        hashRing = createObjectUnderTest(MULTIPLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.MD5);
 
         Optional<String> result1 = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1);
         Optional<String> result2 = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1);
@@ -93,7 +120,7 @@ class HashRingTest {
 
     @Test
     void testGetServerIpMultipleDifferentIdentificationKeys() {
-        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT);
+        hashRing = createObjectUnderTest(MULTIPLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.MD5);
 
         Optional<String> result1 = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1);
         Optional<String> result2 = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_2);
@@ -107,7 +134,7 @@ class HashRingTest {
     void testSpecialCaseNoKeyInMapGreaterThanHashValue() {
         when(peerListProvider.getPeerList()).thenReturn(Collections.singletonList("serverIp"));
 
-        hashRing = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT);
+        hashRing = createObjectUnderTest(SINGLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.MD5);
 
         // IDENTIFICATION KEY SET 1 hash is less than the hash of "serverIp"
         Optional<String> result1 = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1);
@@ -123,7 +150,7 @@ class HashRingTest {
 
     @Test
     void testEndpointChangeRebuildsMap() {
-        hashRing = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT);
+        hashRing = createObjectUnderTest(SINGLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.MD5);
 
         // First call during construction
         verify(peerListProvider, times(1)).getPeerList();
@@ -133,4 +160,139 @@ class HashRingTest {
         // Second call during rebuild
         verify(peerListProvider, times(2)).getPeerList();
     }
-}
\ No newline at end of file
+
+    @Test
+    void testMd5PlacementMatchesTheOriginalMd5HashRing() throws Exception {
+        hashRing = createObjectUnderTest(MULTIPLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.MD5);
+        final TreeMap<BigInteger, String> md5HashServerMap = buildMd5HashServerMap(SERVER_IPS, MULTIPLE_VIRTUAL_NODE_COUNT);
+
+        for (int i = 0; i < 1000; i++) {
+            final List<String> identificationKeyValues = Arrays.asList(UUID.randomUUID().toString(), null, "\u043a\u043b\u044e\u0447" + i);
+
+            assertThat(hashRing.getServerIp(identificationKeyValues), equalTo(Optional.of(getMd5ServerIp(md5HashServerMap, identificationKeyValues))));
+        }
+        assertThat(hashRing.getServerIp(Collections.emptyList()), equalTo(Optional.of(getMd5ServerIp(md5HashServerMap, Collections.emptyList()))));
+    }
+
+    @ParameterizedTest
+    @EnumSource(HashRingAlgorithm.class)
+    void testGetServerIpIsConsistentForEqualIdentificationKeys(final HashRingAlgorithm hashRingAlgorithm) {
+        hashRing = createObjectUnderTest(MULTIPLE_VIRTUAL_NODE_COUNT, hashRingAlgorithm);
+
+        for (int i = 0; i < 100; i++) {
+            final String traceId = UUID.randomUUID().toString();
+            final Optional<String> result = hashRing.getServerIp(List.of(traceId, "\u043a\u043b\u044e\u0447"));
+
+            assertThat(result.isPresent(), equalTo(true));
+            assertThat(hashRing.getServerIp(new ArrayList<>(List.of(traceId, "\u043a\u043b\u044e\u0447"))), equalTo(result));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(HashRingAlgorithm.class)
+    void testGetServerIpDistributesIdentificationKeysAcrossAllServers(final HashRingAlgorithm hashRingAlgorithm) {
+        hashRing = createObjectUnderTest(DEFAULT_VIRTUAL_NODE_COUNT, hashRingAlgorithm);
+
+        final Map<String, Integer> serverCounts = new HashMap<>();
+        for (int i = 0; i < 3000; i++) {
+            final String serverIp = hashRing.getServerIp(List.of(UUID.randomUUID().toString())).orElseThrow();
+            serverCounts.merge(serverIp, 1, Integer::sum);
+        }
+
+        assertThat(serverCounts.keySet().size(), equalTo(SERVER_IPS.size()));
+        for (final Integer serverCount : serverCounts.values()) {
+            assertThat(serverCount, greaterThan(500));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(HashRingAlgorithm.class)
+    void testGetServerIpWithLongIdentificationKeys(final HashRingAlgorithm hashRingAlgorithm) {
+        hashRing = createObjectUnderTest(SINGLE_VIRTUAL_NODE_COUNT, hashRingAlgorithm);
+        final String longValue = "a".repeat(1000);
+
+        final Optional<String> result = hashRing.getServerIp(List.of(longValue, longValue));
+
+        assertThat(result.isPresent(), equalTo(true));
+        assertThat(hashRing.getServerIp(List.of(longValue, longValue)), equalTo(result));
+    }
+
+    @Test
+    void testEndpointChangeRebuildsRingWithTheNewEndpoints() {
+        hashRing = createObjectUnderTest(SINGLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.XXHASH64);
+
+        when(peerListProvider.getPeerList()).thenReturn(Collections.singletonList("10.10.0.4"));
+        hashRing.accept(Collections.emptyList());
+
+        assertThat(hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1), equalTo(Optional.of("10.10.0.4")));
+        assertThat(hashRing.getServerIp(IDENTIFICATION_KEY_LIST_2), equalTo(Optional.of("10.10.0.4")));
+    }
+
+    @Test
+    void testIsLocalServerIpResolvesServersWhenTheRingIsBuilt() {
+        when(peerListProvider.getPeerList()).thenReturn(Arrays.asList("127.0.0.1", "192.0.2.1"));
+        hashRing = createObjectUnderTest(SINGLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.MD5);
+
+        verify(localAddressResolutionTimer, times(2)).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+
+        assertThat(hashRing.isLocalServerIp("127.0.0.1"), equalTo(true));
+        assertThat(hashRing.isLocalServerIp("192.0.2.1"), equalTo(false));
+        assertThat(hashRing.isLocalServerIp("127.0.0.1"), equalTo(true));
+
+        verify(localAddressResolutionTimer, times(2)).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    void testIsLocalServerIpResolvesAddressesNotOnTheRingOnce() {
+        hashRing = createObjectUnderTest(SINGLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.MD5);
+        verify(localAddressResolutionTimer, times(SERVER_IPS.size())).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+
+        assertThat(hashRing.isLocalServerIp("localhost"), equalTo(true));
+        assertThat(hashRing.isLocalServerIp("localhost"), equalTo(true));
+
+        verify(localAddressResolutionTimer, times(SERVER_IPS.size() + 1)).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    void testEndpointChangeResolvesTheNewEndpoints() {
+        hashRing = createObjectUnderTest(SINGLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.MD5);
+        assertThat(hashRing.isLocalServerIp("127.0.0.1"), equalTo(true));
+
+        when(peerListProvider.getPeerList()).thenReturn(Collections.singletonList("192.0.2.1"));
+        hashRing.accept(Collections.emptyList());
+
+        assertThat(hashRing.isLocalServerIp("192.0.2.1"), equalTo(false));
+        verify(localAddressResolutionTimer, times(SERVER_IPS.size() + 2)).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    void testResolveAddressDefinedLocally() {
+        assertThat(HashRing.resolveAddressDefinedLocally("127.0.0.1"), equalTo(true));
+        assertThat(HashRing.resolveAddressDefinedLocally("0.0.0.0"), equalTo(true));
+        assertThat(HashRing.resolveAddressDefinedLocally("192.0.2.1"), equalTo(false));
+        assertThat(HashRing.resolveAddressDefinedLocally("invalid host name"), equalTo(false));
+    }
+
+    private static TreeMap<BigInteger, String> buildMd5HashServerMap(final List<String> serverIps, final int numVirtualNodes) throws Exception {
+        final TreeMap<BigInteger, String> hashServerMap = new TreeMap<>();
+        final MessageDigest md = MessageDigest.getInstance("MD5");
+        for (final String serverIp : serverIps) {
+            final ByteBuffer intBuffer = ByteBuffer.allocate(4);
+            for (int i = 0; i < numVirtualNodes; i++) {
+                md.update(serverIp.getBytes(StandardCharsets.UTF_8));
+                intBuffer.putInt(i);
+                md.update(intBuffer.array());
+                hashServerMap.putIfAbsent(new BigInteger(md.digest()), serverIp);
+                intBuffer.clear();
+            }
+        }
+        return hashServerMap;
+    }
+
+    private static String getMd5ServerIp(final TreeMap<BigInteger, String> hashServerMap, final List<String> identificationKeyValues) throws Exception {
+        final MessageDigest md = MessageDigest.getInstance("MD5");
+        md.update(String.join(",", identificationKeyValues).getBytes(StandardCharsets.UTF_8));
+        final Map.Entry<BigInteger, String> entry = hashServerMap.higherEntry(new BigInteger(md.digest()));
+        return entry == null ? hashServerMap.firstEntry().getValue() : entry.getValue();
+    }
+}
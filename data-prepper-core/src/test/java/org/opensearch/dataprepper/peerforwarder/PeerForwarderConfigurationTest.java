@@ -8,6 +8,7 @@ package org.opensearch.dataprepper.peerforwarder;
 import static org.opensearch.dataprepper.peerforwarder.PeerForwarderConfiguration.DEFAULT_DRAIN_TIMEOUT;
 
 import org.opensearch.dataprepper.TestDataProvider;
+import org.opensearch.dataprepper.peerforwarder.codec.PeerForwarderCodecType;
 import org.opensearch.dataprepper.peerforwarder.discovery.DiscoveryMode;
 import org.opensearch.dataprepper.pipeline.parser.DataPrepperDurationDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -67,6 +68,8 @@ class PeerForwarderConfigurationTest {
         assertThat(peerForwarderConfiguration.getForwardingBatchQueueDepth(), equalTo(1));
         assertThat(peerForwarderConfiguration.getForwardingBatchTimeout(), equalTo(DEFAULT_FORWARDING_BATCH_TIMEOUT));
         assertThat(peerForwarderConfiguration.getBinaryCodec(), equalTo(true));
+        assertThat(peerForwarderConfiguration.getHashAlgorithm(), equalTo(HashRingAlgorithm.MD5));
+        assertThat(peerForwarderConfiguration.getCodec(), equalTo(PeerForwarderCodecType.JAVA));
     }
 
     @Test
@@ -100,6 +103,16 @@ class PeerForwarderConfigurationTest {
         assertThat(peerForwarderConfiguration.getForwardingBatchQueueDepth(), equalTo(3));
         assertThat(peerForwarderConfiguration.getForwardingBatchTimeout(), equalTo(Duration.of(5, ChronoUnit.SECONDS)));
         assertThat(peerForwarderConfiguration.getBinaryCodec(), equalTo(false));
+        assertThat(peerForwarderConfiguration.getHashAlgorithm(), equalTo(HashRingAlgorithm.XXHASH64));
+        assertThat(peerForwarderConfiguration.getCodec(), equalTo(PeerForwarderCodecType.JSON));
+    }
+
+    @Test
+    void testValidPeerForwarderConfig_with_smile_codec() throws IOException {
+        final PeerForwarderConfiguration peerForwarderConfiguration = makeConfig("src/test/resources/valid_peer_forwarder_with_smile_codec_config.yml");
+
+        assertThat(peerForwarderConfiguration.getCodec(), equalTo(PeerForwarderCodecType.SMILE));
+        assertThat(peerForwarderConfiguration.getBinaryCodec(), equalTo(true));
     }
 
     @Test
@@ -187,7 +200,9 @@ class PeerForwarderConfigurationTest {
             TestDataProvider.INVALID_PEER_FORWARDER_WITH_NEGATIVE_DRAIN_TIMEOUT,
             TestDataProvider.INVALID_PEER_FORWARDER_WITH_ZERO_LOCAL_WRITE_TIMEOUT,
             "src/test/resources/invalid_peer_forwarder_config_with_many_authentication.yml",
-            "src/test/resources/invalid_peer_forwarder_config_with_mutual_tls_not_ssl.yml"
+            "src/test/resources/invalid_peer_forwarder_config_with_mutual_tls_not_ssl.yml",
+            "src/test/resources/invalid_peer_forwarder_with_hash_algorithm_config.yml",
+            "src/test/resources/invalid_peer_forwarder_with_codec_config.yml"
     })
     void invalid_InvalidPeerForwarderConfig_test(final String filePath) {
         assertThrows(ValueInstantiationException.class, () -> makeConfig(filePath));
@@ -129,6 +129,8 @@ class RemotePeerForwarderTest {
         when(pluginMetrics.counter(RECORDS_MISSING_IDENTIFICATION_KEYS)).thenReturn(recordsMissingIdentificationKeys);
         when(pluginMetrics.counter(REQUESTS_FAILED)).thenReturn(requestsFailedCounter);
         when(pluginMetrics.counter(REQUESTS_SUCCESSFUL)).thenReturn(requestsSuccessfulCounter);
+        lenient().when(hashRing.isLocalServerIp(anyString()))
+                .thenAnswer(invocation -> HashRing.resolveAddressDefinedLocally(invocation.getArgument(0)));
     }
 
     @AfterEach
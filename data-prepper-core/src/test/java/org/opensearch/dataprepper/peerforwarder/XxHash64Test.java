@@ -0,0 +1,46 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class XxHash64Test {
+    @ParameterizedTest
+    @MethodSource("referenceHashes")
+    void hash_returns_the_reference_hash(final String input, final long seed, final long expectedHash) {
+        final byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+
+        assertThat(XxHash64.hash(bytes, 0, bytes.length, seed), equalTo(expectedHash));
+    }
+
+    @ParameterizedTest
+    @MethodSource("referenceHashes")
+    void hash_only_reads_the_given_range(final String input, final long seed, final long expectedHash) {
+        final byte[] inputBytes = input.getBytes(StandardCharsets.UTF_8);
+        final byte[] bytes = new byte[inputBytes.length + 10];
+        System.arraycopy(inputBytes, 0, bytes, 3, inputBytes.length);
+
+        assertThat(XxHash64.hash(bytes, 3, inputBytes.length, seed), equalTo(expectedHash));
+    }
+
+    private static Stream<Arguments> referenceHashes() {
+        return Stream.of(
+                Arguments.of("", 0L, 0xEF46DB3751D8E999L),
+                Arguments.of("a", 0L, 0xD24EC4F1A98C6E5BL),
+                Arguments.of("abc", 0L, 0x44BC2CF5AD770999L),
+                Arguments.of("xxhash", 20141025L, 0xB559B98D844E0635L),
+                Arguments.of("Nobody inspects the spammish repetition", 0L, 0xFBCEA83C8A378BF1L)
+        );
+    }
+}
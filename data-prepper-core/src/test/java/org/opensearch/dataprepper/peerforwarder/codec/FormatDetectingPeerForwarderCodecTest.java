@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder.codec;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.log.JacksonLog;
+import org.opensearch.dataprepper.peerforwarder.model.PeerForwardingEvents;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FormatDetectingPeerForwarderCodecTest {
+    @Mock
+    private PeerForwarderCodec configuredCodec;
+
+    @Mock
+    private PeerForwardingEvents peerForwardingEvents;
+
+    private SmilePeerForwarderCodec smileCodec;
+
+    @BeforeEach
+    void setUp() {
+        smileCodec = new SmilePeerForwarderCodec();
+    }
+
+    private FormatDetectingPeerForwarderCodec createObjectUnderTest() {
+        return new FormatDetectingPeerForwarderCodec(configuredCodec, smileCodec);
+    }
+
+    @Test
+    void serialize_uses_the_configured_codec() throws Exception {
+        final byte[] bytes = new byte[] {1, 2, 3};
+        when(configuredCodec.serialize(peerForwardingEvents)).thenReturn(bytes);
+
+        assertThat(createObjectUnderTest().serialize(peerForwardingEvents), sameInstance(bytes));
+    }
+
+    @Test
+    void deserialize_uses_the_configured_codec_for_other_formats() throws Exception {
+        final byte[] bytes = "{}".getBytes();
+        when(configuredCodec.deserialize(bytes)).thenReturn(peerForwardingEvents);
+
+        assertThat(createObjectUnderTest().deserialize(bytes), sameInstance(peerForwardingEvents));
+    }
+
+    @Test
+    void deserialize_uses_the_smile_codec_for_smile_requests() throws Exception {
+        final Event event = JacksonLog.builder().withData(Map.of("key", "value")).build();
+        final byte[] bytes = smileCodec.serialize(new PeerForwardingEvents(List.of(event), "plugin_id", "pipeline_name"));
+
+        final PeerForwardingEvents outputEvents = createObjectUnderTest().deserialize(bytes);
+
+        assertThat(outputEvents.getDestinationPluginId(), equalTo("plugin_id"));
+        assertThat(outputEvents.getEvents().get(0).get("key", String.class), equalTo("value"));
+        verify(configuredCodec, never()).deserialize(any());
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.event.DefaultEventMetadata;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventMetadata;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.log.JacksonLog;
+import org.opensearch.dataprepper.model.trace.DefaultTraceGroupFields;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+import org.opensearch.dataprepper.model.trace.Span;
+import org.opensearch.dataprepper.peerforwarder.model.PeerForwardingEvents;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SmilePeerForwarderCodecTest {
+    private static final String PLUGIN_ID = "plugin_id";
+    private static final String PIPELINE_NAME = "pipeline_name";
+    private final SmilePeerForwarderCodec objectUnderTest = new SmilePeerForwarderCodec();
+
+    @Test
+    void testCodec() throws IOException {
+        final PeerForwardingEvents inputEvents = generatePeerForwardingEvents(2);
+        final byte[] bytes = objectUnderTest.serialize(inputEvents);
+        final PeerForwardingEvents outputEvents = objectUnderTest.deserialize(bytes);
+        assertThat(outputEvents.getDestinationPipelineName(), equalTo(inputEvents.getDestinationPipelineName()));
+        assertThat(outputEvents.getDestinationPluginId(), equalTo(inputEvents.getDestinationPluginId()));
+        assertThat(outputEvents.getEvents().size(), equalTo(inputEvents.getEvents().size()));
+        for (int i = 0; i < inputEvents.getEvents().size(); i++) {
+            assertThat(outputEvents.getEvents().get(i).toJsonString(), equalTo(inputEvents.getEvents().get(i).toJsonString()));
+        }
+    }
+
+    @Test
+    void testCodec_preserves_event_metadata() throws IOException {
+        final Instant timeReceived = Instant.ofEpochSecond(1_700_000_000L, 123_456_789);
+        final Instant externalOriginationTime = Instant.ofEpochSecond(1_600_000_000L, 42);
+        final Map<String, Object> attributes = new HashMap<>();
+        attributes.put("attribute_key", "attribute_value");
+        final EventMetadata eventMetadata = DefaultEventMetadata.builder()
+                .withEventType("LOG")
+                .withTimeReceived(timeReceived)
+                .withExternalOriginationTime(externalOriginationTime)
+                .withAttributes(attributes)
+                .withTags(Set.of("tag1", "tag2"))
+                .build();
+        final Event event = JacksonEvent.builder()
+                .withData(Map.of("message", "hello \u4e16\u754c", "count", 3))
+                .withEventMetadata(eventMetadata)
+                .build();
+
+        final PeerForwardingEvents outputEvents = objectUnderTest.deserialize(
+                objectUnderTest.serialize(new PeerForwardingEvents(List.of(event), PLUGIN_ID, PIPELINE_NAME)));
+
+        final Event outputEvent = outputEvents.getEvents().get(0);
+        assertThat(outputEvent.getMetadata().getEventType(), equalTo("LOG"));
+        assertThat(outputEvent.getMetadata().getTimeReceived(), equalTo(timeReceived));
+        assertThat(outputEvent.getMetadata().getExternalOriginationTime(), equalTo(externalOriginationTime));
+        assertThat(outputEvent.getMetadata().getAttributes(), equalTo(attributes));
+        assertThat(outputEvent.getMetadata().getTags(), equalTo(Set.of("tag1", "tag2")));
+        assertThat(outputEvent.get("message", String.class), equalTo("hello \u4e16\u754c"));
+        assertThat(outputEvent.get("count", Integer.class), equalTo(3));
+    }
+
+    @Test
+    void testCodec_writes_time_attributes_as_strings() throws IOException {
+        final Instant instant = Instant.ofEpochSecond(1_700_000_000L, 123_456_789);
+        final Event event = JacksonEvent.builder()
+                .withData(Map.of("message", "hello"))
+                .withEventMetadata(DefaultEventMetadata.builder()
+                        .withEventType("LOG")
+                        .withAttributes(Map.of("instant_key", instant))
+                        .build())
+                .build();
+
+        final PeerForwardingEvents outputEvents = objectUnderTest.deserialize(
+                objectUnderTest.serialize(new PeerForwardingEvents(List.of(event), PLUGIN_ID, PIPELINE_NAME)));
+
+        final Object outputInstant = outputEvents.getEvents().get(0).getMetadata().getAttribute("instant_key");
+        assertThat(outputInstant, equalTo(instant.toString()));
+        assertThat(Instant.parse((String) outputInstant), equalTo(instant));
+    }
+
+    @Test
+    void testDeserialize_with_more_events_than_the_maximum_throws() throws IOException {
+        final int maxEvents = 10;
+        final byte[] bytes = objectUnderTest.serialize(generatePeerForwardingEvents(maxEvents + 1));
+
+        final SmilePeerForwarderCodec limitedCodec = new SmilePeerForwarderCodec(maxEvents);
+
+        assertThrows(IOException.class, () -> limitedCodec.deserialize(bytes));
+        assertThat(limitedCodec.deserialize(objectUnderTest.serialize(generatePeerForwardingEvents(maxEvents))).getEvents().size(),
+                equalTo(maxEvents));
+    }
+
+    @Test
+    void testCodec_without_optional_metadata() throws IOException {
+        final Event event = JacksonEvent.builder()
+                .withData(Collections.emptyMap())
+                .withEventType("event")
+                .build();
+
+        final PeerForwardingEvents outputEvents = objectUnderTest.deserialize(
+                objectUnderTest.serialize(new PeerForwardingEvents(List.of(event), PLUGIN_ID, PIPELINE_NAME)));
+
+        final Event outputEvent = outputEvents.getEvents().get(0);
+        assertThat(outputEvent.getMetadata().getExternalOriginationTime(), nullValue());
+        assertThat(outputEvent.getMetadata().getAttributes().isEmpty(), equalTo(true));
+        assertThat(outputEvent.getMetadata().getTags().isEmpty(), equalTo(true));
+        assertThat(outputEvent.getMetadata().getTimeReceived(), equalTo(event.getMetadata().getTimeReceived()));
+    }
+
+    @Test
+    void testCodec_with_trace_events_creates_spans() throws IOException {
+        final Span span = JacksonSpan.builder()
+                .withSpanId("span_id")
+                .withTraceId("trace_id")
+                .withTraceState("trace_state")
+                .withParentSpanId("parent_span_id")
+                .withName("name")
+                .withServiceName("service_name")
+                .withKind("SPAN_KIND_SERVER")
+                .withStartTime("2020-01-01T00:00:00Z")
+                .withEndTime("2020-01-01T00:00:01Z")
+                .withDurationInNanos(1_000_000_000L)
+                .withTraceGroup("trace_group")
+                .withTraceGroupFields(DefaultTraceGroupFields.builder()
+                        .withDurationInNanos(1_000_000_000L)
+                        .withStatusCode(200)
+                        .withEndTime("2020-01-01T00:00:01Z")
+                        .build())
+                .build();
+
+        final PeerForwardingEvents outputEvents = objectUnderTest.deserialize(
+                objectUnderTest.serialize(new PeerForwardingEvents(List.of(span), PLUGIN_ID, PIPELINE_NAME)));
+
+        final Event outputEvent = outputEvents.getEvents().get(0);
+        assertThat(outputEvent, instanceOf(Span.class));
+        assertThat(((Span) outputEvent).getTraceId(), equalTo("trace_id"));
+        assertThat(((Span) outputEvent).getServiceName(), equalTo("service_name"));
+        assertThat(outputEvent.toJsonString(), equalTo(span.toJsonString()));
+    }
+
+    @Test
+    void testCodec_with_null_events() throws IOException {
+        final PeerForwardingEvents outputEvents = objectUnderTest.deserialize(
+                objectUnderTest.serialize(new PeerForwardingEvents(null, PLUGIN_ID, PIPELINE_NAME)));
+
+        assertThat(outputEvents.getEvents(), nullValue());
+        assertThat(outputEvents.getDestinationPluginId(), equalTo(PLUGIN_ID));
+    }
+
+    @Test
+    void isSmile_returns_true_for_serialized_events() throws IOException {
+        assertThat(SmilePeerForwarderCodec.isSmile(objectUnderTest.serialize(generatePeerForwardingEvents(1))), equalTo(true));
+    }
+
+    @Test
+    void isSmile_returns_false_for_other_formats() {
+        assertThat(SmilePeerForwarderCodec.isSmile(new byte[0]), equalTo(false));
+        assertThat(SmilePeerForwarderCodec.isSmile("{\"events\":[]}".getBytes(StandardCharsets.UTF_8)), equalTo(false));
+        assertThat(SmilePeerForwarderCodec.isSmile(new byte[] {(byte) 0xAC, (byte) 0xED, 0x00, 0x05}), equalTo(false));
+    }
+
+    @Test
+    void testDeserializeException() {
+        final byte[] bytes = new byte[0];
+        assertThrows(IOException.class, () -> objectUnderTest.deserialize(bytes));
+    }
+
+    @Test
+    void testDeserialize_event_without_data_throws() throws IOException {
+        final byte[] bytes = new ObjectMapper(new SmileFactory())
+                .writeValueAsBytes(Map.of(SmilePeerForwarderCodec.EVENTS, List.of(Map.of(SmilePeerForwarderCodec.EVENT_TYPE, "LOG"))));
+        assertThrows(IOException.class, () -> objectUnderTest.deserialize(bytes));
+    }
+
+    private PeerForwardingEvents generatePeerForwardingEvents(final int numEvents) {
+        final List<Event> events = new ArrayList<>();
+        for (int i = 0; i < numEvents; i++) {
+            final Map<String, Object> eventData = new HashMap<>();
+            eventData.put("key1", "value");
+            eventData.put("key2", i);
+            eventData.put("nested", Map.of("list", List.of(1.5, true, "x")));
+            final JacksonEvent event = JacksonLog.builder().withData(eventData).withEventType("LOG").build();
+            events.add(event);
+        }
+        return new PeerForwardingEvents(events, PLUGIN_ID, PIPELINE_NAME);
+    }
+}
@@ -19,6 +19,7 @@ import org.opensearch.dataprepper.pipeline.common.FutureHelper;
 import org.opensearch.dataprepper.pipeline.common.FutureHelperResult;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -27,10 +28,12 @@ import java.util.Map;
 import java.util.concurrent.Future;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -103,8 +106,8 @@ public class ProcessWorkerTest {
         final List<Record<Event>> records = new ArrayList<>();
         final Record<Event> mockRecord = mock(Record.class);
         final Event mockEvent = mock(Event.class);
-        final EventHandle eventHandle = mock(DefaultEventHandle.class);
-        when(((DefaultEventHandle) eventHandle).getAcknowledgementSet()).thenReturn(mock(AcknowledgementSet.class));
+        final DefaultEventHandle eventHandle = spy(new DefaultEventHandle(Instant.now()));
+        when(eventHandle.getAcknowledgementSet()).thenReturn(mock(AcknowledgementSet.class));
         when(mockRecord.getData()).thenReturn(mockEvent);
         when(mockEvent.getEventHandle()).thenReturn(eventHandle);
 
@@ -131,6 +134,8 @@ public class ProcessWorkerTest {
 
             processWorker.run();
         }
+
+        verify(eventHandle, never()).release(true);
     }
 
     @Test
@@ -207,6 +212,7 @@ public class ProcessWorkerTest {
         }
 
         verify(skippedProcessor, never()).execute(any());
+        verify(eventHandle, atLeastOnce()).release(true);
     }
 
     @Test
@@ -250,5 +256,60 @@ public class ProcessWorkerTest {
 
             processWorker.run();
         }
+
+        verify(eventHandle, atLeastOnce()).release(true);
+    }
+
+    @Test
+    void testProcessWorkerWithProcessorDroppingSomeRecordsAndAcknowledgmentsEnabledReleasesOnlyDroppedEvents() {
+
+        when(source.areAcknowledgementsEnabled()).thenReturn(true);
+
+        final DefaultEventHandle keptEventHandle = spy(new DefaultEventHandle(Instant.now()));
+        when(keptEventHandle.getAcknowledgementSet()).thenReturn(mock(AcknowledgementSet.class));
+        final Event keptEvent = mock(Event.class);
+        when(keptEvent.getEventHandle()).thenReturn(keptEventHandle);
+        final Record<Event> keptRecord = mock(Record.class);
+        when(keptRecord.getData()).thenReturn(keptEvent);
+
+        final DefaultEventHandle droppedEventHandle = spy(new DefaultEventHandle(Instant.now()));
+        when(droppedEventHandle.getAcknowledgementSet()).thenReturn(mock(AcknowledgementSet.class));
+        doNothing().when(droppedEventHandle).release(true);
+        final Event droppedEvent = mock(Event.class);
+        when(droppedEvent.getEventHandle()).thenReturn(droppedEventHandle);
+        final Record<Event> droppedRecord = mock(Record.class);
+        when(droppedRecord.getData()).thenReturn(droppedEvent);
+
+        final List<Record<Event>> records = List.of(keptRecord, droppedRecord);
+        final List<Record<Event>> processedRecords = List.of(keptRecord);
+
+        final CheckpointState checkpointState = mock(CheckpointState.class);
+        final Map.Entry<Collection, CheckpointState> readResult = Map.entry(records, checkpointState);
+        when(buffer.read(pipeline.getReadBatchTimeoutInMillis())).thenReturn(readResult);
+
+        final Processor processor = mock(Processor.class);
+        when(processor.execute(records)).thenReturn(processedRecords);
+        when(processor.isReadyForShutdown()).thenReturn(true);
+
+        final Processor secondProcessor = mock(Processor.class);
+        when(secondProcessor.execute(processedRecords)).thenReturn(processedRecords);
+        when(secondProcessor.isReadyForShutdown()).thenReturn(true);
+        processors = List.of(processor, secondProcessor);
+
+        final FutureHelperResult<Void> futureHelperResult = mock(FutureHelperResult.class);
+        when(futureHelperResult.getFailedReasons()).thenReturn(Collections.emptyList());
+
+
+        try (final MockedStatic<FutureHelper> futureHelperMockedStatic = mockStatic(FutureHelper.class)) {
+            futureHelperMockedStatic.when(() -> FutureHelper.awaitFuturesIndefinitely(sinkFutures))
+                    .thenReturn(futureHelperResult);
+
+            final ProcessWorker processWorker = createObjectUnderTest();
+
+            processWorker.run();
+        }
+
+        verify(keptEventHandle, never()).release(true);
+        verify(droppedEventHandle, atLeastOnce()).release(true);
     }
 }
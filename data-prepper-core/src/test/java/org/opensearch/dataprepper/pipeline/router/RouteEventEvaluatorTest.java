@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.BiPredicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -36,6 +37,10 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.anEmptyMap;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasKey;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -161,6 +166,10 @@ class RouteEventEvaluatorTest {
 
             final Record recordMatchingAllRoutes = records.get(1);
             final Event eventMatchingAllRoutes = (Event) records.get(1).getData();
+            when(evaluator.evaluateConditionals(anyList(), anyCollection(), any(BiPredicate.class)))
+                    .thenCallRealMethod();
+            when(evaluator.evaluateConditional(anyString(), anyCollection(), any(BiPredicate.class)))
+                    .thenCallRealMethod();
             for (ConditionalRoute route : routes) {
                 when(evaluator.evaluateConditional(route.getCondition(), eventMatchingAllRoutes))
                         .thenReturn(true);
@@ -201,6 +210,10 @@ class RouteEventEvaluatorTest {
 
             final Record recordMatchingAllRoutes = records.get(1);
             final Event eventMatchingAllRoutes = (Event) records.get(1).getData();
+            when(evaluator.evaluateConditionals(anyList(), anyCollection(), any(BiPredicate.class)))
+                    .thenCallRealMethod();
+            when(evaluator.evaluateConditional(anyString(), anyCollection(), any(BiPredicate.class)))
+                    .thenCallRealMethod();
             for (ConditionalRoute route : routes) {
                 when(evaluator.evaluateConditional(route.getCondition(), eventMatchingAllRoutes))
                         .thenReturn(true);
@@ -41,10 +41,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.Assert.assertFalse;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
-import org.opensearch.dataprepper.model.event.EventFactory;
 import org.opensearch.dataprepper.model.event.DefaultEventHandle;
-import org.opensearch.dataprepper.model.event.EventBuilder;
-import org.opensearch.dataprepper.model.event.EventMetadata;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSetManager;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSet;
 
@@ -59,10 +56,6 @@ public class RouterCopyRecordStrategyTests {
     private AcknowledgementSetManager acknowledgementSetManager;
     @Mock
     private AcknowledgementSet acknowledgementSet1;
-    @Mock
-    private EventFactory eventFactory;
-    @Mock
-    private EventBuilder eventBuilder;
 
     private JacksonEvent event;
 
@@ -74,7 +67,6 @@ public class RouterCopyRecordStrategyTests {
     @BeforeEach
     void setUp() {
         handleRefCount = new HashMap<>();
-        eventFactory = mock(EventFactory.class);
         acknowledgementSetManager = mock(AcknowledgementSetManager.class);
         acknowledgementSet1 = mock(AcknowledgementSet.class);
         try {
@@ -109,7 +101,7 @@ public class RouterCopyRecordStrategyTests {
     }
 
     private <C> RouterCopyRecordStrategy createObjectUnderTest(Collection<DataFlowComponent<C>> dataFlowComponents) {
-        return new RouterCopyRecordStrategy(eventFactory, acknowledgementSetManager, dataFlowComponents);
+        return new RouterCopyRecordStrategy(acknowledgementSetManager, dataFlowComponents);
     }
 
     @Test
@@ -179,6 +171,28 @@ public class RouterCopyRecordStrategyTests {
         recordsIn.forEach(recordIn -> assertFalse(recordsOutSet.contains(recordIn)));
     }
 
+    @Test
+    void test_copied_records_share_event_data_until_modified() {
+        Collection<DataFlowComponent<PipelineConnector>> dataFlowComponents = new ArrayList<>();
+        when(pipelineDataFlowComponent.getComponent()).thenReturn(new PipelineConnector());
+        for (int i = 0; i < 3; i++) {
+            dataFlowComponents.add(pipelineDataFlowComponent);
+        }
+
+        final RouterCopyRecordStrategy getRecordStrategy = createObjectUnderTest(dataFlowComponents);
+        Record firstRecord = recordsIn.iterator().next();
+        final Event firstEvent = (Event) getRecordStrategy.getRecord(firstRecord).getData();
+        final Event copiedEvent = (Event) getRecordStrategy.getRecord(firstRecord).getData();
+        assertThat(copiedEvent, not(sameInstance(firstEvent)));
+        assertThat(copiedEvent.getJsonNode(), sameInstance(firstEvent.getJsonNode()));
+
+        final String key = UUID.randomUUID().toString();
+        copiedEvent.put(key, UUID.randomUUID().toString());
+        assertTrue(copiedEvent.containsKey(key));
+        assertFalse(firstEvent.containsKey(key));
+        assertThat(firstEvent.toMap(), equalTo(event.toMap()));
+    }
+
     @Test
     void test_one_record_with_acknowledgements() {
         DataFlowComponent<TestComponent> dataFlowComponent = mock(DataFlowComponent.class);
@@ -247,11 +261,6 @@ public class RouterCopyRecordStrategyTests {
             }).when(acknowledgementSet1).add(any(JacksonEvent.class));
         } catch (Exception e){}
 
-        eventBuilder = mock(EventBuilder.class);
-        when(eventBuilder.withEventMetadata(any(EventMetadata.class))).thenReturn(eventBuilder);
-        when(eventBuilder.withData(any(Map.class))).thenReturn(eventBuilder);
-        when(eventBuilder.build()).thenReturn(JacksonEvent.fromEvent(event));
-        when(eventFactory.eventBuilder(EventBuilder.class)).thenReturn(eventBuilder);
         Record firstRecord = recordsIn.iterator().next();
         DefaultEventHandle firstHandle = (DefaultEventHandle)((Event)firstRecord.getData()).getEventHandle();
         Record recordOut = getRecordStrategy.getRecord(firstRecord);
@@ -285,11 +294,6 @@ public class RouterCopyRecordStrategyTests {
             }).when(acknowledgementSet1).add(any(JacksonEvent.class));
         } catch (Exception e){}
 
-        eventBuilder = mock(EventBuilder.class);
-        when(eventBuilder.withEventMetadata(any(EventMetadata.class))).thenReturn(eventBuilder);
-        when(eventBuilder.withData(any(Map.class))).thenReturn(eventBuilder);
-        when(eventBuilder.build()).thenReturn(JacksonEvent.fromEvent(event));
-        when(eventFactory.eventBuilder(EventBuilder.class)).thenReturn(eventBuilder);
         Collection<Record> recordsOut = getRecordStrategy.getAllRecords(recordsIn);
         assertThat(recordsOut.size(), equalTo(recordsIn.size()));
 
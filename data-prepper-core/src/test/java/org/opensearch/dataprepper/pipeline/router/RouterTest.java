@@ -6,6 +6,7 @@
 package org.opensearch.dataprepper.pipeline.router;
 
 import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.acknowledgements.InactiveAcknowledgementSetManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -15,6 +16,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.parser.DataFlowComponent;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.EventHandle;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.pipeline.PipelineConnector;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -24,12 +27,18 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -111,6 +120,81 @@ class RouterTest {
         assertThrows(NullPointerException.class, () -> objectUnderTest.route(recordsIn, dataFlowComponents, getRecordStrategy, null));
     }
 
+    @Test
+    void route_creates_the_copies_for_all_pipeline_connectors_before_any_connector_receives_records() {
+        final Record<Event> record = new Record<>(JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Map.of("nested", Map.of("key", "original")))
+                .build());
+        recordsIn = List.of(record);
+        when(routeEventEvaluator.evaluateEventRoutes(recordsIn)).thenReturn(Collections.emptyMap());
+
+        final DataFlowComponent<PipelineConnector<Record<Event>>> firstConnector = mock(DataFlowComponent.class);
+        final DataFlowComponent<PipelineConnector<Record<Event>>> secondConnector = mock(DataFlowComponent.class);
+        final PipelineConnector<Record<Event>> firstPipelineConnector = new PipelineConnector<>();
+        when(firstConnector.getComponent()).thenReturn(firstPipelineConnector);
+        when(firstConnector.getRoutes()).thenReturn(Collections.emptySet());
+        when(secondConnector.getComponent()).thenReturn(new PipelineConnector<>());
+        when(secondConnector.getRoutes()).thenReturn(Collections.emptySet());
+        final List<DataFlowComponent<PipelineConnector<Record<Event>>>> connectors = List.of(firstConnector, secondConnector);
+
+        final RouterGetRecordStrategy copyRecordStrategy = new RouterCopyRecordStrategy(InactiveAcknowledgementSetManager.getInstance(), connectors);
+        final List<Collection<Record>> receivedRecords = new CopyOnWriteArrayList<>();
+        final List<Collection<Record>> receivedWhileCopying = new ArrayList<>();
+        final RouterGetRecordStrategy mutatingRecordStrategy = new RouterGetRecordStrategy() {
+            @Override
+            public Record getRecord(final Record record) {
+                receivedWhileCopying.addAll(receivedRecords);
+                mutateReceivedRecords(receivedRecords);
+                return copyRecordStrategy.getRecord(record);
+            }
+
+            @Override
+            public Collection<Record> getAllRecords(final Collection<Record> allRecords) {
+                receivedWhileCopying.addAll(receivedRecords);
+                mutateReceivedRecords(receivedRecords);
+                return copyRecordStrategy.getAllRecords(allRecords);
+            }
+        };
+
+        final Map<PipelineConnector<Record<Event>>, Collection<Record>> recordsByConnector = new HashMap<>();
+        createObjectUnderTestWithDataFlowComponentRouter().route(recordsIn, connectors, mutatingRecordStrategy, (connector, records) -> {
+            recordsByConnector.put(connector, records);
+            receivedRecords.add(records);
+            if (connector == firstPipelineConnector) {
+                mutateReceivedRecords(List.of(records));
+            }
+        });
+
+        assertThat(receivedWhileCopying, empty());
+        assertThat(receivedRecords.size(), equalTo(2));
+        final Event firstEvent = (Event) recordsByConnector.get(firstPipelineConnector).iterator().next().getData();
+        final Event secondEvent = (Event) recordsByConnector.get(secondConnector.getComponent()).iterator().next().getData();
+        assertThat(secondEvent, not(sameInstance(firstEvent)));
+        assertThat(firstEvent.get("nested/key", String.class), equalTo("modified"));
+        assertThat(secondEvent.get("nested/key", String.class), equalTo("original"));
+    }
+
+    /**
+     * Modifies the records on another thread, as a sink or the sub-pipeline of a pipeline connector would.
+     */
+    private static void mutateReceivedRecords(final List<Collection<Record>> receivedRecords) {
+        final Thread mutatingThread = new Thread(() -> {
+            for (final Collection<Record> records : receivedRecords) {
+                for (final Record record : records) {
+                    ((Event) record.getData()).put("nested/key", "modified");
+                }
+            }
+        });
+        mutatingThread.start();
+        try {
+            mutatingThread.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
     @Nested
     class WithEmptyRecords {
 
@@ -26,39 +26,50 @@ public class CidrExpressionFunction implements ExpressionFunction {
 
     @Override
     public Object evaluate(final List<Object> args, Event event, Function<Object, Object> convertLiteralType) {
+        final List<String> argStrings = getArgumentStrings(args);
+        return isIpInCidr(event.get(argStrings.get(0), String.class), parseCidrBlocks(argStrings));
+    }
+
+    /**
+     * Parses the CIDR block arguments once so that each evaluation only has to parse the address from the event.
+     */
+    @Override
+    public CompiledExpression compile(final List<Object> args, final Function<Object, Object> convertLiteralType) {
+        final List<String> argStrings = getArgumentStrings(args);
+        final String ipAddressKey = argStrings.get(0);
+        final List<IPAddress> cidrBlocks = parseCidrBlocks(argStrings);
+        return event -> isIpInCidr(event.get(ipAddressKey, String.class), cidrBlocks);
+    }
+
+    private List<String> getArgumentStrings(final List<Object> args) {
         if (args.size() <= 1) {
             throw new IllegalArgumentException(FUNCTION_NAME + "() takes at least two arguments");
         }
 
-        final List<String> argStrings;
         try {
-            argStrings = args.stream()
+            return args.stream()
                     .map(arg -> ((String)arg).trim())
                     .collect(Collectors.toList());
         } catch (Exception e) {
             throw new IllegalArgumentException(
                     "Arguments in " + FUNCTION_NAME + "() function should be of Json Pointer type or String type");
         }
+    }
 
-        final String ipAddressInEvent = event.get(argStrings.get(0), String.class);
-        final List<String> cidrBlockStrs = argStrings.subList(1, argStrings.size()).stream()
+    private List<IPAddress> parseCidrBlocks(final List<String> argStrings) {
+        return argStrings.subList(1, argStrings.size()).stream()
                 .map(str -> str.substring(1, str.length() - 1))
+                .map(blockStr -> new IPAddressString(blockStr).getAddress())
                 .collect(Collectors.toList());
-
-        return isIpInCidr(ipAddressInEvent, cidrBlockStrs);
     }
 
-    private boolean isIpInCidr(final String ipAddressStr, final List<String> cidrBlockStrs) {
+    private boolean isIpInCidr(final String ipAddressStr, final List<IPAddress> cidrBlocks) {
         if (Objects.isNull(ipAddressStr)) {
             // The IP address field is null or cannot be found in the event
             return false;
         }
 
         IPAddress address = new IPAddressString(ipAddressStr).getAddress();
-        List<IPAddress> cidrBlocks = cidrBlockStrs.stream()
-                .map(blockStr -> new IPAddressString(blockStr).getAddress())
-                .collect(Collectors.toList());
-
         for (IPAddress cidrBlock : cidrBlocks) {
             if (cidrBlock.contains(address)) {
                 return true;
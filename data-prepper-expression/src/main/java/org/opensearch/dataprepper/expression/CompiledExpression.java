@@ -0,0 +1,34 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+
+/**
+ * @since 2.8
+ * A statement which has been compiled once from its {@link org.antlr.v4.runtime.tree.ParseTree} into a tree of
+ * evaluator nodes. A compiled expression holds no per-event state, so a single instance may be evaluated against
+ * many events from many threads.
+ */
+@FunctionalInterface
+interface CompiledExpression {
+    /**
+     * @since 2.8
+     * Evaluates the compiled expression, resolving external references with the provided event.
+     *
+     * @param event event used to resolve external references
+     * @return result of the evaluation
+     */
+    Object evaluate(final Event event);
+
+    /**
+     * @since 2.8
+     * @return true if this expression yields the same result for every event
+     */
+    default boolean isConstant() {
+        return false;
+    }
+}
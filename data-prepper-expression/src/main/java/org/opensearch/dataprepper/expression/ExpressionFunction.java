@@ -23,4 +23,15 @@ interface ExpressionFunction {
      * @since 2.3
      */
     Object evaluate(final List<Object> args, Event event, Function<Object, Object> convertLiteralType);
+
+    /**
+     * prepares the function for repeated evaluation with fixed arguments. Functions can override this to validate
+     * and pre-process their arguments once instead of on every evaluation.
+     * @param args list of arguments to the function
+     * @return a compiled expression which evaluates the function against an event
+     * @since 2.8
+     */
+    default CompiledExpression compile(final List<Object> args, final Function<Object, Object> convertLiteralType) {
+        return event -> evaluate(args, event, convertLiteralType);
+    }
 }
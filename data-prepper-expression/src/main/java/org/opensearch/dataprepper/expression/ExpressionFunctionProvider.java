@@ -28,5 +28,12 @@ public class ExpressionFunctionProvider {
         }
         return expressionFunctionsMap.get(functionName).evaluate(argList, event, convertLiteralType);
     }
+
+    public CompiledExpression compileFunction(final String functionName, final List<Object> argList, Function<Object, Object> convertLiteralType) {
+        if (!expressionFunctionsMap.containsKey(functionName)) {
+            throw new RuntimeException("Unknown function in the expression");
+        }
+        return expressionFunctionsMap.get(functionName).compile(argList, convertLiteralType);
+    }
     
 }
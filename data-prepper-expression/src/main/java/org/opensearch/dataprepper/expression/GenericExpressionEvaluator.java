@@ -5,14 +5,21 @@
 
 package org.opensearch.dataprepper.expression;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.record.Record;
 
 import javax.inject.Inject;
 import javax.inject.Named;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.BiPredicate;
+import java.util.stream.Collectors;
 
 /**
  * Public class that {@link org.opensearch.dataprepper.model.processor.Processor},
@@ -20,13 +27,28 @@ import java.util.List;
  */
 @Named
 class GenericExpressionEvaluator implements ExpressionEvaluator {
+    /**
+     * Statements are normally configured, but callers can also build them for each event. Bounding the caches keeps
+     * those statements from growing the caches without limit.
+     */
+    static final int MAX_COMPILED_EXPRESSIONS = 1_000;
+    static final int MAX_COMPILED_EXPRESSION_GROUPS = 100;
+
     private final Parser<ParseTree> parser;
-    private final Evaluator<ParseTree, Event> evaluator;
+    private final ParseTreeCompiler compiler;
+    private final Cache<String, CompiledExpression> compiledExpressions;
+    private final Cache<List<String>, List<CompiledExpression>> compiledExpressionGroups;
 
     @Inject
-    public GenericExpressionEvaluator(final Parser<ParseTree> parser, final Evaluator<ParseTree, Event> evaluator) {
+    public GenericExpressionEvaluator(final Parser<ParseTree> parser, final ParseTreeCompiler compiler) {
         this.parser = parser;
-        this.evaluator = evaluator;
+        this.compiler = compiler;
+        compiledExpressions = Caffeine.newBuilder()
+                .maximumSize(MAX_COMPILED_EXPRESSIONS)
+                .build();
+        compiledExpressionGroups = Caffeine.newBuilder()
+                .maximumSize(MAX_COMPILED_EXPRESSION_GROUPS)
+                .build();
     }
 
     /**
@@ -37,14 +59,138 @@ class GenericExpressionEvaluator implements ExpressionEvaluator {
     @Override
     public Object evaluate(final String statement, final Event context) {
         try {
-            final ParseTree parseTree = parser.parse(statement);
-            return evaluator.evaluate(parseTree, context);
+            return getCompiledExpression(statement).evaluate(context);
         }
         catch (final Exception exception) {
             throw new ExpressionEvaluationException("Unable to evaluate statement \"" + statement + "\"", exception);
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * The statement is compiled once for the whole batch. If it cannot be compiled, the failure handler is called for
+     * every event.
+     */
+    @Override
+    public BitSet evaluateConditional(final String statement,
+                                      final Collection<Record<Event>> records,
+                                      final BiPredicate<Event, Exception> failureHandler) {
+        final CompiledExpression compiledExpression;
+        try {
+            compiledExpression = getCompiledExpression(statement);
+        } catch (final Exception exception) {
+            final ExpressionEvaluationException evaluationException =
+                    new ExpressionEvaluationException("Unable to evaluate statement \"" + statement + "\"", exception);
+            return failAll(records, evaluationException, failureHandler);
+        }
+
+        final BitSet results = new BitSet(records.size());
+        int index = 0;
+        for (final Record<Event> record : records) {
+            final Event event = record.getData();
+            results.set(index++, evaluateConditional(statement, compiledExpression, event, failureHandler));
+        }
+        return results;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The statements are compiled together so that a sub-expression which appears in more than one statement is
+     * evaluated once per event. If any statement cannot be compiled, each statement is evaluated on its own.
+     */
+    @Override
+    public List<BitSet> evaluateConditionals(final List<String> statements,
+                                             final Collection<Record<Event>> records,
+                                             final BiPredicate<Event, Exception> failureHandler) {
+        final List<CompiledExpression> compiledGroup;
+        try {
+            compiledGroup = getCompiledExpressionGroup(statements);
+        } catch (final Exception exception) {
+            return statements.stream()
+                    .map(statement -> evaluateConditional(statement, records, failureHandler))
+                    .collect(Collectors.toList());
+        }
+
+        final List<BitSet> results = new ArrayList<>(statements.size());
+        for (int i = 0; i < statements.size(); i++) {
+            results.add(new BitSet(records.size()));
+        }
+
+        SharedExpression.openResultScope();
+        try {
+            int index = 0;
+            for (final Record<Event> record : records) {
+                final Event event = record.getData();
+                for (int i = 0; i < statements.size(); i++) {
+                    results.get(i).set(index, evaluateConditional(statements.get(i), compiledGroup.get(i), event, failureHandler));
+                }
+                SharedExpression.clearResults();
+                index++;
+            }
+        } finally {
+            SharedExpression.closeResultScope();
+        }
+        return results;
+    }
+
+    private static boolean evaluateConditional(final String statement,
+                                               final CompiledExpression compiledExpression,
+                                               final Event event,
+                                               final BiPredicate<Event, Exception> failureHandler) {
+        final Object result;
+        try {
+            result = compiledExpression.evaluate(event);
+        } catch (final Exception exception) {
+            return failureHandler.test(event,
+                    new ExpressionEvaluationException("Unable to evaluate statement \"" + statement + "\"", exception));
+        }
+        if (result instanceof Boolean) {
+            return (Boolean) result;
+        }
+        return failureHandler.test(event, new ClassCastException("Unexpected expression return type of " +
+                (result == null ? null : result.getClass())));
+    }
+
+    private static BitSet failAll(final Collection<Record<Event>> records,
+                                  final Exception exception,
+                                  final BiPredicate<Event, Exception> failureHandler) {
+        final BitSet results = new BitSet(records.size());
+        int index = 0;
+        for (final Record<Event> record : records) {
+            results.set(index++, failureHandler.test(record.getData(), exception));
+        }
+        return results;
+    }
+
+    private List<CompiledExpression> getCompiledExpressionGroup(final List<String> statements) {
+        List<CompiledExpression> compiledGroup = compiledExpressionGroups.getIfPresent(statements);
+        if (compiledGroup == null) {
+            final List<String> statementsKey = List.copyOf(statements);
+            final List<ParseTree> parseTrees = statementsKey.stream()
+                    .map(parser::parse)
+                    .collect(Collectors.toList());
+            compiledGroup = compiler.compileAll(parseTrees);
+            compiledExpressionGroups.put(statementsKey, compiledGroup);
+        }
+        return compiledGroup;
+    }
+
+    /**
+     * Statements are compiled on first use and the compiled form is reused for subsequent evaluations, until the
+     * statement is evicted from the bounded cache. Statements which fail to compile are not cached.
+     */
+    private CompiledExpression getCompiledExpression(final String statement) {
+        CompiledExpression compiledExpression = compiledExpressions.getIfPresent(statement);
+        if (compiledExpression == null) {
+            final ParseTree parseTree = parser.parse(statement);
+            compiledExpression = compiler.compile(parseTree);
+            compiledExpressions.put(statement, compiledExpression);
+        }
+        return compiledExpression;
+    }
+
     @Override
     public Boolean isValidExpressionStatement(final String statement) {
         try {
@@ -0,0 +1,38 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+
+import java.util.function.Function;
+
+/**
+ * A {@link CompiledExpression} which resolves a JSON pointer against the event. The pointer text is extracted
+ * from the token and compiled into an {@link EventKey} once at compile time. Pointers which are not valid event
+ * keys are passed through as strings so that the event reports the error on evaluation.
+ */
+class JsonPointerExpression implements CompiledExpression {
+    private final String jsonPointer;
+    private final EventKey eventKey;
+    private final Function<Object, Object> convertLiteralType;
+
+    JsonPointerExpression(final String jsonPointer, final Function<Object, Object> convertLiteralType) {
+        this.jsonPointer = jsonPointer;
+        this.eventKey = JacksonEvent.isValidEventKey(jsonPointer) ? EventKey.of(jsonPointer) : null;
+        this.convertLiteralType = convertLiteralType;
+    }
+
+    @Override
+    public Object evaluate(final Event event) {
+        final Object value = eventKey != null ? event.get(eventKey, Object.class) : event.get(jsonPointer, Object.class);
+        if (value == null) {
+            return null;
+        }
+        return convertLiteralType.apply(value);
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+
+/**
+ * A {@link CompiledExpression} which applies an {@link Operator} to the results of its operand expressions.
+ */
+class OperatorExpression implements CompiledExpression {
+    private final Operator<?> operator;
+    private final CompiledExpression[] operands;
+    private final String partialStatement;
+
+    OperatorExpression(final Operator<?> operator, final CompiledExpression[] operands, final String partialStatement) {
+        this.operator = operator;
+        this.operands = operands;
+        this.partialStatement = partialStatement;
+    }
+
+    @Override
+    public Object evaluate(final Event event) {
+        final Object[] args = new Object[operands.length];
+        for (int i = 0; i < operands.length; i++) {
+            args[i] = operands[i].evaluate(event);
+        }
+        try {
+            return operator.evaluate(args);
+        } catch (final Exception e) {
+            throw new ExpressionEvaluationException("Unable to evaluate the part of input statement: "
+                    + partialStatement, e);
+        }
+    }
+}
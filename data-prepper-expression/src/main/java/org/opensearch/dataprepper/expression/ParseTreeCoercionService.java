@@ -43,24 +43,7 @@ class ParseTreeCoercionService {
             case DataPrepperExpressionParser.Function:
                 final int funcNameIndex = nodeStringValue.indexOf("(");
                 final String functionName = nodeStringValue.substring(0, funcNameIndex);
-                final int argsEndIndex = nodeStringValue.indexOf(")", funcNameIndex);
-                final String argsStr = nodeStringValue.substring(funcNameIndex+1, argsEndIndex);
-                // Split at commas if there's no backslash before the commas, because commas can be part of a function parameter
-                final String[] args = argsStr.split("(?<!\\\\),");
-                List<Object> argList = new ArrayList<>();
-                for (final String arg: args) {
-                    String trimmedArg = arg.trim();
-                    if (trimmedArg.charAt(0) == '/') {
-                        argList.add(trimmedArg);
-                    } else if (trimmedArg.charAt(0) == '"') {
-                        if (trimmedArg.length() < 2 || trimmedArg.charAt(trimmedArg.length()-1) != '"') {
-                            throw new RuntimeException("Invalid string argument: check if any argument is missing a closing double quote or contains comma that's not escaped with `\\`.");
-                        }
-                        argList.add(trimmedArg);
-                    } else {
-                        throw new RuntimeException("Unsupported type passed as function argument");
-                    }
-                }
+                final List<Object> argList = parseFunctionArguments(nodeStringValue, funcNameIndex);
                 return expressionFunctionProvider.provideFunction(functionName, argList, event, convertLiteralType);
             case DataPrepperExpressionParser.EscapedJsonPointer:
                 final String jsonPointerWithoutQuotes = nodeStringValue.substring(1, nodeStringValue.length() - 1);
@@ -91,6 +74,32 @@ class ParseTreeCoercionService {
         }
     }
 
+    /**
+     * @since 2.8
+     * Converts a primary terminal node into a {@link CompiledExpression}. Literals are coerced once, JSON pointers
+     * are extracted from the token text and function arguments are parsed so that none of this is repeated per event.
+     *
+     * @param node primary terminal node
+     * @return compiled expression for the node
+     */
+    public CompiledExpression compilePrimaryTerminalNode(final TerminalNode node) {
+        final int nodeType = node.getSymbol().getType();
+        final String nodeStringValue = node.getText();
+        switch (nodeType) {
+            case DataPrepperExpressionParser.Function:
+                final int funcNameIndex = nodeStringValue.indexOf("(");
+                final String functionName = nodeStringValue.substring(0, funcNameIndex);
+                final List<Object> argList = parseFunctionArguments(nodeStringValue, funcNameIndex);
+                return expressionFunctionProvider.compileFunction(functionName, argList, convertLiteralType);
+            case DataPrepperExpressionParser.EscapedJsonPointer:
+                return new JsonPointerExpression(nodeStringValue.substring(1, nodeStringValue.length() - 1), convertLiteralType);
+            case DataPrepperExpressionParser.JsonPointer:
+                return new JsonPointerExpression(nodeStringValue, convertLiteralType);
+            default:
+                return new ConstantExpression(coercePrimaryTerminalNode(node, null));
+        }
+    }
+
     public <T> T coerce(final Object obj, Class<T> clazz) throws ExpressionCoercionException {
         if (obj.getClass().isAssignableFrom(clazz)) {
             return (T) obj;
@@ -98,6 +107,28 @@ class ParseTreeCoercionService {
         throw new ExpressionCoercionException("Unable to cast " + obj.getClass().getName() + " into " + clazz.getName());
     }
 
+    private List<Object> parseFunctionArguments(final String nodeStringValue, final int funcNameIndex) {
+        final int argsEndIndex = nodeStringValue.indexOf(")", funcNameIndex);
+        final String argsStr = nodeStringValue.substring(funcNameIndex+1, argsEndIndex);
+        // Split at commas if there's no backslash before the commas, because commas can be part of a function parameter
+        final String[] args = argsStr.split("(?<!\\\\),");
+        List<Object> argList = new ArrayList<>();
+        for (final String arg: args) {
+            String trimmedArg = arg.trim();
+            if (trimmedArg.charAt(0) == '/') {
+                argList.add(trimmedArg);
+            } else if (trimmedArg.charAt(0) == '"') {
+                if (trimmedArg.length() < 2 || trimmedArg.charAt(trimmedArg.length()-1) != '"') {
+                    throw new RuntimeException("Invalid string argument: check if any argument is missing a closing double quote or contains comma that's not escaped with `\\`.");
+                }
+                argList.add(trimmedArg);
+            } else {
+                throw new RuntimeException("Unsupported type passed as function argument");
+            }
+        }
+        return argList;
+    }
+
     private Object resolveJsonPointerValue(final String jsonPointer, final Event event) {
         final Object value = event.get(jsonPointer, Object.class);
         if (value == null) {
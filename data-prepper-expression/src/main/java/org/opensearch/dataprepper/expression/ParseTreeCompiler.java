@@ -0,0 +1,81 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @since 2.8
+ * Compiles a {@link ParseTree} into a {@link CompiledExpression} which can be evaluated against events without
+ * walking the parse tree again.
+ */
+@Named
+class ParseTreeCompiler {
+    private final OperatorProvider operatorProvider;
+    private final ParseTreeWalker walker;
+    private final ParseTreeCoercionService coercionService;
+
+    @Inject
+    public ParseTreeCompiler(final OperatorProvider operatorProvider, final ParseTreeWalker walker,
+                             final ParseTreeCoercionService coercionService) {
+        this.operatorProvider = operatorProvider;
+        this.walker = walker;
+        this.coercionService = coercionService;
+    }
+
+    public CompiledExpression compile(final ParseTree parseTree) {
+        final ParseTreeCompilerListener listener = new ParseTreeCompilerListener(operatorProvider, coercionService);
+        walker.walk(listener, parseTree);
+        return listener.getResult();
+    }
+
+    /**
+     * @since 2.8
+     * Compiles a group of parse trees which will be evaluated together. Sub-expressions which occur more than once
+     * across the group are compiled into a single {@link SharedExpression} instance.
+     *
+     * @param parseTrees parse trees to compile
+     * @return compiled expressions in the order of the parse trees
+     */
+    public List<CompiledExpression> compileAll(final List<ParseTree> parseTrees) {
+        final Map<String, Integer> occurrences = new HashMap<>();
+        for (final ParseTree parseTree : parseTrees) {
+            compile(parseTree, (text, expression) -> {
+                occurrences.merge(text, 1, Integer::sum);
+                return expression;
+            });
+        }
+
+        final Map<String, CompiledExpression> sharedExpressions = new HashMap<>();
+        final SubexpressionRegistry sharingRegistry = (text, expression) -> {
+            if (occurrences.getOrDefault(text, 0) > 1) {
+                return sharedExpressions.computeIfAbsent(text, key -> new SharedExpression(expression));
+            }
+            return expression;
+        };
+
+        final List<CompiledExpression> compiledExpressions = new ArrayList<>(parseTrees.size());
+        for (final ParseTree parseTree : parseTrees) {
+            compiledExpressions.add(compile(parseTree, sharingRegistry));
+        }
+        return compiledExpressions;
+    }
+
+    private CompiledExpression compile(final ParseTree parseTree, final SubexpressionRegistry subexpressionRegistry) {
+        final ParseTreeCompilerListener listener =
+                new ParseTreeCompilerListener(operatorProvider, coercionService, subexpressionRegistry);
+        walker.walk(listener, parseTree);
+        return listener.getResult();
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionBaseListener;
+import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionListener;
+import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionParser;
+
+import java.util.Stack;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * @since 2.8
+ * This listener implements {@link DataPrepperExpressionListener} to build a {@link CompiledExpression} from the
+ * {@link org.antlr.v4.runtime.tree.ParseTree} representation of an expression while
+ * {@link org.antlr.v4.runtime.tree.ParseTreeWalker} traverses through the {@link org.antlr.v4.runtime.tree.ParseTree}.
+ * Operands and operations are resolved in the same order an evaluation would, but the result is a reusable tree of
+ * evaluator nodes instead of a single value. Operations on literal operands are folded into constants and literal
+ * regex patterns are compiled ahead of time.
+ *
+ * Use case:
+ * ParseTreeWalker walker = new ParseTreeWalker();
+ * ParseTreeCompilerListener listener = new ParseTreeCompilerListener(...);
+ * walker.walk(listener, ...);
+ * final CompiledExpression result = listener.getResult();
+ */
+class ParseTreeCompilerListener extends DataPrepperExpressionBaseListener {
+
+    private final OperatorProvider operatorProvider;
+    private final ParseTreeCoercionService coercionService;
+    private final Stack<Integer> operatorSymbolStack;
+    private final Stack<CompiledExpression> operandStack;
+    private final SubexpressionRegistry subexpressionRegistry;
+
+    public ParseTreeCompilerListener(final OperatorProvider operatorProvider,
+                                     final ParseTreeCoercionService coercionService) {
+        this(operatorProvider, coercionService, SubexpressionRegistry.NONE);
+    }
+
+    public ParseTreeCompilerListener(final OperatorProvider operatorProvider,
+                                     final ParseTreeCoercionService coercionService,
+                                     final SubexpressionRegistry subexpressionRegistry) {
+        this.coercionService = coercionService;
+        this.operatorProvider = operatorProvider;
+        this.subexpressionRegistry = subexpressionRegistry;
+        operatorSymbolStack = new Stack<>();
+        operandStack = new Stack<>();
+    }
+
+    public CompiledExpression getResult() {
+        if (operandStack.size() != 1) {
+            throw new IllegalStateException("The ParseTreeCompilerListener has not been walked through exactly once by " +
+                    "a ParseTreeWalker.");
+        }
+        return operandStack.peek();
+    }
+
+    @Override
+    public void visitTerminal(TerminalNode node) {
+        final int nodeType = node.getSymbol().getType();
+        if (nodeType == DataPrepperExpressionParser.EOF) {
+            return;
+        }
+        if (operatorProvider.containsOperator(nodeType) || nodeType == DataPrepperExpressionParser.LPAREN) {
+            operatorSymbolStack.push(nodeType);
+        } else if (nodeType == DataPrepperExpressionParser.RPAREN) {
+            // pop LPAREN at operatorSymbolStack top
+            operatorSymbolStack.pop();
+        } else {
+            operandStack.push(register(node.getText(), coercionService.compilePrimaryTerminalNode(node)));
+        }
+    }
+
+    @Override
+    public void visitErrorNode(ErrorNode node) {
+        throw new RuntimeException("Hit error node in the parse tree: " + node.getText());
+    }
+
+    @Override
+    public void exitEveryRule(ParserRuleContext ctx) {
+        if (!operatorSymbolStack.isEmpty()) {
+            final int operatorSymbol = operatorSymbolStack.peek();
+            if (operatorSymbol != DataPrepperExpressionParser.LPAREN) {
+                final Operator<?> op = operatorProvider.getOperator(operatorSymbol);
+                if (op.shouldEvaluate(ctx)) {
+                    operatorSymbolStack.pop();
+                    compileSingleOperation(op, ctx);
+                }
+            }
+        }
+    }
+
+    private void compileSingleOperation(final Operator<?> operator, final ParserRuleContext ctx) {
+        final int numOfArgs = operator.getNumberOfOperands(ctx);
+        final CompiledExpression[] operands = new CompiledExpression[numOfArgs];
+        for (int i = numOfArgs - 1; i >= 0; i--) {
+            operands[i] = operandStack.pop();
+        }
+        final String partialStatement = getPartialStatementFromContext(ctx);
+        operandStack.push(register(partialStatement, compileOperation(operator, operands, partialStatement)));
+    }
+
+    private CompiledExpression register(final String text, final CompiledExpression expression) {
+        if (expression.isConstant()) {
+            return expression;
+        }
+        return subexpressionRegistry.register(text, expression);
+    }
+
+    private CompiledExpression compileOperation(final Operator<?> operator, final CompiledExpression[] operands,
+                                                final String partialStatement) {
+        if (allConstant(operands)) {
+            final Object[] args = new Object[operands.length];
+            for (int i = 0; i < operands.length; i++) {
+                args[i] = operands[i].evaluate(null);
+            }
+            try {
+                return new ConstantExpression(operator.evaluate(args));
+            } catch (final Exception e) {
+                // Leave the operation in place so the failure surfaces when the statement is evaluated.
+                return new OperatorExpression(operator, operands, partialStatement);
+            }
+        }
+
+        final int symbol = operator.getSymbol();
+        if ((symbol == DataPrepperExpressionParser.MATCH_REGEX_PATTERN || symbol == DataPrepperExpressionParser.NOT_MATCH_REGEX_PATTERN)
+                && operands.length == 2 && operands[1].isConstant()) {
+            final Object regex = operands[1].evaluate(null);
+            if (regex instanceof String) {
+                try {
+                    return new RegexMatchExpression(operands[0], Pattern.compile((String) regex),
+                            symbol == DataPrepperExpressionParser.NOT_MATCH_REGEX_PATTERN,
+                            DataPrepperExpressionParser.VOCABULARY.getDisplayName(symbol), partialStatement);
+                } catch (final PatternSyntaxException e) {
+                    return new OperatorExpression(operator, operands, partialStatement);
+                }
+            }
+        }
+        return new OperatorExpression(operator, operands, partialStatement);
+    }
+
+    private static boolean allConstant(final CompiledExpression[] operands) {
+        for (final CompiledExpression operand : operands) {
+            if (!operand.isConstant()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String getPartialStatementFromContext(final ParserRuleContext ctx) {
+        final Token startToken = ctx.getStart();
+        final Token stopToken = ctx.getStop();
+        final String fullStatement = startToken.getInputStream().toString();
+        return fullStatement.substring(startToken.getStartIndex(), stopToken.getStopIndex() + 1);
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+
+import java.util.regex.Pattern;
+
+/**
+ * A {@link CompiledExpression} for <code>=~</code> and <code>!~</code> operations with a literal pattern. The
+ * pattern is compiled once rather than on every evaluation.
+ */
+class RegexMatchExpression implements CompiledExpression {
+    private final CompiledExpression operand;
+    private final Pattern pattern;
+    private final boolean negate;
+    private final String displayName;
+    private final String partialStatement;
+
+    RegexMatchExpression(final CompiledExpression operand, final Pattern pattern, final boolean negate,
+                         final String displayName, final String partialStatement) {
+        this.operand = operand;
+        this.pattern = pattern;
+        this.negate = negate;
+        this.displayName = displayName;
+        this.partialStatement = partialStatement;
+    }
+
+    @Override
+    public Object evaluate(final Event event) {
+        final Object value = operand.evaluate(event);
+        if (!(value instanceof String)) {
+            throw new ExpressionEvaluationException("Unable to evaluate the part of input statement: " + partialStatement,
+                    new IllegalArgumentException(displayName + " requires left operand to be String."));
+        }
+        return pattern.matcher((String) value).matches() != negate;
+    }
+}
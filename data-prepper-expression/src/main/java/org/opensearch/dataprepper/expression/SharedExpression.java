@@ -0,0 +1,58 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * @since 2.8
+ * A {@link CompiledExpression} for a sub-expression which appears more than once within a group of statements that
+ * are evaluated together. While a result scope is open on the current thread, the result of the sub-expression is
+ * computed once per event and reused by every statement which contains it. Outside of a scope the sub-expression is
+ * evaluated on every call.
+ */
+class SharedExpression implements CompiledExpression {
+    private static final ThreadLocal<Map<SharedExpression, Object>> RESULTS = new ThreadLocal<>();
+
+    private final CompiledExpression expression;
+
+    SharedExpression(final CompiledExpression expression) {
+        this.expression = expression;
+    }
+
+    @Override
+    public Object evaluate(final Event event) {
+        final Map<SharedExpression, Object> results = RESULTS.get();
+        if (results == null) {
+            return expression.evaluate(event);
+        }
+        if (results.containsKey(this)) {
+            return results.get(this);
+        }
+        final Object result = expression.evaluate(event);
+        results.put(this, result);
+        return result;
+    }
+
+    /**
+     * Opens a result scope on the current thread. Callers must call {@link #clearResults()} before moving on to the
+     * next event and {@link #closeResultScope()} once done.
+     */
+    static void openResultScope() {
+        RESULTS.set(new IdentityHashMap<>());
+    }
+
+    static void clearResults() {
+        RESULTS.get().clear();
+    }
+
+    static void closeResultScope() {
+        RESULTS.remove();
+    }
+}
@@ -0,0 +1,18 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+/**
+ * @since 2.8
+ * Receives every non-constant sub-expression built by {@link ParseTreeCompilerListener} along with the statement text
+ * it was compiled from, and decides which expression the compiler should use in its place.
+ */
+@FunctionalInterface
+interface SubexpressionRegistry {
+    SubexpressionRegistry NONE = (text, expression) -> expression;
+
+    CompiledExpression register(final String text, final CompiledExpression expression);
+}
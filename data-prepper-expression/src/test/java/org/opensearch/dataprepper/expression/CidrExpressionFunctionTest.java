@@ -131,6 +131,24 @@ class CidrExpressionFunctionTest {
         assertThat((boolean)expressionResult, equalTo(false));
     }
 
+    @Test
+    void testCompiledFunctionMatchesCidrBlocks() {
+        final CompiledExpression compiledExpression = cidrExpressionFunction.compile(
+                List.of("/sourceIp", "\"192.0.2.0/24\"", "\"2001:0db8::/32\""), testFunction);
+        assertThat(compiledExpression.evaluate(createTestEvent(Map.of("sourceIp", "192.0.2.3"))), equalTo(true));
+        assertThat(compiledExpression.evaluate(createTestEvent(Map.of("sourceIp", "2001:0db8:aaaa:bbbb::"))), equalTo(true));
+        assertThat(compiledExpression.evaluate(createTestEvent(Map.of("sourceIp", "192.0.5.3"))), equalTo(false));
+        assertThat(compiledExpression.evaluate(createTestEvent(Map.of("destinationIp", "192.0.2.3"))), equalTo(false));
+    }
+
+    @Test
+    void testCompileWithInvalidArgumentsThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> cidrExpressionFunction.compile(List.of("/sourceIp"), testFunction));
+        assertThrows(IllegalArgumentException.class,
+                () -> cidrExpressionFunction.compile(List.of("/sourceIp", 123), testFunction));
+    }
+
     private static Stream<Arguments> ipv4AddressesInRange() {
         final String prefix = "192.0.2.";
         return IntStream.range(0, 64)
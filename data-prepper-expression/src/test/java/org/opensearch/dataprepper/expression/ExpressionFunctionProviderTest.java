@@ -54,4 +54,19 @@ class ExpressionFunctionProviderTest {
         assertThat(objectUnderTest.provideFunction(testFunctionName, List.of(), testEvent, testFunction), equalTo(testResultObject));
     }
 
+    @Test
+    void testCompileUnknownFunction() {
+        objectUnderTest = createObjectUnderTest();
+        String unknownFunctionName = RandomStringUtils.randomAlphabetic(8);
+        assertThrows(RuntimeException.class, () -> objectUnderTest.compileFunction(unknownFunctionName, List.of(), testFunction));
+    }
+
+    @Test
+    void testCompileFunctionUsesDefaultCompile() {
+        objectUnderTest = createObjectUnderTest();
+        lenient().when(expressionFunction.compile(any(List.class), any(Function.class))).thenCallRealMethod();
+        final CompiledExpression compiledExpression = objectUnderTest.compileFunction(testFunctionName, List.of(), testFunction);
+        assertThat(compiledExpression.evaluate(testEvent), equalTo(testResultObject));
+        assertThat(compiledExpression.isConstant(), equalTo(false));
+    }
 }
@@ -19,10 +19,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
 
+import java.util.BitSet;
 import java.util.List;
 import java.util.Random;
 import java.util.UUID;
+import java.util.function.BiPredicate;
 import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -46,7 +49,7 @@ class GenericExpressionEvaluatorTest {
     @Mock
     private Parser<ParseTree> parser;
     @Mock
-    private Evaluator<ParseTree, Event> evaluator;
+    private ParseTreeCompiler compiler;
     @InjectMocks
     private GenericExpressionEvaluator statementEvaluator;
 
@@ -54,29 +57,32 @@ class GenericExpressionEvaluatorTest {
     void testGivenValidParametersThenEvaluatorResultReturned() {
         final String statement = UUID.randomUUID().toString();
         final ParseTree parseTree = mock(ParseTree.class);
+        final CompiledExpression compiledExpression = mock(CompiledExpression.class);
         final Event event = mock(Event.class);
         final String expectedStr = UUID.randomUUID().toString();
 
         doReturn(parseTree).when(parser).parse(eq(statement));
-        doReturn(expectedStr).when(evaluator).evaluate(eq(parseTree), eq(event));
+        doReturn(compiledExpression).when(compiler).compile(eq(parseTree));
+        doReturn(expectedStr).when(compiledExpression).evaluate(eq(event));
 
         final Object actualStr = statementEvaluator.evaluate(statement, event);
 
         assertThat((String)actualStr, is(expectedStr));
         verify(parser).parse(eq(statement));
-        verify(evaluator).evaluate(eq(parseTree), eq(event));
+        verify(compiler).compile(eq(parseTree));
+        verify(compiledExpression).evaluate(eq(event));
 
         final Random random = new Random();
         final Integer expectedInt = random.nextInt(1000);
 
-        doReturn(parseTree).when(parser).parse(eq(statement));
-        doReturn(expectedInt).when(evaluator).evaluate(eq(parseTree), eq(event));
+        doReturn(expectedInt).when(compiledExpression).evaluate(eq(event));
 
         final Object actualInt = statementEvaluator.evaluate(statement, event);
 
         assertThat((Integer)actualInt, is(expectedInt));
-        verify(parser, times(2)).parse(eq(statement));
-        verify(evaluator, times(2)).evaluate(eq(parseTree), eq(event));
+        verify(parser).parse(eq(statement));
+        verify(compiler).compile(eq(parseTree));
+        verify(compiledExpression, times(2)).evaluate(eq(event));
     }
 
     @Test
@@ -88,22 +94,163 @@ class GenericExpressionEvaluatorTest {
         assertThrows(ExpressionEvaluationException.class, () -> statementEvaluator.evaluate(statement, null));
 
         verify(parser).parse(eq(statement));
-        verify(evaluator, times(0)).evaluate(any(), any());
+        verify(compiler, times(0)).compile(any());
+    }
+
+    @Test
+    void evaluate_with_more_statements_than_the_cache_holds_evaluates_each_statement() {
+        final ParseTree parseTree = mock(ParseTree.class);
+        final CompiledExpression compiledExpression = mock(CompiledExpression.class);
+        final Event event = mock(Event.class);
+        doReturn(parseTree).when(parser).parse(any());
+        doReturn(compiledExpression).when(compiler).compile(eq(parseTree));
+        doReturn(true).when(compiledExpression).evaluate(eq(event));
+
+        final int statementCount = GenericExpressionEvaluator.MAX_COMPILED_EXPRESSIONS + 10;
+        for (int i = 0; i < statementCount; i++) {
+            assertThat(statementEvaluator.evaluate(UUID.randomUUID().toString(), event), equalTo(true));
+        }
+
+        verify(compiler, times(statementCount)).compile(eq(parseTree));
+    }
+
+    @Test
+    void testGivenCompilerThrowsExceptionThenExceptionThrownAndStatementNotCached() {
+        final String statement = UUID.randomUUID().toString();
+        final ParseTree parseTree = mock(ParseTree.class);
+        final Event event = mock(Event.class);
+
+        doReturn(parseTree).when(parser).parse(eq(statement));
+        doThrow(new RuntimeException()).when(compiler).compile(eq(parseTree));
+
+        assertThrows(ExpressionEvaluationException.class, () -> statementEvaluator.evaluate(statement, event));
+        assertThrows(ExpressionEvaluationException.class, () -> statementEvaluator.evaluate(statement, event));
+
+        verify(parser, times(2)).parse(eq(statement));
+        verify(compiler, times(2)).compile(eq(parseTree));
     }
 
     @Test
     void testGivenEvaluatorThrowsExceptionThenExceptionThrown() {
         final String statement = UUID.randomUUID().toString();
         final ParseTree parseTree = mock(ParseTree.class);
+        final CompiledExpression compiledExpression = mock(CompiledExpression.class);
         final Event event = mock(Event.class);
 
         doReturn(parseTree).when(parser).parse(eq(statement));
-        doThrow(new RuntimeException()).when(evaluator).evaluate(eq(parseTree), eq(event));
+        doReturn(compiledExpression).when(compiler).compile(eq(parseTree));
+        doThrow(new RuntimeException()).when(compiledExpression).evaluate(eq(event));
 
         assertThrows(ExpressionEvaluationException.class, () -> statementEvaluator.evaluateConditional(statement, event));
 
         verify(parser).parse(eq(statement));
-        verify(evaluator).evaluate(eq(parseTree), eq(event));
+        verify(compiledExpression).evaluate(eq(event));
+    }
+
+    @Test
+    void evaluateConditional_for_records_compiles_once_and_returns_results_by_position() {
+        final String statement = UUID.randomUUID().toString();
+        final ParseTree parseTree = mock(ParseTree.class);
+        final CompiledExpression compiledExpression = mock(CompiledExpression.class);
+        final Event trueEvent = mock(Event.class);
+        final Event falseEvent = mock(Event.class);
+        final Event failingEvent = mock(Event.class);
+        final Event nonBooleanEvent = mock(Event.class);
+        final Event nullResultEvent = mock(Event.class);
+        final List<Record<Event>> records = List.of(new Record<>(trueEvent), new Record<>(falseEvent),
+                new Record<>(failingEvent), new Record<>(nonBooleanEvent), new Record<>(nullResultEvent));
+
+        doReturn(parseTree).when(parser).parse(eq(statement));
+        doReturn(compiledExpression).when(compiler).compile(eq(parseTree));
+        doReturn(true).when(compiledExpression).evaluate(eq(trueEvent));
+        doReturn(false).when(compiledExpression).evaluate(eq(falseEvent));
+        doThrow(new RuntimeException()).when(compiledExpression).evaluate(eq(failingEvent));
+        doReturn(1).when(compiledExpression).evaluate(eq(nonBooleanEvent));
+
+        final BiPredicate<Event, Exception> failureHandler = mock(BiPredicate.class);
+        doReturn(true).when(failureHandler).test(eq(failingEvent), any(ExpressionEvaluationException.class));
+        doReturn(false).when(failureHandler).test(eq(nonBooleanEvent), any(ClassCastException.class));
+        doReturn(true).when(failureHandler).test(eq(nullResultEvent), any(ClassCastException.class));
+
+        final BitSet results = statementEvaluator.evaluateConditional(statement, records, failureHandler);
+
+        assertThat(results.get(0), equalTo(true));
+        assertThat(results.get(1), equalTo(false));
+        assertThat(results.get(2), equalTo(true));
+        assertThat(results.get(3), equalTo(false));
+        assertThat(results.get(4), equalTo(true));
+        verify(parser).parse(eq(statement));
+        verify(compiler).compile(eq(parseTree));
+    }
+
+    @Test
+    void evaluateConditional_for_records_calls_failure_handler_for_all_events_when_statement_does_not_compile() {
+        final String statement = UUID.randomUUID().toString();
+        final Event event = mock(Event.class);
+        final List<Record<Event>> records = List.of(new Record<>(event), new Record<>(event));
+
+        doThrow(new RuntimeException()).when(parser).parse(eq(statement));
+
+        final BiPredicate<Event, Exception> failureHandler = mock(BiPredicate.class);
+        doReturn(true).when(failureHandler).test(eq(event), any(ExpressionEvaluationException.class));
+
+        final BitSet results = statementEvaluator.evaluateConditional(statement, records, failureHandler);
+
+        assertThat(results.cardinality(), equalTo(2));
+        verify(failureHandler, times(2)).test(eq(event), any(ExpressionEvaluationException.class));
+    }
+
+    @Test
+    void evaluateConditionals_compiles_statements_as_a_group_once() {
+        final String statement1 = UUID.randomUUID().toString();
+        final String statement2 = UUID.randomUUID().toString();
+        final ParseTree parseTree1 = mock(ParseTree.class);
+        final ParseTree parseTree2 = mock(ParseTree.class);
+        final CompiledExpression compiledExpression1 = mock(CompiledExpression.class);
+        final CompiledExpression compiledExpression2 = mock(CompiledExpression.class);
+        final Event event1 = mock(Event.class);
+        final Event event2 = mock(Event.class);
+        final List<Record<Event>> records = List.of(new Record<>(event1), new Record<>(event2));
+
+        doReturn(parseTree1).when(parser).parse(eq(statement1));
+        doReturn(parseTree2).when(parser).parse(eq(statement2));
+        doReturn(List.of(compiledExpression1, compiledExpression2)).when(compiler).compileAll(eq(List.of(parseTree1, parseTree2)));
+        doReturn(true).when(compiledExpression1).evaluate(eq(event1));
+        doReturn(false).when(compiledExpression1).evaluate(eq(event2));
+        doReturn(false).when(compiledExpression2).evaluate(eq(event1));
+        doReturn(true).when(compiledExpression2).evaluate(eq(event2));
+
+        for (int i = 0; i < 2; i++) {
+            final List<BitSet> results = statementEvaluator.evaluateConditionals(List.of(statement1, statement2), records, (event, e) -> false);
+
+            assertThat(results.size(), equalTo(2));
+            assertThat(results.get(0).get(0), equalTo(true));
+            assertThat(results.get(0).get(1), equalTo(false));
+            assertThat(results.get(1).get(0), equalTo(false));
+            assertThat(results.get(1).get(1), equalTo(true));
+        }
+        verify(compiler).compileAll(eq(List.of(parseTree1, parseTree2)));
+    }
+
+    @Test
+    void evaluateConditionals_evaluates_statements_individually_when_group_does_not_compile() {
+        final String validStatement = UUID.randomUUID().toString();
+        final String invalidStatement = UUID.randomUUID().toString();
+        final ParseTree parseTree = mock(ParseTree.class);
+        final CompiledExpression compiledExpression = mock(CompiledExpression.class);
+        final Event event = mock(Event.class);
+        final List<Record<Event>> records = List.of(new Record<>(event));
+
+        doReturn(parseTree).when(parser).parse(eq(validStatement));
+        doThrow(new RuntimeException()).when(parser).parse(eq(invalidStatement));
+        doReturn(compiledExpression).when(compiler).compile(eq(parseTree));
+        doReturn(true).when(compiledExpression).evaluate(eq(event));
+
+        final List<BitSet> results = statementEvaluator.evaluateConditionals(List.of(validStatement, invalidStatement), records, (e, ex) -> false);
+
+        assertThat(results.size(), equalTo(2));
+        assertThat(results.get(0).get(0), equalTo(true));
+        assertThat(results.get(1).get(0), equalTo(false));
     }
 
     @Test
@@ -13,9 +13,11 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.record.Record;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -120,6 +122,38 @@ class GenericExpressionEvaluator_ConditionalIT {
         assertThrows(RuntimeException.class, () -> evaluator.evaluateConditional(expression, event));
     }
 
+    @Test
+    void testEvaluateConditionalsMatchesSingleEventEvaluation() {
+        final GenericExpressionEvaluator evaluator = applicationContext.getBean(GenericExpressionEvaluator.class);
+        final List<String> statements = List.of(
+                "/status_code >= 200 and /status_code < 300",
+                "/status_code >= 400",
+                "/status_code >= 200 and /status_code < 300 and /message =~ \"^ok.*\"",
+                "/status_code >= 400",
+                "/message != null",
+                "/status_code + 1");
+        final List<Record<Event>> records = new ArrayList<>();
+        records.add(new Record<>(event("{\"status_code\": 200, \"message\": \"ok then\"}")));
+        records.add(new Record<>(event("{\"status_code\": 250, \"message\": \"fine\"}")));
+        records.add(new Record<>(event("{\"status_code\": 404}")));
+        records.add(new Record<>(event("{\"status_code\": \"unknown\", \"message\": \"ok\"}")));
+
+        final List<BitSet> results = evaluator.evaluateConditionals(statements, records, (event, e) -> false);
+
+        assertThat(results.size(), equalTo(statements.size()));
+        for (int i = 0; i < statements.size(); i++) {
+            for (int j = 0; j < records.size(); j++) {
+                boolean expected;
+                try {
+                    expected = evaluator.evaluateConditional(statements.get(i), records.get(j).getData());
+                } catch (final Exception e) {
+                    expected = false;
+                }
+                assertThat(results.get(i).get(j), equalTo(expected));
+            }
+        }
+    }
+
     private static Stream<Arguments> validExpressionArguments() {
         final String key = "status_code";
         final Long value = 200L;
@@ -21,6 +21,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionParser;
 import org.opensearch.dataprepper.expression.util.TestObject;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
 
 import java.util.HashMap;
 import java.util.List;
@@ -234,6 +235,56 @@ class ParseTreeCoercionServiceTest {
         assertThrows(ExpressionCoercionException.class, () -> objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent));
     }
 
+    @Test
+    void testCompileTerminalNodeLiteralTypeIsConstant() {
+        when(token.getType()).thenReturn(DataPrepperExpressionParser.Integer);
+        when(terminalNode.getSymbol()).thenReturn(token);
+        when(terminalNode.getText()).thenReturn("42");
+        final CompiledExpression result = objectUnderTest.compilePrimaryTerminalNode(terminalNode);
+        assertThat(result.isConstant(), is(true));
+        assertThat(result.evaluate(createTestEvent(new HashMap<>())), equalTo(42));
+    }
+
+    @Test
+    void testCompileTerminalNodeJsonPointerTypeResolvesPerEvent() {
+        when(token.getType()).thenReturn(DataPrepperExpressionParser.JsonPointer);
+        when(terminalNode.getSymbol()).thenReturn(token);
+        when(terminalNode.getText()).thenReturn("/key");
+        final CompiledExpression result = objectUnderTest.compilePrimaryTerminalNode(terminalNode);
+        assertThat(result.isConstant(), is(false));
+        assertThat(result.evaluate(createTestEvent(Map.of("key", 1.5d))), equalTo(1.5f));
+        assertThat(result.evaluate(createTestEvent(Map.of("key", "value"))), equalTo("value"));
+        assertThat(result.evaluate(createTestEvent(new HashMap<>())), equalTo(null));
+    }
+
+    @Test
+    void testCompileTerminalNodeEscapeJsonPointerType() {
+        when(token.getType()).thenReturn(DataPrepperExpressionParser.EscapedJsonPointer);
+        when(terminalNode.getSymbol()).thenReturn(token);
+        when(terminalNode.getText()).thenReturn("\"/key\"");
+        final CompiledExpression result = objectUnderTest.compilePrimaryTerminalNode(terminalNode);
+        assertThat(result.evaluate(createTestEvent(Map.of("key", "value"))), equalTo("value"));
+    }
+
+    @Test
+    void testCompileTerminalNodeEscapeJsonPointerWhichIsNotAValidEventKey() {
+        when(token.getType()).thenReturn(DataPrepperExpressionParser.EscapedJsonPointer);
+        when(terminalNode.getSymbol()).thenReturn(token);
+        when(terminalNode.getText()).thenReturn("\"/test key\"");
+        final CompiledExpression result = objectUnderTest.compilePrimaryTerminalNode(terminalNode);
+        assertThat(result.evaluate(createTestEvent(Map.of("test key", "value"))), equalTo("value"));
+    }
+
+    @Test
+    void testCompileTerminalNodeFunctionType() {
+        final CompiledExpression compiledFunction = mock(CompiledExpression.class);
+        when(token.getType()).thenReturn(DataPrepperExpressionParser.Function);
+        when(terminalNode.getSymbol()).thenReturn(token);
+        when(terminalNode.getText()).thenReturn("length(/key)");
+        when(expressionFunctionProvider.compileFunction(eq("length"), eq(List.of("/key")), any(Function.class))).thenReturn(compiledFunction);
+        assertThat(objectUnderTest.compilePrimaryTerminalNode(terminalNode), equalTo(compiledFunction));
+    }
+
     @Test
     void testCoerceSuccess() throws ExpressionCoercionException {
         final Object testObj = false;
@@ -343,12 +394,14 @@ class ParseTreeCoercionServiceTest {
             }
             return mapper.treeToValue(childNode, clazz);
         });
+        lenient().when(event.get(any(EventKey.class), any())).thenCallRealMethod();
         return event;
     }
 
     private Event createInvalidTestEvent(final Object data) {
         final Event event = mock(Event.class);
         lenient().when(event.get(anyString(), any())).thenReturn(new AtomicBoolean());
+        lenient().when(event.get(any(EventKey.class), any())).thenCallRealMethod();
         return event;
     }
 
@@ -22,6 +22,7 @@ import java.util.Random;
 import java.util.function.Function;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -30,7 +31,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
-class ParseTreeEvaluatorListenerTest {
+class ParseTreeCompilerListenerTest {
     private final ExpressionFunctionProvider expressionFunctionProvider = mock(ExpressionFunctionProvider.class);
     private final Random random = new Random();
     private final ParseTreeWalker walker = new ParseTreeWalker();
@@ -49,33 +50,36 @@ class ParseTreeEvaluatorListenerTest {
             new NotOperator()
     );
     private final OperatorProvider operatorProvider = new OperatorProvider(operators);
-    private ParseTreeEvaluatorListener objectUnderTest;
+    private ParseTreeCompilerListener objectUnderTest;
 
     private ParseTreeParser constructParseTreeParser() {
         final DataPrepperExpressionParser expressionParser = new ParseTreeParserConfiguration().dataPrepperExpressionParser();
         return new ParseTreeParser(expressionParser);
     }
 
-    private ParseTreeEvaluatorListener createObjectUnderTest(final Event event) {
-        return new ParseTreeEvaluatorListener(operatorProvider, coercionService, event);
+    private ParseTreeCompilerListener createObjectUnderTest() {
+        return new ParseTreeCompilerListener(operatorProvider, coercionService);
     }
 
     private Event createTestEvent(final Object data) {
         return JacksonEvent.builder().withEventType("event").withData(data).build();
     }
 
-    private Object evaluateStatementOnEvent(final String statement, final Event event) {
+    private CompiledExpression compileStatement(final String statement) {
         final ParseTree parseTree = parseTreeParser.parse(statement);
-        objectUnderTest = createObjectUnderTest(event);
+        objectUnderTest = createObjectUnderTest();
         walker.walk(objectUnderTest, parseTree);
         return objectUnderTest.getResult();
     }
 
+    private Object evaluateStatementOnEvent(final String statement, final Event event) {
+        return compileStatement(statement).evaluate(event);
+    }
+
     @Test
     void testVisitErrorNode() {
         final ErrorNode errorNode = mock(ErrorNode.class);
-        final Event testEvent = createTestEvent(new HashMap<>());
-        objectUnderTest = createObjectUnderTest(testEvent);
+        objectUnderTest = createObjectUnderTest();
 
         assertThrows(RuntimeException.class, () -> objectUnderTest.visitErrorNode(errorNode));
     }
@@ -83,8 +87,7 @@ class ParseTreeEvaluatorListenerTest {
     @Test
     void testGetResultWithDoubleWalk() {
         final ParseTree testParseTree = parseTreeParser.parse("true");
-        final Event testEvent = createTestEvent(new HashMap<>());
-        objectUnderTest = createObjectUnderTest(testEvent);
+        objectUnderTest = createObjectUnderTest();
         walker.walk(objectUnderTest, testParseTree);
         walker.walk(objectUnderTest, testParseTree);
         assertThrows(IllegalStateException.class, objectUnderTest::getResult);
@@ -143,7 +146,8 @@ class ParseTreeEvaluatorListenerTest {
         final String testValue = RandomStringUtils.randomAlphabetic(10);
         final Map<String, String> data = Map.of(testKey, testValue);
         final Event testEvent = createTestEvent(data);
-        when(expressionFunctionProvider.provideFunction(eq("length"), any(List.class), any(Event.class), any(Function.class))).thenReturn(testValue.length());
+        final CompiledExpression lengthFunction = event -> testValue.length();
+        when(expressionFunctionProvider.compileFunction(eq("length"), any(List.class), any(Function.class))).thenReturn(lengthFunction);
         String equalStatement = String.format("length(/%s) == %d", testKey, testValue.length());
         String notEqualStatement = String.format("length(/%s) != %d", testKey, testValue.length() + 1);
         assertThat(evaluateStatementOnEvent(equalStatement, testEvent), is(true));
@@ -354,4 +358,75 @@ class ParseTreeEvaluatorListenerTest {
         final String testNestedParenthesesStatement = "not ((not false) or true)";
         assertThat(evaluateStatementOnEvent(testNestedParenthesesStatement, testEvent), is(false));
     }
+
+    @Test
+    void testOperationsOnLiteralsAreFoldedIntoConstants() {
+        final CompiledExpression compiledExpression = compileStatement("not (1 < 2) or \"a\" == \"a\"");
+        assertThat(compiledExpression, instanceOf(ConstantExpression.class));
+        assertThat(compiledExpression.evaluate(null), is(true));
+    }
+
+    @Test
+    void testInvalidOperationsOnLiteralsAreNotFoldedAndThrowOnEvaluate() {
+        final CompiledExpression compiledExpression = compileStatement("1 and false");
+        assertThat(compiledExpression, instanceOf(OperatorExpression.class));
+        assertThrows(ExpressionEvaluationException.class, () -> compiledExpression.evaluate(createTestEvent(new HashMap<>())));
+    }
+
+    @Test
+    void testOperationsOnJsonPointersAreNotFolded() {
+        final CompiledExpression compiledExpression = compileStatement("/status == 200");
+        assertThat(compiledExpression, instanceOf(OperatorExpression.class));
+        assertThat(compiledExpression.evaluate(createTestEvent(Map.of("status", 200))), is(true));
+        assertThat(compiledExpression.evaluate(createTestEvent(Map.of("status", 500))), is(false));
+    }
+
+    @Test
+    void testRegexOperationsWithLiteralPatternArePrecompiled() {
+        final CompiledExpression matchExpression = compileStatement("/message =~ \"^error.*\"");
+        final CompiledExpression notMatchExpression = compileStatement("/message !~ \"^error.*\"");
+        assertThat(matchExpression, instanceOf(RegexMatchExpression.class));
+        assertThat(notMatchExpression, instanceOf(RegexMatchExpression.class));
+
+        final Event errorEvent = createTestEvent(Map.of("message", "error: disk full"));
+        final Event infoEvent = createTestEvent(Map.of("message", "info: all good"));
+        assertThat(matchExpression.evaluate(errorEvent), is(true));
+        assertThat(matchExpression.evaluate(infoEvent), is(false));
+        assertThat(notMatchExpression.evaluate(errorEvent), is(false));
+        assertThat(notMatchExpression.evaluate(infoEvent), is(true));
+        assertThrows(ExpressionEvaluationException.class, () -> matchExpression.evaluate(createTestEvent(Map.of("message", 5))));
+    }
+
+    @Test
+    void testRegexOperationsWithInvalidOrDynamicPatternAreNotPrecompiled() {
+        final CompiledExpression invalidPatternExpression = compileStatement("/message =~ \"(abc\"");
+        assertThat(invalidPatternExpression, instanceOf(OperatorExpression.class));
+        assertThrows(ExpressionEvaluationException.class,
+                () -> invalidPatternExpression.evaluate(createTestEvent(Map.of("message", "abc"))));
+
+        final CompiledExpression dynamicPatternExpression = compileStatement("/message =~ /pattern");
+        assertThat(dynamicPatternExpression, instanceOf(OperatorExpression.class));
+        assertThat(dynamicPatternExpression.evaluate(createTestEvent(Map.of("message", "abc", "pattern", "a.c"))), is(true));
+    }
+
+    @Test
+    void testCompiledExpressionIsReusableAcrossEvents() {
+        final CompiledExpression compiledExpression = compileStatement("/a > 1 and /b < 10");
+        for (int i = 0; i < 20; i++) {
+            final Event event = createTestEvent(Map.of("a", i, "b", i));
+            assertThat(compiledExpression.evaluate(event), is(i > 1 && i < 10));
+        }
+    }
+
+    @Test
+    void testNonConstantSubexpressionsAreRegistered() {
+        final List<String> registeredTexts = new java.util.ArrayList<>();
+        final ParseTree parseTree = parseTreeParser.parse("/a > 1 and true");
+        objectUnderTest = new ParseTreeCompilerListener(operatorProvider, coercionService, (text, expression) -> {
+            registeredTexts.add(text);
+            return expression;
+        });
+        walker.walk(objectUnderTest, parseTree);
+        assertThat(registeredTexts, equalTo(List.of("/a", "/a > 1", "/a > 1 and true")));
+    }
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedConstruction;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ParseTreeCompilerTest {
+
+    @Mock
+    private OperatorProvider operatorProvider;
+
+    @Mock
+    private ParseTree parseTree;
+
+    @Mock
+    private ParseTreeWalker parseTreeWalker;
+
+    @Mock
+    private ParseTreeCoercionService coercionService;
+
+    private ParseTreeCompiler objectUnderTest;
+
+    @BeforeEach
+    void setUp() {
+        objectUnderTest = new ParseTreeCompiler(operatorProvider, parseTreeWalker, coercionService);
+    }
+
+    @Test
+    void testCompileSuccess() {
+        final CompiledExpression compiledExpression = mock(CompiledExpression.class);
+        try (final MockedConstruction<ParseTreeCompilerListener> ignored =
+                     mockConstruction(ParseTreeCompilerListener.class, (mock, context) -> when(mock.getResult()).thenReturn(compiledExpression))) {
+            assertThat(objectUnderTest.compile(parseTree), sameInstance(compiledExpression));
+        }
+    }
+
+    @Test
+    void testCompileFailureInWalk() {
+        doThrow(new RuntimeException()).when(parseTreeWalker).walk(
+                any(ParseTreeCompilerListener.class), any(ParseTree.class));
+        try (final MockedConstruction<ParseTreeCompilerListener> ignored =
+                     mockConstruction(ParseTreeCompilerListener.class)) {
+            assertThrows(RuntimeException.class, () -> objectUnderTest.compile(parseTree));
+        }
+    }
+
+    @Test
+    void testCompileFailureInGetResult() {
+        try (final MockedConstruction<ParseTreeCompilerListener> ignored =
+                     mockConstruction(ParseTreeCompilerListener.class,
+                             (mock, context) -> when(mock.getResult()).thenThrow(new IllegalStateException()))) {
+            assertThrows(IllegalStateException.class, () -> objectUnderTest.compile(parseTree));
+        }
+    }
+
+    @Test
+    void testCompileGroupSharesRepeatedSubexpressions() {
+        final ParseTreeParser parseTreeParser = new ParseTreeParser(new ParseTreeParserConfiguration().dataPrepperExpressionParser());
+        final OperatorConfiguration operatorConfiguration = new OperatorConfiguration();
+        final OperatorProvider realOperatorProvider = new OperatorProvider(List.of(
+                new AndOperator(), new OrOperator(), operatorConfiguration.greaterThanOperator(), operatorConfiguration.lessThanOperator()));
+        final ParseTreeCoercionService realCoercionService = new ParseTreeCoercionService(
+                new LiteralTypeConversionsConfiguration().literalTypeConversions(), mock(ExpressionFunctionProvider.class));
+        objectUnderTest = new ParseTreeCompiler(realOperatorProvider, new ParseTreeWalker(), realCoercionService);
+
+        final List<CompiledExpression> compiledExpressions = objectUnderTest.compileAll(List.of(
+                parseTreeParser.parse("/a > 1 and /b < 2"),
+                parseTreeParser.parse("/a > 1 or /c < 2"),
+                parseTreeParser.parse("/d < 2")));
+
+        assertThat(compiledExpressions.size(), equalTo(3));
+        assertThat(compiledExpressions.get(0), instanceOf(OperatorExpression.class));
+        assertThat(compiledExpressions.get(2), instanceOf(OperatorExpression.class));
+
+        final Event event = JacksonEvent.builder().withEventType("event").withData(Map.of("a", 5, "b", 1, "c", 3, "d", 1)).build();
+        assertThat(compiledExpressions.get(0).evaluate(event), equalTo(true));
+        assertThat(compiledExpressions.get(1).evaluate(event), equalTo(true));
+        assertThat(compiledExpressions.get(2).evaluate(event), equalTo(true));
+    }
+}
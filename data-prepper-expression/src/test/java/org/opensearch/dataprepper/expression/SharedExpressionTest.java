@@ -0,0 +1,79 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.event.Event;
+
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SharedExpressionTest {
+    @Mock
+    private CompiledExpression expression;
+
+    @Mock
+    private Event event;
+
+    @AfterEach
+    void tearDown() {
+        SharedExpression.closeResultScope();
+    }
+
+    private SharedExpression createObjectUnderTest() {
+        return new SharedExpression(expression);
+    }
+
+    @Test
+    void evaluate_without_result_scope_evaluates_every_time() {
+        final String value = UUID.randomUUID().toString();
+        when(expression.evaluate(event)).thenReturn(value);
+
+        final SharedExpression objectUnderTest = createObjectUnderTest();
+        assertThat(objectUnderTest.evaluate(event), equalTo(value));
+        assertThat(objectUnderTest.evaluate(event), equalTo(value));
+
+        verify(expression, times(2)).evaluate(event);
+    }
+
+    @Test
+    void evaluate_within_result_scope_evaluates_once_until_cleared() {
+        final String value = UUID.randomUUID().toString();
+        when(expression.evaluate(event)).thenReturn(value);
+
+        final SharedExpression objectUnderTest = createObjectUnderTest();
+        SharedExpression.openResultScope();
+        assertThat(objectUnderTest.evaluate(event), equalTo(value));
+        assertThat(objectUnderTest.evaluate(event), equalTo(value));
+        verify(expression, times(1)).evaluate(event);
+
+        SharedExpression.clearResults();
+        assertThat(objectUnderTest.evaluate(event), equalTo(value));
+        verify(expression, times(2)).evaluate(event);
+    }
+
+    @Test
+    void evaluate_within_result_scope_reuses_null_results() {
+        when(expression.evaluate(event)).thenReturn(null);
+
+        final SharedExpression objectUnderTest = createObjectUnderTest();
+        SharedExpression.openResultScope();
+        assertThat(objectUnderTest.evaluate(event), nullValue());
+        assertThat(objectUnderTest.evaluate(event), nullValue());
+        verify(expression, times(1)).evaluate(event);
+    }
+}
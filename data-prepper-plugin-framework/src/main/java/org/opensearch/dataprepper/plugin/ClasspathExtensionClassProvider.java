@@ -5,6 +5,7 @@
 
 package org.opensearch.dataprepper.plugin;
 
+import io.micrometer.core.instrument.Metrics;
 import org.opensearch.dataprepper.model.plugin.ExtensionPlugin;
 import org.reflections.Reflections;
 import org.reflections.util.ConfigurationBuilder;
@@ -14,26 +15,39 @@ import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
 import javax.inject.Named;
+import java.net.URL;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static org.opensearch.dataprepper.plugin.ClasspathPluginProvider.DISCOVERY_TAG;
+import static org.opensearch.dataprepper.plugin.ClasspathPluginProvider.DISCOVERY_TIME_METRIC_NAME;
+import static org.opensearch.dataprepper.plugin.ClasspathPluginProvider.INDEX_METHOD;
+import static org.opensearch.dataprepper.plugin.ClasspathPluginProvider.METHOD_TAG;
+import static org.opensearch.dataprepper.plugin.ClasspathPluginProvider.SCAN_METHOD;
+
 /**
  * Implements {@link ExtensionClassProvider} using the classpath to detect extensions.
- * This uses the same {@link PluginPackagesSupplier} as {@link ClasspathPluginProvider}.
+ * This uses the same plugin indexes and {@link PluginPackagesSupplier} as {@link ClasspathPluginProvider}.
+ * The extensions from the indexes are merged with those found by scanning the classpath locations
+ * which have no extension index.
  */
 @Named
 public class ClasspathExtensionClassProvider implements ExtensionClassProvider {
     private static final Logger LOG = LoggerFactory.getLogger(ClasspathExtensionClassProvider.class);
-    private final Reflections reflections;
+    private final ClasspathPluginIndex pluginIndex;
+    private final Function<Collection<URL>, Reflections> reflectionsFactory;
     private Set<Class<? extends ExtensionPlugin>> extensionPluginClasses;
 
     @Inject
     public ClasspathExtensionClassProvider() {
-        this(createReflections());
+        this(new ClasspathPluginIndex(), ClasspathExtensionClassProvider::createReflections);
     }
 
-    private static Reflections createReflections() {
+    private static Reflections createReflections(final Collection<URL> locations) {
         final String[] packages = new PluginPackagesSupplier().get();
         FilterBuilder filterBuilder = new FilterBuilder();
         for (String packageToInclude : packages) {
@@ -41,29 +55,58 @@ public class ClasspathExtensionClassProvider implements ExtensionClassProvider {
         }
 
         return new Reflections(new ConfigurationBuilder()
-                .forPackages(packages)
+                .setUrls(locations)
                 .filterInputsBy(filterBuilder));
     }
 
     /**
      * For testing purposes.
      *
-     * @param reflections A {@link Reflections} object.
+     * @param pluginIndex The {@link ClasspathPluginIndex}.
+     * @param reflectionsFactory Creates the {@link Reflections} object to scan the given classpath locations with.
      */
-    ClasspathExtensionClassProvider(final Reflections reflections) {
-        this.reflections = reflections;
+    ClasspathExtensionClassProvider(final ClasspathPluginIndex pluginIndex,
+                                    final Function<Collection<URL>, Reflections> reflectionsFactory) {
+        this.pluginIndex = pluginIndex;
+        this.reflectionsFactory = reflectionsFactory;
     }
 
     @Override
     public Collection<Class<? extends ExtensionPlugin>> loadExtensionPluginClasses() {
         if (extensionPluginClasses == null) {
-            extensionPluginClasses = scanForExtensionPlugins();
+            extensionPluginClasses = loadExtensionPlugins();
         }
         return extensionPluginClasses;
     }
 
-    private Set<Class<? extends ExtensionPlugin>> scanForExtensionPlugins() {
-        final Set<Class<? extends ExtensionPlugin>> extensionClasses = reflections.getSubTypesOf(ExtensionPlugin.class);
+    private Set<Class<? extends ExtensionPlugin>> loadExtensionPlugins() {
+        final Set<Class<?>> indexedExtensionClasses = Metrics.timer(DISCOVERY_TIME_METRIC_NAME,
+                        DISCOVERY_TAG, "extensions", METHOD_TAG, INDEX_METHOD)
+                .record(() -> pluginIndex.loadExtensionClasses().orElse(Collections.emptySet()));
+
+        final Set<Class<? extends ExtensionPlugin>> extensionClasses = new LinkedHashSet<>();
+        for (final Class<?> indexedClass : indexedExtensionClasses) {
+            if (ExtensionPlugin.class.isAssignableFrom(indexedClass)) {
+                extensionClasses.add(indexedClass.asSubclass(ExtensionPlugin.class));
+            } else {
+                LOG.warn("Ignoring class {} from the extension index since it is not an {}.",
+                        indexedClass.getName(), ExtensionPlugin.class.getSimpleName());
+            }
+        }
+        LOG.debug("Loaded {} extension classes from the plugin index.", extensionClasses.size());
+
+        final Set<URL> unindexedLocations = pluginIndex.findUnindexedExtensionLocations();
+        if (!unindexedLocations.isEmpty()) {
+            extensionClasses.addAll(scanForExtensionPlugins(unindexedLocations));
+        }
+        return extensionClasses;
+    }
+
+    private Set<Class<? extends ExtensionPlugin>> scanForExtensionPlugins(final Set<URL> locations) {
+        LOG.debug("Scanning {} classpath locations without an extension index: {}", locations.size(), locations);
+        final Set<Class<? extends ExtensionPlugin>> extensionClasses = Metrics.timer(DISCOVERY_TIME_METRIC_NAME,
+                        DISCOVERY_TAG, "extensions", METHOD_TAG, SCAN_METHOD)
+                .record(() -> reflectionsFactory.apply(locations).getSubTypesOf(ExtensionPlugin.class));
 
         if (LOG.isDebugEnabled()) {
             LOG.debug("Found {} extension classes.", extensionClasses.size());
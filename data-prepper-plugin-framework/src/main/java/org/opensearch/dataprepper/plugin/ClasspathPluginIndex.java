@@ -0,0 +1,153 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugin;
+
+import org.opensearch.dataprepper.plugin.index.PluginIndexProcessor;
+import org.reflections.util.ClasspathHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Reads the plugin indexes which {@link PluginIndexProcessor} writes into the modules on the classpath.
+ * <p>
+ * Plugins and extensions have separate index resources. Each index is only used when at least one
+ * module on the classpath has that resource. Otherwise, the classes must be found by scanning the classpath.
+ * Only the indexed classes in the packages from {@link PluginPackagesSupplier} are loaded, which are the
+ * same packages the classpath scan is limited to.
+ */
+class ClasspathPluginIndex {
+    private static final Logger LOG = LoggerFactory.getLogger(ClasspathPluginIndex.class);
+
+    private final ClassLoader classLoader;
+    private final List<String> packages;
+
+    ClasspathPluginIndex() {
+        this(ClasspathPluginIndex.class.getClassLoader(), new PluginPackagesSupplier().get());
+    }
+
+    ClasspathPluginIndex(final ClassLoader classLoader, final String[] packages) {
+        this.classLoader = classLoader;
+        this.packages = Arrays.asList(packages);
+    }
+
+    /**
+     * Loads the classes annotated with {@link org.opensearch.dataprepper.model.annotations.DataPrepperPlugin}.
+     *
+     * @return The plugin classes, or empty if there is no plugin index on the classpath
+     */
+    Optional<Set<Class<?>>> loadPluginClasses() {
+        return loadIndexedClasses(PluginIndexProcessor.PLUGINS_INDEX_RESOURCE);
+    }
+
+    /**
+     * Loads the classes implementing {@link org.opensearch.dataprepper.model.plugin.ExtensionPlugin}.
+     *
+     * @return The extension classes, or empty if there is no extension index on the classpath
+     */
+    Optional<Set<Class<?>>> loadExtensionClasses() {
+        return loadIndexedClasses(PluginIndexProcessor.EXTENSIONS_INDEX_RESOURCE);
+    }
+
+    /**
+     * Finds the classpath locations with classes in the plugin packages which have no extension index.
+     * These are typically extension jars built without {@link PluginIndexProcessor}.
+     *
+     * @return The locations which must be scanned for extensions
+     */
+    Set<URL> findUnindexedExtensionLocations() {
+        final Set<String> indexedLocations = toExternalForms(
+                ClasspathHelper.forResource(PluginIndexProcessor.EXTENSIONS_INDEX_RESOURCE, classLoader));
+
+        final Set<URL> unindexedLocations = new LinkedHashSet<>();
+        for (final String packageName : packages) {
+            for (final URL location : ClasspathHelper.forPackage(packageName, classLoader)) {
+                if (!indexedLocations.contains(location.toExternalForm())) {
+                    unindexedLocations.add(location);
+                }
+            }
+        }
+        return unindexedLocations;
+    }
+
+    private static Set<String> toExternalForms(final Collection<URL> urls) {
+        return urls.stream()
+                .map(URL::toExternalForm)
+                .collect(Collectors.toSet());
+    }
+
+    private Optional<Set<Class<?>>> loadIndexedClasses(final String resourceName) {
+        final List<URL> indexUrls = getResources(resourceName);
+        if (indexUrls.isEmpty()) {
+            return Optional.empty();
+        }
+
+        final Set<Class<?>> classes = new LinkedHashSet<>();
+        for (final URL indexUrl : indexUrls) {
+            for (final String className : readClassNames(indexUrl)) {
+                if (!isInPluginPackages(className)) {
+                    LOG.debug("Ignoring class {} from the plugin index {} since it is not in the plugin packages.", className, indexUrl);
+                    continue;
+                }
+                try {
+                    classes.add(Class.forName(className, false, classLoader));
+                } catch (final ClassNotFoundException | LinkageError e) {
+                    LOG.warn("Unable to load class {} listed in the plugin index {}.", className, indexUrl, e);
+                }
+            }
+        }
+        return Optional.of(classes);
+    }
+
+    private boolean isInPluginPackages(final String className) {
+        for (final String packageName : packages) {
+            if (className.startsWith(packageName + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<URL> getResources(final String resourceName) {
+        try {
+            final Enumeration<URL> resources = classLoader.getResources(resourceName);
+            return Collections.list(resources);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to find the plugin index resources " + resourceName, e);
+        }
+    }
+
+    private static Set<String> readClassNames(final URL indexUrl) {
+        final Set<String> classNames = new LinkedHashSet<>();
+        try (final BufferedReader reader = new BufferedReader(new InputStreamReader(indexUrl.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final String className = line.trim();
+                if (!className.isEmpty() && !className.startsWith("#")) {
+                    classNames.add(className);
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to read the plugin index " + indexUrl, e);
+        }
+        return classNames;
+    }
+}
@@ -5,6 +5,7 @@
 
 package org.opensearch.dataprepper.plugin;
 
+import io.micrometer.core.instrument.Metrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.reflections.Reflections;
 import org.reflections.util.ConfigurationBuilder;
@@ -15,6 +16,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static org.opensearch.dataprepper.model.annotations.DataPrepperPlugin.DEFAULT_DEPRECATED_NAME;
@@ -22,16 +24,26 @@ import static org.opensearch.dataprepper.model.annotations.DataPrepperPlugin.DEF
 /**
  * The implementation of {@link PluginProvider} which loads plugins from the
  * current Java classpath.
+ * <p>
+ * Plugins are loaded from the plugin indexes in the modules on the classpath. The
+ * classpath is only scanned when there are no indexes, or when a plugin is not in them.
  *
  * @since 1.2
  */
 public class ClasspathPluginProvider implements PluginProvider {
     private static final Logger LOG = LoggerFactory.getLogger(ClasspathPluginProvider.class);
-    private final Reflections reflections;
+    static final String DISCOVERY_TIME_METRIC_NAME = "core.plugins.discoveryTime";
+    static final String DISCOVERY_TAG = "discovery";
+    static final String METHOD_TAG = "method";
+    static final String INDEX_METHOD = "index";
+    static final String SCAN_METHOD = "scan";
+    private final ClasspathPluginIndex pluginIndex;
+    private final Supplier<Reflections> reflectionsSupplier;
     private Map<String, Map<Class<?>, Class<?>>> nameToSupportedTypeToPluginType;
+    private boolean scannedClasspath;
 
     public ClasspathPluginProvider() {
-        this(new Reflections(new ConfigurationBuilder()
+        this(new ClasspathPluginIndex(), () -> new Reflections(new ConfigurationBuilder()
                 .forPackages(new PluginPackagesSupplier().get()))
         );
     }
@@ -39,17 +51,27 @@ public class ClasspathPluginProvider implements PluginProvider {
     /**
      * For testing only
      */
-    ClasspathPluginProvider(final Reflections reflections) {
-        this.reflections = reflections;
+    ClasspathPluginProvider(final ClasspathPluginIndex pluginIndex, final Supplier<Reflections> reflectionsSupplier) {
+        this.pluginIndex = pluginIndex;
+        this.reflectionsSupplier = reflectionsSupplier;
     }
 
     @Override
     public <T> Optional<Class<? extends T>> findPluginClass(final Class<T> pluginType, final String pluginName) {
         if (nameToSupportedTypeToPluginType == null) {
-            nameToSupportedTypeToPluginType = scanForPlugins();
+            nameToSupportedTypeToPluginType = loadPlugins();
         }
 
-        final Map<Class<?>, Class<?>> supportedTypesMap = nameToSupportedTypeToPluginType.get(pluginName);
+        Map<Class<?>, Class<?>> supportedTypesMap = nameToSupportedTypeToPluginType.get(pluginName);
+
+        if ((supportedTypesMap == null || !supportedTypesMap.containsKey(pluginType)) && !scannedClasspath) {
+            LOG.info("Plugin {} is not in the plugin index. Scanning the classpath for plugins.", pluginName);
+            final Map<String, Map<Class<?>, Class<?>>> scannedPlugins = scanForPlugins();
+            scannedPlugins.forEach((name, supportedTypes) -> nameToSupportedTypeToPluginType
+                    .computeIfAbsent(name, k -> new HashMap<>())
+                    .putAll(supportedTypes));
+            supportedTypesMap = nameToSupportedTypeToPluginType.get(pluginName);
+        }
 
         if(supportedTypesMap == null) {
             return Optional.empty();
@@ -57,9 +79,22 @@ public class ClasspathPluginProvider implements PluginProvider {
         return Optional.ofNullable((Class<? extends T>) supportedTypesMap.get(pluginType));
     }
 
+    private Map<String, Map<Class<?>, Class<?>>> loadPlugins() {
+        final Optional<Set<Class<?>>> indexedPluginClasses = Metrics.timer(DISCOVERY_TIME_METRIC_NAME,
+                        DISCOVERY_TAG, "plugins", METHOD_TAG, INDEX_METHOD)
+                .record(pluginIndex::loadPluginClasses);
+        if (indexedPluginClasses.isPresent()) {
+            LOG.debug("Loaded {} plugin classes from the plugin index.", indexedPluginClasses.get().size());
+            return createPluginsMap(indexedPluginClasses.get());
+        }
+        return scanForPlugins();
+    }
+
     private Map<String, Map<Class<?>, Class<?>>> scanForPlugins() {
-        final Set<Class<?>> dataPrepperPluginClasses =
-                reflections.getTypesAnnotatedWith(DataPrepperPlugin.class);
+        scannedClasspath = true;
+        final Set<Class<?>> dataPrepperPluginClasses = Metrics.timer(DISCOVERY_TIME_METRIC_NAME,
+                        DISCOVERY_TAG, "plugins", METHOD_TAG, SCAN_METHOD)
+                .record(() -> reflectionsSupplier.get().getTypesAnnotatedWith(DataPrepperPlugin.class));
 
         if(LOG.isDebugEnabled()) {
             LOG.debug("Found {} plugin classes.", dataPrepperPluginClasses.size());
@@ -67,6 +102,10 @@ public class ClasspathPluginProvider implements PluginProvider {
                     dataPrepperPluginClasses.stream().map(Class::getName).collect(Collectors.joining(", ")));
         }
 
+        return createPluginsMap(dataPrepperPluginClasses);
+    }
+
+    private Map<String, Map<Class<?>, Class<?>>> createPluginsMap(final Set<Class<?>> dataPrepperPluginClasses) {
         final Map<String, Map<Class<?>, Class<?>>> pluginsMap = new HashMap<>(dataPrepperPluginClasses.size());
         for (final Class<?> concretePluginClass : dataPrepperPluginClasses) {
             final DataPrepperPlugin dataPrepperPluginAnnotation = concretePluginClass.getAnnotation(DataPrepperPlugin.class);
@@ -8,10 +8,17 @@ package org.opensearch.dataprepper.plugin;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.opensearch.dataprepper.model.plugin.ExtensionPlugin;
+import org.opensearch.dataprepper.plugins.test.TestExtension;
+import org.opensearch.dataprepper.plugins.test.TestSink;
 import org.reflections.Reflections;
 
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -22,15 +29,26 @@ import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
 
 class ClasspathExtensionClassProviderTest {
+    private ClasspathPluginIndex pluginIndex;
     private Reflections reflections;
+    private Set<URL> unindexedLocations;
+    private List<Collection<URL>> scannedLocations;
 
     @BeforeEach
-    void setUp() {
+    void setUp() throws MalformedURLException {
+        pluginIndex = mock(ClasspathPluginIndex.class);
         reflections = mock(Reflections.class);
+        unindexedLocations = Set.of(new URL("jar:file:/extension.jar!/"));
+        scannedLocations = new ArrayList<>();
+
+        given(pluginIndex.findUnindexedExtensionLocations()).willReturn(unindexedLocations);
     }
 
     private ClasspathExtensionClassProvider createObjectUnderTest() {
-        return new ClasspathExtensionClassProvider(reflections);
+        return new ClasspathExtensionClassProvider(pluginIndex, locations -> {
+            scannedLocations.add(locations);
+            return reflections;
+        });
     }
 
     @Test
@@ -87,4 +105,66 @@ class ClasspathExtensionClassProviderTest {
         assertThat(extensionPluginClasses.size(), equalTo(classes.size()));
         assertThat(extensionPluginClasses, equalTo(classes));
     }
-}
\ No newline at end of file
+
+    @Test
+    void loadExtensionPluginClasses_should_scan_only_the_unindexed_locations() {
+        given(reflections.getSubTypesOf(ExtensionPlugin.class))
+                .willReturn(Collections.emptySet());
+
+        createObjectUnderTest().loadExtensionPluginClasses();
+
+        assertThat(scannedLocations, equalTo(List.of(unindexedLocations)));
+    }
+
+    @Test
+    void loadExtensionPluginClasses_should_load_extension_classes_from_the_index_without_scanning_when_all_locations_are_indexed() {
+        given(pluginIndex.loadExtensionClasses())
+                .willReturn(Optional.of(Set.of(TestExtension.class)));
+        given(pluginIndex.findUnindexedExtensionLocations())
+                .willReturn(Collections.emptySet());
+
+        final Collection<Class<? extends ExtensionPlugin>> extensionPluginClasses = createObjectUnderTest().loadExtensionPluginClasses();
+
+        assertThat(extensionPluginClasses, equalTo(Set.of(TestExtension.class)));
+        assertThat(scannedLocations, equalTo(List.of()));
+        then(reflections).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void loadExtensionPluginClasses_should_merge_the_indexed_and_scanned_extension_classes() {
+        final Class<? extends ExtensionPlugin> scannedExtensionClass = mock(ExtensionPlugin.class).getClass();
+        given(pluginIndex.loadExtensionClasses())
+                .willReturn(Optional.of(Set.of(TestExtension.class)));
+        given(reflections.getSubTypesOf(ExtensionPlugin.class))
+                .willReturn(Set.of(scannedExtensionClass));
+
+        final Collection<Class<? extends ExtensionPlugin>> extensionPluginClasses = createObjectUnderTest().loadExtensionPluginClasses();
+
+        assertThat(extensionPluginClasses, equalTo(Set.of(TestExtension.class, scannedExtensionClass)));
+        assertThat(scannedLocations, equalTo(List.of(unindexedLocations)));
+    }
+
+    @Test
+    void loadExtensionPluginClasses_should_ignore_indexed_classes_which_are_not_extensions() {
+        given(pluginIndex.loadExtensionClasses())
+                .willReturn(Optional.of(Set.of(TestExtension.class, TestSink.class)));
+        given(pluginIndex.findUnindexedExtensionLocations())
+                .willReturn(Collections.emptySet());
+
+        final Collection<Class<? extends ExtensionPlugin>> extensionPluginClasses = createObjectUnderTest().loadExtensionPluginClasses();
+
+        assertThat(extensionPluginClasses, equalTo(Set.of(TestExtension.class)));
+    }
+
+    @Test
+    void loadExtensionPluginClasses_should_scan_for_plugins_when_there_is_no_extension_index() {
+        given(pluginIndex.loadExtensionClasses())
+                .willReturn(Optional.empty());
+        given(reflections.getSubTypesOf(ExtensionPlugin.class))
+                .willReturn(Set.of(TestExtension.class));
+
+        final Collection<Class<? extends ExtensionPlugin>> extensionPluginClasses = createObjectUnderTest().loadExtensionPluginClasses();
+
+        assertThat(extensionPluginClasses, equalTo(Set.of(TestExtension.class)));
+    }
+}
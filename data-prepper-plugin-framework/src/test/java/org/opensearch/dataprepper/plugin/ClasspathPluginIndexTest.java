@@ -0,0 +1,182 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugin;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opensearch.dataprepper.plugin.index.PluginIndexProcessor;
+import org.opensearch.dataprepper.plugins.test.TestExtension;
+import org.opensearch.dataprepper.plugins.test.TestSink;
+import org.opensearch.dataprepper.plugins.test.TestSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class ClasspathPluginIndexTest {
+    private static final String[] PLUGIN_PACKAGES = {"org.opensearch.dataprepper.plugins"};
+
+    @TempDir
+    Path firstModule;
+
+    @TempDir
+    Path secondModule;
+
+    private URLClassLoader classLoader;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (classLoader != null) {
+            classLoader.close();
+        }
+    }
+
+    private ClasspathPluginIndex createObjectUnderTest() throws IOException {
+        return createObjectUnderTest(firstModule.toUri().toURL(), secondModule.toUri().toURL());
+    }
+
+    private ClasspathPluginIndex createObjectUnderTest(final URL... moduleUrls) {
+        // The class loader only sees the indexes in the modules, which keeps any index of the test classes out.
+        classLoader = new URLClassLoader(moduleUrls, null) {
+            @Override
+            protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+                return ClasspathPluginIndexTest.class.getClassLoader().loadClass(name);
+            }
+        };
+        return new ClasspathPluginIndex(classLoader, PLUGIN_PACKAGES);
+    }
+
+    private static void writeIndex(final Path module, final String resourceName, final List<String> lines) throws IOException {
+        final Path indexFile = module.resolve(resourceName);
+        Files.createDirectories(indexFile.getParent());
+        Files.write(indexFile, lines);
+    }
+
+    private static Path writeJarWithoutIndex(final Path directory, final Class<?> clazz) throws IOException {
+        final Path jarFile = directory.resolve("extension.jar");
+        final String classResource = clazz.getName().replace('.', '/') + ".class";
+        try (final JarOutputStream jarOutputStream = new JarOutputStream(Files.newOutputStream(jarFile));
+             final InputStream classStream = clazz.getClassLoader().getResourceAsStream(classResource)) {
+            int directoryEnd = classResource.indexOf('/');
+            while (directoryEnd != -1) {
+                jarOutputStream.putNextEntry(new JarEntry(classResource.substring(0, directoryEnd + 1)));
+                jarOutputStream.closeEntry();
+                directoryEnd = classResource.indexOf('/', directoryEnd + 1);
+            }
+            jarOutputStream.putNextEntry(new JarEntry(classResource));
+            classStream.transferTo(jarOutputStream);
+            jarOutputStream.closeEntry();
+        }
+        return jarFile;
+    }
+
+    @Test
+    void loadPluginClasses_returns_empty_without_indexes() throws IOException {
+        final ClasspathPluginIndex objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.loadPluginClasses(), equalTo(Optional.empty()));
+        assertThat(objectUnderTest.loadExtensionClasses(), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void loadPluginClasses_returns_the_classes_from_all_indexes() throws IOException {
+        writeIndex(firstModule, PluginIndexProcessor.PLUGINS_INDEX_RESOURCE, List.of(TestSink.class.getName()));
+        writeIndex(secondModule, PluginIndexProcessor.PLUGINS_INDEX_RESOURCE, List.of("", "# comment", TestSource.class.getName()));
+
+        assertThat(createObjectUnderTest().loadPluginClasses(), equalTo(Optional.of(Set.of(TestSink.class, TestSource.class))));
+    }
+
+    @Test
+    void loadPluginClasses_ignores_classes_outside_of_the_plugin_packages() throws IOException {
+        writeIndex(firstModule, PluginIndexProcessor.PLUGINS_INDEX_RESOURCE, List.of(TestSink.class.getName(), ClasspathPluginIndexTest.class.getName()));
+
+        assertThat(createObjectUnderTest().loadPluginClasses(), equalTo(Optional.of(Set.of(TestSink.class))));
+    }
+
+    @Test
+    void loadPluginClasses_skips_classes_which_cannot_be_loaded() throws IOException {
+        writeIndex(firstModule, PluginIndexProcessor.PLUGINS_INDEX_RESOURCE, List.of("org.example.DoesNotExist", TestSink.class.getName()));
+
+        assertThat(createObjectUnderTest().loadPluginClasses(), equalTo(Optional.of(Set.of(TestSink.class))));
+    }
+
+    @Test
+    void loadExtensionClasses_returns_empty_when_only_plugins_are_indexed() throws IOException {
+        writeIndex(firstModule, PluginIndexProcessor.PLUGINS_INDEX_RESOURCE, List.of(TestSink.class.getName()));
+
+        final ClasspathPluginIndex objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.loadExtensionClasses(), equalTo(Optional.empty()));
+        assertThat(objectUnderTest.loadPluginClasses(), equalTo(Optional.of(Set.of(TestSink.class))));
+    }
+
+    @Test
+    void loadExtensionClasses_returns_empty_with_an_extension_jar_without_an_index() throws IOException {
+        writeIndex(firstModule, PluginIndexProcessor.PLUGINS_INDEX_RESOURCE, List.of(TestSink.class.getName()));
+        final Path extensionJar = writeJarWithoutIndex(secondModule, TestExtension.class);
+
+        final ClasspathPluginIndex objectUnderTest = createObjectUnderTest(firstModule.toUri().toURL(), extensionJar.toUri().toURL());
+
+        assertThat(objectUnderTest.loadExtensionClasses(), equalTo(Optional.empty()));
+        assertThat(objectUnderTest.loadPluginClasses(), equalTo(Optional.of(Set.of(TestSink.class))));
+    }
+
+    @Test
+    void findUnindexedExtensionLocations_returns_the_extension_jars_without_an_index() throws IOException {
+        writeIndex(firstModule, PluginIndexProcessor.EXTENSIONS_INDEX_RESOURCE, List.of(TestExtension.class.getName()));
+        Files.createDirectories(firstModule.resolve("org/opensearch/dataprepper/plugins/test"));
+        final Path extensionJar = writeJarWithoutIndex(secondModule, TestExtension.class);
+
+        final Set<URL> unindexedLocations = createObjectUnderTest(firstModule.toUri().toURL(), extensionJar.toUri().toURL())
+                .findUnindexedExtensionLocations();
+
+        assertThat(toExternalForms(unindexedLocations), equalTo(Set.of("jar:" + extensionJar.toUri().toURL() + "!/")));
+    }
+
+    @Test
+    void findUnindexedExtensionLocations_returns_empty_when_all_plugin_locations_have_an_extension_index() throws IOException {
+        writeIndex(firstModule, PluginIndexProcessor.EXTENSIONS_INDEX_RESOURCE, List.of(TestExtension.class.getName()));
+        Files.createDirectories(firstModule.resolve("org/opensearch/dataprepper/plugins/test"));
+        writeIndex(secondModule, PluginIndexProcessor.EXTENSIONS_INDEX_RESOURCE, List.of());
+        Files.createDirectories(secondModule.resolve("org/opensearch/dataprepper/plugins/other"));
+
+        assertThat(createObjectUnderTest().findUnindexedExtensionLocations(), equalTo(Set.of()));
+    }
+
+    @Test
+    void findUnindexedExtensionLocations_ignores_locations_without_plugin_packages() throws IOException {
+        Files.createDirectories(firstModule.resolve("org/example"));
+
+        assertThat(createObjectUnderTest().findUnindexedExtensionLocations(), equalTo(Set.of()));
+    }
+
+    private static Set<String> toExternalForms(final Set<URL> urls) {
+        return urls.stream().map(URL::toExternalForm).collect(Collectors.toSet());
+    }
+
+    @Test
+    void loadExtensionClasses_returns_the_classes_from_the_index() throws IOException {
+        writeIndex(secondModule, PluginIndexProcessor.EXTENSIONS_INDEX_RESOURCE, List.of(TestExtension.class.getName()));
+
+        final ClasspathPluginIndex objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.loadExtensionClasses(), equalTo(Optional.of(Set.of(TestExtension.class))));
+        assertThat(objectUnderTest.loadPluginClasses(), equalTo(Optional.empty()));
+    }
+}
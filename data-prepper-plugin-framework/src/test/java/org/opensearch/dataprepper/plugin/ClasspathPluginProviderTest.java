@@ -13,6 +13,7 @@ import org.opensearch.dataprepper.model.sink.Sink;
 import org.opensearch.dataprepper.model.source.Source;
 import org.opensearch.dataprepper.plugins.test.TestSink;
 import org.opensearch.dataprepper.plugins.test.TestSource;
+import org.opensearch.dataprepper.plugins.test.TestPlugin;
 import org.reflections.Reflections;
 
 import java.util.Arrays;
@@ -20,6 +21,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -32,15 +34,17 @@ import static org.opensearch.dataprepper.model.annotations.DataPrepperPlugin.DEF
 
 class ClasspathPluginProviderTest {
 
+    private ClasspathPluginIndex pluginIndex;
     private Reflections reflections;
 
     @BeforeEach
     void setUp() {
+        pluginIndex = mock(ClasspathPluginIndex.class);
         reflections = mock(Reflections.class);
     }
 
     private ClasspathPluginProvider createObjectUnderTest() {
-        return new ClasspathPluginProvider(reflections);
+        return new ClasspathPluginProvider(pluginIndex, () -> reflections);
     }
 
     @Test
@@ -105,6 +109,52 @@ class ClasspathPluginProviderTest {
         assertThat(optionalPlugin.get(), equalTo(TestSource.class));
     }
 
+    @Nested
+    class WithPluginIndex {
+
+        @BeforeEach
+        void setUp() {
+            given(pluginIndex.loadPluginClasses())
+                    .willReturn(Optional.of(Set.of(TestSink.class, TestSource.class)));
+        }
+
+        @Test
+        void findPlugin_should_return_plugin_from_the_index_without_scanning() {
+            final Optional<Class<? extends Sink>> optionalPlugin = createObjectUnderTest().findPluginClass(Sink.class, "test_sink");
+            assertThat(optionalPlugin.isPresent(), equalTo(true));
+            assertThat(optionalPlugin.get(), equalTo(TestSink.class));
+
+            then(reflections).shouldHaveNoInteractions();
+        }
+
+        @Test
+        void findPlugin_should_return_plugin_for_deprecated_name_from_the_index() {
+            final Optional<Class<? extends Source>> optionalPlugin = createObjectUnderTest().findPluginClass(Source.class, "test_source_deprecated_name");
+            assertThat(optionalPlugin.isPresent(), equalTo(true));
+            assertThat(optionalPlugin.get(), equalTo(TestSource.class));
+        }
+
+        @Test
+        void findPlugin_should_scan_once_for_plugins_which_are_not_in_the_index() {
+            given(reflections.getTypesAnnotatedWith(DataPrepperPlugin.class))
+                    .willReturn(new HashSet<>(List.of(TestPlugin.class)));
+            final ClasspathPluginProvider objectUnderTest = createObjectUnderTest();
+
+            final Optional<Class<? extends TestPluggableInterface>> optionalPlugin =
+                    objectUnderTest.findPluginClass(TestPluggableInterface.class, "test_plugin");
+            assertThat(optionalPlugin.isPresent(), equalTo(true));
+            assertThat(optionalPlugin.get(), equalTo(TestPlugin.class));
+
+            for (int i = 0; i < 10; i++)
+                objectUnderTest.findPluginClass(Sink.class, UUID.randomUUID().toString());
+
+            assertThat(objectUnderTest.findPluginClass(Sink.class, "test_sink").isPresent(), equalTo(true));
+            then(reflections)
+                    .should()
+                    .getTypesAnnotatedWith(DataPrepperPlugin.class);
+        }
+    }
+
     @Nested
     class WithPredefinedPlugins {
 
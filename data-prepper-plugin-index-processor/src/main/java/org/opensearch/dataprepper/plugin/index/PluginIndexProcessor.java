@@ -0,0 +1,125 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugin.index;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * An annotation processor which writes an index of the Data Prepper plugins and extensions in a module.
+ * <p>
+ * Classes annotated with {@code DataPrepperPlugin} are listed in {@link #PLUGINS_INDEX_RESOURCE} and
+ * concrete classes implementing {@code ExtensionPlugin} are listed in {@link #EXTENSIONS_INDEX_RESOURCE},
+ * one binary class name per line. Both indexes are written even when they are empty, so that Data Prepper
+ * can tell the modules which were indexed from those which must still be scanned.
+ *
+ * @since 2.8
+ */
+@SupportedAnnotationTypes("*")
+public class PluginIndexProcessor extends AbstractProcessor {
+    public static final String PLUGINS_INDEX_RESOURCE = "META-INF/data-prepper/plugins.index";
+    public static final String EXTENSIONS_INDEX_RESOURCE = "META-INF/data-prepper/extensions.index";
+
+    static final String DATA_PREPPER_PLUGIN_ANNOTATION = "org.opensearch.dataprepper.model.annotations.DataPrepperPlugin";
+    static final String EXTENSION_PLUGIN_INTERFACE = "org.opensearch.dataprepper.model.plugin.ExtensionPlugin";
+
+    private final Set<String> pluginClassNames = new TreeSet<>();
+    private final Set<String> extensionClassNames = new TreeSet<>();
+    private final List<Element> pluginElements = new ArrayList<>();
+    private final List<Element> extensionElements = new ArrayList<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnvironment) {
+        if (roundEnvironment.processingOver()) {
+            writeIndex(PLUGINS_INDEX_RESOURCE, pluginClassNames, pluginElements);
+            writeIndex(EXTENSIONS_INDEX_RESOURCE, extensionClassNames, extensionElements);
+            return false;
+        }
+
+        final TypeElement extensionPluginElement = processingEnv.getElementUtils().getTypeElement(EXTENSION_PLUGIN_INTERFACE);
+        final TypeMirror extensionPluginType = extensionPluginElement == null ? null :
+                processingEnv.getTypeUtils().erasure(extensionPluginElement.asType());
+        for (final Element element : roundEnvironment.getRootElements()) {
+            collectTypes(element, extensionPluginType);
+        }
+        return false;
+    }
+
+    private void collectTypes(final Element element, final TypeMirror extensionPluginType) {
+        if (!element.getKind().isClass() && !element.getKind().isInterface()) {
+            return;
+        }
+        final TypeElement typeElement = (TypeElement) element;
+        final String binaryName = processingEnv.getElementUtils().getBinaryName(typeElement).toString();
+
+        if (isAnnotatedAsPlugin(typeElement)) {
+            pluginClassNames.add(binaryName);
+            pluginElements.add(typeElement);
+        }
+        if (extensionPluginType != null && isExtensionPlugin(typeElement, extensionPluginType)) {
+            extensionClassNames.add(binaryName);
+            extensionElements.add(typeElement);
+        }
+
+        for (final Element enclosedElement : typeElement.getEnclosedElements()) {
+            collectTypes(enclosedElement, extensionPluginType);
+        }
+    }
+
+    private static boolean isAnnotatedAsPlugin(final TypeElement typeElement) {
+        for (final AnnotationMirror annotationMirror : typeElement.getAnnotationMirrors()) {
+            final TypeElement annotationElement = (TypeElement) annotationMirror.getAnnotationType().asElement();
+            if (annotationElement.getQualifiedName().contentEquals(DATA_PREPPER_PLUGIN_ANNOTATION)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isExtensionPlugin(final TypeElement typeElement, final TypeMirror extensionPluginType) {
+        return typeElement.getKind() == ElementKind.CLASS &&
+                !typeElement.getModifiers().contains(Modifier.ABSTRACT) &&
+                processingEnv.getTypeUtils().isAssignable(processingEnv.getTypeUtils().erasure(typeElement.asType()), extensionPluginType);
+    }
+
+    private void writeIndex(final String resourceName, final Set<String> classNames, final List<Element> originatingElements) {
+        try {
+            final FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", resourceName,
+                    originatingElements.toArray(new Element[0]));
+            try (final Writer writer = resource.openWriter()) {
+                for (final String className : classNames) {
+                    writer.write(className);
+                    writer.write('\n');
+                }
+            }
+        } catch (final IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write the Data Prepper plugin index " + resourceName + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugin.index;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PluginIndexProcessorTest {
+    private static final String DATA_PREPPER_PLUGIN_SOURCE = "package org.opensearch.dataprepper.model.annotations;\n" +
+            "public @interface DataPrepperPlugin { String name(); Class<?> pluginType(); }";
+    private static final String EXTENSION_PLUGIN_SOURCE = "package org.opensearch.dataprepper.model.plugin;\n" +
+            "public interface ExtensionPlugin { }";
+
+    @TempDir
+    Path outputDirectory;
+
+    @Test
+    void process_writes_the_plugin_classes_to_the_plugins_index() throws IOException {
+        compile(
+                source("org.opensearch.dataprepper.model.annotations.DataPrepperPlugin", DATA_PREPPER_PLUGIN_SOURCE),
+                source("org.example.TestSink", "package org.example;\n" +
+                        "import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;\n" +
+                        "@DataPrepperPlugin(name = \"test_sink\", pluginType = Object.class)\n" +
+                        "public class TestSink {\n" +
+                        "  @DataPrepperPlugin(name = \"nested\", pluginType = Object.class)\n" +
+                        "  public static class Nested { }\n" +
+                        "}"),
+                source("org.example.NotAPlugin", "package org.example;\npublic class NotAPlugin { }"));
+
+        assertThat(readIndex(PluginIndexProcessor.PLUGINS_INDEX_RESOURCE),
+                equalTo(List.of("org.example.TestSink", "org.example.TestSink$Nested")));
+        assertThat(readIndex(PluginIndexProcessor.EXTENSIONS_INDEX_RESOURCE), equalTo(List.of()));
+    }
+
+    @Test
+    void process_writes_the_concrete_extension_classes_to_the_extensions_index() throws IOException {
+        compile(
+                source("org.opensearch.dataprepper.model.plugin.ExtensionPlugin", EXTENSION_PLUGIN_SOURCE),
+                source("org.example.TestExtension", "package org.example;\n" +
+                        "public class TestExtension implements org.opensearch.dataprepper.model.plugin.ExtensionPlugin { }"),
+                source("org.example.AbstractExtension", "package org.example;\n" +
+                        "public abstract class AbstractExtension implements org.opensearch.dataprepper.model.plugin.ExtensionPlugin { }"),
+                source("org.example.SubExtension", "package org.example;\n" +
+                        "public class SubExtension extends AbstractExtension { }"));
+
+        assertThat(readIndex(PluginIndexProcessor.EXTENSIONS_INDEX_RESOURCE),
+                equalTo(List.of("org.example.SubExtension", "org.example.TestExtension")));
+        assertThat(readIndex(PluginIndexProcessor.PLUGINS_INDEX_RESOURCE), equalTo(List.of()));
+    }
+
+    @Test
+    void process_writes_empty_indexes_without_plugins() throws IOException {
+        compile(source("org.example.NotAPlugin", "package org.example;\npublic class NotAPlugin { }"));
+
+        assertThat(readIndex(PluginIndexProcessor.PLUGINS_INDEX_RESOURCE), equalTo(List.of()));
+        assertThat(readIndex(PluginIndexProcessor.EXTENSIONS_INDEX_RESOURCE), equalTo(List.of()));
+    }
+
+    private void compile(final JavaFileObject... sources) throws IOException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (final StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            final List<String> options = new ArrayList<>(List.of("-d", outputDirectory.toString(), "-proc:only"));
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null, List.of(sources));
+            task.setProcessors(List.of(new PluginIndexProcessor()));
+            assertTrue(task.call());
+        }
+    }
+
+    private List<String> readIndex(final String resourceName) throws IOException {
+        return Files.readAllLines(outputDirectory.resolve(resourceName));
+    }
+
+    private static JavaFileObject source(final String className, final String code) {
+        return new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.ringbuffer;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A bounded, array-backed, multi-producer multi-consumer ring of elements. Each slot has a sequence which
+ * tells producers and consumers which lap of the ring the slot is in, so neither side takes a lock. Producers
+ * claim a contiguous range of positions for a whole batch with a single atomic add, and consumers claim all
+ * of the published elements they can take with a single compare-and-set.
+ * <p>
+ * The ring does not track free space itself. Producers must only publish elements for which capacity has
+ * been reserved, see {@link RingBuffer}. A producer may still briefly wait for a slot while a consumer which
+ * claimed it earlier finishes copying the element out.
+ *
+ * @param <E> the type of elements
+ */
+final class MpmcRingBuffer<E> {
+    private final int ringSize;
+    private final int mask;
+    private final Object[] entries;
+    private final AtomicLongArray sequences;
+    private final Sequence producerSequence = new Sequence(0);
+    private final Sequence consumerSequence = new Sequence(0);
+
+    MpmcRingBuffer(final int minimumSize) {
+        if (minimumSize < 1 || minimumSize > 1 << 30) {
+            throw new IllegalArgumentException("The ring buffer size must be between 1 and 2^30, but was " + minimumSize);
+        }
+        ringSize = minimumSize == 1 ? 1 : Integer.highestOneBit(minimumSize - 1) << 1;
+        mask = ringSize - 1;
+        entries = new Object[ringSize];
+        sequences = new AtomicLongArray(ringSize);
+        for (int i = 0; i < ringSize; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    int getRingSize() {
+        return ringSize;
+    }
+
+    /**
+     * Publishes a single element. Space for the element must already have been reserved.
+     */
+    void publish(final E element, final WaitStrategy waitStrategy) {
+        final long position = producerSequence.getAndAdd(1);
+        publishAt(position, element, waitStrategy);
+    }
+
+    /**
+     * Publishes all of the elements to consecutive positions. Space for the elements must already have been reserved.
+     */
+    void publishAll(final Collection<? extends E> elements, final WaitStrategy waitStrategy) {
+        long position = producerSequence.getAndAdd(elements.size());
+        for (final E element : elements) {
+            publishAt(position++, element, waitStrategy);
+        }
+    }
+
+    private void publishAt(final long position, final E element, final WaitStrategy waitStrategy) {
+        final int index = (int) position & mask;
+        int attempt = 0;
+        while (sequences.getAcquire(index) != position) {
+            waitStrategy.idle(attempt++);
+        }
+        entries[index] = element;
+        sequences.setRelease(index, position + 1);
+    }
+
+    /**
+     * Removes up to {@code maxElements} published elements in order and adds them to the target.
+     *
+     * @return the number of elements removed
+     */
+    @SuppressWarnings("unchecked")
+    int drainTo(final Collection<? super E> target, final int maxElements) {
+        while (true) {
+            final long position = consumerSequence.get();
+            int available = 0;
+            while (available < maxElements && sequences.getAcquire((int) (position + available) & mask) == position + available + 1) {
+                available++;
+            }
+            if (available == 0) {
+                return 0;
+            }
+            if (consumerSequence.compareAndSet(position, position + available)) {
+                for (long current = position; current < position + available; current++) {
+                    final int index = (int) current & mask;
+                    target.add((E) entries[index]);
+                    entries[index] = null;
+                    sequences.setRelease(index, current + ringSize);
+                }
+                return available;
+            }
+        }
+    }
+
+    /**
+     * Returns whether there are no claimed or published elements which are still to be consumed.
+     */
+    boolean isEmpty() {
+        return consumerSequence.get() >= producerSequence.get();
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.ringbuffer;
+
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
+import org.opensearch.dataprepper.model.buffer.AbstractBuffer;
+import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
+import org.opensearch.dataprepper.model.configuration.PluginSetting;
+import org.opensearch.dataprepper.model.record.Record;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+
+/**
+ * A bounded in-memory {@link Buffer} backed by a lock-free multi-producer multi-consumer ring. It has the same
+ * semantics as the {@code bounded_blocking} buffer: the capacity {@link #ATTRIBUTE_BUFFER_CAPACITY} bounds the
+ * number of unchecked records, {@link #read(int)} returns up to {@link #ATTRIBUTE_BATCH_SIZE} records, and the
+ * capacity of read records is released on {@link #checkpoint(CheckpointState)}. Writers and readers never take
+ * a lock, {@link #writeAll(Collection, int)} claims ring slots for the whole collection at once, and records are
+ * stored directly in a preallocated array rather than in per-record queue nodes. Waiting threads use the
+ * configured {@link WaitStrategy}.
+ */
+@DataPrepperPlugin(name = "ring_buffer", pluginType = Buffer.class)
+public class RingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
+    private static final Logger LOG = LoggerFactory.getLogger(RingBuffer.class);
+    private static final int DEFAULT_BUFFER_CAPACITY = 12_800;
+    private static final int DEFAULT_BATCH_SIZE = 200;
+    private static final String DEFAULT_WAIT_STRATEGY = "sleeping";
+    private static final String PLUGIN_NAME = "ring_buffer";
+    private static final String ATTRIBUTE_BUFFER_CAPACITY = "buffer_size";
+    private static final String ATTRIBUTE_BATCH_SIZE = "batch_size";
+    private static final String ATTRIBUTE_WAIT_STRATEGY = "wait_strategy";
+    private static final String RING_BUFFER = "RingBuffer";
+    private static final String BUFFER_USAGE_METRIC = "bufferUsage";
+    private static final long NO_TIMEOUT_FIRST_RECORD_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    public static final String CAPACITY_USED_METRIC = "capacityUsed";
+    private final int bufferCapacity;
+    private final int batchSize;
+    private final WaitStrategy waitStrategy;
+    private final MpmcRingBuffer<T> ringBuffer;
+    private final Sequence capacityUsed = new Sequence(0);
+    private final String pipelineName;
+
+    /**
+     * Creates a RingBuffer with the given (fixed) capacity.
+     *
+     * @param bufferCapacity the capacity of the buffer
+     * @param batchSize      the batch size for {@link #read(int)}
+     * @param waitStrategy   how threads wait for records or capacity
+     * @param pipelineName   the name of the associated Pipeline
+     */
+    public RingBuffer(final int bufferCapacity, final int batchSize, final WaitStrategy waitStrategy, final String pipelineName) {
+        super(RING_BUFFER, pipelineName);
+        this.bufferCapacity = bufferCapacity;
+        this.batchSize = batchSize;
+        this.waitStrategy = checkNotNull(waitStrategy, "waitStrategy cannot be null");
+        this.ringBuffer = new MpmcRingBuffer<>(bufferCapacity);
+        this.pipelineName = pipelineName;
+
+        final PluginMetrics pluginMetrics = PluginMetrics.fromNames(RING_BUFFER, pipelineName);
+
+        pluginMetrics.gauge(CAPACITY_USED_METRIC, capacityUsed, Sequence::get);
+        pluginMetrics.gauge(BUFFER_USAGE_METRIC, capacityUsed, used -> (double) used.get() / bufferCapacity * 100);
+    }
+
+    /**
+     * Mandatory constructor for Data Prepper Component - This constructor is used by Data Prepper runtime engine to construct an
+     * instance of {@link RingBuffer} using an instance of {@link PluginSetting} which has access to
+     * pluginSetting metadata from pipeline pluginSetting file. Buffer settings like `buffer_size`, `batch_size` and
+     * `wait_strategy` are optional and can be passed via {@link PluginSetting}, if not present default values will
+     * be used to create the buffer.
+     *
+     * @param pluginSetting instance with metadata information from pipeline pluginSetting file.
+     */
+    public RingBuffer(final PluginSetting pluginSetting) {
+        this(checkNotNull(pluginSetting, "PluginSetting cannot be null")
+                        .getIntegerOrDefault(ATTRIBUTE_BUFFER_CAPACITY, DEFAULT_BUFFER_CAPACITY),
+                pluginSetting.getIntegerOrDefault(ATTRIBUTE_BATCH_SIZE, DEFAULT_BATCH_SIZE),
+                WaitStrategy.valueOf(pluginSetting.getStringOrDefault(ATTRIBUTE_WAIT_STRATEGY, DEFAULT_WAIT_STRATEGY).toUpperCase()),
+                pluginSetting.getPipelineName());
+    }
+
+    @Override
+    public void doWrite(final T record, final int timeoutInMillis) throws TimeoutException {
+        checkNotNull(record, "record cannot be null");
+        try {
+            if (!tryReserveCapacity(1, timeoutInMillis)) {
+                throw new TimeoutException(format("Pipeline [%s] - Buffer is full, timed out waiting for a slot",
+                        pipelineName));
+            }
+        } catch (final InterruptedException ex) {
+            LOG.error("Pipeline [{}] - Buffer is full, interrupted while waiting to write the record", pipelineName, ex);
+            Thread.currentThread().interrupt();
+            throw new TimeoutException("Buffer is full, timed out waiting for a slot");
+        }
+        ringBuffer.publish(record, waitStrategy);
+    }
+
+    @Override
+    public void doWriteAll(final Collection<T> records, final int timeoutInMillis) throws Exception {
+        final int size = records.size();
+        if (size > bufferCapacity) {
+            throw new SizeOverflowException(format("Buffer capacity too small for the number of records: %d", size));
+        }
+        for (final T record : records) {
+            checkNotNull(record, "records cannot contain null");
+        }
+        try {
+            if (!tryReserveCapacity(size, timeoutInMillis)) {
+                throw new TimeoutException(
+                        format("Pipeline [%s] - Buffer does not have enough capacity left for the number of records: %d, " +
+                                        "timed out waiting for slots.",
+                                pipelineName, size));
+            }
+        } catch (final InterruptedException ex) {
+            LOG.error("Pipeline [{}] - Buffer does not have enough capacity left for the number of records: {}, " +
+                            "interrupted while waiting to write the records",
+                    pipelineName, size, ex);
+            Thread.currentThread().interrupt();
+            throw new TimeoutException(
+                    format("Pipeline [%s] - Buffer does not have enough capacity left for the number of records: %d, " +
+                                    "timed out waiting for slots.",
+                            pipelineName, size));
+        }
+        ringBuffer.publishAll(records, waitStrategy);
+    }
+
+    /**
+     * Retrieves and removes the batch of records from the head of the ring. The batch size is defined/determined by
+     * the configuration attribute {@link #ATTRIBUTE_BATCH_SIZE} or the @param timeoutInMillis. When the timeout is 0,
+     * this waits briefly for the first record and then returns the records which are available.
+     *
+     * @param timeoutInMillis how long to wait before giving up
+     * @return The earliest batch of records in the buffer which are still not read.
+     */
+    @Override
+    public Map.Entry<Collection<T>, CheckpointState> doRead(final int timeoutInMillis) {
+        final List<T> records = new ArrayList<>(batchSize);
+        final long waitNanos = timeoutInMillis == 0 ? NO_TIMEOUT_FIRST_RECORD_WAIT_NANOS : TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+        final long deadline = System.nanoTime() + waitNanos;
+
+        int recordsRead = ringBuffer.drainTo(records, batchSize);
+        int attempt = 0;
+        while (recordsRead < batchSize && System.nanoTime() - deadline < 0) {
+            if (timeoutInMillis == 0 && recordsRead > 0) {
+                break;
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                LOG.info("Pipeline [{}] - Interrupt received while reading from buffer", pipelineName);
+                throw new RuntimeException(new InterruptedException());
+            }
+            final int drained = ringBuffer.drainTo(records, batchSize - recordsRead);
+            if (drained == 0) {
+                waitStrategy.idle(attempt++);
+            } else {
+                recordsRead += drained;
+                attempt = 0;
+            }
+        }
+
+        updateLatency(records);
+        final CheckpointState checkpointState = new CheckpointState(recordsRead);
+        return new AbstractMap.SimpleEntry<>(records, checkpointState);
+    }
+
+    private boolean tryReserveCapacity(final int size, final int timeoutInMillis) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+        int attempt = 0;
+        while (true) {
+            final long used = capacityUsed.get();
+            if (used + size <= bufferCapacity) {
+                if (capacityUsed.compareAndSet(used, used + size)) {
+                    return true;
+                }
+                continue;
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            waitStrategy.idle(attempt++);
+        }
+    }
+
+    /**
+     * Returns the default PluginSetting object with default values.
+     * @return PluginSetting
+     */
+    public static PluginSetting getDefaultPluginSettings() {
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put(ATTRIBUTE_BUFFER_CAPACITY, DEFAULT_BUFFER_CAPACITY);
+        settings.put(ATTRIBUTE_BATCH_SIZE, DEFAULT_BATCH_SIZE);
+        settings.put(ATTRIBUTE_WAIT_STRATEGY, DEFAULT_WAIT_STRATEGY);
+        return new PluginSetting(PLUGIN_NAME, settings);
+    }
+
+    @Override
+    public void doCheckpoint(final CheckpointState checkpointState) {
+        capacityUsed.addAndGet(-checkpointState.getNumRecordsToBeChecked());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return ringBuffer.isEmpty() && getRecordsInFlight() == 0;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.ringbuffer;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * How threads wait for records or for free capacity in the {@link RingBuffer}. Strategies trade CPU usage
+ * while waiting against how quickly a waiting thread notices the change.
+ */
+public enum WaitStrategy {
+    /**
+     * Spins on the CPU. This gives the lowest latency, but keeps a core busy for each waiting thread.
+     */
+    BUSY_SPIN {
+        @Override
+        void idle(final int attempt) {
+            Thread.onSpinWait();
+        }
+    },
+    /**
+     * Spins briefly and then yields the CPU to other threads.
+     */
+    YIELDING {
+        @Override
+        void idle(final int attempt) {
+            if (attempt < SPIN_ATTEMPTS) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+    },
+    /**
+     * Spins briefly, yields and then parks the thread for short periods. This uses little CPU while idle.
+     */
+    SLEEPING {
+        @Override
+        void idle(final int attempt) {
+            if (attempt < SPIN_ATTEMPTS) {
+                Thread.onSpinWait();
+            } else if (attempt < SPIN_ATTEMPTS + YIELD_ATTEMPTS) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(SLEEP_NANOS);
+            }
+        }
+    };
+
+    private static final int SPIN_ATTEMPTS = 100;
+    private static final int YIELD_ATTEMPTS = 100;
+    private static final long SLEEP_NANOS = 100_000L;
+
+    /**
+     * Waits once before the caller checks its condition again.
+     *
+     * @param attempt the number of times the caller has already waited for the current condition
+     */
+    abstract void idle(int attempt);
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.ringbuffer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MpmcRingBufferTest {
+    @ParameterizedTest
+    @CsvSource({"1, 1", "2, 2", "3, 4", "13, 16", "16, 16", "12800, 16384"})
+    void ring_size_is_the_next_power_of_two(final int minimumSize, final int expectedRingSize) {
+        assertThat(new MpmcRingBuffer<String>(minimumSize).getRingSize(), equalTo(expectedRingSize));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, (1 << 30) + 1})
+    void constructor_throws_for_invalid_sizes(final int minimumSize) {
+        assertThrows(IllegalArgumentException.class, () -> new MpmcRingBuffer<String>(minimumSize));
+    }
+
+    @Test
+    void drainTo_returns_published_elements_in_order_across_laps() {
+        final MpmcRingBuffer<Integer> objectUnderTest = new MpmcRingBuffer<>(4);
+        final List<Integer> drained = new ArrayList<>();
+        int next = 0;
+        for (int lap = 0; lap < 10; lap++) {
+            objectUnderTest.publishAll(List.of(next, next + 1, next + 2), WaitStrategy.BUSY_SPIN);
+            objectUnderTest.publish(next + 3, WaitStrategy.BUSY_SPIN);
+            next += 4;
+            assertThat(objectUnderTest.drainTo(drained, 3), equalTo(3));
+            assertThat(objectUnderTest.drainTo(drained, 3), equalTo(1));
+            assertThat(objectUnderTest.isEmpty(), equalTo(true));
+        }
+        for (int i = 0; i < next; i++) {
+            assertThat(drained.get(i), equalTo(i));
+        }
+    }
+
+    @Test
+    void drainTo_on_empty_ring_returns_zero() {
+        final MpmcRingBuffer<String> objectUnderTest = new MpmcRingBuffer<>(4);
+        final List<String> drained = new ArrayList<>();
+
+        assertThat(objectUnderTest.drainTo(drained, 4), equalTo(0));
+        assertThat(drained.isEmpty(), equalTo(true));
+        assertThat(objectUnderTest.isEmpty(), equalTo(true));
+    }
+
+    @Test
+    void isEmpty_is_false_with_published_elements() {
+        final MpmcRingBuffer<String> objectUnderTest = new MpmcRingBuffer<>(4);
+        objectUnderTest.publish("a", WaitStrategy.SLEEPING);
+
+        assertThat(objectUnderTest.isEmpty(), equalTo(false));
+    }
+
+    @Test
+    void idle_returns_for_every_wait_strategy() {
+        for (final WaitStrategy waitStrategy : WaitStrategy.values()) {
+            for (int attempt = 0; attempt < 250; attempt++) {
+                waitStrategy.idle(attempt);
+            }
+        }
+    }
+}
@@ -0,0 +1,429 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.ringbuffer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opensearch.dataprepper.metrics.MetricNames;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
+import org.opensearch.dataprepper.model.configuration.PluginSetting;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RingBufferTests {
+    private static final String ATTRIBUTE_BATCH_SIZE = "batch_size";
+    private static final String ATTRIBUTE_BUFFER_SIZE = "buffer_size";
+    private static final String ATTRIBUTE_WAIT_STRATEGY = "wait_strategy";
+    private static final String TEST_PIPELINE_NAME = "test-pipeline";
+    private static final String PLUGIN_NAME = "RingBuffer";
+    private static final int TEST_BATCH_SIZE = 3;
+    private static final int TEST_BUFFER_SIZE = 13;
+    private static final int TEST_WRITE_TIMEOUT = 10;
+    private static final int TEST_BATCH_READ_TIMEOUT = 500;
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor();
+
+    @BeforeEach
+    public void setup() {
+        Metrics.globalRegistry.getRegistries().forEach(Metrics.globalRegistry::remove);
+        Metrics.globalRegistry.getMeters().forEach(Metrics.globalRegistry::remove);
+        Metrics.addRegistry(new SimpleMeterRegistry());
+    }
+
+    @Test
+    public void testCreationUsingPluginSetting() {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(completePluginSettingForRingBuffer());
+        assertThat(ringBuffer, notNullValue());
+    }
+
+    @Test
+    public void testCreationUsingNullPluginSetting() {
+        final NullPointerException exception = assertThrows(NullPointerException.class,
+                () -> new RingBuffer<Record<String>>((PluginSetting) null));
+        assertThat(exception.getMessage(), is(equalTo("PluginSetting cannot be null")));
+    }
+
+    @Test
+    public void testCreationUsingDefaultPluginSettings() {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(RingBuffer.getDefaultPluginSettings());
+        assertThat(ringBuffer, notNullValue());
+    }
+
+    @Test
+    public void testCreationUsingInvalidWaitStrategy() {
+        final PluginSetting pluginSetting = completePluginSettingForRingBuffer();
+        pluginSetting.getSettings().put(ATTRIBUTE_WAIT_STRATEGY, "unknown");
+        assertThrows(IllegalArgumentException.class, () -> new RingBuffer<Record<String>>(pluginSetting));
+    }
+
+    @Test
+    public void testInsertNull() {
+        final RingBuffer<Record<String>> ringBuffer = createObjectUnderTest(TEST_BUFFER_SIZE);
+        assertThrows(NullPointerException.class, () -> ringBuffer.write(null, TEST_WRITE_TIMEOUT));
+        assertThrows(NullPointerException.class, () -> ringBuffer.writeAll(Collections.singletonList(null), TEST_WRITE_TIMEOUT));
+        assertTrue(ringBuffer.isEmpty());
+        verifyBufferUsageMetric(0);
+    }
+
+    @Test
+    public void testWriteAllSizeOverflow() {
+        final RingBuffer<Record<String>> ringBuffer = createObjectUnderTest(TEST_BUFFER_SIZE);
+        final Collection<Record<String>> testRecords = generateBatchRecords(TEST_BUFFER_SIZE + 1);
+        assertThrows(SizeOverflowException.class, () -> ringBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT));
+        verifyBufferUsageMetric(0);
+    }
+
+    @Test
+    public void testNoEmptySpaceWriteOnly() throws TimeoutException {
+        final RingBuffer<Record<String>> ringBuffer = createObjectUnderTest(1);
+        ringBuffer.write(new Record<>("FILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+        assertThrows(TimeoutException.class, () -> ringBuffer.write(new Record<>("TIMEOUT"), TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    public void testNoAvailSpaceWriteAllOnly() throws Exception {
+        final RingBuffer<Record<String>> ringBuffer = createObjectUnderTest(2);
+        final Collection<Record<String>> testRecords = generateBatchRecords(2);
+        ringBuffer.write(new Record<>("FILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+        assertThrows(TimeoutException.class, () -> ringBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    public void testNoEmptySpaceAfterUncheckedRead() throws TimeoutException {
+        final RingBuffer<Record<String>> ringBuffer = createObjectUnderTest(1);
+        ringBuffer.write(new Record<>("FILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+
+        ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+
+        final Record<String> timeoutRecord = new Record<>("TIMEOUT");
+        assertThrows(TimeoutException.class, () -> ringBuffer.write(timeoutRecord, TEST_WRITE_TIMEOUT));
+        assertThrows(
+                TimeoutException.class, () -> ringBuffer.writeAll(Collections.singletonList(timeoutRecord), TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    public void testWriteIntoEmptySpaceAfterCheckedRead() throws TimeoutException {
+        final RingBuffer<Record<String>> ringBuffer = createObjectUnderTest(1);
+        ringBuffer.write(new Record<>("FILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        ringBuffer.checkpoint(readResult.getValue());
+
+        ringBuffer.write(new Record<>("REFILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readCheckResult = ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertEquals(1, readCheckResult.getKey().size());
+        assertThat(readCheckResult.getKey().iterator().next().getData(), equalTo("REFILL_THE_BUFFER"));
+    }
+
+    @Test
+    public void testWriteAllIntoEmptySpaceAfterCheckedRead() throws Exception {
+        final RingBuffer<Record<String>> ringBuffer = createObjectUnderTest(2);
+        final Collection<Record<String>> testRecords = generateBatchRecords(2);
+        ringBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT);
+        verifyBufferUsageMetric(100.0);
+        verifyCapacityUsedMetric(2);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        ringBuffer.checkpoint(readResult.getValue());
+        verifyBufferUsageMetric(0.0);
+        verifyCapacityUsedMetric(0);
+
+        ringBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT);
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readCheckResult = ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertEquals(2, readCheckResult.getKey().size());
+    }
+
+    @Test
+    public void testWriteWaitsForCapacityReleasedByCheckpoint() throws Exception {
+        final RingBuffer<Record<String>> ringBuffer = createObjectUnderTest(1);
+        ringBuffer.write(new Record<>("FILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+
+        final Future<?> checkpointFuture = EXECUTOR.submit(() -> {
+            Thread.sleep(100);
+            ringBuffer.checkpoint(readResult.getValue());
+            return null;
+        });
+        ringBuffer.write(new Record<>("AFTER_CHECKPOINT"), TEST_BATCH_READ_TIMEOUT * 4);
+        checkpointFuture.get(1, TimeUnit.SECONDS);
+
+        assertFalse(ringBuffer.isEmpty());
+    }
+
+    @Test
+    public void testWriteWhenInterruptedWhileWaitingForCapacity() throws TimeoutException {
+        final RingBuffer<Record<String>> ringBuffer = createObjectUnderTest(1);
+        ringBuffer.write(new Record<>("FILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(TimeoutException.class, () -> ringBuffer.write(new Record<>("INTERRUPTED"), TEST_BATCH_READ_TIMEOUT));
+        } finally {
+            assertTrue(Thread.interrupted());
+        }
+    }
+
+    @Test
+    public void testWriteAllWhenInterruptedWhileWaitingForCapacity() throws TimeoutException {
+        final RingBuffer<Record<String>> ringBuffer = createObjectUnderTest(2);
+        ringBuffer.write(new Record<>("FILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(TimeoutException.class, () -> ringBuffer.writeAll(generateBatchRecords(2), TEST_BATCH_READ_TIMEOUT));
+        } finally {
+            assertTrue(Thread.interrupted());
+        }
+    }
+
+    @Test
+    public void testReadWhenInterruptedWhileWaitingForRecords() {
+        final RingBuffer<Record<String>> ringBuffer = createObjectUnderTest(TEST_BUFFER_SIZE);
+
+        Thread.currentThread().interrupt();
+        try {
+            final RuntimeException exception = assertThrows(RuntimeException.class, () -> ringBuffer.read(TEST_BATCH_READ_TIMEOUT));
+            assertThat(exception.getCause() instanceof InterruptedException, is(true));
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    public void testReadEmptyBuffer() {
+        final RingBuffer<Record<String>> ringBuffer = createObjectUnderTest(TEST_BUFFER_SIZE);
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(readResult.getKey().size(), is(0));
+        assertThat(readResult.getValue().getNumRecordsToBeChecked(), is(0));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, TEST_BATCH_READ_TIMEOUT})
+    public void testBatchRead(final int readTimeout) throws Exception {
+        final PluginSetting completePluginSetting = completePluginSettingForRingBuffer();
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(completePluginSetting);
+        final int testSize = 5;
+        for (int i = 0; i < testSize; i++) {
+            ringBuffer.write(new Record<>("TEST" + i), TEST_WRITE_TIMEOUT);
+        }
+        verifyBufferUsageMetric(38.46153846153847);
+        final Map.Entry<Collection<Record<String>>, CheckpointState> partialReadResult = ringBuffer.read(readTimeout);
+        final Collection<Record<String>> partialRecords = partialReadResult.getKey();
+        final int expectedBatchSize = (Integer) completePluginSetting.getAttributeFromSettings(ATTRIBUTE_BATCH_SIZE);
+        assertThat(partialRecords.size(), is(expectedBatchSize));
+        assertEquals(expectedBatchSize, partialReadResult.getValue().getNumRecordsToBeChecked());
+        int i = 0;
+        for (final Record<String> record : partialRecords) {
+            assertThat(record.getData(), equalTo("TEST" + i));
+            i++;
+        }
+        verifyBufferUsageMetric(38.46153846153847);
+        ringBuffer.checkpoint(partialReadResult.getValue());
+        verifyBufferUsageMetric(15.384615384615385);
+        final Map.Entry<Collection<Record<String>>, CheckpointState> finalReadResult = ringBuffer.read(readTimeout);
+        final Collection<Record<String>> finalBatch = finalReadResult.getKey();
+        assertThat(finalBatch.size(), is(testSize - expectedBatchSize));
+        assertEquals(testSize - expectedBatchSize, finalReadResult.getValue().getNumRecordsToBeChecked());
+        for (final Record<String> record : finalBatch) {
+            assertThat(record.getData(), equalTo("TEST" + i));
+            i++;
+        }
+        ringBuffer.checkpoint(finalReadResult.getValue());
+        verifyBufferUsageMetric(0.0);
+        assertTrue(ringBuffer.isEmpty());
+    }
+
+    @Test
+    public void testBufferIsEmpty() {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(completePluginSettingForRingBuffer());
+
+        assertTrue(ringBuffer.isEmpty());
+        verifyBufferUsageMetric(0);
+    }
+
+    @Test
+    public void testBufferIsNotEmpty() throws Exception {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(completePluginSettingForRingBuffer());
+
+        ringBuffer.write(new Record<>("TEST"), TEST_WRITE_TIMEOUT);
+
+        assertFalse(ringBuffer.isEmpty());
+        verifyBufferUsageMetric(7.6923076923076925);
+    }
+
+    @Test
+    public void testBufferIsNotEmptyWithUncheckedRecords() throws Exception {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(completePluginSettingForRingBuffer());
+        ringBuffer.write(new Record<>("TEST"), TEST_WRITE_TIMEOUT);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = ringBuffer.read(0);
+
+        assertFalse(ringBuffer.isEmpty());
+        ringBuffer.checkpoint(readResult.getValue());
+        assertTrue(ringBuffer.isEmpty());
+    }
+
+    @Test
+    void testNonZeroBatchDelayReturnsAllRecords() throws Exception {
+        final RingBuffer<Record<String>> buffer = new RingBuffer<>(completePluginSettingForRingBuffer());
+
+        final Collection<Record<String>> testRecords = generateBatchRecords(1);
+        buffer.writeAll(testRecords, TEST_WRITE_TIMEOUT);
+
+        final Collection<Record<String>> testRecords2 = generateBatchRecords(1);
+        EXECUTOR.submit(() -> {
+            Thread.sleep(TEST_BATCH_READ_TIMEOUT / 2);
+            buffer.writeAll(testRecords2, TEST_WRITE_TIMEOUT);
+            return null;
+        });
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = buffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(readResult.getKey().size(), is(testRecords.size() + testRecords2.size()));
+        assertThat(readResult.getValue().getNumRecordsToBeChecked(), is(testRecords.size() + testRecords2.size()));
+    }
+
+    @Test
+    void testZeroBatchDelayReturnsAvailableRecords() throws Exception {
+        final RingBuffer<Record<String>> buffer = new RingBuffer<>(completePluginSettingForRingBuffer());
+
+        final Collection<Record<String>> testRecords = generateBatchRecords(1);
+        buffer.writeAll(testRecords, TEST_WRITE_TIMEOUT);
+
+        final Collection<Record<String>> testRecords2 = generateBatchRecords(1);
+        EXECUTOR.submit(() -> {
+            Thread.sleep(1000);
+            buffer.writeAll(testRecords2, TEST_WRITE_TIMEOUT);
+            return null;
+        });
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = buffer.read(0);
+        assertThat(readResult.getKey().size(), is(1));
+        assertThat(readResult.getValue().getNumRecordsToBeChecked(), is(1));
+    }
+
+    @ParameterizedTest
+    @EnumSource(WaitStrategy.class)
+    void testConcurrentWritersAndReaders(final WaitStrategy waitStrategy) throws Exception {
+        final int writers = 4;
+        final int readers = 3;
+        final int recordsPerWriter = 2_000;
+        final RingBuffer<Record<String>> buffer = new RingBuffer<>(64, 16, waitStrategy, TEST_PIPELINE_NAME);
+        final ExecutorService executorService = Executors.newFixedThreadPool(writers + readers);
+        try {
+            final List<Future<?>> writerFutures = new ArrayList<>();
+            for (int writer = 0; writer < writers; writer++) {
+                final int writerId = writer;
+                writerFutures.add(executorService.submit(() -> {
+                    for (int i = 0; i < recordsPerWriter; i += 4) {
+                        final List<Record<String>> batch = new ArrayList<>();
+                        for (int j = i; j < i + 4; j++) {
+                            batch.add(new Record<>(writerId + "-" + j));
+                        }
+                        buffer.writeAll(batch, 10_000);
+                    }
+                    return null;
+                }));
+            }
+            final List<Future<Set<String>>> readerFutures = new ArrayList<>();
+            for (int reader = 0; reader < readers; reader++) {
+                readerFutures.add(executorService.submit(() -> {
+                    final Set<String> seen = new HashSet<>();
+                    while (!allDone(writerFutures) || !buffer.isEmpty()) {
+                        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = buffer.read(10);
+                        readResult.getKey().forEach(record -> seen.add(record.getData()));
+                        buffer.checkpoint(readResult.getValue());
+                    }
+                    return seen;
+                }));
+            }
+
+            final Set<String> allSeen = new HashSet<>();
+            int totalRead = 0;
+            for (final Future<Set<String>> readerFuture : readerFutures) {
+                final Set<String> seen = readerFuture.get(60, TimeUnit.SECONDS);
+                totalRead += seen.size();
+                allSeen.addAll(seen);
+            }
+            assertThat(totalRead, equalTo(writers * recordsPerWriter));
+            assertThat(allSeen.size(), equalTo(writers * recordsPerWriter));
+            verifyBufferUsageMetric(0.0);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static boolean allDone(final List<Future<?>> futures) {
+        return futures.stream().allMatch(Future::isDone);
+    }
+
+    private RingBuffer<Record<String>> createObjectUnderTest(final int bufferSize) {
+        return new RingBuffer<>(bufferSize, TEST_BATCH_SIZE, WaitStrategy.SLEEPING, TEST_PIPELINE_NAME);
+    }
+
+    private PluginSetting completePluginSettingForRingBuffer() {
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put(ATTRIBUTE_BUFFER_SIZE, TEST_BUFFER_SIZE);
+        settings.put(ATTRIBUTE_BATCH_SIZE, TEST_BATCH_SIZE);
+        settings.put(ATTRIBUTE_WAIT_STRATEGY, "yielding");
+        final PluginSetting testSettings = new PluginSetting(PLUGIN_NAME, settings);
+        testSettings.setPipelineName(TEST_PIPELINE_NAME);
+        return testSettings;
+    }
+
+    private Collection<Record<String>> generateBatchRecords(final int numRecords) {
+        final Collection<Record<String>> results = new ArrayList<>();
+        for (int i = 0; i < numRecords; i++) {
+            results.add(new Record<>(UUID.randomUUID().toString()));
+        }
+        return results;
+    }
+
+    private void verifyBufferUsageMetric(final double expectedBufferUsage) {
+        assertThat(getGauge("bufferUsage").value(), is(expectedBufferUsage));
+    }
+
+    private void verifyCapacityUsedMetric(final double expectedCapacityUsed) {
+        assertThat(getGauge(RingBuffer.CAPACITY_USED_METRIC).value(), is(expectedCapacityUsed));
+    }
+
+    private Gauge getGauge(final String metricName) {
+        final Gauge gauge = Metrics.globalRegistry.get(new StringJoiner(MetricNames.DELIMITER)
+                .add(TEST_PIPELINE_NAME).add(PLUGIN_NAME)
+                .add(metricName).toString()).gauge();
+        assertThat(gauge, is(notNullValue()));
+        return gauge;
+    }
+}
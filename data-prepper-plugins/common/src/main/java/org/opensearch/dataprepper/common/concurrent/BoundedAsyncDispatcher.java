@@ -0,0 +1,126 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.common.concurrent;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Dispatches requests to a consumer either on the calling thread or, when a maximum number of in-flight requests
+ * is configured, on a dedicated thread pool. In the asynchronous mode the calling thread only blocks when the
+ * maximum number of requests are already in flight.
+ * <p>
+ * Sinks use this to send requests concurrently while keeping the number of outstanding requests bounded.
+ *
+ * @param <T> The type of the requests
+ */
+public class BoundedAsyncDispatcher<T> {
+    private static final Logger LOG = LoggerFactory.getLogger(BoundedAsyncDispatcher.class);
+
+    private final Consumer<T> requestConsumer;
+    private final int maxInFlightRequests;
+    private final Semaphore inFlightPermits;
+    private final ExecutorService executorService;
+
+    /**
+     * Creates a new dispatcher.
+     *
+     * @param maxInFlightRequests The maximum number of requests in flight. Requests are sent on the calling thread when this is 0.
+     * @param requestConsumer Sends a request
+     * @param threadNamePrefix The prefix for the names of the threads which send the requests
+     */
+    public BoundedAsyncDispatcher(final int maxInFlightRequests,
+                                  final Consumer<T> requestConsumer,
+                                  final String threadNamePrefix) {
+        this(maxInFlightRequests, requestConsumer, maxInFlightRequests > 0 ?
+                Executors.newFixedThreadPool(maxInFlightRequests,
+                        BackgroundThreadFactory.defaultExecutorThreadFactory(threadNamePrefix)) : null);
+    }
+
+    BoundedAsyncDispatcher(final int maxInFlightRequests,
+                           final Consumer<T> requestConsumer,
+                           final ExecutorService executorService) {
+        this.requestConsumer = Objects.requireNonNull(requestConsumer);
+        this.maxInFlightRequests = Math.max(maxInFlightRequests, 0);
+        this.inFlightPermits = new Semaphore(this.maxInFlightRequests);
+        this.executorService = executorService;
+    }
+
+    public boolean isAsynchronous() {
+        return maxInFlightRequests > 0;
+    }
+
+    /**
+     * Sends the request. In the asynchronous mode this returns as soon as the request was handed to
+     * the thread pool, waiting first for an in-flight request to complete if the limit has been reached.
+     *
+     * @param request the request to send
+     */
+    public void dispatch(final T request) {
+        if (!isAsynchronous()) {
+            requestConsumer.accept(request);
+            return;
+        }
+
+        try {
+            inFlightPermits.acquire();
+        } catch (final InterruptedException e) {
+            LOG.warn("Interrupted while waiting for an in-flight request to complete, sending the request on the current thread.");
+            Thread.currentThread().interrupt();
+            requestConsumer.accept(request);
+            return;
+        }
+
+        try {
+            executorService.execute(() -> {
+                try {
+                    requestConsumer.accept(request);
+                } catch (final RuntimeException e) {
+                    LOG.error("Unexpected exception while sending a request.", e);
+                } finally {
+                    inFlightPermits.release();
+                }
+            });
+        } catch (final RuntimeException e) {
+            inFlightPermits.release();
+            LOG.warn("Unable to send the request asynchronously, sending it on the current thread.", e);
+            requestConsumer.accept(request);
+        }
+    }
+
+    public int getInFlightRequests() {
+        return maxInFlightRequests - inFlightPermits.availablePermits();
+    }
+
+    /**
+     * Stops accepting requests and waits for in-flight requests to complete.
+     *
+     * @param timeout the maximum time to wait for in-flight requests
+     */
+    public void shutdown(final Duration timeout) {
+        if (executorService == null) {
+            return;
+        }
+        executorService.shutdown();
+        try {
+            if (!executorService.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                LOG.warn("Timed out waiting for {} in-flight requests to complete.", getInFlightRequests());
+                executorService.shutdownNow();
+            }
+        } catch (final InterruptedException e) {
+            executorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
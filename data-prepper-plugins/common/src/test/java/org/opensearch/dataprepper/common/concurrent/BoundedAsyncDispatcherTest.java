@@ -0,0 +1,175 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.common.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class BoundedAsyncDispatcherTest {
+    private static final String THREAD_NAME_PREFIX = "test-dispatcher";
+    private final String request = UUID.randomUUID().toString();
+
+    @Test
+    void dispatch_without_max_in_flight_requests_sends_on_the_calling_thread() {
+        final List<Thread> threads = new CopyOnWriteArrayList<>();
+        final BoundedAsyncDispatcher<String> objectUnderTest = new BoundedAsyncDispatcher<>(0, sentRequest -> threads.add(Thread.currentThread()), THREAD_NAME_PREFIX);
+
+        objectUnderTest.dispatch(request);
+
+        assertThat(objectUnderTest.isAsynchronous(), equalTo(false));
+        assertThat(threads, contains(Thread.currentThread()));
+        objectUnderTest.shutdown(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void dispatch_with_max_in_flight_requests_sends_on_another_thread() {
+        final List<String> sentRequests = new CopyOnWriteArrayList<>();
+        final List<Thread> threads = new CopyOnWriteArrayList<>();
+        final BoundedAsyncDispatcher<String> objectUnderTest = new BoundedAsyncDispatcher<>(2, sentRequest -> {
+            threads.add(Thread.currentThread());
+            sentRequests.add(sentRequest);
+        }, THREAD_NAME_PREFIX);
+
+        objectUnderTest.dispatch(request);
+        objectUnderTest.shutdown(Duration.ofSeconds(10));
+
+        assertThat(objectUnderTest.isAsynchronous(), equalTo(true));
+        assertThat(sentRequests, contains(request));
+        assertThat(threads.get(0).equals(Thread.currentThread()), equalTo(false));
+        assertThat(threads.get(0).getName(), startsWith(THREAD_NAME_PREFIX));
+        assertThat(objectUnderTest.getInFlightRequests(), equalTo(0));
+    }
+
+    @Test
+    void dispatch_blocks_when_the_max_in_flight_requests_are_in_flight() throws InterruptedException {
+        final int maxInFlightRequests = 2;
+        final CountDownLatch releaseLatch = new CountDownLatch(1);
+        final AtomicInteger concurrentRequests = new AtomicInteger();
+        final List<Integer> observedConcurrency = new CopyOnWriteArrayList<>();
+        final BoundedAsyncDispatcher<String> objectUnderTest = new BoundedAsyncDispatcher<>(maxInFlightRequests, sentRequest -> {
+            observedConcurrency.add(concurrentRequests.incrementAndGet());
+            try {
+                releaseLatch.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            concurrentRequests.decrementAndGet();
+        }, THREAD_NAME_PREFIX);
+
+        objectUnderTest.dispatch(request);
+        objectUnderTest.dispatch(request);
+        assertThat(objectUnderTest.getInFlightRequests(), equalTo(maxInFlightRequests));
+
+        final CountDownLatch thirdDispatched = new CountDownLatch(1);
+        final Thread dispatchingThread = new Thread(() -> {
+            objectUnderTest.dispatch(request);
+            thirdDispatched.countDown();
+        });
+        dispatchingThread.start();
+
+        assertThat(thirdDispatched.await(200, TimeUnit.MILLISECONDS), equalTo(false));
+
+        releaseLatch.countDown();
+        assertThat(thirdDispatched.await(10, TimeUnit.SECONDS), equalTo(true));
+        objectUnderTest.shutdown(Duration.ofSeconds(10));
+
+        assertThat(observedConcurrency.size(), equalTo(3));
+        for (final Integer concurrency : observedConcurrency) {
+            assertThat(concurrency, lessThanOrEqualTo(maxInFlightRequests));
+        }
+    }
+
+    @Test
+    void dispatch_releases_the_in_flight_permit_when_sending_throws() {
+        final BoundedAsyncDispatcher<String> objectUnderTest = new BoundedAsyncDispatcher<>(1, sentRequest -> {
+            throw new RuntimeException("test");
+        }, THREAD_NAME_PREFIX);
+
+        objectUnderTest.dispatch(request);
+        objectUnderTest.dispatch(request);
+        objectUnderTest.shutdown(Duration.ofSeconds(10));
+
+        assertThat(objectUnderTest.getInFlightRequests(), equalTo(0));
+    }
+
+    @Test
+    void dispatch_after_shutdown_sends_on_the_calling_thread() {
+        final List<Thread> threads = new CopyOnWriteArrayList<>();
+        final BoundedAsyncDispatcher<String> objectUnderTest = new BoundedAsyncDispatcher<>(1, sentRequest -> threads.add(Thread.currentThread()), THREAD_NAME_PREFIX);
+        objectUnderTest.shutdown(Duration.ofSeconds(10));
+
+        objectUnderTest.dispatch(request);
+
+        assertThat(threads, contains(Thread.currentThread()));
+        assertThat(objectUnderTest.getInFlightRequests(), equalTo(0));
+    }
+
+    @Test
+    void dispatch_when_interrupted_while_waiting_sends_on_the_calling_thread() {
+        final List<Thread> threads = new CopyOnWriteArrayList<>();
+        final ExecutorService executorService = mock(ExecutorService.class);
+        final BoundedAsyncDispatcher<String> objectUnderTest = new BoundedAsyncDispatcher<>(1, sentRequest -> threads.add(Thread.currentThread()), executorService);
+
+        objectUnderTest.dispatch(request);
+        Thread.currentThread().interrupt();
+        objectUnderTest.dispatch(request);
+
+        assertThat(Thread.interrupted(), equalTo(true));
+        assertThat(threads, contains(Thread.currentThread()));
+        verify(executorService).execute(any(Runnable.class));
+    }
+
+    @Test
+    void shutdown_stops_the_executor_when_in_flight_requests_do_not_complete() throws InterruptedException {
+        final ExecutorService executorService = mock(ExecutorService.class);
+        final Consumer<String> requestConsumer = mock(Consumer.class);
+        doThrow(RejectedExecutionException.class).when(executorService).execute(any(Runnable.class));
+        final BoundedAsyncDispatcher<String> objectUnderTest = new BoundedAsyncDispatcher<>(1, requestConsumer, executorService);
+
+        objectUnderTest.dispatch(request);
+        objectUnderTest.shutdown(Duration.ofMillis(1));
+
+        verify(requestConsumer).accept(request);
+        verify(executorService).shutdown();
+        verify(executorService).awaitTermination(1, TimeUnit.MILLISECONDS);
+        verify(executorService).shutdownNow();
+        assertThat(objectUnderTest.getInFlightRequests(), equalTo(0));
+    }
+
+    @Test
+    void dispatch_with_multiple_requests_sends_all_of_them() {
+        final String otherRequest = UUID.randomUUID().toString();
+        final List<String> sentRequests = new CopyOnWriteArrayList<>();
+        final BoundedAsyncDispatcher<String> objectUnderTest = new BoundedAsyncDispatcher<>(2, sentRequests::add, THREAD_NAME_PREFIX);
+
+        objectUnderTest.dispatch(request);
+        objectUnderTest.dispatch(otherRequest);
+        objectUnderTest.shutdown(Duration.ofSeconds(10));
+
+        assertThat(sentRequests, containsInAnyOrder(request, otherRequest));
+    }
+}
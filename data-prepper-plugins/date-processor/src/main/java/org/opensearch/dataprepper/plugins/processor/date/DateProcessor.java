@@ -12,6 +12,7 @@ import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
@@ -42,6 +43,8 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
     static final String DATE_PROCESSING_MATCH_FAILURE = "dateProcessingMatchFailure";
 
     private String keyToParse;
+    private EventKey eventKeyToParse;
+    private final EventKey destinationKey;
     private List<DateTimeFormatter> dateTimeFormatters;
     private Set<String> epochFormatters;
     private String outputFormat;
@@ -57,6 +60,7 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
         this.dateProcessorConfig = dateProcessorConfig;
         this.expressionEvaluator = expressionEvaluator;
         this.outputFormat = dateProcessorConfig.getOutputFormat();
+        this.destinationKey = EventKey.of(dateProcessorConfig.getDestination());
 
         dateProcessingMatchSuccessCounter = pluginMetrics.counter(DATE_PROCESSING_MATCH_SUCCESS);
         dateProcessingMatchFailureCounter = pluginMetrics.counter(DATE_PROCESSING_MATCH_FAILURE);
@@ -94,7 +98,7 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
                 }
 
                 if (zonedDateTime != null) {
-                    record.getData().put(dateProcessorConfig.getDestination(), zonedDateTime);
+                    record.getData().put(destinationKey, zonedDateTime);
                 }
             } catch (final Exception e) {
                 LOG.error("An exception occurred while attempting to process Event: ", e);
@@ -114,6 +118,7 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
     private void extractKeyAndFormatters() {
         for (DateProcessorConfig.DateMatch entry: dateProcessorConfig.getMatch()) {
             keyToParse = entry.getKey();
+            eventKeyToParse = EventKey.of(keyToParse);
             epochFormatters = entry.getPatterns().stream().filter(pattern -> pattern.contains("epoch")).collect(Collectors.toSet());
             dateTimeFormatters = entry.getPatterns().stream().filter(pattern -> !pattern.contains("epoch")).map(this::getSourceFormatter).collect(Collectors.toList());
         }
@@ -153,7 +158,7 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
 
     private String getSourceTimestamp(final Record<Event> record) {
         try {
-            return record.getData().get(keyToParse, String.class);
+            return record.getData().get(eventKeyToParse, String.class);
         } catch (Exception e) {
             LOG.debug("Unable to find {} in event data.", keyToParse);
             return null;
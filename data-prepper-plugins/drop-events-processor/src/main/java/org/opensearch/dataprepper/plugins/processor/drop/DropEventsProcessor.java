@@ -15,9 +15,11 @@ import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.stream.Collectors;
+import java.util.List;
 
 @SingleThread
 @DataPrepperPlugin(name = "drop_events", pluginType = Processor.class, pluginConfigurationType = DropEventProcessorConfig.class)
@@ -42,9 +44,15 @@ public class DropEventsProcessor extends AbstractProcessor<Record<Event>, Record
     @Override
     public Collection<Record<Event>> doExecute(final Collection<Record<Event>> records) {
         if (whenCondition.isNotAlwaysTrue()) {
-            return records.stream()
-                    .filter(record -> whenCondition.isStatementFalseWith(record.getData()))
-                    .collect(Collectors.toList());
+            final BitSet eventsToDrop = whenCondition.findEventsToDrop(records);
+            final List<Record<Event>> recordsToKeep = new ArrayList<>(records.size() - eventsToDrop.cardinality());
+            int index = 0;
+            for (final Record<Event> record : records) {
+                if (!eventsToDrop.get(index++)) {
+                    recordsToKeep.add(record);
+                }
+            }
+            return recordsToKeep;
         }
         else {
             return Collections.emptyList();
@@ -6,10 +6,13 @@
 package org.opensearch.dataprepper.plugins.processor.drop;
 
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Objects;
 
 /**
@@ -61,6 +64,19 @@ class DropEventsWhenCondition {
         }
     }
 
+    /**
+     * @since 2.8
+     *
+     * Evaluates the when condition against a batch of records in a single call to the {@link ExpressionEvaluator}.
+     *
+     * @param records records to evaluate, in iteration order
+     * @return bits set at the positions of records which should be dropped
+     */
+    public BitSet findEventsToDrop(final Collection<Record<Event>> records) {
+        return expressionEvaluator.evaluateConditional(dropWhen, records,
+                (event, e) -> !handleFailedEventsSetting.isDropEventOption(event, e, LOG));
+    }
+
     /**
      * @since 1.3
      *
@@ -23,11 +23,15 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.BiPredicate;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -113,6 +117,9 @@ public class DropEventsProcessorTests {
                 repeatedReturnValue
         ).when(expressionEvaluator)
                 .evaluateConditional(eq(whenSetting), eq(event));
+        doCallRealMethod()
+                .when(expressionEvaluator)
+                .evaluateConditional(eq(whenSetting), anyCollection(), any(BiPredicate.class));
         doReturn(event)
                 .when(record)
                 .getData();
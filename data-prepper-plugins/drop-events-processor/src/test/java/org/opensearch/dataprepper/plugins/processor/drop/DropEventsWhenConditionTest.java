@@ -6,6 +6,7 @@
 package org.opensearch.dataprepper.plugins.processor.drop;
 
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -16,7 +17,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 
+import java.util.BitSet;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.BiPredicate;
 import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -24,7 +28,9 @@ import static org.hamcrest.CoreMatchers.isA;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -144,4 +150,31 @@ class DropEventsWhenConditionTest {
         final boolean result = whenCondition.isStatementFalseWith(null);
         assertThat(result, is(isStatementFalseWith));
     }
+
+    @ParameterizedTest
+    @MethodSource("provideHandleFailedEventsOptionAndExpectedResult")
+    void testFindEventsToDrop(final HandleFailedEventsOption option, final Boolean isStatementFalseWith) {
+        final String whenStatement = UUID.randomUUID().toString();
+        final Event trueEvent = mock(Event.class);
+        final Event falseEvent = mock(Event.class);
+        final Event failingEvent = mock(Event.class);
+        final List<Record<Event>> records = List.of(new Record<>(trueEvent), new Record<>(falseEvent), new Record<>(failingEvent));
+
+        doReturn(whenStatement).when(dropEventProcessorConfig).getDropWhen();
+        doReturn(option).when(dropEventProcessorConfig).getHandleFailedEventsOption();
+        doCallRealMethod().when(evaluator).evaluateConditional(eq(whenStatement), anyCollection(), any(BiPredicate.class));
+        doReturn(true).when(evaluator).evaluateConditional(eq(whenStatement), eq(trueEvent));
+        doReturn(false).when(evaluator).evaluateConditional(eq(whenStatement), eq(falseEvent));
+        doThrow(RuntimeException.class).when(evaluator).evaluateConditional(eq(whenStatement), eq(failingEvent));
+
+        final DropEventsWhenCondition whenCondition = new DropEventsWhenCondition.Builder()
+                .withDropEventsProcessorConfig(dropEventProcessorConfig)
+                .withExpressionEvaluator(evaluator)
+                .build();
+
+        final BitSet eventsToDrop = whenCondition.findEventsToDrop(records);
+        assertThat(eventsToDrop.get(0), is(true));
+        assertThat(eventsToDrop.get(1), is(false));
+        assertThat(eventsToDrop.get(2), is(!isStatementFalseWith));
+    }
 }
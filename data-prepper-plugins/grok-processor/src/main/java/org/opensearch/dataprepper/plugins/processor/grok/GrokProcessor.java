@@ -17,6 +17,7 @@ import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor
 import org.opensearch.dataprepper.model.annotations.SingleThread;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
@@ -80,7 +81,8 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
     private final Timer grokProcessingTime;
 
     private final GrokCompiler grokCompiler;
-    private final Map<String, List<Grok>> fieldToGrok;
+    private final Map<EventKey, List<Grok>> fieldToGrok;
+    private final EventKey targetKey;
     private final GrokProcessorConfig grokProcessorConfig;
     private final Set<String> keysToOverwrite;
     private final ExecutorService executorService;
@@ -103,6 +105,7 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
         this.expressionEvaluator = expressionEvaluator;
         this.tagsOnMatchFailure = grokProcessorConfig.getTagsOnMatchFailure();
         this.tagsOnTimeout = grokProcessorConfig.getTagsOnTimeout();
+        this.targetKey = grokProcessorConfig.getTargetKey() != null ? EventKey.of(grokProcessorConfig.getTargetKey()) : null;
         grokProcessingMatchCounter = pluginMetrics.counter(GROK_PROCESSING_MATCH);
         grokProcessingMismatchCounter = pluginMetrics.counter(GROK_PROCESSING_MISMATCH);
         grokProcessingErrorsCounter = pluginMetrics.counter(GROK_PROCESSING_ERRORS);
@@ -235,7 +238,7 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
 
     private void compileMatchPatterns() {
         for (final Map.Entry<String, List<String>> entry : grokProcessorConfig.getMatch().entrySet()) {
-            fieldToGrok.put(entry.getKey(), entry.getValue()
+            fieldToGrok.put(EventKey.of(entry.getKey()), entry.getValue()
                             .stream()
                             .map(item -> grokCompiler.compile(item, grokProcessorConfig.isNamedCapturesOnly()))
                             .collect(Collectors.toList()));
@@ -247,9 +250,9 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
 
         int patternsAttempted = 0;
 
-        for (final Map.Entry<String, List<Grok>> entry : fieldToGrok.entrySet()) {
+        for (final Map.Entry<EventKey, List<Grok>> entry : fieldToGrok.entrySet()) {
+            final String value = event.get(entry.getKey(), String.class);
             for (final Grok grok : entry.getValue()) {
-                final String value = event.get(entry.getKey(), String.class);
                 if (value != null && !value.isEmpty()) {
                     final Match match = grok.match(value);
                     match.setKeepEmptyCaptures(grokProcessorConfig.isKeepEmptyCaptures());
@@ -269,8 +272,8 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
             }
         }
 
-        if (grokProcessorConfig.getTargetKey() != null) {
-            event.put(grokProcessorConfig.getTargetKey(), grokkedCaptures);
+        if (targetKey != null) {
+            event.put(targetKey, grokkedCaptures);
         } else {
             mergeCaptures(event, grokkedCaptures);
         }
@@ -149,9 +149,12 @@ public class HTTPSink extends AbstractSink<Record<Event>> {
      */
     @Override
     public void doOutput(final Collection<Record<Event>> records) {
-        if (records.isEmpty()) {
-            return;
-        }
         httpSinkService.output(records);
     }
+
+    @Override
+    public void shutdown() {
+        super.shutdown();
+        httpSinkService.shutdown();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.dataprepper.plugins.sink.http.configuration;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * The compression of the request bodies sent by the http sink. The option value is sent as the Content-Encoding.
+ */
+public enum CompressionOptions {
+    NONE("none"),
+    GZIP("gzip");
+
+    private static final Map<String, CompressionOptions> OPTIONS_MAP = Arrays.stream(CompressionOptions.values())
+            .collect(Collectors.toMap(
+                    value -> value.option,
+                    value -> value
+            ));
+
+    private final String option;
+
+    CompressionOptions(final String option) {
+        this.option = option;
+    }
+
+    public String getOption() {
+        return option;
+    }
+
+    @JsonCreator
+    static CompressionOptions fromOptionValue(final String option) {
+        return OPTIONS_MAP.get(option);
+    }
+}
@@ -6,6 +6,7 @@ package org.opensearch.dataprepper.plugins.sink.http.configuration;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import org.apache.commons.lang3.StringUtils;
 import org.opensearch.dataprepper.model.configuration.PluginModel;
@@ -24,6 +25,8 @@ public class HttpSinkConfiguration {
 
     private static final int DEFAULT_WORKERS = 1;
 
+    static final int DEFAULT_MAX_IN_FLIGHT_REQUESTS = 0;
+
     static final boolean DEFAULT_INSECURE = false;
 
     private static final String S3_PREFIX = "s3://";
@@ -134,6 +137,13 @@ public class HttpSinkConfiguration {
     @JsonProperty("http_retry_interval")
     private Duration httpRetryInterval = DEFAULT_HTTP_RETRY_INTERVAL;
 
+    @JsonProperty("max_in_flight_requests")
+    @Min(0)
+    private int maxInFlightRequests = DEFAULT_MAX_IN_FLIGHT_REQUESTS;
+
+    @JsonProperty("compression")
+    private CompressionOptions compression = CompressionOptions.NONE;
+
 
     private boolean sslCertAndKeyFileInS3;
 
@@ -299,6 +309,14 @@ public class HttpSinkConfiguration {
         return requestTimout;
     }
 
+    public int getMaxInFlightRequests() {
+        return maxInFlightRequests;
+    }
+
+    public CompressionOptions getCompression() {
+        return compression;
+    }
+
     public boolean isHttpUrl() {
         URL parsedUrl = HttpSinkUtil.getURLByUrlString(url);
         return parsedUrl.getProtocol().equals(HTTP);
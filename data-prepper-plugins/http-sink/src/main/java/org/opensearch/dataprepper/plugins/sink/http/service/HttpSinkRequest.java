@@ -0,0 +1,36 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.dataprepper.plugins.sink.http.service;
+
+import org.opensearch.dataprepper.model.event.EventHandle;
+
+import java.util.List;
+
+/**
+ * The body of a request to the http endpoint, together with the handles of the events it carries.
+ */
+class HttpSinkRequest {
+    private final byte[] body;
+    private final int eventCount;
+    private final List<EventHandle> eventHandles;
+
+    HttpSinkRequest(final byte[] body, final int eventCount, final List<EventHandle> eventHandles) {
+        this.body = body;
+        this.eventCount = eventCount;
+        this.eventHandles = eventHandles;
+    }
+
+    byte[] getBody() {
+        return body;
+    }
+
+    int getEventCount() {
+        return eventCount;
+    }
+
+    List<EventHandle> getEventHandles() {
+        return eventHandles;
+    }
+}
@@ -6,13 +6,20 @@ package org.opensearch.dataprepper.plugins.sink.http.service;
 
 import io.micrometer.core.instrument.Counter;
 import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.apache.hc.client5.http.io.HttpClientConnectionManager;
 import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.ClassicHttpRequest;
 import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apache.hc.core5.http.io.support.ClassicRequestBuilder;
 import org.apache.hc.core5.util.Timeout;
+import org.opensearch.dataprepper.common.concurrent.BoundedAsyncDispatcher;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.codec.OutputCodec;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
@@ -31,6 +38,7 @@ import org.opensearch.dataprepper.plugins.sink.ThresholdValidator;
 import org.opensearch.dataprepper.plugins.sink.http.certificate.CertificateProviderFactory;
 import org.opensearch.dataprepper.plugins.sink.http.certificate.HttpClientSSLConnectionManager;
 import org.opensearch.dataprepper.plugins.sink.http.configuration.AuthTypeOptions;
+import org.opensearch.dataprepper.plugins.sink.http.configuration.CompressionOptions;
 import org.opensearch.dataprepper.plugins.sink.http.configuration.HTTPMethodOptions;
 import org.opensearch.dataprepper.plugins.sink.http.configuration.HttpSinkConfiguration;
 import org.opensearch.dataprepper.plugins.sink.http.dlq.DlqPushHandler;
@@ -44,12 +52,15 @@ import org.opensearch.dataprepper.plugins.sink.http.util.HttpSinkUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 
 import java.security.KeyManagementException;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -58,9 +69,11 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
 
 /**
- * This service class contains logic for sending data to Http Endpoints
+ * This service class contains logic for sending data to Http Endpoints. Requests are sent on the pipeline worker
+ * thread, or by a bounded number of background threads when max_in_flight_requests is configured.
  */
 public class HttpSinkService {
 
@@ -70,6 +83,10 @@ public class HttpSinkService {
 
     public static final String HTTP_SINK_RECORDS_FAILED_COUNTER = "httpSinkRecordsFailedToPushEndPoint";
 
+    public static final String HTTP_SINK_REQUESTS_IN_FLIGHT = "httpSinkRequestsInFlight";
+
+    private static final Duration IN_FLIGHT_REQUESTS_SHUTDOWN_TIMEOUT = Duration.ofMinutes(1);
+
     private final Collection<EventHandle> bufferedEventHandles;
 
     private final HttpSinkConfiguration httpSinkConfiguration;
@@ -114,6 +131,14 @@ public class HttpSinkService {
 
     private final OutputCodecContext codecContext;
 
+    private final CompressionOptions compression;
+
+    private final BoundedAsyncDispatcher<HttpSinkRequest> httpRequestDispatcher;
+
+    private final CloseableHttpClient httpClient;
+
+    private final Object failedDataLock = new Object();
+
     public HttpSinkService(final HttpSinkConfiguration httpSinkConfiguration,
                            final BufferFactory bufferFactory,
                            final DlqPushHandler dlqPushHandler,
@@ -151,15 +176,22 @@ public class HttpSinkService {
                 LOG.error("Exception while insecure_skip_verify is true ",ex);
             }
         }
+        sizeConnectionPool(httpSinkConfiguration.getMaxInFlightRequests());
         this.httpAuthOptions = buildAuthHttpSinkObjectsByConfig(httpSinkConfiguration);
+        this.httpClient = httpAuthOptions.get(httpSinkConfiguration.getUrl()).getHttpClientBuilder().build();
         this.httpSinkRecordsSuccessCounter = pluginMetrics.counter(HTTP_SINK_RECORDS_SUCCESS_COUNTER);
         this.httpSinkRecordsFailedCounter = pluginMetrics.counter(HTTP_SINK_RECORDS_FAILED_COUNTER);
         this.codec= codec;
         this.codecContext = codecContext;
+        this.compression = httpSinkConfiguration.getCompression();
+        this.httpRequestDispatcher = new BoundedAsyncDispatcher<>(
+                httpSinkConfiguration.getMaxInFlightRequests(), this::sendRequest, "http-sink-request");
+        pluginMetrics.gauge(HTTP_SINK_REQUESTS_IN_FLIGHT, httpRequestDispatcher, BoundedAsyncDispatcher::getInFlightRequests);
     }
 
     /**
-     * This method process buffer records and send to Http End points based on configured codec
+     * This method process buffer records and send to Http End points based on configured codec. It is also called
+     * without records, so that buffered events are not held beyond the event collect timeout.
      * @param records Collection of Event
      */
     public void output(Collection<Record<Event>> records) {
@@ -168,38 +200,75 @@ public class HttpSinkService {
             this.currentBuffer = bufferFactory.getBuffer();
         }
         try {
-            OutputStream outputStream = currentBuffer.getOutputStream();
-            records.forEach(record -> {
-                try {
-                    final Event event = record.getData();
-                    if(currentBuffer.getEventCount() == 0) {
-                        codec.start(outputStream,event , codecContext);
-                    }
-                    codec.writeEvent(event, outputStream);
-                    int count = currentBuffer.getEventCount() +1;
-                    currentBuffer.setEventCount(count);
-
+            for (final Record<Event> record : records) {
+                final Event event = record.getData();
+                final OutputStream outputStream = currentBuffer.getOutputStream();
+                if(currentBuffer.getEventCount() == 0) {
+                    codec.start(outputStream,event , codecContext);
+                }
+                codec.writeEvent(event, outputStream);
+                int count = currentBuffer.getEventCount() +1;
+                currentBuffer.setEventCount(count);
+
+                if (event.getEventHandle() != null) {
                     bufferedEventHandles.add(event.getEventHandle());
-                    if (ThresholdValidator.checkThresholdExceed(currentBuffer, maxEvents, maxBytes, maxCollectionDuration)) {
-                        codec.complete(outputStream);
-                        final HttpEndPointResponse failedHttpEndPointResponses = pushToEndPoint(getCurrentBufferData(currentBuffer));
-                        if (failedHttpEndPointResponses != null) {
-                            logFailedData(failedHttpEndPointResponses);
-                            releaseEventHandles(Boolean.FALSE);
-                        } else {
-                            LOG.info("data pushed to the end point successfully");
-                            releaseEventHandles(Boolean.TRUE);
-                        }
-                        currentBuffer = bufferFactory.getBuffer();
-                    }}
-                catch (IOException e) {
-                    throw new RuntimeException(e);
-                }});
-        }finally {
+                }
+                if (ThresholdValidator.checkThresholdExceed(currentBuffer, maxEvents, maxBytes, maxCollectionDuration)) {
+                    flush();
+                }
+            }
+            if (currentBuffer.getEventCount() > 0 && currentBuffer.getDuration() > maxCollectionDuration) {
+                flush();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } finally {
             reentrantLock.unlock();
         }
     }
 
+    /**
+     * Sends the buffered events and waits for the in-flight requests to complete.
+     */
+    public void shutdown() {
+        reentrantLock.lock();
+        try {
+            if (currentBuffer != null && currentBuffer.getEventCount() > 0) {
+                flush();
+            }
+        } catch (IOException e) {
+            LOG.error("Failed to send the buffered events on shutdown.", e);
+        } finally {
+            reentrantLock.unlock();
+        }
+        httpRequestDispatcher.shutdown(IN_FLIGHT_REQUESTS_SHUTDOWN_TIMEOUT);
+        try {
+            httpClient.close();
+        } catch (IOException e) {
+            LOG.warn("Failed to close the http client.", e);
+        }
+    }
+
+    private void flush() throws IOException {
+        codec.complete(currentBuffer.getOutputStream());
+        final HttpSinkRequest request = new HttpSinkRequest(compress(getCurrentBufferData(currentBuffer)),
+                currentBuffer.getEventCount(), new ArrayList<>(bufferedEventHandles));
+        bufferedEventHandles.clear();
+        currentBuffer = bufferFactory.getBuffer();
+        httpRequestDispatcher.dispatch(request);
+    }
+
+    private byte[] compress(final byte[] data) throws IOException {
+        if (compression != CompressionOptions.GZIP) {
+            return data;
+        }
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (final GZIPOutputStream gzipOutputStream = new GZIPOutputStream(byteArrayOutputStream)) {
+            gzipOutputStream.write(data);
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
     private byte[] getCurrentBufferData(final Buffer currentBuffer) {
         try {
             return currentBuffer.getSinkBufferData();
@@ -208,6 +277,22 @@ public class HttpSinkService {
         }
     }
 
+    /**
+     * * This method sends a request and releases the event handles once the response is received
+     *  @param request HttpSinkRequest.
+     */
+    private void sendRequest(final HttpSinkRequest request) {
+        final HttpEndPointResponse failedHttpEndPointResponses = pushToEndPoint(request);
+        if (failedHttpEndPointResponses != null) {
+            synchronized (failedDataLock) {
+                logFailedData(failedHttpEndPointResponses);
+            }
+            releaseEventHandles(request, Boolean.FALSE);
+        } else {
+            releaseEventHandles(request, Boolean.TRUE);
+        }
+    }
+
     /**
      * * This method logs Failed Data to DLQ and Webhook
      *  @param endPointResponses HttpEndPointResponses.
@@ -227,38 +312,58 @@ public class HttpSinkService {
         }
     }
 
-    private void releaseEventHandles(final boolean result) {
-        for (EventHandle eventHandle : bufferedEventHandles) {
+    private static void releaseEventHandles(final HttpSinkRequest request, final boolean result) {
+        for (EventHandle eventHandle : request.getEventHandles()) {
             eventHandle.release(result);
         }
-        bufferedEventHandles.clear();
     }
 
     /**
      * * This method pushes bufferData to configured HttpEndPoints
-     *  @param currentBufferData bufferData.
+     *  @param request HttpSinkRequest.
      */
-    private HttpEndPointResponse pushToEndPoint(final byte[] currentBufferData) {
+    private HttpEndPointResponse pushToEndPoint(final HttpSinkRequest request) {
         HttpEndPointResponse httpEndPointResponses = null;
         final ClassicRequestBuilder classicHttpRequestBuilder =
                 httpAuthOptions.get(httpSinkConfiguration.getUrl()).getClassicHttpRequestBuilder();
-        classicHttpRequestBuilder.setEntity(currentBufferData, ContentType.APPLICATION_JSON);
+        final String contentEncoding = compression == CompressionOptions.GZIP ? compression.getOption() : null;
         try {
-           if(AuthTypeOptions.BEARER_TOKEN.equals(httpSinkConfiguration.getAuthType()))
-               accessTokenIfExpired(httpSinkConfiguration.getAuthentication().getBearerTokenOptions().getTokenExpired(),httpSinkConfiguration.getUrl());
-            httpAuthOptions.get(httpSinkConfiguration.getUrl()).getHttpClientBuilder().build()
-                    .execute(classicHttpRequestBuilder.build(), HttpClientContext.create());
-            LOG.info("No of Records successfully pushed to endpoint {}", httpSinkConfiguration.getUrl() +" " + currentBuffer.getEventCount());
-            httpSinkRecordsSuccessCounter.increment(currentBuffer.getEventCount());
+            final ClassicHttpRequest httpRequest;
+            synchronized (classicHttpRequestBuilder) {
+                if(AuthTypeOptions.BEARER_TOKEN.equals(httpSinkConfiguration.getAuthType()))
+                    accessTokenIfExpired(httpSinkConfiguration.getAuthentication().getBearerTokenOptions().getTokenExpired(),httpSinkConfiguration.getUrl());
+                httpRequest = classicHttpRequestBuilder
+                        .setEntity(new ByteArrayEntity(request.getBody(), ContentType.APPLICATION_JSON, contentEncoding))
+                        .build();
+            }
+            try (final CloseableHttpResponse response = httpClient.execute(httpRequest, HttpClientContext.create())) {
+                EntityUtils.consume(response.getEntity());
+            }
+            LOG.debug("No of Records successfully pushed to endpoint {}", httpSinkConfiguration.getUrl() +" " + request.getEventCount());
+            httpSinkRecordsSuccessCounter.increment(request.getEventCount());
         } catch (IOException e) {
-            httpSinkRecordsFailedCounter.increment(currentBuffer.getEventCount());
-            LOG.info("No of Records failed to push endpoint {}",currentBuffer.getEventCount());
+            httpSinkRecordsFailedCounter.increment(request.getEventCount());
+            LOG.info("No of Records failed to push endpoint {}",request.getEventCount());
             LOG.error("Exception while pushing buffer data to end point. URL : {}, Exception : ", httpSinkConfiguration.getUrl(), e);
             httpEndPointResponses = new HttpEndPointResponse(httpSinkConfiguration.getUrl(), HttpStatus.SC_INTERNAL_SERVER_ERROR, e.getMessage());
         }
         return httpEndPointResponses;
     }
 
+    /**
+     * * This method allows one pooled connection to the endpoint per in-flight request
+     *  @param maxInFlightRequests maximum number of in-flight requests.
+     */
+    private void sizeConnectionPool(final int maxInFlightRequests) {
+        if (httpClientConnectionManager instanceof PoolingHttpClientConnectionManager) {
+            final PoolingHttpClientConnectionManager connectionPool = (PoolingHttpClientConnectionManager) httpClientConnectionManager;
+            if (maxInFlightRequests > connectionPool.getDefaultMaxPerRoute()) {
+                connectionPool.setDefaultMaxPerRoute(maxInFlightRequests);
+                connectionPool.setMaxTotal(Math.max(connectionPool.getMaxTotal(), maxInFlightRequests));
+            }
+        }
+    }
+
     /**
      * * This method sends Failed objects to DLQ
      *  @param failedDlqData FailedDlqData.
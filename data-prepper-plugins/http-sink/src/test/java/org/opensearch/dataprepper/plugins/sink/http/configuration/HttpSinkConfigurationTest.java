@@ -140,6 +140,16 @@ public class HttpSinkConfigurationTest {
         assertThat(new HttpSinkConfiguration().getBufferType(), equalTo(BufferTypeOptions.INMEMORY));
     }
 
+    @Test
+    void default_max_in_flight_requests_test() {
+        assertThat(new HttpSinkConfiguration().getMaxInFlightRequests(), equalTo(0));
+    }
+
+    @Test
+    void default_compression_test() {
+        assertThat(new HttpSinkConfiguration().getCompression(), equalTo(CompressionOptions.NONE));
+    }
+
     @Test
     void get_threshold_options_test() {
         assertNull(new HttpSinkConfiguration().getThresholdOptions());
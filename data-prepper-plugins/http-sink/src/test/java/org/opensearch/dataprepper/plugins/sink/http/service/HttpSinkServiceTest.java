@@ -15,8 +15,10 @@ import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.protocol.HttpClientContext;
 import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.opensearch.dataprepper.aws.api.AwsCredentialsSupplier;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
@@ -26,28 +28,37 @@ import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.EventHandle;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.plugins.accumulator.Buffer;
 import org.opensearch.dataprepper.plugins.accumulator.BufferFactory;
 import org.opensearch.dataprepper.plugins.accumulator.InMemoryBufferFactory;
 import org.opensearch.dataprepper.plugins.sink.http.FailedHttpResponseInterceptor;
 import org.opensearch.dataprepper.plugins.sink.http.configuration.AuthenticationOptions;
 import org.opensearch.dataprepper.plugins.sink.http.configuration.AuthTypeOptions;
+import org.opensearch.dataprepper.plugins.sink.http.configuration.CompressionOptions;
 import org.opensearch.dataprepper.plugins.sink.http.configuration.HttpSinkConfiguration;
 import org.opensearch.dataprepper.plugins.sink.http.configuration.ThresholdOptions;
 import org.opensearch.dataprepper.plugins.sink.http.dlq.DlqPushHandler;
 import org.opensearch.dataprepper.test.helper.ReflectivelySetField;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Random;
 import java.util.UUID;
+import java.util.zip.GZIPInputStream;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -236,4 +247,72 @@ public class HttpSinkServiceTest {
         objectUnderTest.output(List.of(new Record<>(event)));
         verify(httpSinkRecordsSuccessCounter).increment(1);
     }
+
+    @Test
+    void http_sink_service_test_with_internal_server_error_releases_event_handles_negatively() throws NoSuchFieldException, IllegalAccessException, IOException {
+        final HttpSinkService objectUnderTest = createObjectUnderTest(1,httpSinkConfiguration);
+        final Event event = mock(Event.class);
+        final EventHandle eventHandle = mock(EventHandle.class);
+        given(event.getEventHandle()).willReturn(eventHandle);
+        lenient().when(closeableHttpClient.execute(any(ClassicHttpRequest.class),any(HttpClientContext.class))).thenThrow(new IOException("internal server error"));
+        objectUnderTest.output(List.of(new Record<>(event)));
+        verify(httpSinkRecordsFailedCounter).increment(1);
+        verify(dlqPushHandler).perform(any(PluginSetting.class), any());
+        verify(eventHandle).release(false);
+    }
+
+    @Test
+    void http_sink_service_test_with_gzip_compression() throws NoSuchFieldException, IllegalAccessException, IOException {
+        ReflectivelySetField.setField(HttpSinkConfiguration.class,httpSinkConfiguration,"compression", CompressionOptions.GZIP);
+        final byte[] body = "{\"message\":\"c3f847eb-333a-49c3-a4cd-54715ad1b58a\"}".getBytes(StandardCharsets.UTF_8);
+        final Buffer buffer = mockBuffer(body, 1, 0);
+        bufferFactory = mock(BufferFactory.class);
+        when(bufferFactory.getBuffer()).thenReturn(buffer);
+        final HttpSinkService objectUnderTest = createObjectUnderTest(1,httpSinkConfiguration);
+        objectUnderTest.output(List.of(new Record<>(JacksonEvent.fromMessage("c3f847eb-333a-49c3-a4cd-54715ad1b58a"))));
+
+        final ArgumentCaptor<ClassicHttpRequest> requestCaptor = ArgumentCaptor.forClass(ClassicHttpRequest.class);
+        verify(closeableHttpClient).execute(requestCaptor.capture(), any(HttpClientContext.class));
+        assertThat(requestCaptor.getValue().getEntity().getContentEncoding(), equalTo("gzip"));
+        final ByteArrayOutputStream decompressed = new ByteArrayOutputStream();
+        try (final GZIPInputStream gzipInputStream = new GZIPInputStream(
+                new ByteArrayInputStream(EntityUtils.toByteArray(requestCaptor.getValue().getEntity())))) {
+            gzipInputStream.transferTo(decompressed);
+        }
+        assertThat(decompressed.toByteArray(), equalTo(body));
+        verify(httpSinkRecordsSuccessCounter).increment(1);
+    }
+
+    @Test
+    void http_sink_service_test_output_with_zero_record_sends_buffered_events_after_event_collect_timeout() throws NoSuchFieldException, IllegalAccessException, IOException {
+        final Buffer buffer = mockBuffer(new byte[0], 2, 1);
+        bufferFactory = mock(BufferFactory.class);
+        when(bufferFactory.getBuffer()).thenReturn(buffer);
+        final HttpSinkService objectUnderTest = createObjectUnderTest(10,httpSinkConfiguration);
+        objectUnderTest.output(List.of());
+        verify(httpSinkRecordsSuccessCounter).increment(2);
+    }
+
+    @Test
+    void http_sink_service_test_with_max_in_flight_requests_sends_all_requests_before_shutdown() throws NoSuchFieldException, IllegalAccessException, IOException {
+        ReflectivelySetField.setField(HttpSinkConfiguration.class,httpSinkConfiguration,"maxInFlightRequests", 2);
+        final HttpSinkService objectUnderTest = createObjectUnderTest(1,httpSinkConfiguration);
+        final int sinkRecords = 5;
+        final Collection<Record<Event>> records = new ArrayList<>(sinkRecords);
+        for(int record = 0; sinkRecords > record ; record++)
+            records.add(new Record<>(JacksonEvent.fromMessage("{\"message\":" + UUID.randomUUID() + "}")));
+        objectUnderTest.output(records);
+        objectUnderTest.shutdown();
+        verify(httpSinkRecordsSuccessCounter, times(sinkRecords)).increment(1);
+        verify(closeableHttpClient).close();
+    }
+
+    private Buffer mockBuffer(final byte[] data, final int eventCount, final long duration) throws IOException {
+        final Buffer buffer = mock(Buffer.class);
+        lenient().when(buffer.getOutputStream()).thenReturn(new ByteArrayOutputStream());
+        lenient().when(buffer.getSinkBufferData()).thenReturn(data);
+        lenient().when(buffer.getDuration()).thenReturn(duration);
+        lenient().when(buffer.getEventCount()).thenReturn(eventCount);
+        return buffer;
+    }
 }
@@ -5,6 +5,8 @@
 
 package org.opensearch.dataprepper.plugins.source.loghttp;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.linecorp.armeria.server.ServiceRequestContext;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.buffer.Buffer;
@@ -21,7 +23,7 @@ import com.linecorp.armeria.server.annotation.Post;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Timer;
-import org.opensearch.dataprepper.plugins.source.loghttp.codec.JsonCodec;
+import org.opensearch.dataprepper.plugins.source.loghttp.codec.StreamingJsonCodec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,8 +46,10 @@ public class LogHTTPService {
 
     private static final Logger LOG = LoggerFactory.getLogger(LogHTTPService.class);
 
-    // TODO: support other data-types as request body, e.g. json_lines, msgpack
-    private final JsonCodec jsonCodec = new JsonCodec();
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    // TODO: support other data-types as request body, e.g. msgpack
+    private final StreamingJsonCodec jsonCodec = new StreamingJsonCodec();
     private final Buffer<Record<Log>> buffer;
     private final int bufferWriteTimeoutInMillis;
     private final Counter requestsReceivedCounter;
@@ -79,37 +83,28 @@ public class LogHTTPService {
         return requestProcessDuration.recordCallable(() -> processRequest(aggregatedHttpRequest));
     }
 
-    private void sendJsonList(List<String> jsonList) throws Exception {
-        StringBuilder sb = new StringBuilder(maxRequestLength);
-        sb.append("[");
-        String comma = "";
-        String key = UUID.randomUUID().toString();
-        for (final String json: jsonList) {
-            sb.append(comma);
-            sb.append(json);
-            comma = ",";
-        }
-        sb.append("]");
-        if (sb.toString().getBytes().length > maxRequestLength) {
-            throw new RuntimeException("Request length "+ sb.toString().getBytes().length + " exceeds maxRequestLength "+ maxRequestLength);
+    private void sendJsonList(final List<JsonNode> jsonList) throws Exception {
+        final byte[] bytes = mapper.writeValueAsBytes(jsonList);
+        if (maxRequestLength != null && bytes.length > maxRequestLength) {
+            throw new RuntimeException("Request length "+ bytes.length + " exceeds maxRequestLength "+ maxRequestLength);
         }
-        buffer.writeBytes(sb.toString().getBytes(), key, bufferWriteTimeoutInMillis);
+        buffer.writeBytes(bytes, UUID.randomUUID().toString(), bufferWriteTimeoutInMillis);
     }
 
     private HttpResponse processRequest(final AggregatedHttpRequest aggregatedHttpRequest) throws Exception {
         final HttpData content = aggregatedHttpRequest.content();
-        List<List<String>> jsonList;
+        List<List<JsonNode>> jsonList;
 
         try {
             jsonList = (maxRequestLength == null) ? jsonCodec.parse(content) : jsonCodec.parse(content, maxRequestLength - SERIALIZATION_OVERHEAD);
         } catch (IOException e) {
             LOG.error("Failed to parse the request of size {} due to: {}", content.length(), e.getMessage());
-            throw new IOException("Bad request data format. Needs to be json array.", e.getCause());
+            throw new IOException("Bad request data format. Needs to be json array or newline-delimited json.", e.getCause());
         }
         try {
             if (buffer.isByteBuffer()) {
-                if (maxRequestLength != null && content.array().length > maxRequestLength) {
-                    for (final List<String> innerJsonList: jsonList) {
+                if ((maxRequestLength != null && content.array().length > maxRequestLength) || !isJsonArray(content)) {
+                    for (final List<JsonNode> innerJsonList: jsonList) {
                         sendJsonList(innerJsonList);
                     }
                 } else {
@@ -118,7 +113,7 @@ public class LogHTTPService {
                     buffer.writeBytes(content.array(), null, bufferWriteTimeoutInMillis);
                 }
             } else {
-                for (final List<String> innerJsonList: jsonList) {
+                for (final List<JsonNode> innerJsonList: jsonList) {
                     final List<Record<Log>> records = innerJsonList.stream()
                             .map(this::buildRecordLog)
                             .collect(Collectors.toList());
@@ -133,10 +128,19 @@ public class LogHTTPService {
         return HttpResponse.of(HttpStatus.OK);
     }
 
-    private Record<Log> buildRecordLog(String json) {
+    private static boolean isJsonArray(final HttpData content) {
+        for (final byte b : content.array()) {
+            if (!Character.isWhitespace(b)) {
+                return b == '[';
+            }
+        }
+        return false;
+    }
+
+    private Record<Log> buildRecordLog(final JsonNode jsonNode) {
 
         final JacksonLog log = JacksonLog.builder()
-                .withData(json)
+                .withJsonNodeData(jsonNode)
                 .getThis()
                 .build();
 
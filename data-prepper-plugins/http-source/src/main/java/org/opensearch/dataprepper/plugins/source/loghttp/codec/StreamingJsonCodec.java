@@ -0,0 +1,84 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.loghttp.codec;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linecorp.armeria.common.HttpData;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * StreamingJsonCodec parses HTTP data into lists of {@link JsonNode} in a single pass over the request content.
+ * <p>
+ * The content may either be a json array of objects or newline-delimited json objects. When a maximum size is
+ * given, the objects are split into chunks while parsing, such that each chunk serialized as a json array does
+ * not exceed the maximum size. The size of each object is taken from its length in the original content, so
+ * objects are never serialized to measure them.
+ */
+public class StreamingJsonCodec implements Codec<List<List<JsonNode>>> {
+    // To account for "[" and "]" when the list is converted to String
+    private static final String OVERHEAD_CHARACTERS = "[]";
+    // To account for "," when the list is converted to String
+    private static final int COMMA_OVERHEAD_LENGTH = 1;
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    @Override
+    public List<List<JsonNode>> parse(final HttpData httpData) throws IOException {
+        return parse(httpData, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<List<JsonNode>> parse(final HttpData httpData, final int maxSize) throws IOException {
+        final List<List<JsonNode>> jsonList = new ArrayList<>();
+        try (final JsonParser parser = mapper.getFactory().createParser(httpData.array())) {
+            JsonToken token = parser.nextToken();
+            final boolean isJsonArray = token == JsonToken.START_ARRAY;
+            if (isJsonArray) {
+                token = parser.nextToken();
+            } else if (token != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a json array or newline-delimited json objects");
+            }
+
+            int size = OVERHEAD_CHARACTERS.length();
+            List<JsonNode> innerJsonList = new ArrayList<>();
+            while (token == JsonToken.START_OBJECT) {
+                final long startOffset = parser.getTokenLocation().getByteOffset();
+                final JsonNode jsonNode = parser.readValueAsTree();
+                final int length = (int) (parser.getCurrentLocation().getByteOffset() - startOffset);
+                if (size + length > maxSize && !innerJsonList.isEmpty()) {
+                    jsonList.add(innerJsonList);
+                    innerJsonList = new ArrayList<>();
+                    size = OVERHEAD_CHARACTERS.length();
+                }
+                innerJsonList.add(jsonNode);
+                size += length + COMMA_OVERHEAD_LENGTH;
+                token = parser.nextToken();
+            }
+
+            if (isJsonArray) {
+                if (token != JsonToken.END_ARRAY) {
+                    throw new JsonParseException(parser, "Expected a json object or the end of the json array");
+                }
+                token = parser.nextToken();
+            }
+            if (token != null) {
+                throw new JsonParseException(parser, "Unexpected content after the json data");
+            }
+
+            if (!innerJsonList.isEmpty()) {
+                jsonList.add(innerJsonList);
+            }
+        }
+
+        return jsonList;
+    }
+}
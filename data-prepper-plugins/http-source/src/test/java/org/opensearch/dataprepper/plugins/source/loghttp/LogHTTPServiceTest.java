@@ -116,6 +116,25 @@ class LogHTTPServiceTest {
         verify(requestProcessDuration, times(1)).recordCallable(ArgumentMatchers.<Callable<HttpResponse>>any());
     }
 
+    @Test
+    public void testHTTPRequestNdJsonSuccess() throws Exception {
+        // Prepare
+        final Buffer<Record<Log>> blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_CAPACITY, 8, "test-pipeline");
+        logHTTPService = new LogHTTPService(TEST_TIMEOUT_IN_MILLIS, blockingBuffer, null, pluginMetrics);
+        AggregatedHttpRequest testRequest = generateHTTPRequest(HttpData.ofUtf8("{\"log\":\"a\"}\n{\"log\":\"b\"}\n"));
+
+        // When
+        AggregatedHttpResponse postResponse = logHTTPService.doPost(serviceRequestContext, testRequest).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.OK, postResponse.status());
+        verify(successRequestsCounter, times(1)).increment();
+        final List<Record<Log>> records = new ArrayList<>(blockingBuffer.read(TEST_TIMEOUT_IN_MILLIS).getKey());
+        assertEquals(2, records.size());
+        assertEquals("a", records.get(0).getData().get("log", String.class));
+        assertEquals("b", records.get(1).getData().get("log", String.class));
+    }
+
     @Test
     public void testHTTPRequestBadRequest() throws Exception {
         // Prepare
@@ -187,12 +206,15 @@ class LogHTTPServiceTest {
     }
 
     private AggregatedHttpRequest generateBadHTTPRequest() throws ExecutionException, InterruptedException {
+        return generateHTTPRequest(HttpData.ofUtf8("{"));
+    }
+
+    private AggregatedHttpRequest generateHTTPRequest(final HttpData httpData) throws ExecutionException, InterruptedException {
         RequestHeaders requestHeaders = RequestHeaders.builder()
                 .contentType(MediaType.JSON)
                 .method(HttpMethod.POST)
                 .path("/log/ingest")
                 .build();
-        HttpData httpData = HttpData.ofUtf8("{");
         return HttpRequest.of(requestHeaders, httpData).aggregate().get();
     }
 }
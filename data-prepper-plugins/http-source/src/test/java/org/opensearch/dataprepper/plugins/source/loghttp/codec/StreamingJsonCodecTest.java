@@ -0,0 +1,124 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.loghttp.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.linecorp.armeria.common.HttpData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StreamingJsonCodecTest {
+    private final HttpData goodTestData = HttpData.ofUtf8("[{\"a\":\"b\"}, {\"c\":\"d\"}]");
+    private final HttpData goodLargeTestData = HttpData.ofUtf8("[{\"a1\":\"b1\"}, {\"a2\":\"b2\"}, {\"a3\":\"b3\"}, {\"a4\":\"b4\"}, {\"a5\":\"b5\"}]");
+    private final HttpData goodTestDataJsonLine = HttpData.ofUtf8("{\"a\":\"b\"}");
+    private final HttpData goodTestDataMultiJsonLines = HttpData.ofUtf8("{\"a\":\"b\"}\n{\"c\":{\"d\":[1,2]}}\n");
+    private final HttpData goodLargeTestDataMultiJsonLines = HttpData.ofUtf8("{\"a1\":\"b1\"}\n{\"a2\":\"b2\"}\n{\"a3\":\"b3\"}\n{\"a4\":\"b4\"}\n{\"a5\":\"b5\"}");
+    private final StreamingJsonCodec objectUnderTest = new StreamingJsonCodec();
+
+    @Test
+    public void testParseSuccess() throws IOException {
+        // When
+        List<List<JsonNode>> res = objectUnderTest.parse(goodTestData);
+
+        // Then
+        assertEquals(1, res.size());
+        assertEquals(2, res.get(0).size());
+        assertEquals("{\"a\":\"b\"}", res.get(0).get(0).toString());
+        assertEquals("{\"c\":\"d\"}", res.get(0).get(1).toString());
+    }
+
+    @Test
+    public void testParseEmptyArraySuccess() throws IOException {
+        assertEquals(0, objectUnderTest.parse(HttpData.ofUtf8(" [ ] ")).size());
+    }
+
+    @Test
+    public void testParseSuccessWithMaxSize() throws IOException {
+        // When
+        List<List<JsonNode>> res = objectUnderTest.parse(goodLargeTestData, 30);
+
+        assertEquals(3, res.size());
+
+        // Then
+        assertEquals(2, res.get(0).size());
+        assertEquals("{\"a1\":\"b1\"}", res.get(0).get(0).toString());
+        assertEquals("{\"a2\":\"b2\"}", res.get(0).get(1).toString());
+        assertEquals(2, res.get(1).size());
+        assertEquals("{\"a3\":\"b3\"}", res.get(1).get(0).toString());
+        assertEquals("{\"a4\":\"b4\"}", res.get(1).get(1).toString());
+        assertEquals(1, res.get(2).size());
+        assertEquals("{\"a5\":\"b5\"}", res.get(2).get(0).toString());
+    }
+
+    @Test
+    public void testParseSuccessWithMaxSizeSmallerThanAnObject() throws IOException {
+        // When
+        List<List<JsonNode>> res = objectUnderTest.parse(goodTestData, 5);
+
+        // Then
+        assertEquals(2, res.size());
+        assertEquals(1, res.get(0).size());
+        assertEquals(1, res.get(1).size());
+    }
+
+    @Test
+    public void testParseJsonLineSuccess() throws IOException {
+        // When
+        List<List<JsonNode>> res = objectUnderTest.parse(goodTestDataJsonLine);
+
+        // Then
+        assertEquals(1, res.size());
+        assertEquals(1, res.get(0).size());
+        assertEquals("{\"a\":\"b\"}", res.get(0).get(0).toString());
+    }
+
+    @Test
+    public void testParseMultiJsonLinesSuccess() throws IOException {
+        // When
+        List<List<JsonNode>> res = objectUnderTest.parse(goodTestDataMultiJsonLines);
+
+        // Then
+        assertEquals(1, res.size());
+        assertEquals(2, res.get(0).size());
+        assertEquals("{\"a\":\"b\"}", res.get(0).get(0).toString());
+        assertEquals("{\"c\":{\"d\":[1,2]}}", res.get(0).get(1).toString());
+    }
+
+    @Test
+    public void testParseMultiJsonLinesSuccessWithMaxSize() throws IOException {
+        // When
+        List<List<JsonNode>> res = objectUnderTest.parse(goodLargeTestDataMultiJsonLines, 30);
+
+        // Then
+        assertEquals(3, res.size());
+        assertEquals(2, res.get(0).size());
+        assertEquals(2, res.get(1).size());
+        assertEquals(1, res.get(2).size());
+        assertEquals("{\"a5\":\"b5\"}", res.get(2).get(0).toString());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "non json content",
+            "{",
+            "[{\"a\":\"b\"}",
+            "[{\"a\":\"b\"}, 1]",
+            "[{\"a\":\"b\"}] {\"c\":\"d\"}",
+            "{\"a\":\"b\"}\n[{\"c\":\"d\"}]",
+            "\"a\"",
+            ""
+    })
+    public void testParseFailure(final String content) {
+        assertThrows(IOException.class, () -> objectUnderTest.parse(HttpData.ofUtf8(content)));
+    }
+}
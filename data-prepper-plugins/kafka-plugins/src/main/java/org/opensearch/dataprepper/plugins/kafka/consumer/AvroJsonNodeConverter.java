@@ -0,0 +1,231 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.kafka.consumer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericFixed;
+import org.apache.avro.generic.GenericRecord;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts Avro {@link GenericRecord}s directly into Jackson {@link JsonNode} trees.
+ * <p>
+ * A converter is built once for each schema and cached, so records are converted by walking their
+ * fields by position without rendering them as JSON text first. The resulting trees match what
+ * parsing {@link GenericRecord#toString()} produces. This class is not thread-safe; each consumer
+ * thread uses its own instance.
+ */
+class AvroJsonNodeConverter {
+    private final JsonNodeFactory nodeFactory;
+    private final Map<Schema, Converter> converters;
+
+    AvroJsonNodeConverter() {
+        this.nodeFactory = JsonNodeFactory.instance;
+        this.converters = new HashMap<>();
+    }
+
+    /**
+     * Converts an Avro record into a JSON object.
+     *
+     * @param record the Avro record
+     * @return the record as a JSON object
+     */
+    ObjectNode convert(final GenericRecord record) {
+        return (ObjectNode) getConverter(record.getSchema()).convert(record);
+    }
+
+    private Converter getConverter(final Schema schema) {
+        final Converter converter = converters.get(schema);
+        if (converter != null) {
+            return converter;
+        }
+        return createConverter(schema);
+    }
+
+    private Converter createConverter(final Schema schema) {
+        switch (schema.getType()) {
+            case RECORD:
+                // The record converter is cached before its fields are resolved so that recursive schemas refer back to it.
+                final RecordConverter recordConverter = new RecordConverter();
+                converters.put(schema, recordConverter);
+                recordConverter.initialize(schema);
+                return recordConverter;
+            case ARRAY:
+                return cache(schema, new ArrayConverter(getConverter(schema.getElementType())));
+            case MAP:
+                return cache(schema, new MapConverter(getConverter(schema.getValueType())));
+            case UNION:
+                return cache(schema, new UnionConverter(schema));
+            case STRING:
+            case ENUM:
+                return cache(schema, datum -> nodeFactory.textNode(datum.toString()));
+            case BYTES:
+                return cache(schema, this::convertBytes);
+            case FIXED:
+                return cache(schema, this::convertFixed);
+            case INT:
+            case LONG:
+                return cache(schema, this::convertIntegral);
+            case FLOAT:
+                return cache(schema, this::convertFloat);
+            case DOUBLE:
+                return cache(schema, this::convertDouble);
+            case BOOLEAN:
+                return cache(schema, datum -> nodeFactory.booleanNode((Boolean) datum));
+            case NULL:
+            default:
+                return cache(schema, datum -> nodeFactory.nullNode());
+        }
+    }
+
+    private Converter cache(final Schema schema, final Converter converter) {
+        converters.put(schema, converter);
+        return converter;
+    }
+
+    private JsonNode convertBytes(final Object datum) {
+        return nodeFactory.textNode(StandardCharsets.ISO_8859_1.decode(((ByteBuffer) datum).duplicate()).toString());
+    }
+
+    private JsonNode convertFixed(final Object datum) {
+        final byte[] bytes = ((GenericFixed) datum).bytes();
+        final ArrayNode arrayNode = nodeFactory.arrayNode(bytes.length);
+        for (final byte value : bytes) {
+            arrayNode.add((int) value);
+        }
+        return arrayNode;
+    }
+
+    private JsonNode convertIntegral(final Object datum) {
+        if (!(datum instanceof Number)) {
+            return nodeFactory.textNode(datum.toString());
+        }
+        // Numbers which fit into an int are kept as ints, as they are when the same value is parsed from JSON text.
+        final long value = ((Number) datum).longValue();
+        return value == (int) value ? nodeFactory.numberNode((int) value) : nodeFactory.numberNode(value);
+    }
+
+    private JsonNode convertFloat(final Object datum) {
+        final float value = (Float) datum;
+        if (Float.isNaN(value) || Float.isInfinite(value)) {
+            return nodeFactory.textNode(Float.toString(value));
+        }
+        // Widen by the shortest decimal representation so that 0.1f becomes 0.1 rather than 0.10000000149011612.
+        return nodeFactory.numberNode(Double.parseDouble(Float.toString(value)));
+    }
+
+    private JsonNode convertDouble(final Object datum) {
+        final double value = (Double) datum;
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return nodeFactory.textNode(Double.toString(value));
+        }
+        return nodeFactory.numberNode(value);
+    }
+
+    private interface Converter {
+        JsonNode convert(Object datum);
+    }
+
+    private class RecordConverter implements Converter {
+        private String[] fieldNames;
+        private int[] fieldPositions;
+        private Converter[] fieldConverters;
+
+        private void initialize(final Schema schema) {
+            final List<Schema.Field> fields = schema.getFields();
+            fieldNames = new String[fields.size()];
+            fieldPositions = new int[fields.size()];
+            fieldConverters = new Converter[fields.size()];
+            for (int i = 0; i < fields.size(); i++) {
+                final Schema.Field field = fields.get(i);
+                fieldNames[i] = field.name();
+                fieldPositions[i] = field.pos();
+                fieldConverters[i] = getConverter(field.schema());
+            }
+        }
+
+        @Override
+        public JsonNode convert(final Object datum) {
+            final GenericRecord record = (GenericRecord) datum;
+            final ObjectNode objectNode = nodeFactory.objectNode();
+            for (int i = 0; i < fieldNames.length; i++) {
+                objectNode.set(fieldNames[i], convertNullable(fieldConverters[i], record.get(fieldPositions[i])));
+            }
+            return objectNode;
+        }
+    }
+
+    private class ArrayConverter implements Converter {
+        private final Converter elementConverter;
+
+        private ArrayConverter(final Converter elementConverter) {
+            this.elementConverter = elementConverter;
+        }
+
+        @Override
+        public JsonNode convert(final Object datum) {
+            final Collection<?> elements = (Collection<?>) datum;
+            final ArrayNode arrayNode = nodeFactory.arrayNode(elements.size());
+            for (final Object element : elements) {
+                arrayNode.add(convertNullable(elementConverter, element));
+            }
+            return arrayNode;
+        }
+    }
+
+    private class MapConverter implements Converter {
+        private final Converter valueConverter;
+
+        private MapConverter(final Converter valueConverter) {
+            this.valueConverter = valueConverter;
+        }
+
+        @Override
+        public JsonNode convert(final Object datum) {
+            final ObjectNode objectNode = nodeFactory.objectNode();
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) datum).entrySet()) {
+                objectNode.set(entry.getKey().toString(), convertNullable(valueConverter, entry.getValue()));
+            }
+            return objectNode;
+        }
+    }
+
+    private class UnionConverter implements Converter {
+        private final Schema schema;
+        private final Converter[] branchConverters;
+
+        private UnionConverter(final Schema schema) {
+            this.schema = schema;
+            this.branchConverters = new Converter[schema.getTypes().size()];
+        }
+
+        @Override
+        public JsonNode convert(final Object datum) {
+            final int branch = GenericData.get().resolveUnion(schema, datum);
+            Converter branchConverter = branchConverters[branch];
+            if (branchConverter == null) {
+                branchConverter = getConverter(schema.getTypes().get(branch));
+                branchConverters[branch] = branchConverter;
+            }
+            return branchConverter.convert(datum);
+        }
+    }
+
+    private JsonNode convertNullable(final Converter converter, final Object datum) {
+        return datum == null ? nodeFactory.nullNode() : converter.convert(datum);
+    }
+}
@@ -9,6 +9,7 @@ import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.annotations.VisibleForTesting;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.commons.lang3.Range;
@@ -81,6 +82,7 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
     private final Buffer<Record<Event>> buffer;
     private static final ObjectMapper objectMapper = new ObjectMapper();
     private final JsonFactory jsonFactory = new JsonFactory();
+    private final AvroJsonNodeConverter avroJsonNodeConverter = new AvroJsonNodeConverter();
     private Map<TopicPartition, OffsetAndMetadata> offsetsToCommit;
     private Map<TopicPartition, Long> ownedPartitionsEpoch;
     private Set<TopicPartition> partitionsToReset;
@@ -383,6 +385,7 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
     private <T> Record<Event> getRecord(ConsumerRecord<String, T> consumerRecord, int partition) {
         Instant now = Instant.now();
         Map<String, Object> data = new HashMap<>();
+        Object eventData = data;
         Event event;
         Object value = consumerRecord.value();
         String key = (String)consumerRecord.key();
@@ -391,21 +394,30 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
         try {
             if (value instanceof JsonDataWithSchema) {
                 JsonDataWithSchema j = (JsonDataWithSchema)consumerRecord.value();
-                value = objectMapper.readValue(j.getPayload(), Map.class);
-            } else if (schema == MessageFormat.AVRO || value instanceof GenericRecord) {
+                value = objectMapper.readTree(j.getPayload());
+            } else if (value instanceof GenericRecord) {
+                value = avroJsonNodeConverter.convert((GenericRecord) value);
+            } else if (schema == MessageFormat.AVRO) {
                 final JsonParser jsonParser = jsonFactory.createParser((String)consumerRecord.value().toString());
                 value = objectMapper.readValue(jsonParser, Map.class);
             } else if (schema == MessageFormat.PLAINTEXT) {
                 value = (String)consumerRecord.value();
                 plainTextMode = true;
-            } else if (schema == MessageFormat.JSON) {
-                value = objectMapper.convertValue(value, Map.class);
+            } else if (schema == MessageFormat.JSON && !(value instanceof JsonNode)) {
+                value = objectMapper.valueToTree(value);
             }
         } catch (Exception e){
             LOG.error("Failed to parse JSON or AVRO record", e);
             topicMetrics.getNumberOfRecordsFailedToParse().increment();
         }
-        if (!plainTextMode) {
+        if (!plainTextMode && value instanceof ObjectNode) {
+            // JSON objects and Avro records are already trees, so they become the event data without another conversion.
+            final ObjectNode valueNode = (ObjectNode) value;
+            if (kafkaKeyMode == KafkaKeyMode.INCLUDE_AS_FIELD) {
+                valueNode.put("kafka_key", key);
+            }
+            eventData = valueNode;
+        } else if (!plainTextMode) {
             if (!(value instanceof Map)) {
                 data.put(key, value);
             } else {
@@ -413,7 +425,7 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
                 if (kafkaKeyMode == KafkaKeyMode.INCLUDE_AS_FIELD) {
                     valueMap.put("kafka_key", key);
                 }
-                data = valueMap;
+                eventData = valueMap;
             }
         } else {
             if (Objects.isNull(key)) {
@@ -421,7 +433,11 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
             }
             data.put(key, value);
         }
-        event = JacksonLog.builder().withData(data).build();
+        if (eventData instanceof JsonNode) {
+            event = JacksonLog.builder().withJsonNodeData((JsonNode) eventData).build();
+        } else {
+            event = JacksonLog.builder().withData(eventData).build();
+        }
         EventMetadata eventMetadata = event.getMetadata();
         if (kafkaKeyMode == KafkaKeyMode.INCLUDE_AS_METADATA) {
             eventMetadata.setAttribute("kafka_key", key);
@@ -505,7 +521,7 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
                     } else {
                         JsonNode jsonNode = objectMapper.readValue(inputStream, JsonNode.class);
 
-                        Event event = JacksonLog.builder().withData(jsonNode).build();
+                        Event event = JacksonLog.builder().withJsonNodeData(jsonNode).build();
                         Record<Event> record = new Record<>(event);
                         processRecord(acknowledgementSet, record);
                     }
@@ -0,0 +1,186 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.kafka.consumer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.util.Utf8;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+class AvroJsonNodeConverterTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private Schema addressSchema;
+    private Schema schema;
+
+    @BeforeEach
+    void setUp() {
+        addressSchema = SchemaBuilder.record("Address").fields()
+                .requiredString("city")
+                .optionalInt("zip")
+                .endRecord();
+        schema = SchemaBuilder.record("Person").namespace("org.opensearch.dataprepper").fields()
+                .requiredString("name")
+                .requiredInt("age")
+                .requiredLong("id")
+                .requiredLong("bigId")
+                .requiredBoolean("active")
+                .requiredDouble("score")
+                .optionalString("nickname")
+                .name("status").type().enumeration("Status").symbols("ACTIVE", "INACTIVE").noDefault()
+                .name("tags").type().array().items().stringType().noDefault()
+                .name("attributes").type().map().values().longType().noDefault()
+                .name("address").type(addressSchema).noDefault()
+                .name("previousAddresses").type().array().items(addressSchema).noDefault()
+                .endRecord();
+    }
+
+    private AvroJsonNodeConverter createObjectUnderTest() {
+        return new AvroJsonNodeConverter();
+    }
+
+    private GenericRecord createRecord() {
+        final GenericRecord address = new GenericData.Record(addressSchema);
+        address.put("city", new Utf8("Seattle"));
+        address.put("zip", 98101);
+        final GenericRecord previousAddress = new GenericData.Record(addressSchema);
+        previousAddress.put("city", "Portland");
+        previousAddress.put("zip", null);
+
+        final GenericRecord record = new GenericData.Record(schema);
+        record.put("name", new Utf8(UUID.randomUUID().toString()));
+        record.put("age", 42);
+        record.put("id", 7L);
+        record.put("bigId", Long.MAX_VALUE);
+        record.put("active", true);
+        record.put("score", 12.5);
+        record.put("nickname", null);
+        record.put("status", new GenericData.EnumSymbol(schema.getField("status").schema(), "ACTIVE"));
+        record.put("tags", List.of(new Utf8("a"), new Utf8("b")));
+        record.put("attributes", Map.of(new Utf8("count"), 3L));
+        record.put("address", address);
+        record.put("previousAddresses", List.of(previousAddress));
+        return record;
+    }
+
+    @Test
+    void convert_returns_the_same_tree_as_parsing_the_record_as_json() throws Exception {
+        final GenericRecord record = createRecord();
+
+        final ObjectNode objectNode = createObjectUnderTest().convert(record);
+
+        assertThat(objectNode, equalTo(OBJECT_MAPPER.readTree(record.toString())));
+    }
+
+    @Test
+    void convert_reuses_the_converter_for_records_with_the_same_schema() throws Exception {
+        final AvroJsonNodeConverter objectUnderTest = createObjectUnderTest();
+        final GenericRecord record1 = createRecord();
+        final GenericRecord record2 = createRecord();
+
+        assertThat(objectUnderTest.convert(record1), equalTo(OBJECT_MAPPER.readTree(record1.toString())));
+        assertThat(objectUnderTest.convert(record2), equalTo(OBJECT_MAPPER.readTree(record2.toString())));
+    }
+
+    @Test
+    void convert_keeps_int_and_long_values_as_numbers() {
+        final ObjectNode objectNode = createObjectUnderTest().convert(createRecord());
+
+        assertThat(objectNode.get("age").isInt(), equalTo(true));
+        assertThat(objectNode.get("id").intValue(), equalTo(7));
+        assertThat(objectNode.get("bigId").isLong(), equalTo(true));
+        assertThat(objectNode.get("bigId").longValue(), equalTo(Long.MAX_VALUE));
+        assertThat(objectNode.get("attributes").get("count").intValue(), equalTo(3));
+    }
+
+    @Test
+    void convert_converts_floats_bytes_and_fixed() {
+        final Schema fixedSchema = SchemaBuilder.fixed("Checksum").size(2);
+        final Schema binarySchema = SchemaBuilder.record("Binary").fields()
+                .requiredFloat("ratio")
+                .requiredFloat("missing")
+                .requiredBytes("payload")
+                .name("checksum").type(fixedSchema).noDefault()
+                .endRecord();
+        final GenericRecord record = new GenericData.Record(binarySchema);
+        record.put("ratio", 0.1f);
+        record.put("missing", Float.NaN);
+        record.put("payload", ByteBuffer.wrap(new byte[] {'a', 'b'}));
+        record.put("checksum", new GenericData.Fixed(fixedSchema, new byte[] {1, -1}));
+
+        final ObjectNode objectNode = createObjectUnderTest().convert(record);
+
+        assertThat(objectNode.get("ratio").doubleValue(), equalTo(0.1));
+        assertThat(objectNode.get("missing").textValue(), equalTo("NaN"));
+        assertThat(objectNode.get("payload").textValue(), equalTo("ab"));
+        assertThat(objectNode.get("checksum").size(), equalTo(2));
+        assertThat(objectNode.get("checksum").get(0).intValue(), equalTo(1));
+        assertThat(objectNode.get("checksum").get(1).intValue(), equalTo(-1));
+    }
+
+    @Test
+    void convert_converts_unions_of_several_types() throws Exception {
+        final Schema unionSchema = SchemaBuilder.record("Union").fields()
+                .name("value").type().unionOf().nullType().and().intType().and().stringType().endUnion().noDefault()
+                .endRecord();
+        final AvroJsonNodeConverter objectUnderTest = createObjectUnderTest();
+
+        for (final Object value : new Object[] {null, 5, "five"}) {
+            final GenericRecord record = new GenericData.Record(unionSchema);
+            record.put("value", value);
+            assertThat(objectUnderTest.convert(record), equalTo(OBJECT_MAPPER.readTree(record.toString())));
+        }
+    }
+
+    @Test
+    void convert_converts_recursive_schemas() throws Exception {
+        final Schema nodeSchema = new Schema.Parser().parse("{\"type\": \"record\", \"name\": \"Node\", \"fields\": [" +
+                "{\"name\": \"value\", \"type\": \"string\"}," +
+                "{\"name\": \"children\", \"type\": {\"type\": \"array\", \"items\": \"Node\"}}]}");
+        final GenericRecord child = new GenericData.Record(nodeSchema);
+        child.put("value", "child");
+        child.put("children", List.of());
+        final GenericRecord parent = new GenericData.Record(nodeSchema);
+        parent.put("value", "parent");
+        parent.put("children", List.of(child));
+
+        final ObjectNode objectNode = createObjectUnderTest().convert(parent);
+
+        final JsonNode childNode = objectNode.get("children").get(0);
+        assertThat(childNode, notNullValue());
+        assertThat(childNode.get("value").textValue(), equalTo("child"));
+        assertThat(objectNode, equalTo(OBJECT_MAPPER.readTree(parent.toString())));
+    }
+
+    @Test
+    void convert_returns_a_new_tree_for_each_record() {
+        final AvroJsonNodeConverter objectUnderTest = createObjectUnderTest();
+        final GenericRecord record = createRecord();
+
+        final ObjectNode first = objectUnderTest.convert(record);
+        final ObjectNode second = objectUnderTest.convert(record);
+
+        assertThat(first, equalTo(second));
+        assertThat(first, not(sameInstance(second)));
+    }
+}
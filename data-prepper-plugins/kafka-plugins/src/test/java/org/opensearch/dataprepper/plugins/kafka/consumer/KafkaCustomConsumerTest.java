@@ -10,6 +10,10 @@ import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micrometer.core.instrument.Counter;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
@@ -419,6 +423,36 @@ public class KafkaCustomConsumerTest {
         }
     }
 
+    @Test
+    public void testAvroConsumeRecords() throws InterruptedException, Exception {
+        String topic = topicConfig.getName();
+        when(topicConfig.getSerdeFormat()).thenReturn(MessageFormat.AVRO);
+        when(topicConfig.getKafkaKeyMode()).thenReturn(KafkaKeyMode.INCLUDE_AS_FIELD);
+        consumerRecords = createAvroRecords(topic);
+        when(kafkaConsumer.poll(any(Duration.class))).thenReturn(consumerRecords);
+        consumer = createObjectUnderTest("avro", false);
+
+        consumer.onPartitionsAssigned(List.of(new TopicPartition(topic, testJsonPartition)));
+        consumer.consumeRecords();
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> bufferRecords = buffer.read(1000);
+        ArrayList<Record<Event>> bufferedRecords = new ArrayList<>(bufferRecords.getKey());
+        Assertions.assertEquals(consumerRecords.count(), bufferedRecords.size());
+
+        for (Record<Event> record: bufferedRecords) {
+            Event event = record.getData();
+            Map<String, Object> eventMap = event.toMap();
+            String kafkaKey = event.get("kafka_key", String.class);
+            assertTrue(kafkaKey.equals(testKey1) || kafkaKey.equals(testKey2));
+            if (kafkaKey.equals(testKey1)) {
+                testMap1.forEach((k, v) -> assertThat(eventMap, hasEntry(k,v)));
+            }
+            if (kafkaKey.equals(testKey2)) {
+                testMap2.forEach((k, v) -> assertThat(eventMap, hasEntry(k,v)));
+            }
+            Assertions.assertEquals(TOPIC_NAME, event.getMetadata().getAttribute("kafka_topic"));
+        }
+    }
+
     @Test
     public void testJsonDeserializationErrorWithAcknowledgements() throws Exception {
         String topic = topicConfig.getName();
@@ -565,6 +599,30 @@ public class KafkaCustomConsumerTest {
         return new ConsumerRecords(records);
     }
 
+    private ConsumerRecords createAvroRecords(String topic) {
+        Map<TopicPartition, List<ConsumerRecord>> records = new HashMap<>();
+        ConsumerRecord<String, GenericRecord> record1 = new ConsumerRecord<>(topic, testJsonPartition, 100L, testKey1, createAvroRecord(testMap1));
+        ConsumerRecord<String, GenericRecord> record2 = new ConsumerRecord<>(topic, testJsonPartition, 101L, testKey2, createAvroRecord(testMap2));
+        records.put(new TopicPartition(topic, testJsonPartition), Arrays.asList(record1, record2));
+        return new ConsumerRecords(records);
+    }
+
+    private GenericRecord createAvroRecord(final Map<String, Object> values) {
+        SchemaBuilder.FieldAssembler<Schema> fieldAssembler = SchemaBuilder.record("TestRecord").fields();
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            if (entry.getValue() instanceof Integer) {
+                fieldAssembler = fieldAssembler.requiredInt(entry.getKey());
+            } else if (entry.getValue() instanceof Boolean) {
+                fieldAssembler = fieldAssembler.requiredBoolean(entry.getKey());
+            } else {
+                fieldAssembler = fieldAssembler.requiredString(entry.getKey());
+            }
+        }
+        final GenericRecord genericRecord = new GenericData.Record(fieldAssembler.endRecord());
+        values.forEach(genericRecord::put);
+        return genericRecord;
+    }
+
     private ConsumerRecords createJsonRecords(String topic) throws Exception {
         final ObjectMapper mapper = new ObjectMapper();
         Map<TopicPartition, List<ConsumerRecord>> records = new HashMap<>();
@@ -10,6 +10,7 @@ import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
 import org.opensearch.dataprepper.model.plugin.InvalidPluginConfigurationException;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
@@ -46,6 +47,8 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
     private final KeyValueProcessorConfig keyValueProcessorConfig;
 
     private final ExpressionEvaluator expressionEvaluator;
+    private final EventKey sourceKey;
+    private final EventKey destinationKey;
 
     private final Pattern fieldDelimiterPattern;
     private final Pattern keyValueDelimiterPattern;
@@ -191,6 +194,9 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
             throw new IllegalArgumentException("Cannot remove brackets needed for determining levels of recursion");
         }
 
+        this.sourceKey = EventKey.of(keyValueProcessorConfig.getSource());
+        this.destinationKey = keyValueProcessorConfig.getDestination() != null ? EventKey.of(keyValueProcessorConfig.getDestination()) : null;
+
         this.expressionEvaluator = expressionEvaluator;
         if (keyValueProcessorConfig.getKeyValueWhen() != null
                 && !expressionEvaluator.isValidExpressionStatement(keyValueProcessorConfig.getKeyValueWhen())) {
@@ -257,7 +263,7 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
                     continue;
                 }
 
-                final String groupsRaw = recordEvent.get(keyValueProcessorConfig.getSource(), String.class);
+                final String groupsRaw = recordEvent.get(sourceKey, String.class);
                 if (groupsRaw == null) {
                     continue;
                 }
@@ -282,12 +288,12 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
 
                 final Map<String, Object> processedMap = executeConfigs(outputMap);
 
-                if (Objects.isNull(keyValueProcessorConfig.getDestination())) {
+                if (Objects.isNull(destinationKey)) {
                     writeToRoot(recordEvent, processedMap);
                 } else {
                     if (keyValueProcessorConfig.getOverwriteIfDestinationExists() ||
-                            !recordEvent.containsKey(keyValueProcessorConfig.getDestination())) {
-                        recordEvent.put(keyValueProcessorConfig.getDestination(), processedMap);
+                            !recordEvent.containsKey(destinationKey)) {
+                        recordEvent.put(destinationKey, processedMap);
                     }
                 }
             } catch (final Exception e) {
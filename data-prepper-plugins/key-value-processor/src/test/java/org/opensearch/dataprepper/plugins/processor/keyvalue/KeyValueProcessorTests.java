@@ -167,6 +167,7 @@ public class KeyValueProcessorTests {
     @Test
     void testWriteToRoot() {
         when(mockConfig.getDestination()).thenReturn(null);
+        keyValueProcessor = createObjectUnderTest();
         final Record<Event> record = getMessage("key1=value1&key2=value2");
         final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
 
@@ -182,6 +183,7 @@ public class KeyValueProcessorTests {
     @Test
     void testWriteToRootWithOverwrite() {
         when(mockConfig.getDestination()).thenReturn(null);
+        keyValueProcessor = createObjectUnderTest();
         final Record<Event> record = getMessage("key1=value1&key2=value2");
         record.getData().put("key1", "value to be overwritten");
         final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
@@ -209,6 +211,7 @@ public class KeyValueProcessorTests {
     @Test
     void testWriteToRootWithOverwriteDisabled() {
         when(mockConfig.getDestination()).thenReturn(null);
+        keyValueProcessor = createObjectUnderTest();
         when(mockConfig.getOverwriteIfDestinationExists()).thenReturn(false);
         final Record<Event> record = getMessage("key1=value1&key2=value2");
         record.getData().put("key1", "value will not be overwritten");
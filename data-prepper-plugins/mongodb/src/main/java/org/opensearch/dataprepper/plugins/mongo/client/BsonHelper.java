@@ -7,11 +7,14 @@ package org.opensearch.dataprepper.plugins.mongo.client;
 
 import org.bson.BsonBinary;
 import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
 import org.bson.BsonInt32;
 import org.bson.BsonObjectId;
 import org.bson.BsonString;
 import org.bson.BsonTimestamp;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
 import org.bson.conversions.Bson;
 import org.bson.json.JsonMode;
 import org.bson.json.JsonWriterSettings;
@@ -106,6 +109,18 @@ public class BsonHelper {
         .undefinedConverter((value, writer) -> writer.writeNull())
         .build();
 
+    /**
+     * Gets the size of a document in BSON. A {@link RawBsonDocument}, as read from the server, already has its bytes.
+     *
+     * @param document the document
+     * @return the size of the document in bytes
+     */
+    public static long getDocumentSize(final BsonDocument document) {
+        final RawBsonDocument rawBsonDocument = document instanceof RawBsonDocument ?
+                (RawBsonDocument) document : new RawBsonDocument(document, new BsonDocumentCodec());
+        return rawBsonDocument.getByteBuffer().remaining();
+    }
+
     public static String getPartitionStringFromMongoDBId(Object id, String className) {
         switch (className) {
             case "org.bson.Document":
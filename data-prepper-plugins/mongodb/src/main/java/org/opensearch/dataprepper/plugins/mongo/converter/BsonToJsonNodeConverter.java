@@ -0,0 +1,167 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.mongo.converter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDbPointer;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonReader;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonType;
+import org.bson.RawBsonDocument;
+import org.bson.io.ByteBufferBsonInput;
+
+import java.util.Base64;
+
+/**
+ * Converts BSON documents into Jackson {@link JsonNode}s by reading the BSON values directly, without rendering
+ * the documents as JSON text first. The values are mapped the same way as
+ * {@link org.opensearch.dataprepper.plugins.mongo.client.BsonHelper#JSON_WRITER_SETTINGS} renders them, so an
+ * event has the same data as one parsed from that JSON.
+ */
+public class BsonToJsonNodeConverter {
+    private static final JsonNodeFactory NODE_FACTORY = JsonNodeFactory.instance;
+    private static final String REGEX_PATTERN = "pattern";
+    private static final String REGEX_OPTIONS = "options";
+    private static final String NUMBER_DOUBLE = "$numberDouble";
+    private static final String SYMBOL = "$symbol";
+    private static final String CODE = "$code";
+    private static final String SCOPE = "$scope";
+    private static final String DB_POINTER = "$dbPointer";
+    private static final String DB_POINTER_REF = "$ref";
+    private static final String DB_POINTER_ID = "$id";
+
+    /**
+     * Converts a BSON document into a JSON object. A {@link RawBsonDocument} is read from its bytes
+     * without decoding it into BSON values first.
+     *
+     * @param document the BSON document
+     * @return the JSON object with the fields of the document
+     */
+    public static ObjectNode convert(final BsonDocument document) {
+        try (final BsonReader reader = createReader(document)) {
+            return readDocument(reader);
+        }
+    }
+
+    private static BsonReader createReader(final BsonDocument document) {
+        if (document instanceof RawBsonDocument) {
+            return new BsonBinaryReader(new ByteBufferBsonInput(((RawBsonDocument) document).getByteBuffer()));
+        }
+        return new BsonDocumentReader(document);
+    }
+
+    private static ObjectNode readDocument(final BsonReader reader) {
+        final ObjectNode objectNode = NODE_FACTORY.objectNode();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            final String name = reader.readName();
+            objectNode.set(name, readValue(reader));
+        }
+        reader.readEndDocument();
+        return objectNode;
+    }
+
+    private static ArrayNode readArray(final BsonReader reader) {
+        final ArrayNode arrayNode = NODE_FACTORY.arrayNode();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            arrayNode.add(readValue(reader));
+        }
+        reader.readEndArray();
+        return arrayNode;
+    }
+
+    private static JsonNode readValue(final BsonReader reader) {
+        final BsonType bsonType = reader.getCurrentBsonType();
+        switch (bsonType) {
+            case DOCUMENT:
+                return readDocument(reader);
+            case ARRAY:
+                return readArray(reader);
+            case STRING:
+                return NODE_FACTORY.textNode(reader.readString());
+            case INT32:
+                return NODE_FACTORY.numberNode(reader.readInt32());
+            case INT64:
+                return integralNumberNode(reader.readInt64());
+            case DOUBLE:
+                return doubleNode(reader.readDouble());
+            case DECIMAL128:
+                return NODE_FACTORY.textNode(reader.readDecimal128().bigDecimalValue().toPlainString());
+            case BOOLEAN:
+                return NODE_FACTORY.booleanNode(reader.readBoolean());
+            case OBJECT_ID:
+                return NODE_FACTORY.textNode(reader.readObjectId().toHexString());
+            case DATE_TIME:
+                return integralNumberNode(reader.readDateTime());
+            case TIMESTAMP:
+                return NODE_FACTORY.numberNode(reader.readTimestamp().getTime());
+            case BINARY:
+                return NODE_FACTORY.textNode(Base64.getEncoder().encodeToString(reader.readBinaryData().getData()));
+            case REGULAR_EXPRESSION:
+                final BsonRegularExpression regularExpression = reader.readRegularExpression();
+                final ObjectNode regexNode = NODE_FACTORY.objectNode();
+                regexNode.put(REGEX_PATTERN, regularExpression.getPattern());
+                regexNode.put(REGEX_OPTIONS, regularExpression.getOptions());
+                return regexNode;
+            case NULL:
+                reader.readNull();
+                return NODE_FACTORY.nullNode();
+            case UNDEFINED:
+                reader.readUndefined();
+                return NODE_FACTORY.nullNode();
+            case MIN_KEY:
+                reader.readMinKey();
+                return NODE_FACTORY.nullNode();
+            case MAX_KEY:
+                reader.readMaxKey();
+                return NODE_FACTORY.nullNode();
+            case SYMBOL:
+                return NODE_FACTORY.objectNode().put(SYMBOL, reader.readSymbol());
+            case JAVASCRIPT:
+                return NODE_FACTORY.objectNode().put(CODE, reader.readJavaScript());
+            case JAVASCRIPT_WITH_SCOPE:
+                final ObjectNode codeNode = NODE_FACTORY.objectNode().put(CODE, reader.readJavaScriptWithScope());
+                codeNode.set(SCOPE, readDocument(reader));
+                return codeNode;
+            case DB_POINTER:
+                final BsonDbPointer dbPointer = reader.readDBPointer();
+                final ObjectNode dbPointerNode = NODE_FACTORY.objectNode();
+                dbPointerNode.putObject(DB_POINTER)
+                        .put(DB_POINTER_REF, dbPointer.getNamespace())
+                        .put(DB_POINTER_ID, dbPointer.getId().toHexString());
+                return dbPointerNode;
+            default:
+                throw new IllegalArgumentException("Unsupported BSON type " + bsonType);
+        }
+    }
+
+    /**
+     * Integral numbers rendered as JSON text are read back as ints when they fit, so the same is done here.
+     */
+    private static JsonNode integralNumberNode(final long value) {
+        if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+            return NODE_FACTORY.numberNode((int) value);
+        }
+        return NODE_FACTORY.numberNode(value);
+    }
+
+    /**
+     * Relaxed extended JSON renders doubles as numbers, except for the values which JSON numbers can't represent.
+     */
+    private static JsonNode doubleNode(final double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return NODE_FACTORY.objectNode().put(NUMBER_DOUBLE, Double.toString(value));
+        }
+        return NODE_FACTORY.numberNode(value);
+    }
+}
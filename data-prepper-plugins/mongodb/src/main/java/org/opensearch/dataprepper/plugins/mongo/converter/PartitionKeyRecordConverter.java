@@ -1,6 +1,7 @@
 package org.opensearch.dataprepper.plugins.mongo.converter;
 
 import com.mongodb.client.model.changestream.OperationType;
+import org.bson.BsonDocument;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.EventMetadata;
 
@@ -25,12 +26,12 @@ public class PartitionKeyRecordConverter extends RecordConverter {
     }
 
     @Override
-    public Event convert(final String record,
+    public Event convert(final BsonDocument document,
                          final long eventCreateTimeEpochMillis,
                          final long eventVersionNumber,
                          final OperationType eventName,
                          final String primaryKeyBsonType) {
-        final Event event =  super.convert(record, eventCreateTimeEpochMillis, eventVersionNumber, eventName, primaryKeyBsonType);
+        final Event event =  super.convert(document, eventCreateTimeEpochMillis, eventVersionNumber, eventName, primaryKeyBsonType);
         final EventMetadata eventMetadata = event.getMetadata();
         final String partitionKey = String.valueOf(eventMetadata.getAttribute(MetadataKeyAttributes.PARTITION_KEY_METADATA_ATTRIBUTE));
         eventMetadata.setAttribute(MetadataKeyAttributes.EVENT_S3_PARTITION_KEY, s3PathPrefix + S3_PATH_DELIMITER + hashKeyToPartition(partitionKey));
@@ -5,25 +5,22 @@
 
 package org.opensearch.dataprepper.plugins.mongo.converter;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mongodb.client.model.changestream.OperationType;
+import org.bson.BsonDocument;
 import org.opensearch.dataprepper.model.document.JacksonDocument;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.EventMetadata;
 import org.opensearch.dataprepper.model.opensearch.OpenSearchBulkActions;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.time.Instant;
-import java.util.Map;
 
 
 /**
  * The record convert transform the source data into a JacksonEvent.
  */
 public class RecordConverter {
-    private static final Logger LOG = LoggerFactory.getLogger(RecordConverter.class);
     private static final String DEFAULT_ACTION = OpenSearchBulkActions.INDEX.toString();
     private static final ObjectMapper MAPPER = new ObjectMapper();
 
@@ -36,37 +33,40 @@ public class RecordConverter {
     }
 
     /**
-     * Extract the value based on attribute map
+     * Extract the value based on attribute name
      *
-     * @param data          A map of attribute name and value
+     * @param data          The event data
      * @param attributeName Attribute name
      * @return the related attribute value, return null if the attribute name doesn't exist.
      */
-    private String getAttributeValue(final Map<String, Object> data, final String attributeName) {
-        if (data.containsKey(attributeName)) {
-            final Object value = data.get(attributeName);
-            return String.valueOf(value);
+    private String getAttributeValue(final JsonNode data, final String attributeName) {
+        final JsonNode value = data.get(attributeName);
+        if (value == null) {
+            return null;
+        }
+        if (value.isContainerNode()) {
+            return String.valueOf(MAPPER.convertValue(value, Object.class));
         }
-        return null;
+        return value.asText();
     }
 
     /**
      * Convert the source data into a JacksonEvent.
      *
-     * @param record                  record that will be converted to Event.
+     * @param document                document that will be converted to Event.
      * @param eventCreateTimeEpochMillis Creation timestamp of the event in epoch millis
      * @param eventVersionNumber      Event version number to handle conflicts
      * @param eventName               Event name
      * @return Jackson document event
      */
-    public Event convert(final String record,
+    public Event convert(final BsonDocument document,
                         final long eventCreateTimeEpochMillis,
                         final long eventVersionNumber,
                         final OperationType eventName,
                         final String primaryKeyBsonType) {
-        final Map<String, Object> data = convertToMap(record);
+        final JsonNode data = BsonToJsonNodeConverter.convert(document);
         final Event event = JacksonDocument.builder()
-                .withData(data)
+                .withJsonNodeData(data)
                 .build();
 
         // Only set external origination time for stream events, not export
@@ -95,16 +95,16 @@ public class RecordConverter {
     /**
      * Convert the source data into a JacksonEvent.
      *
-     * @param record                  record that will be converted to Event.
+     * @param document                document that will be converted to Event.
      * @param eventCreationTimeMillis Creation timestamp of the event
      * @param eventVersionNumber      Event version number to handle conflicts
      * @return Jackson document event
      */
-    public Event convert(final String record,
+    public Event convert(final BsonDocument document,
                         final long eventCreationTimeMillis,
                         final long eventVersionNumber,
                         final String primaryKeyBsonType) {
-        return convert(record, eventCreationTimeMillis, eventVersionNumber, null, primaryKeyBsonType);
+        return convert(document, eventCreationTimeMillis, eventVersionNumber, null, primaryKeyBsonType);
     }
 
     private String mapStreamEventNameToBulkAction(final OperationType streamEventName) {
@@ -124,14 +124,4 @@ public class RecordConverter {
                 return DEFAULT_ACTION;
         }
     }
-
-
-    private Map<String, Object> convertToMap(String jsonData) {
-        try {
-            return MAPPER.readValue(jsonData, Map.class);
-        } catch (final JsonProcessingException e) {
-            LOG.error("Error converting json data into map.");
-            return null;
-        }
-    }
 }
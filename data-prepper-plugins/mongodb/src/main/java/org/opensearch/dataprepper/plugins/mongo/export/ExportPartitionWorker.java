@@ -11,8 +11,8 @@ import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
-import org.bson.BsonDocument;
-import org.bson.Document;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
 import org.bson.conversions.Bson;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSet;
@@ -32,7 +32,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
-import static org.opensearch.dataprepper.plugins.mongo.client.BsonHelper.JSON_WRITER_SETTINGS;
 import static org.opensearch.dataprepper.plugins.mongo.client.BsonHelper.DOCUMENTDB_ID_FIELD_NAME;
 import static org.opensearch.dataprepper.plugins.mongo.client.BsonHelper.UNKNOWN_TYPE;
 
@@ -145,7 +144,9 @@ public class ExportPartitionWorker implements Runnable {
         recordConverter.initializePartitions(s3Partitions);
         try (final MongoClient mongoClient = MongoDBConnection.getMongoClient(sourceConfig)) {
             final MongoDatabase db = mongoClient.getDatabase(collection.get(0));
-            final MongoCollection<Document> col = db.getCollection(partitionKeys.get(0).substring(collection.get(0).length()+1));
+            // Read the documents as raw BSON, which the record converter reads directly into the event data
+            final MongoCollection<RawBsonDocument> col = db.getCollection(partitionKeys.get(0).substring(collection.get(0).length()+1),
+                    RawBsonDocument.class);
             final Bson query = BsonHelper.buildQuery(gte, lte, gteClassName, lteClassName);
             long totalRecords = 0L;
             long successRecords = 0L;
@@ -156,7 +157,7 @@ public class ExportPartitionWorker implements Runnable {
             int lastRecordNumberProcessed = 0;
             final List<Event> records = new ArrayList<>();
             final List<Long> recordBytes = new ArrayList<>();
-            try (MongoCursor<Document> cursor = col.find(query).iterator()) {
+            try (MongoCursor<RawBsonDocument> cursor = col.find(query).iterator()) {
                 while (cursor.hasNext() && !Thread.currentThread().isInterrupted()) {
                     if (shouldStop) {
                         partitionCheckpoint.checkpoint(lastRecordNumberProcessed);
@@ -172,17 +173,16 @@ public class ExportPartitionWorker implements Runnable {
                     exportRecordTotalCounter.increment();
 
                     try {
-                        final Document document = cursor.next();
-                        final String record = document.toJson(JSON_WRITER_SETTINGS);
-                        final long bytes = record.getBytes().length;
+                        final RawBsonDocument document = cursor.next();
+                        final long bytes = BsonHelper.getDocumentSize(document);
                         recordBytes.add(bytes);
                         bytesReceivedSummary.record(bytes);
-                        final Optional<BsonDocument> primaryKeyDoc = Optional.ofNullable(document.toBsonDocument());
-                        final String primaryKeyBsonType = primaryKeyDoc.map(bsonDocument -> bsonDocument.get(DOCUMENTDB_ID_FIELD_NAME).getBsonType().name()).orElse(UNKNOWN_TYPE);
+                        final Optional<BsonValue> primaryKey = Optional.ofNullable(document.get(DOCUMENTDB_ID_FIELD_NAME));
+                        final String primaryKeyBsonType = primaryKey.map(bsonValue -> bsonValue.getBsonType().name()).orElse(UNKNOWN_TYPE);
 
                         // The version number is the export time minus some overlap to ensure new stream events still get priority
                         final long eventVersionNumber = (exportStartTimeEpochMillis - VERSION_OVERLAP_TIME_FOR_EXPORT.toMillis()) * 1_000L;
-                        final Event event = recordConverter.convert(record, exportStartTimeEpochMillis, eventVersionNumber, primaryKeyBsonType);
+                        final Event event = recordConverter.convert(document, exportStartTimeEpochMillis, eventVersionNumber, primaryKeyBsonType);
                         if (sourceConfig.getIdKey() !=null && !sourceConfig.getIdKey().isBlank()) {
                             event.put(sourceConfig.getIdKey(), event.get(DOCUMENTDB_ID_FIELD_NAME, Object.class));
                         }
@@ -13,12 +13,13 @@ import com.mongodb.client.model.changestream.OperationType;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
 import org.bson.BsonDocument;
-import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.opensearch.dataprepper.common.concurrent.BackgroundThreadFactory;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSet;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.plugins.mongo.buffer.RecordBufferWriter;
+import org.opensearch.dataprepper.plugins.mongo.client.BsonHelper;
 import org.opensearch.dataprepper.plugins.mongo.client.MongoDBConnection;
 import org.opensearch.dataprepper.plugins.mongo.configuration.MongoDBSourceConfig;
 import org.opensearch.dataprepper.plugins.mongo.converter.PartitionKeyRecordConverter;
@@ -139,10 +140,10 @@ public class StreamWorker {
 
     }
 
-    private MongoCursor<ChangeStreamDocument<Document>> getChangeStreamCursor(final MongoCollection<Document> collection,
+    private MongoCursor<ChangeStreamDocument<RawBsonDocument>> getChangeStreamCursor(final MongoCollection<RawBsonDocument> collection,
                             final String resumeToken
                             ) {
-        final ChangeStreamIterable<Document> changeStreamIterable = collection.watch(
+        final ChangeStreamIterable<RawBsonDocument> changeStreamIterable = collection.watch(
                         List.of(Aggregates.project(Projections.exclude(UPDATE_DESCRIPTION))))
                 .batchSize(streamBatchSize);
 
@@ -181,10 +182,12 @@ public class StreamWorker {
             // Access the database
             MongoDatabase database = mongoClient.getDatabase(collectionDBNameList.get(0));
 
-            // Access the collection you want to stream data from
-            MongoCollection<Document> collection = database.getCollection(collectionDbName.substring(collectionDBNameList.get(0).length() + 1));
+            // Access the collection you want to stream data from. The full documents are read as raw BSON, which the
+            // record converter reads directly into the event data
+            MongoCollection<RawBsonDocument> collection = database.getCollection(collectionDbName.substring(collectionDBNameList.get(0).length() + 1),
+                    RawBsonDocument.class);
 
-            try (MongoCursor<ChangeStreamDocument<Document>> cursor = getChangeStreamCursor(collection, resumeToken.orElse(null))) {
+            try (MongoCursor<ChangeStreamDocument<RawBsonDocument>> cursor = getChangeStreamCursor(collection, resumeToken.orElse(null))) {
                 while ((shouldWaitForExport(streamPartition) || shouldWaitForS3Partition(streamPartition.getCollection())) && !Thread.currentThread().isInterrupted()) {
                     LOG.info("Initial load not complete for collection {}, waiting for initial lo be complete before resuming streams.", collectionDbName);
                     try {
@@ -204,19 +207,19 @@ public class StreamWorker {
                 while (!Thread.currentThread().isInterrupted() && !stopWorker) {
                     if (cursor.hasNext()) {
                         try {
-                            final ChangeStreamDocument<Document> document = cursor.next();
+                            final ChangeStreamDocument<RawBsonDocument> document = cursor.next();
                             final OperationType operationType = document.getOperationType();
                             LOG.debug("Event Operation type {}", operationType);
                             if (isCRUDOperation(operationType)) {
-                                final String record;
+                                final BsonDocument record;
                                 if (OperationType.DELETE == operationType) {
-                                    record = document.getDocumentKey().toJson(JSON_WRITER_SETTINGS);
+                                    record = document.getDocumentKey();
                                 } else {
-                                    record = document.getFullDocument().toJson(JSON_WRITER_SETTINGS);
+                                    record = document.getFullDocument();
                                 }
                                 final long eventCreateTimeEpochMillis = document.getClusterTime().getTime() * 1_000L;
                                 final long eventCreationTimeEpochNanos = calculateTieBreakingVersionFromTimestamp(document.getClusterTime().getTime());
-                                final long bytes = record.getBytes().length;
+                                final long bytes = BsonHelper.getDocumentSize(record);
                                 bytesReceivedSummary.record(bytes);
 
                                 final Optional<BsonDocument> primaryKeyDoc = Optional.ofNullable(document.getDocumentKey());
@@ -0,0 +1,119 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.mongo.converter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.bson.BsonArray;
+import org.bson.BsonBinary;
+import org.bson.BsonBoolean;
+import org.bson.BsonDateTime;
+import org.bson.BsonDecimal128;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonJavaScript;
+import org.bson.BsonJavaScriptWithScope;
+import org.bson.BsonMaxKey;
+import org.bson.BsonMinKey;
+import org.bson.BsonNull;
+import org.bson.BsonObjectId;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonString;
+import org.bson.BsonSymbol;
+import org.bson.BsonTimestamp;
+import org.bson.BsonUndefined;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.opensearch.dataprepper.plugins.mongo.client.BsonHelper.JSON_WRITER_SETTINGS;
+
+class BsonToJsonNodeConverterTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static BsonDocument createDocument() {
+        return new BsonDocument("_id", new BsonObjectId(new ObjectId()))
+                .append("string", new BsonString(UUID.randomUUID().toString()))
+                .append("int", new BsonInt32(123))
+                .append("smallLong", new BsonInt64(456))
+                .append("long", new BsonInt64(Long.MAX_VALUE - 6))
+                .append("double", new BsonDouble(3.14159))
+                .append("wholeDouble", new BsonDouble(2.0))
+                .append("notANumber", new BsonDouble(Double.NaN))
+                .append("infinity", new BsonDouble(Double.NEGATIVE_INFINITY))
+                .append("decimal", new BsonDecimal128(new Decimal128(new BigDecimal("123456789.0123456789"))))
+                .append("boolean", BsonBoolean.TRUE)
+                .append("null", BsonNull.VALUE)
+                .append("undefined", new BsonUndefined())
+                .append("date", new BsonDateTime(Instant.now().toEpochMilli()))
+                .append("timestamp", new BsonTimestamp(1714744681, 29))
+                .append("binary", new BsonBinary(new byte[] {1, 2, 3, 4}))
+                .append("objectId", new BsonObjectId(new ObjectId()))
+                .append("regex", new BsonRegularExpression("^ABC", "i"))
+                .append("minKey", new BsonMinKey())
+                .append("maxKey", new BsonMaxKey())
+                .append("symbol", new BsonSymbol("symbol"))
+                .append("code", new BsonJavaScript("function() {}"))
+                .append("codeWithScope", new BsonJavaScriptWithScope("function() { return x; }", new BsonDocument("x", new BsonInt32(1))))
+                .append("array", new BsonArray(List.of(new BsonString("a"), new BsonInt32(1),
+                        new BsonDocument("nested", new BsonArray(List.of(new BsonObjectId(new ObjectId())))))))
+                .append("object", new BsonDocument("nestedKey", new BsonString("nestedValue"))
+                        .append("nestedDate", new BsonDateTime(0)));
+    }
+
+    @Test
+    void convert_returns_the_same_data_as_parsing_the_json() throws JsonProcessingException {
+        final BsonDocument document = createDocument();
+
+        final JsonNode expectedNode = OBJECT_MAPPER.readTree(document.toJson(JSON_WRITER_SETTINGS));
+
+        assertThat(BsonToJsonNodeConverter.convert(document), equalTo(expectedNode));
+    }
+
+    @Test
+    void convert_raw_document_returns_the_same_data_as_parsing_the_json() throws JsonProcessingException {
+        final RawBsonDocument document = new RawBsonDocument(createDocument(), new BsonDocumentCodec());
+
+        final JsonNode expectedNode = OBJECT_MAPPER.readTree(document.toJson(JSON_WRITER_SETTINGS));
+
+        assertThat(BsonToJsonNodeConverter.convert(document), equalTo(expectedNode));
+    }
+
+    @Test
+    void convert_empty_document_returns_empty_object() {
+        assertThat(BsonToJsonNodeConverter.convert(new BsonDocument()), equalTo(OBJECT_MAPPER.createObjectNode()));
+        assertThat(BsonToJsonNodeConverter.convert(new RawBsonDocument(new BsonDocument(), new BsonDocumentCodec())),
+                equalTo(OBJECT_MAPPER.createObjectNode()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0L, 1L, -1L, Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE + 1L, Integer.MIN_VALUE - 1L, Long.MAX_VALUE})
+    void convert_long_values_have_the_same_type_as_parsing_the_json(final long value) throws JsonProcessingException {
+        final BsonDocument document = new BsonDocument("long", new BsonInt64(value))
+                .append("date", new BsonDateTime(value));
+
+        final JsonNode expectedNode = OBJECT_MAPPER.readTree(document.toJson(JSON_WRITER_SETTINGS));
+        final JsonNode jsonNode = BsonToJsonNodeConverter.convert(document);
+
+        assertThat(jsonNode, equalTo(expectedNode));
+        assertThat(jsonNode.get("long").numberType(), equalTo(expectedNode.get("long").numberType()));
+        assertThat(jsonNode.get("date").numberType(), equalTo(expectedNode.get("date").numberType()));
+    }
+}
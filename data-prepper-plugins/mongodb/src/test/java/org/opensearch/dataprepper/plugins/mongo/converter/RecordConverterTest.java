@@ -6,6 +6,13 @@
 package org.opensearch.dataprepper.plugins.mongo.converter;
 
 import com.mongodb.client.model.changestream.OperationType;
+import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonObjectId;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -50,12 +57,12 @@ class RecordConverterTest {
     @Test
     void convert() {
         final String id = UUID.randomUUID().toString();
-        final String record = "{" +
+        final BsonDocument record = BsonDocument.parse("{" +
                 "\"_id\":\"" + id + "\"," +
                 "\"customerId\":" + random.nextInt() + "," +
                 "\"productId\":" + random.nextInt() + "," +
                 "\"quantity\":" + random.nextInt() + "," +
-                "\"orderDate\":{\"date\":\"" + LocalDate.now() +"\"}}";
+                "\"orderDate\":{\"date\":\"" + LocalDate.now() +"\"}}");
         final long exportStartTime = Instant.now().toEpochMilli();
         final long eventVersionNumber = random.nextLong();
         final String collection = UUID.randomUUID().toString();
@@ -82,12 +89,12 @@ class RecordConverterTest {
     @Test
     void convertWithEventName() {
         final String id = UUID.randomUUID().toString();
-        final String record = "{" +
+        final BsonDocument record = BsonDocument.parse("{" +
                 "\"_id\":\"" + id + "\"," +
                 "\"customerId\":" + random.nextInt() + "," +
                 "\"productId\":" + random.nextInt() + "," +
                 "\"quantity\":" + random.nextInt() + "," +
-                "\"orderDate\":{\"date\":\"" + LocalDate.now() +"\"}}";
+                "\"orderDate\":{\"date\":\"" + LocalDate.now() +"\"}}");
         final long exportStartTime = Instant.now().toEpochMilli();
         final long eventVersionNumber = random.nextLong();
         final OperationType eventName = OperationType.INSERT;
@@ -112,4 +119,23 @@ class RecordConverterTest {
         assertThat(event.getEventHandle().getExternalOriginationTime(), equalTo(Instant.ofEpochMilli(exportStartTime)));
         assertThat(event.getMetadata().getExternalOriginationTime(), equalTo(Instant.ofEpochMilli(exportStartTime)));
     }
-}
\ No newline at end of file
+
+    @Test
+    void convert_reads_bson_types_into_event_data() {
+        final ObjectId id = new ObjectId();
+        final long quantity = random.nextLong();
+        final long orderDate = Instant.now().toEpochMilli();
+        final RawBsonDocument document = new RawBsonDocument(new BsonDocument("_id", new BsonObjectId(id))
+                .append("quantity", new BsonInt64(quantity))
+                .append("orderDate", new BsonDateTime(orderDate)), new BsonDocumentCodec());
+        final RecordConverter recordConverter = new RecordConverter(UUID.randomUUID().toString(), ExportPartition.PARTITION_TYPE);
+
+        final JacksonEvent event = (JacksonEvent) recordConverter.convert(document, orderDate, random.nextLong(), UUID.randomUUID().toString());
+
+        assertThat(event.get("_id", String.class), equalTo(id.toHexString()));
+        assertThat(event.get("quantity", Long.class), equalTo(quantity));
+        assertThat(event.get("orderDate", Long.class), equalTo(orderDate));
+        assertThat(event.getMetadata().getAttribute(PARTITION_KEY_METADATA_ATTRIBUTE), equalTo(id.toHexString()));
+        assertThat(event.getMetadata().getAttribute(PRIMARY_KEY_DOCUMENT_ID_METADATA_ATTRIBUTE), equalTo(id.toHexString()));
+    }
+}
@@ -8,12 +8,13 @@ import com.mongodb.client.MongoDatabase;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
 import org.bson.BsonDocument;
+import org.bson.BsonInt32;
 import org.bson.BsonObjectId;
 import org.bson.BsonString;
 import org.bson.BsonType;
-import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
 import org.bson.conversions.Bson;
-import org.bson.json.JsonWriterSettings;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -27,6 +28,7 @@ import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSet;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.source.coordinator.enhanced.EnhancedSourceCoordinator;
 import org.opensearch.dataprepper.plugins.mongo.buffer.RecordBufferWriter;
+import org.opensearch.dataprepper.plugins.mongo.client.BsonHelper;
 import org.opensearch.dataprepper.plugins.mongo.client.MongoDBConnection;
 import org.opensearch.dataprepper.plugins.mongo.configuration.MongoDBSourceConfig;
 import org.opensearch.dataprepper.plugins.mongo.converter.PartitionKeyRecordConverter;
@@ -123,7 +125,7 @@ public class ExportPartitionWorkerTest {
         FindIterable findIterable = mock(FindIterable.class);
         MongoCursor cursor = mock(MongoCursor.class);
         lenient().when(mongoClient.getDatabase(anyString())).thenReturn(mongoDatabase);
-        lenient().when(mongoDatabase.getCollection(anyString())).thenReturn(col);
+        lenient().when(mongoDatabase.getCollection(anyString(), eq(RawBsonDocument.class))).thenReturn(col);
         lenient().when(col.find()).thenReturn(findIterable);
         lenient().when(col.find(any(Bson.class))).thenReturn(findIterable);
         lenient().when(findIterable.projection(any())).thenReturn(findIterable);
@@ -132,18 +134,13 @@ public class ExportPartitionWorkerTest {
         lenient().when(findIterable.limit(anyInt())).thenReturn(findIterable);
         lenient().when(findIterable.iterator()).thenReturn(cursor);
         lenient().when(cursor.hasNext()).thenReturn(true, true, false);
-        Document doc1 = mock(Document.class);
-        Document doc2 = mock(Document.class);
-        BsonDocument bsonDoc1 = mock(BsonDocument.class);
-        BsonDocument bsonDoc2 = mock(BsonDocument.class);
-        when(bsonDoc1.get("_id")).thenReturn(new BsonObjectId(new ObjectId()));
-        when(bsonDoc2.get("_id")).thenReturn(new BsonString(UUID.randomUUID().toString()));
-        when(doc1.toBsonDocument()).thenReturn(bsonDoc1);
-        when(doc2.toBsonDocument()).thenReturn(bsonDoc2);
-        final String docJson1 = UUID.randomUUID().toString();
-        final String docJson2 = UUID.randomUUID() + docJson1;
-        when(doc1.toJson(any(JsonWriterSettings.class))).thenReturn(docJson1);
-        when(doc2.toJson(any(JsonWriterSettings.class))).thenReturn(docJson2);
+        final RawBsonDocument doc1 = new RawBsonDocument(new BsonDocument("_id", new BsonObjectId(new ObjectId()))
+                .append("name", new BsonString(UUID.randomUUID().toString())), new BsonDocumentCodec());
+        final RawBsonDocument doc2 = new RawBsonDocument(new BsonDocument("_id", new BsonString(UUID.randomUUID().toString()))
+                .append("name", new BsonString(UUID.randomUUID().toString()))
+                .append("quantity", new BsonInt32(1)), new BsonDocumentCodec());
+        final long docBytes1 = BsonHelper.getDocumentSize(doc1);
+        final long docBytes2 = BsonHelper.getDocumentSize(doc2);
         lenient().when(cursor.next())
                 .thenReturn(doc1)
                 .thenReturn(doc2);
@@ -153,8 +150,8 @@ public class ExportPartitionWorkerTest {
         Event event2 = mock((Event.class));
         when(event1.get("_id", Object.class)).thenReturn(UUID.randomUUID().toString());
         when(event2.get("_id", Object.class)).thenReturn(UUID.randomUUID().toString());
-        when(mockRecordConverter.convert(docJson1, exportStartTime, eventVersionNumber, BsonType.OBJECT_ID.name())).thenReturn(event1);
-        when(mockRecordConverter.convert(docJson2, exportStartTime, eventVersionNumber, BsonType.STRING.name())).thenReturn(event2);
+        when(mockRecordConverter.convert(doc1, exportStartTime, eventVersionNumber, BsonType.OBJECT_ID.name())).thenReturn(event1);
+        when(mockRecordConverter.convert(doc2, exportStartTime, eventVersionNumber, BsonType.STRING.name())).thenReturn(event2);
         lenient().when(dataQueryPartition.getPartitionKey()).thenReturn(partitionKey);
         lenient().when(sourceCoordinator.acquireAvailablePartition(DataQueryPartition.PARTITION_TYPE))
                 .thenReturn(Optional.of(dataQueryPartition));
@@ -185,18 +182,18 @@ public class ExportPartitionWorkerTest {
         future.cancel(true);
 
         verify(mongoClient, times(1)).close();
-        verify(mockRecordConverter).convert(docJson1, exportStartTime, eventVersionNumber, BsonType.OBJECT_ID.name());
-        verify(mockRecordConverter).convert(docJson2, exportStartTime, eventVersionNumber, BsonType.STRING.name());
-        verify(mongoDatabase).getCollection(eq("collection"));
+        verify(mockRecordConverter).convert(doc1, exportStartTime, eventVersionNumber, BsonType.OBJECT_ID.name());
+        verify(mockRecordConverter).convert(doc2, exportStartTime, eventVersionNumber, BsonType.STRING.name());
+        verify(mongoDatabase).getCollection(eq("collection"), eq(RawBsonDocument.class));
         verify(mockRecordConverter).initializePartitions(partitions);
         verify(mockRecordBufferWriter).writeToBuffer(eq(mockAcknowledgementSet), any());
         verify(event1).put(mockSourceConfig.getIdKey(), event1.get(DOCUMENTDB_ID_FIELD_NAME, Object.class));
         verify(event2).put(mockSourceConfig.getIdKey(), event2.get(DOCUMENTDB_ID_FIELD_NAME, Object.class));
         verify(exportRecordTotalCounter, times(2)).increment();
         verify(successItemsCounter).increment(2.0);
-        verify(bytesReceivedSummary).record(docJson1.getBytes().length);
-        verify(bytesReceivedSummary).record(docJson2.getBytes().length);
-        verify(bytesProcessedSummary).record(docJson1.getBytes().length + docJson2.getBytes().length);
+        verify(bytesReceivedSummary).record(docBytes1);
+        verify(bytesReceivedSummary).record(docBytes2);
+        verify(bytesProcessedSummary).record(docBytes1 + docBytes2);
         verify(failureItemsCounter, never()).increment();
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package org.opensearch.dataprepper.plugins.mongo.stream;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mongodb.client.ChangeStreamIterable;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
@@ -24,7 +26,8 @@ import org.bson.BsonTimestamp;
 import org.bson.BsonType;
 import org.bson.BsonUndefined;
 import org.bson.BsonValue;
-import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
 import org.bson.json.JsonWriterSettings;
 import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
@@ -40,8 +43,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.plugins.mongo.buffer.RecordBufferWriter;
+import org.opensearch.dataprepper.plugins.mongo.client.BsonHelper;
 import org.opensearch.dataprepper.plugins.mongo.client.MongoDBConnection;
 import org.opensearch.dataprepper.plugins.mongo.configuration.MongoDBSourceConfig;
+import org.opensearch.dataprepper.plugins.mongo.converter.BsonToJsonNodeConverter;
 import org.opensearch.dataprepper.plugins.mongo.converter.PartitionKeyRecordConverter;
 import org.opensearch.dataprepper.plugins.mongo.coordination.partition.StreamPartition;
 import org.opensearch.dataprepper.plugins.mongo.coordination.state.StreamProgressState;
@@ -58,6 +63,8 @@ import java.util.concurrent.Future;
 import java.util.stream.Stream;
 
 import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
@@ -109,6 +116,7 @@ public class StreamWorkerTest {
     private StreamWorker streamWorker;
 
     private static final Random random = new Random();
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
     @BeforeEach
     public void setup() {
@@ -139,7 +147,7 @@ public class StreamWorkerTest {
         ChangeStreamIterable changeStreamIterable = mock(ChangeStreamIterable.class);
         MongoCursor cursor = mock(MongoCursor.class);
         when(mongoClient.getDatabase(anyString())).thenReturn(mongoDatabase);
-        when(mongoDatabase.getCollection(anyString())).thenReturn(col);
+        when(mongoDatabase.getCollection(anyString(), eq(RawBsonDocument.class))).thenReturn(col);
         when(col.watch(anyList())).thenReturn(changeStreamIterable);
         when(changeStreamIterable.batchSize(1000)).thenReturn(changeStreamIterable);
         when(changeStreamIterable.fullDocument(FullDocument.UPDATE_LOOKUP)).thenReturn(changeStreamIterable);
@@ -147,9 +155,9 @@ public class StreamWorkerTest {
         when(cursor.hasNext()).thenReturn(true, true, false);
         ChangeStreamDocument streamDoc1 = mock(ChangeStreamDocument.class);
         ChangeStreamDocument streamDoc2 = mock(ChangeStreamDocument.class);
-        Document doc1 = mock(Document.class);
+        RawBsonDocument doc1 = rawBsonDocument(new BsonDocument("_id", new BsonInt64(random.nextLong())));
         BsonDocument doc1Key = mock(BsonDocument.class);
-        BsonDocument doc2Key = mock(BsonDocument.class);
+        BsonDocument doc2Key = new BsonDocument("_id", new BsonInt32(random.nextInt()));
         BsonDocument bsonDoc1 = new BsonDocument("resumeToken1", new BsonInt32(123));
         BsonDocument bsonDoc2 = new BsonDocument("resumeToken2", new BsonInt32(234));
         when(streamDoc1.getResumeToken()).thenReturn(bsonDoc1);
@@ -159,12 +167,7 @@ public class StreamWorkerTest {
         when(cursor.next())
             .thenReturn(streamDoc1)
             .thenReturn(streamDoc2);
-        final String doc1Json1 = UUID.randomUUID().toString();
-        final String doc1Json2 = UUID.randomUUID().toString();
         when(doc1Key.get("_id")).thenReturn(new BsonInt64(random.nextLong()));
-        when(doc1.toJson(any(JsonWriterSettings.class))).thenReturn(doc1Json1);
-        when(doc2Key.get("_id")).thenReturn(new BsonInt32(random.nextInt()));
-        when(doc2Key.toJson(any(JsonWriterSettings.class))).thenReturn(doc1Json2);
         when(streamDoc1.getFullDocument()).thenReturn(doc1);
         when(streamDoc1.getDocumentKey()).thenReturn(doc1Key);
         when(streamDoc2.getDocumentKey()).thenReturn(doc2Key);
@@ -183,7 +186,7 @@ public class StreamWorkerTest {
         when(mockSourceConfig.getIdKey()).thenReturn("docdb_id");
         Event event = mock(Event.class);
         when(event.get("_id", Object.class)).thenReturn(UUID.randomUUID().toString());
-        when(mockRecordConverter.convert(anyString(), anyLong(), anyLong(), any(OperationType.class), anyString())).thenReturn(event);
+        when(mockRecordConverter.convert(any(BsonDocument.class), anyLong(), anyLong(), any(OperationType.class), anyString())).thenReturn(event);
         final ExecutorService executorService = Executors.newSingleThreadExecutor();
         final Future<?> future = executorService.submit(() -> {
             try (MockedStatic<MongoDBConnection> mongoDBConnectionMockedStatic = mockStatic(MongoDBConnection.class)) {
@@ -195,17 +198,20 @@ public class StreamWorkerTest {
         await()
             .atMost(Duration.ofSeconds(10))
             .untilAsserted(() ->  verify(mongoClient).close());
-        verify(mongoDatabase).getCollection(eq("collection"));
+        verify(mongoDatabase).getCollection(eq("collection"), eq(RawBsonDocument.class));
         verify(mockPartitionCheckpoint).getGlobalS3FolderCreationStatus(collection);
         verify(mockRecordConverter).initializePartitions(partitions);
-        verify(mockRecordConverter).convert(eq(doc1Json1), eq(timeSecond1 * 1_000L), eq(timeSecond1 * 1_000_000L), eq(OperationType.INSERT), eq(BsonType.INT64.name()));
-        verify(mockRecordConverter).convert(eq(doc1Json2), eq(timeSecond2 * 1_000L), eq(timeSecond2 * 1_000_000L), eq(OperationType.DELETE), eq(BsonType.INT32.name()));
+        verify(mockRecordConverter).convert(eq(doc1), eq(timeSecond1 * 1_000L), eq(timeSecond1 * 1_000_000L), eq(OperationType.INSERT), eq(BsonType.INT64.name()));
+        verify(mockRecordConverter).convert(eq(doc2Key), eq(timeSecond2 * 1_000L), eq(timeSecond2 * 1_000_000L), eq(OperationType.DELETE), eq(BsonType.INT32.name()));
         verify(mockRecordBufferWriter).writeToBuffer(eq(null), any());
         verify(event, times(2)).put(mockSourceConfig.getIdKey(), event.get(DOCUMENTDB_ID_FIELD_NAME, Object.class));
-        // doc1Json1 and doc2Json2 are of the same byte size
-        verify(bytesReceivedSummary, times(2)).record(doc1Json1.getBytes().length);
+        // the delete event is the document key
+        final long docBytes1 = BsonHelper.getDocumentSize(doc1);
+        final long docBytes2 = BsonHelper.getDocumentSize(doc2Key);
+        verify(bytesReceivedSummary).record(docBytes1);
+        verify(bytesReceivedSummary).record(docBytes2);
         verify(successItemsCounter).increment(2);
-        verify(bytesProcessedSummary).record(doc1Json1.getBytes().length + doc1Json2.getBytes().length);
+        verify(bytesProcessedSummary).record(docBytes1 + docBytes2);
         verify(failureItemsCounter, never()).increment();
         verify(mockPartitionCheckpoint, atLeast(1)).checkpoint("{\"resumeToken2\": 234}", 2);
     }
@@ -239,7 +245,7 @@ public class StreamWorkerTest {
         ChangeStreamIterable changeStreamIterable = mock(ChangeStreamIterable.class);
         MongoCursor cursor = mock(MongoCursor.class);
         when(mongoClient.getDatabase(anyString())).thenReturn(mongoDatabase);
-        when(mongoDatabase.getCollection(anyString())).thenReturn(col);
+        when(mongoDatabase.getCollection(anyString(), eq(RawBsonDocument.class))).thenReturn(col);
         when(col.watch(anyList())).thenReturn(changeStreamIterable);
         when(changeStreamIterable.batchSize(1000)).thenReturn(changeStreamIterable);
         when(changeStreamIterable.fullDocument(FullDocument.UPDATE_LOOKUP)).thenReturn(changeStreamIterable);
@@ -251,9 +257,9 @@ public class StreamWorkerTest {
         ChangeStreamDocument streamDoc1 = mock(ChangeStreamDocument.class);
         ChangeStreamDocument streamDoc2 = mock(ChangeStreamDocument.class);
         ChangeStreamDocument streamDoc3 = mock(ChangeStreamDocument.class);
-        Document doc1 = mock(Document.class);
-        Document doc2 = mock(Document.class);
-        Document doc3 = mock(Document.class);
+        RawBsonDocument doc1 = rawBsonDocument(new BsonDocument("_id", new BsonString(UUID.randomUUID().toString())));
+        RawBsonDocument doc2 = rawBsonDocument(new BsonDocument("_id", new BsonString(UUID.randomUUID().toString())));
+        RawBsonDocument doc3 = rawBsonDocument(new BsonDocument("_id", new BsonString(UUID.randomUUID().toString())));
         BsonDocument bsonDoc1 = mock(BsonDocument.class);
         BsonDocument bsonDoc2 = mock(BsonDocument.class);
         BsonDocument bsonDoc3 = mock(BsonDocument.class);
@@ -262,9 +268,6 @@ public class StreamWorkerTest {
         when(streamDoc3.getResumeToken()).thenReturn(bsonDoc3);
         when(cursor.next())
             .thenReturn(streamDoc1, streamDoc2, streamDoc3);
-        when(doc1.toJson(any(JsonWriterSettings.class))).thenReturn(UUID.randomUUID().toString());
-        when(doc2.toJson(any(JsonWriterSettings.class))).thenReturn(UUID.randomUUID().toString());
-        when(doc3.toJson(any(JsonWriterSettings.class))).thenReturn(UUID.randomUUID().toString());
         when(streamDoc1.getFullDocument()).thenReturn(doc1);
         when(streamDoc1.getOperationType()).thenReturn(OperationType.INSERT);
         when(streamDoc2.getFullDocument()).thenReturn(doc2);
@@ -297,7 +300,7 @@ public class StreamWorkerTest {
         when(s3PartitionStatus.getPartitions()).thenReturn(partitions);
         when(mockPartitionCheckpoint.getGlobalS3FolderCreationStatus(collection)).thenReturn(Optional.of(s3PartitionStatus));
         Event event = mock(Event.class);
-        when(mockRecordConverter.convert(anyString(), anyLong(), anyLong(), any(OperationType.class), anyString())).thenReturn(event);
+        when(mockRecordConverter.convert(any(BsonDocument.class), anyLong(), anyLong(), any(OperationType.class), anyString())).thenReturn(event);
         try (MockedStatic<MongoDBConnection> mongoDBConnectionMockedStatic = mockStatic(MongoDBConnection.class)) {
 
             mongoDBConnectionMockedStatic.when(() -> MongoDBConnection.getMongoClient(any(MongoDBSourceConfig.class)))
@@ -306,7 +309,7 @@ public class StreamWorkerTest {
 
         }
         verify(mongoClient, times(1)).close();
-        verify(mongoDatabase).getCollection(eq("collection"));
+        verify(mongoDatabase).getCollection(eq("collection"), eq(RawBsonDocument.class));
         verify(cursor).close();
         verify(cursor, times(4)).hasNext();
         verify(mockPartitionCheckpoint).getGlobalS3FolderCreationStatus(collection);
@@ -329,7 +332,7 @@ public class StreamWorkerTest {
         ChangeStreamIterable changeStreamIterable = mock(ChangeStreamIterable.class);
         MongoCursor cursor = mock(MongoCursor.class);
         when(mongoClient.getDatabase(anyString())).thenReturn(mongoDatabase);
-        when(mongoDatabase.getCollection(anyString())).thenReturn(col);
+        when(mongoDatabase.getCollection(anyString(), eq(RawBsonDocument.class))).thenReturn(col);
         when(col.watch(anyList())).thenReturn(changeStreamIterable);
         when(changeStreamIterable.batchSize(1000)).thenReturn(changeStreamIterable);
         when(changeStreamIterable.fullDocument(FullDocument.UPDATE_LOOKUP)).thenReturn(changeStreamIterable);
@@ -352,7 +355,7 @@ public class StreamWorkerTest {
             .untilAsserted(() ->  verify(mongoClient).close());
         future.cancel(true);
         executorService.shutdownNow();
-        verify(mongoDatabase).getCollection(eq("collection"));
+        verify(mongoDatabase).getCollection(eq("collection"), eq(RawBsonDocument.class));
     }
 
     @Test
@@ -367,7 +370,7 @@ public class StreamWorkerTest {
         ChangeStreamIterable changeStreamIterable = mock(ChangeStreamIterable.class);
         MongoCursor cursor = mock(MongoCursor.class);
         when(mongoClient.getDatabase(anyString())).thenReturn(mongoDatabase);
-        when(mongoDatabase.getCollection(anyString())).thenReturn(col);
+        when(mongoDatabase.getCollection(anyString(), eq(RawBsonDocument.class))).thenReturn(col);
         when(col.watch(anyList())).thenReturn(changeStreamIterable);
         when(changeStreamIterable.batchSize(1000)).thenReturn(changeStreamIterable);
         when(changeStreamIterable.fullDocument(FullDocument.UPDATE_LOOKUP)).thenReturn(changeStreamIterable);
@@ -377,7 +380,7 @@ public class StreamWorkerTest {
         ChangeStreamDocument streamDoc2 = mock(ChangeStreamDocument.class);
         ChangeStreamDocument streamDoc3 = mock(ChangeStreamDocument.class);
         BsonDocument keyDoc1 = mock(BsonDocument.class);
-        Document doc1 = mock(Document.class);
+        RawBsonDocument doc1 = rawBsonDocument(new BsonDocument("_id", new BsonBoolean(random.nextBoolean())));
         BsonDocument bsonDoc1 = new BsonDocument("resumeToken1", new BsonInt32(123));
         when(streamDoc1.getResumeToken()).thenReturn(bsonDoc1);
         when(streamDoc1.getOperationType()).thenReturn(OperationType.INSERT);
@@ -385,8 +388,6 @@ public class StreamWorkerTest {
         when(streamDoc3.getOperationType()).thenReturn(OperationType.DROP);
         when(cursor.next())
                 .thenReturn(streamDoc1, streamDoc2, streamDoc3);
-        final String doc1Json1 = UUID.randomUUID().toString();
-        when(doc1.toJson(any(JsonWriterSettings.class))).thenReturn(doc1Json1);
         when(streamDoc1.getFullDocument()).thenReturn(doc1);
         when(streamDoc1.getDocumentKey()).thenReturn(keyDoc1);
         when(keyDoc1.get("_id")).thenReturn(new BsonBoolean(random.nextBoolean()));
@@ -401,7 +402,7 @@ public class StreamWorkerTest {
         when(s3PartitionStatus.getPartitions()).thenReturn(partitions);
         when(mockPartitionCheckpoint.getGlobalS3FolderCreationStatus(collection)).thenReturn(Optional.of(s3PartitionStatus));
         Event event = mock(Event.class);
-        when(mockRecordConverter.convert(anyString(), anyLong(), anyLong(), any(OperationType.class), anyString())).thenReturn(event);
+        when(mockRecordConverter.convert(any(BsonDocument.class), anyLong(), anyLong(), any(OperationType.class), anyString())).thenReturn(event);
         final ExecutorService executorService = Executors.newSingleThreadExecutor();
         executorService.submit(() -> {
             try (MockedStatic<MongoDBConnection> mongoDBConnectionMockedStatic = mockStatic(MongoDBConnection.class)) {
@@ -413,10 +414,10 @@ public class StreamWorkerTest {
         await()
                 .atMost(Duration.ofSeconds(10))
                 .untilAsserted(() ->  verify(mongoClient).close());
-        verify(mongoDatabase).getCollection(eq("collection"));
+        verify(mongoDatabase).getCollection(eq("collection"), eq(RawBsonDocument.class));
         verify(mockPartitionCheckpoint).getGlobalS3FolderCreationStatus(collection);
         verify(mockRecordConverter).initializePartitions(partitions);
-        verify(mockRecordConverter).convert(eq(doc1Json1), eq(timeSecond1 * 1_000L), eq(timeSecond1 * 1_000_000L), eq(operationType1), eq(BsonType.BOOLEAN.name()));
+        verify(mockRecordConverter).convert(eq(doc1), eq(timeSecond1 * 1_000L), eq(timeSecond1 * 1_000_000L), eq(operationType1), eq(BsonType.BOOLEAN.name()));
         verify(mockRecordBufferWriter).writeToBuffer(eq(null), any());
         verify(successItemsCounter).increment(1);
         verify(failureItemsCounter, never()).increment();
@@ -425,7 +426,8 @@ public class StreamWorkerTest {
 
     @ParameterizedTest
     @MethodSource("mongoDataTypeProvider")
-    void test_processStream_dataTypeConversionSuccess(final String actualDocument, final BsonValue bsonValue, final String expectedDocument) {
+    void test_processStream_dataTypeConversionSuccess(final String actualDocument, final BsonValue bsonValue, final String expectedDocument)
+            throws JsonProcessingException {
         final String collection = "database.collection";
         when(streamProgressState.shouldWaitForExport()).thenReturn(false);
         when(streamPartition.getProgressState()).thenReturn(Optional.of(streamProgressState));
@@ -436,7 +438,7 @@ public class StreamWorkerTest {
         ChangeStreamIterable changeStreamIterable = mock(ChangeStreamIterable.class);
         MongoCursor cursor = mock(MongoCursor.class);
         when(mongoClient.getDatabase(anyString())).thenReturn(mongoDatabase);
-        when(mongoDatabase.getCollection(anyString())).thenReturn(col);
+        when(mongoDatabase.getCollection(anyString(), eq(RawBsonDocument.class))).thenReturn(col);
         when(col.watch(anyList())).thenReturn(changeStreamIterable);
         when(changeStreamIterable.batchSize(1000)).thenReturn(changeStreamIterable);
         when(changeStreamIterable.fullDocument(FullDocument.UPDATE_LOOKUP)).thenReturn(changeStreamIterable);
@@ -444,7 +446,7 @@ public class StreamWorkerTest {
         when(cursor.hasNext()).thenReturn(true, false);
         ChangeStreamDocument streamDoc1 = mock(ChangeStreamDocument.class);
         BsonDocument key1 = mock(BsonDocument.class);
-        Document doc1 = Document.parse(actualDocument);
+        RawBsonDocument doc1 = RawBsonDocument.parse(actualDocument);
         BsonDocument bsonDoc1 = new BsonDocument("resumeToken1", new BsonInt32(123));
         when(streamDoc1.getResumeToken()).thenReturn(bsonDoc1);
         when(streamDoc1.getOperationType()).thenReturn(OperationType.INSERT);
@@ -464,7 +466,7 @@ public class StreamWorkerTest {
         when(s3PartitionStatus.getPartitions()).thenReturn(partitions);
         when(mockPartitionCheckpoint.getGlobalS3FolderCreationStatus(collection)).thenReturn(Optional.of(s3PartitionStatus));
         Event event = mock(Event.class);
-        when(mockRecordConverter.convert(anyString(), anyLong(), anyLong(), any(OperationType.class), anyString())).thenReturn(event);
+        when(mockRecordConverter.convert(any(BsonDocument.class), anyLong(), anyLong(), any(OperationType.class), anyString())).thenReturn(event);
         final ExecutorService executorService = Executors.newSingleThreadExecutor();
         executorService.submit(() -> {
             try (MockedStatic<MongoDBConnection> mongoDBConnectionMockedStatic = mockStatic(MongoDBConnection.class)) {
@@ -476,16 +478,21 @@ public class StreamWorkerTest {
         await()
             .atMost(Duration.ofSeconds(10))
             .untilAsserted(() ->  verify(mongoClient).close());
-        verify(mongoDatabase).getCollection(eq("collection"));
+        verify(mongoDatabase).getCollection(eq("collection"), eq(RawBsonDocument.class));
         verify(mockPartitionCheckpoint).getGlobalS3FolderCreationStatus(collection);
         verify(mockRecordConverter).initializePartitions(partitions);
-        verify(mockRecordConverter).convert(eq(expectedDocument), eq(timeSecond1 * 1_000L), eq(timeSecond1 * 1_000_000L), eq(operationType1), eq(bsonValue.getBsonType().name()));
+        verify(mockRecordConverter).convert(eq(doc1), eq(timeSecond1 * 1_000L), eq(timeSecond1 * 1_000_000L), eq(operationType1), eq(bsonValue.getBsonType().name()));
+        assertThat(BsonToJsonNodeConverter.convert(doc1), equalTo(OBJECT_MAPPER.readTree(expectedDocument)));
         verify(mockRecordBufferWriter).writeToBuffer(eq(null), any());
         verify(successItemsCounter).increment(1);
         verify(failureItemsCounter, never()).increment();
         verify(mockPartitionCheckpoint).resetCheckpoint();
     }
 
+    private static RawBsonDocument rawBsonDocument(final BsonDocument document) {
+        return new RawBsonDocument(document, new BsonDocumentCodec());
+    }
+
     private static Stream<Arguments> mongoDataTypeProvider() {
         return Stream.of(
                 Arguments.of(
@@ -10,6 +10,7 @@ import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
@@ -22,6 +23,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 import static org.opensearch.dataprepper.logging.DataPrepperMarkers.EVENT;
 
@@ -30,6 +32,8 @@ public class CopyValueProcessor extends AbstractProcessor<Record<Event>, Record<
     private static final Logger LOG = LoggerFactory.getLogger(CopyValueProcessor.class);
     private final CopyValueProcessorConfig config;
     private final List<CopyValueProcessorConfig.Entry> entries;
+    private final List<EventKey> fromKeys;
+    private final List<EventKey> toKeys;
     private final ExpressionEvaluator expressionEvaluator;
 
     @DataPrepperPluginConstructor
@@ -37,6 +41,13 @@ public class CopyValueProcessor extends AbstractProcessor<Record<Event>, Record<
         super(pluginMetrics);
         this.config = config;
         this.entries = config.getEntries();
+        if (config.getFromList() != null || config.getToList() != null) {
+            this.fromKeys = null;
+            this.toKeys = null;
+        } else {
+            this.fromKeys = entries.stream().map(entry -> EventKey.of(entry.getFromKey())).collect(Collectors.toList());
+            this.toKeys = entries.stream().map(entry -> EventKey.of(entry.getToKey())).collect(Collectors.toList());
+        }
         this.expressionEvaluator = expressionEvaluator;
     }
 
@@ -76,10 +87,12 @@ public class CopyValueProcessor extends AbstractProcessor<Record<Event>, Record<
                     recordEvent.put(config.getToList(), targetList);
                 } else {
                     // Copying individual entries
-                    for (final CopyValueProcessorConfig.Entry entry : entries) {
-                        if (shouldCopyEntry(entry, recordEvent)) {
-                            final Object source = recordEvent.get(entry.getFromKey(), Object.class);
-                            recordEvent.put(entry.getToKey(), source);
+                    for (int i = 0; i < entries.size(); i++) {
+                        final EventKey fromKey = fromKeys.get(i);
+                        final EventKey toKey = toKeys.get(i);
+                        if (shouldCopyEntry(entries.get(i), fromKey, toKey, recordEvent)) {
+                            final Object source = recordEvent.get(fromKey, Object.class);
+                            recordEvent.put(toKey, source);
                         }
                     }
                 }
@@ -91,16 +104,16 @@ public class CopyValueProcessor extends AbstractProcessor<Record<Event>, Record<
         return records;
     }
 
-    private boolean shouldCopyEntry(final CopyValueProcessorConfig.Entry entry, final Event recordEvent) {
+    private boolean shouldCopyEntry(final CopyValueProcessorConfig.Entry entry, final EventKey fromKey, final EventKey toKey, final Event recordEvent) {
         if (Objects.nonNull(entry.getCopyWhen()) && !expressionEvaluator.evaluateConditional(entry.getCopyWhen(), recordEvent)) {
             return false;
         }
 
-        if (entry.getFromKey().equals(entry.getToKey()) || !recordEvent.containsKey(entry.getFromKey())) {
+        if (fromKey.equals(toKey) || !recordEvent.containsKey(fromKey)) {
             return false;
         }
 
-        return !recordEvent.containsKey(entry.getToKey()) || entry.getOverwriteIfToKeyExists();
+        return !recordEvent.containsKey(toKey) || entry.getOverwriteIfToKeyExists();
     }
 
     @Override
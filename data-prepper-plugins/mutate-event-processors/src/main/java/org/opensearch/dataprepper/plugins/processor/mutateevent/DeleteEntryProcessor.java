@@ -10,14 +10,18 @@ import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 import static org.opensearch.dataprepper.logging.DataPrepperMarkers.EVENT;
 
@@ -25,7 +29,7 @@ import static org.opensearch.dataprepper.logging.DataPrepperMarkers.EVENT;
 public class DeleteEntryProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
 
     private static final Logger LOG = LoggerFactory.getLogger(DeleteEntryProcessor.class);
-    private final String[] entries;
+    private final List<EventKey> entries;
     private final String deleteWhen;
 
     private final ExpressionEvaluator expressionEvaluator;
@@ -33,7 +37,7 @@ public class DeleteEntryProcessor extends AbstractProcessor<Record<Event>, Recor
     @DataPrepperPluginConstructor
     public DeleteEntryProcessor(final PluginMetrics pluginMetrics, final DeleteEntryProcessorConfig config, final ExpressionEvaluator expressionEvaluator) {
         super(pluginMetrics);
-        this.entries = config.getWithKeys();
+        this.entries = Arrays.stream(config.getWithKeys()).map(EventKey::of).collect(Collectors.toList());
         this.deleteWhen = config.getDeleteWhen();
         this.expressionEvaluator = expressionEvaluator;
     }
@@ -49,7 +53,7 @@ public class DeleteEntryProcessor extends AbstractProcessor<Record<Event>, Recor
                 }
 
 
-                for (String entry : entries) {
+                for (final EventKey entry : entries) {
                     recordEvent.delete(entry);
                 }
             } catch (final Exception e) {
@@ -10,6 +10,7 @@ import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
@@ -19,6 +20,7 @@ import org.slf4j.LoggerFactory;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 import static org.opensearch.dataprepper.logging.DataPrepperMarkers.EVENT;
 
@@ -27,6 +29,8 @@ public class RenameKeyProcessor extends AbstractProcessor<Record<Event>, Record<
 
     private static final Logger LOG = LoggerFactory.getLogger(RenameKeyProcessor.class);
     private final List<RenameKeyProcessorConfig.Entry> entries;
+    private final List<EventKey> fromKeys;
+    private final List<EventKey> toKeys;
 
     private final ExpressionEvaluator expressionEvaluator;
 
@@ -34,6 +38,8 @@ public class RenameKeyProcessor extends AbstractProcessor<Record<Event>, Record<
     public RenameKeyProcessor(final PluginMetrics pluginMetrics, final RenameKeyProcessorConfig config, final ExpressionEvaluator expressionEvaluator) {
         super(pluginMetrics);
         this.entries = config.getEntries();
+        this.fromKeys = entries.stream().map(entry -> EventKey.of(entry.getFromKey())).collect(Collectors.toList());
+        this.toKeys = entries.stream().map(entry -> EventKey.of(entry.getToKey())).collect(Collectors.toList());
         this.expressionEvaluator = expressionEvaluator;
     }
 
@@ -44,19 +50,22 @@ public class RenameKeyProcessor extends AbstractProcessor<Record<Event>, Record<
 
             try {
 
-                for (RenameKeyProcessorConfig.Entry entry : entries) {
+                for (int i = 0; i < entries.size(); i++) {
+                    final RenameKeyProcessorConfig.Entry entry = entries.get(i);
                     if (Objects.nonNull(entry.getRenameWhen()) && !expressionEvaluator.evaluateConditional(entry.getRenameWhen(), recordEvent)) {
                         continue;
                     }
 
-                    if (entry.getFromKey().equals(entry.getToKey()) || !recordEvent.containsKey(entry.getFromKey())) {
+                    final EventKey fromKey = fromKeys.get(i);
+                    final EventKey toKey = toKeys.get(i);
+                    if (fromKey.equals(toKey) || !recordEvent.containsKey(fromKey)) {
                         continue;
                     }
 
-                    if (!recordEvent.containsKey(entry.getToKey()) || entry.getOverwriteIfToKeyExists()) {
-                        final Object source = recordEvent.get(entry.getFromKey(), Object.class);
-                        recordEvent.put(entry.getToKey(), source);
-                        recordEvent.delete(entry.getFromKey());
+                    if (!recordEvent.containsKey(toKey) || entry.getOverwriteIfToKeyExists()) {
+                        final Object source = recordEvent.get(fromKey, Object.class);
+                        recordEvent.put(toKey, source);
+                        recordEvent.delete(fromKey);
                     }
                 }
             } catch (final Exception e) {
@@ -23,6 +23,7 @@ import org.opensearch.client.opensearch.core.bulk.UpdateOperation;
 import org.opensearch.client.transport.TransportOptions;
 import org.opensearch.common.unit.ByteSizeUnit;
 import org.opensearch.dataprepper.aws.api.AwsCredentialsSupplier;
+import org.opensearch.dataprepper.common.concurrent.BoundedAsyncDispatcher;
 import org.opensearch.dataprepper.expression.ExpressionEvaluationException;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.metrics.MetricNames;
@@ -31,6 +32,7 @@ import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor
 import org.opensearch.dataprepper.model.configuration.PluginModel;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
 import org.opensearch.dataprepper.model.event.exceptions.EventKeyNotFoundException;
 import org.opensearch.dataprepper.model.failures.DlqObject;
 import org.opensearch.dataprepper.model.opensearch.OpenSearchBulkActions;
@@ -73,6 +75,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -94,9 +97,11 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
   public static final String BULKREQUEST_SIZE_BYTES = "bulkRequestSizeBytes";
   public static final String DYNAMIC_INDEX_DROPPED_EVENTS = "dynamicIndexDroppedEvents";
   public static final String INVALID_VERSION_EXPRESSION_DROPPED_EVENTS = "dynamicDocumentVersionDroppedEvents";
+  public static final String BULK_REQUESTS_IN_FLIGHT = "bulkRequestsInFlight";
 
   private static final Logger LOG = LoggerFactory.getLogger(OpenSearchSink.class);
   private static final int INITIALIZE_RETRY_WAIT_TIME_MS = 5000;
+  private static final Duration IN_FLIGHT_BULK_REQUESTS_SHUTDOWN_TIMEOUT = Duration.ofMinutes(1);
   private final AwsCredentialsSupplier awsCredentialsSupplier;
 
   private DlqWriter dlqWriter;
@@ -107,13 +112,14 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
   private IndexManager indexManager;
   private Supplier<AccumulatingBulkRequest> bulkRequestSupplier;
   private BulkRetryStrategy bulkRetryStrategy;
+  private final BoundedAsyncDispatcher<AccumulatingBulkRequest> bulkRequestDispatcher;
   private BulkApiWrapper bulkApiWrapper;
   private final long bulkSize;
   private final long flushTimeout;
   private final IndexType indexType;
-  private final String documentIdField;
+  private final EventKey documentIdField;
   private final String documentId;
-  private final String routingField;
+  private final EventKey routingField;
   private final String routing;
   private final String action;
   private final List<Map<String, Object>> actions;
@@ -166,9 +172,11 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
     this.bulkSize = ByteSizeUnit.MB.toBytes(openSearchSinkConfig.getIndexConfiguration().getBulkSize());
     this.flushTimeout = openSearchSinkConfig.getIndexConfiguration().getFlushTimeout();
     this.indexType = openSearchSinkConfig.getIndexConfiguration().getIndexType();
-    this.documentIdField = openSearchSinkConfig.getIndexConfiguration().getDocumentIdField();
+    final String documentIdField = openSearchSinkConfig.getIndexConfiguration().getDocumentIdField();
+    this.documentIdField = documentIdField != null ? EventKey.of(documentIdField) : null;
     this.documentId = openSearchSinkConfig.getIndexConfiguration().getDocumentId();
-    this.routingField = openSearchSinkConfig.getIndexConfiguration().getRoutingField();
+    final String routingField = openSearchSinkConfig.getIndexConfiguration().getRoutingField();
+    this.routingField = routingField != null ? EventKey.of(routingField) : null;
     this.routing = openSearchSinkConfig.getIndexConfiguration().getRouting();
     this.action = openSearchSinkConfig.getIndexConfiguration().getAction();
     this.actions = openSearchSinkConfig.getIndexConfiguration().getActions();
@@ -184,6 +192,9 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
     this.bulkRequestMap = new ConcurrentHashMap<>();
     this.lastFlushTimeMap = new ConcurrentHashMap<>();
     this.pluginConfigObservable = pluginConfigObservable;
+    this.bulkRequestDispatcher = new BoundedAsyncDispatcher<>(
+            openSearchSinkConfig.getIndexConfiguration().getMaxInFlightBulkRequests(), this::sendBulkRequest, "opensearch-sink-bulk");
+    pluginMetrics.gauge(BULK_REQUESTS_IN_FLIGHT, bulkRequestDispatcher, BoundedAsyncDispatcher::getInFlightRequests);
 
     final Optional<PluginModel> dlqConfig = openSearchSinkConfig.getRetryConfiguration().getDlq();
     if (dlqConfig.isPresent()) {
@@ -502,12 +513,16 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
       }
     }
 
-    final String document = DocumentBuilder.build(event, documentRootKey, sinkContext.getTagsTargetKey(), sinkContext.getIncludeKeys(), sinkContext.getExcludeKeys());
+    final byte[] document = DocumentBuilder.buildBytes(event, documentRootKey, sinkContext.getTagsTargetKey(), sinkContext.getIncludeKeys(), sinkContext.getExcludeKeys());
 
-    return SerializedJson.fromStringAndOptionals(document, docId, routingValue);
+    return SerializedJson.fromBytesAndOptionals(document, docId, routingValue);
   }
 
   private void flushBatch(AccumulatingBulkRequest accumulatingBulkRequest) {
+    bulkRequestDispatcher.dispatch(accumulatingBulkRequest);
+  }
+
+  private void sendBulkRequest(AccumulatingBulkRequest accumulatingBulkRequest) {
     bulkRequestTimer.record(() -> {
       try {
         LOG.debug("Sending data to OpenSearch");
@@ -596,6 +611,7 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
   @Override
   public void shutdown() {
     super.shutdown();
+    bulkRequestDispatcher.shutdown(IN_FLIGHT_BULK_REQUESTS_SHUTDOWN_TIMEOUT);
     closeFiles();
   }
 
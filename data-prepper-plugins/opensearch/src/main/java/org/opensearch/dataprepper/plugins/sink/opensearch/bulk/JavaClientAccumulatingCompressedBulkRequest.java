@@ -6,18 +6,17 @@
 package org.opensearch.dataprepper.plugins.sink.opensearch.bulk;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingOutputStream;
 import org.opensearch.dataprepper.plugins.sink.opensearch.BulkOperationWrapper;
 import org.opensearch.client.opensearch.core.BulkRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayOutputStream;
-import java.io.ObjectOutputStream;
-import java.io.Serializable;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 import java.util.zip.GZIPOutputStream;
 
 public class JavaClientAccumulatingCompressedBulkRequest implements AccumulatingBulkRequest<BulkOperationWrapper, BulkRequest> {
@@ -108,35 +107,33 @@ public class JavaClientAccumulatingCompressedBulkRequest implements Accumulating
     }
 
     private long estimateBulkSize() {
-        final List<Object> documents = bulkOperations.stream()
-                .map(this::mapBulkOperationToDocument)
-                .collect(Collectors.toList());
-
-        try {
-            final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            final GZIPOutputStream gzipOut = new GZIPOutputStream(baos);
-            final ObjectOutputStream objectOut = new ObjectOutputStream(gzipOut);
-            objectOut.writeObject(documents);
-            objectOut.close();
-
-            return baos.toByteArray().length;
-        } catch (final Exception e) {
+        final CountingOutputStream countingOutputStream = new CountingOutputStream(ByteStreams.nullOutputStream());
+        try (final GZIPOutputStream gzipOut = new GZIPOutputStream(countingOutputStream)) {
+            for (final BulkOperationWrapper bulkOperation : bulkOperations) {
+                final SerializedJson document = mapBulkOperationToDocument(bulkOperation);
+                if (document != null && document.getSerializedJson() != null) {
+                    gzipOut.write(document.getSerializedJson());
+                }
+            }
+        } catch (final IOException e) {
             throw new RuntimeException("Caught exception measuring compressed bulk request size.", e);
         }
+
+        return countingOutputStream.getCount();
     }
 
-    private Object mapBulkOperationToDocument(final BulkOperationWrapper bulkOperation) {
+    private SerializedJson mapBulkOperationToDocument(final BulkOperationWrapper bulkOperation) {
         final Object anyDocument = bulkOperation.getDocument();
 
         if (anyDocument == null) {
-            return new SerializedJsonImpl(null);
+            return null;
         }
 
-        if (!(anyDocument instanceof Serializable)) {
-            throw new IllegalArgumentException("Only classes implementing Serializable are permitted for accumulating bulk requests. " + bulkOperation);
+        if (!(anyDocument instanceof SerializedJson)) {
+            throw new IllegalArgumentException("Only SerializedJson is permitted for accumulating bulk requests. " + bulkOperation);
         }
 
-        return anyDocument;
+        return (SerializedJson) anyDocument;
     }
 
     private void updateTargetSampleSize() {
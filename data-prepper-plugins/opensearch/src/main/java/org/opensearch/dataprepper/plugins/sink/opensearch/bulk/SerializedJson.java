@@ -31,6 +31,20 @@ public interface SerializedJson extends SizedDocument {
         return new SerializedJsonImpl(jsonString.getBytes(StandardCharsets.UTF_8), docId, routingField);
     }
 
+    /**
+     * Creates a new {@link SerializedJson} from serialized JSON bytes and optional documentId and routingField.
+     * The bytes are used as-is, so they must not be modified afterwards.
+     *
+     * @param jsonBytes The serialized UTF-8 JSON which forms this JSON data.
+     * @param docId Optional documment ID string
+     * @param routingField Optional routing field string
+     * @return A new {@link SerializedJson}.
+     */
+    static SerializedJson fromBytesAndOptionals(byte[] jsonBytes, String docId, String routingField) {
+        Objects.requireNonNull(jsonBytes);
+        return new SerializedJsonImpl(jsonBytes, docId, routingField);
+    }
+
     static SerializedJson fromJsonNode(final JsonNode jsonNode, SerializedJson document) {
         return new SerializedJsonNode(jsonNode, document);
     }
@@ -5,11 +5,16 @@
 
 package org.opensearch.dataprepper.plugins.sink.opensearch.bulk;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import java.io.Serializable;
 import java.util.Optional;
 
 class SerializedJsonNode implements SerializedJson, Serializable {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     private byte[] document;
     private JsonNode jsonNode;
     private String documentId = null;
@@ -19,12 +24,20 @@ class SerializedJsonNode implements SerializedJson, Serializable {
         this.jsonNode = jsonNode;
         this.documentId = doc.getDocumentId().orElse(null);
         this.routingField = doc.getRoutingField().orElse(null);
-        this.document = jsonNode.toString().getBytes();
+        this.document = toBytes(jsonNode);
     }
 
     public SerializedJsonNode(final JsonNode jsonNode) {
         this.jsonNode = jsonNode;
-        this.document = jsonNode.toString().getBytes();
+        this.document = toBytes(jsonNode);
+    }
+
+    private static byte[] toBytes(final JsonNode jsonNode) {
+        try {
+            return OBJECT_MAPPER.writeValueAsBytes(jsonNode);
+        } catch (final JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
     }
 
     @Override
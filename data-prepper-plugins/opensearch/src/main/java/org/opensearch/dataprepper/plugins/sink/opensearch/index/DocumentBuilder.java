@@ -2,9 +2,12 @@ package org.opensearch.dataprepper.plugins.sink.opensearch.index;
 
 import org.opensearch.dataprepper.model.event.Event;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 public final class DocumentBuilder {
+    private static final byte[] DATA_PREFIX = "{\"data\": ".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] DATA_SUFFIX = "}".getBytes(StandardCharsets.UTF_8);
 
     public static String build(final Event event, final String documentRootKey, final String tagsTargetKey, final List<String> includeKeys, final List<String> excludeKeys) {
         final String document = event.jsonBuilder()
@@ -23,4 +26,26 @@ public final class DocumentBuilder {
     public static String build(final Event event, final String documentRootKey, final String tagsTargetKey) {
         return build(event, documentRootKey, tagsTargetKey, null, null);
     }
+
+    /**
+     * Builds the same document as {@link #build(Event, String, String, List, List)} as UTF-8 bytes, serializing
+     * the event directly to bytes without creating an intermediate string.
+     */
+    public static byte[] buildBytes(final Event event, final String documentRootKey, final String tagsTargetKey, final List<String> includeKeys, final List<String> excludeKeys) {
+        final byte[] document = event.jsonBuilder()
+                .rootKey(documentRootKey)
+                .includeKeys(includeKeys)
+                .excludeKeys(excludeKeys)
+                .includeTags(tagsTargetKey)
+                .toJsonBytes();
+
+        if (document.length == 0 || document[0] != '{') {
+            final byte[] wrappedDocument = new byte[DATA_PREFIX.length + document.length + DATA_SUFFIX.length];
+            System.arraycopy(DATA_PREFIX, 0, wrappedDocument, 0, DATA_PREFIX.length);
+            System.arraycopy(document, 0, wrappedDocument, DATA_PREFIX.length, document.length);
+            System.arraycopy(DATA_SUFFIX, 0, wrappedDocument, DATA_PREFIX.length + document.length, DATA_SUFFIX.length);
+            return wrappedDocument;
+        }
+        return document;
+    }
 }
@@ -53,6 +53,7 @@ public class IndexConfiguration {
     public static final String ESTIMATE_BULK_SIZE_USING_COMPRESSION = "estimate_bulk_size_using_compression";
     public static final String MAX_LOCAL_COMPRESSIONS_FOR_ESTIMATION = "max_local_compressions_for_estimation";
     public static final String FLUSH_TIMEOUT = "flush_timeout";
+    public static final String MAX_IN_FLIGHT_BULK_REQUESTS = "max_in_flight_bulk_requests";
     public static final String DOCUMENT_ID_FIELD = "document_id_field";
     public static final String DOCUMENT_ID = "document_id";
     public static final String ROUTING_FIELD = "routing_field";
@@ -62,6 +63,7 @@ public class IndexConfiguration {
     public static final boolean DEFAULT_ESTIMATE_BULK_SIZE_USING_COMPRESSION = false;
     public static final int DEFAULT_MAX_LOCAL_COMPRESSIONS_FOR_ESTIMATION = 2;
     public static final long DEFAULT_FLUSH_TIMEOUT = 60_000L;
+    public static final int DEFAULT_MAX_IN_FLIGHT_BULK_REQUESTS = 0;
     public static final String ACTION = "action";
     public static final String ACTIONS = "actions";
     public static final String S3_AWS_REGION = "s3_aws_region";
@@ -87,6 +89,7 @@ public class IndexConfiguration {
     private final boolean estimateBulkSizeUsingCompression;
     private int maxLocalCompressionsForEstimation;
     private final long flushTimeout;
+    private final int maxInFlightBulkRequests;
     private final Optional<String> ismPolicyFile;
     private final String action;
     private final List<Map<String, Object>> actions;
@@ -145,6 +148,7 @@ public class IndexConfiguration {
         this.estimateBulkSizeUsingCompression = builder.estimateBulkSizeUsingCompression;
         this.maxLocalCompressionsForEstimation = builder.maxLocalCompressionsForEstimation;
         this.flushTimeout = builder.flushTimeout;
+        this.maxInFlightBulkRequests = builder.maxInFlightBulkRequests;
         this.routingField = builder.routingField;
         this.routing = builder.routing;
 
@@ -231,6 +235,8 @@ public class IndexConfiguration {
 
         final long flushTimeout = pluginSetting.getLongOrDefault(FLUSH_TIMEOUT, DEFAULT_FLUSH_TIMEOUT);
         builder = builder.withFlushTimeout(flushTimeout);
+        final int maxInFlightBulkRequests = pluginSetting.getIntegerOrDefault(MAX_IN_FLIGHT_BULK_REQUESTS, DEFAULT_MAX_IN_FLIGHT_BULK_REQUESTS);
+        builder = builder.withMaxInFlightBulkRequests(maxInFlightBulkRequests);
         final String documentIdField = pluginSetting.getStringOrDefault(DOCUMENT_ID_FIELD, null);
         final String documentId = pluginSetting.getStringOrDefault(DOCUMENT_ID, null);
 
@@ -352,6 +358,10 @@ public class IndexConfiguration {
         return flushTimeout;
     }
 
+    public int getMaxInFlightBulkRequests() {
+        return maxInFlightBulkRequests;
+    }
+
     public Optional<String> getIsmPolicyFile() {
         return ismPolicyFile;
     }
@@ -465,6 +475,7 @@ public class IndexConfiguration {
         private boolean estimateBulkSizeUsingCompression = DEFAULT_ESTIMATE_BULK_SIZE_USING_COMPRESSION;
         private int maxLocalCompressionsForEstimation = DEFAULT_MAX_LOCAL_COMPRESSIONS_FOR_ESTIMATION;
         private long flushTimeout = DEFAULT_FLUSH_TIMEOUT;
+        private int maxInFlightBulkRequests = DEFAULT_MAX_IN_FLIGHT_BULK_REQUESTS;
         private Optional<String> ismPolicyFile;
         private String action;
         private List<Map<String, Object>> actions;
@@ -554,6 +565,12 @@ public class IndexConfiguration {
             return this;
         }
 
+        public Builder withMaxInFlightBulkRequests(final int maxInFlightBulkRequests) {
+            checkArgument(maxInFlightBulkRequests >= 0, "max_in_flight_bulk_requests cannot be negative.");
+            this.maxInFlightBulkRequests = maxInFlightBulkRequests;
+            return this;
+        }
+
         public Builder withNumShards(final int numShards) {
             this.numShards = numShards;
             return this;
@@ -41,6 +41,7 @@ import org.opensearch.dataprepper.plugins.sink.opensearch.index.TemplateStrategy
 import org.opensearch.dataprepper.plugins.sink.opensearch.index.TemplateType;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -241,8 +242,8 @@ public class OpenSearchSinkTest {
 
         try (final MockedStatic<DocumentBuilder> documentBuilderMockedStatic = mockStatic(DocumentBuilder.class);
              final MockedStatic<DlqObject> dlqObjectMockedStatic = mockStatic(DlqObject.class)) {
-            documentBuilderMockedStatic.when(() -> DocumentBuilder.build(eq(event), eq(null), eq(null), eq(null), eq(null)))
-                    .thenReturn(UUID.randomUUID().toString());
+            documentBuilderMockedStatic.when(() -> DocumentBuilder.buildBytes(eq(event), eq(null), eq(null), eq(null), eq(null)))
+                    .thenReturn(UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8));
 
             dlqObjectMockedStatic.when(DlqObject::builder).thenReturn(dlqObjectBuilder);
             objectUnderTest.doOutput(List.of(eventRecord));
@@ -329,8 +330,8 @@ public class OpenSearchSinkTest {
 
         try (final MockedStatic<DocumentBuilder> documentBuilderMockedStatic = mockStatic(DocumentBuilder.class);
              final MockedStatic<DlqObject> dlqObjectMockedStatic = mockStatic(DlqObject.class)) {
-            documentBuilderMockedStatic.when(() -> DocumentBuilder.build(eq(event), eq(null), eq(null), eq(null), eq(null)))
-                    .thenReturn(UUID.randomUUID().toString());
+            documentBuilderMockedStatic.when(() -> DocumentBuilder.buildBytes(eq(event), eq(null), eq(null), eq(null), eq(null)))
+                    .thenReturn(UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8));
 
             dlqObjectMockedStatic.when(DlqObject::builder).thenReturn(dlqObjectBuilder);
             objectUnderTest.doOutput(List.of(eventRecord));
@@ -16,7 +16,6 @@ import org.opensearch.client.opensearch.core.bulk.IndexOperation;
 import org.opensearch.dataprepper.plugins.sink.opensearch.BulkOperationWrapper;
 
 import java.io.ByteArrayOutputStream;
-import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -88,7 +87,7 @@ class JavaClientAccumulatingCompressedBulkRequestTest {
         final long arbitraryDocumentSize = 175;
         long expectedDocumentSize = 0;
         for (int i = 0; i < operationCount; i++) {
-            final SizedDocument document = generateDocumentWithLength(arbitraryDocumentSize);
+            final SerializedJson document = generateDocumentWithLength(arbitraryDocumentSize);
             if (i == 0) {
                 expectedDocumentSize = getDocumentExpectedLength(document);
             }
@@ -104,7 +103,7 @@ class JavaClientAccumulatingCompressedBulkRequestTest {
     @ValueSource(ints = {1, 2, 3, 10})
     void getEstimatedSizeInBytes_returns_the_operation_overhead_if_requests_have_no_documents(final int operationCount) throws Exception {
         final JavaClientAccumulatingCompressedBulkRequest objectUnderTest = createObjectUnderTest();
-        final SizedDocument emptyDocument = generateDocumentWithLength(0);
+        final SerializedJson emptyDocument = generateDocumentWithLength(0);
         final long expectedDocumentSize = getDocumentExpectedLength(emptyDocument);
         for (int i = 0; i < operationCount; i++) {
             objectUnderTest.addOperation(new BulkOperationWrapper(createBulkOperation(emptyDocument)));
@@ -134,7 +133,7 @@ class JavaClientAccumulatingCompressedBulkRequestTest {
     @ParameterizedTest
     @ValueSource(longs = {0, 1, 2, 10, 50, 100})
     void estimateSizeInBytesWithDocument_on_new_object_returns_estimated_document_size(long inputDocumentSize) throws Exception {
-        final SizedDocument document = generateDocumentWithLength(inputDocumentSize);
+        final SerializedJson document = generateDocumentWithLength(inputDocumentSize);
         final long expectedDocumentSize = getDocumentExpectedLength(document);
         final BulkOperationWrapper bulkOperation = new BulkOperationWrapper(createBulkOperation(document));
 
@@ -173,7 +172,7 @@ class JavaClientAccumulatingCompressedBulkRequestTest {
     }
 
     @Test
-    void addOperation_throws_when_document_is_not_Serializable() {
+    void addOperation_throws_when_document_is_not_SerializedJson() {
         final BulkOperationWrapper bulkOperation = new BulkOperationWrapper(createBulkOperation(new Object()));
 
         final JavaClientAccumulatingCompressedBulkRequest objectUnderTest = createObjectUnderTest();
@@ -221,26 +220,22 @@ class JavaClientAccumulatingCompressedBulkRequestTest {
         return bulkOperation;
     }
 
-    private SizedDocument generateDocument() {
+    private SerializedJson generateDocument() {
         return generateDocumentWithLength(10L);
     }
 
-    private SizedDocument generateDocumentWithLength(long documentLength) {
+    private SerializedJson generateDocumentWithLength(long documentLength) {
         final String documentContent = RandomStringUtils.randomAlphabetic((int) documentLength);
         final byte[] documentBytes = documentContent.getBytes();
 
         return new SerializedJsonImpl(documentBytes);
     }
 
-    private long getDocumentExpectedLength(final SizedDocument sizedDocument) throws Exception {
-        final List<Object> docList = new ArrayList<>();
-        docList.add(sizedDocument);
-
+    private long getDocumentExpectedLength(final SerializedJson serializedJson) throws Exception {
         final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        final GZIPOutputStream gzipOut = new GZIPOutputStream(baos);
-        final ObjectOutputStream objectOut = new ObjectOutputStream(gzipOut);
-        objectOut.writeObject(docList);
-        objectOut.close();
+        try (final GZIPOutputStream gzipOut = new GZIPOutputStream(baos)) {
+            gzipOut.write(serializedJson.getSerializedJson());
+        }
 
         return baos.toByteArray().length;
     }
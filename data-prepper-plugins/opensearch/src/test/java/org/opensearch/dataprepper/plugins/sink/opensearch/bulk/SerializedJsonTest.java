@@ -37,6 +37,28 @@ class SerializedJsonTest {
         assertThat(serializedJson.getSerializedJson(), equalTo("{}".getBytes()));
     }
 
+    @Test
+    void fromBytes_returns_SerializedJsonImpl() {
+        assertThat(SerializedJson.fromBytesAndOptionals("{}".getBytes(), null, null), instanceOf(SerializedJsonImpl.class));
+    }
+
+    @Test
+    void fromBytes_throws_if_the_jsonBytes_is_null() {
+        assertThrows(NullPointerException.class, () -> SerializedJson.fromBytesAndOptionals(null, null, null));
+    }
+
+    @Test
+    void fromBytes_returns_SerializedJsonImpl_with_correctValues() {
+        String documentId = RandomStringUtils.randomAlphabetic(10);
+        String routingField = RandomStringUtils.randomAlphabetic(10);
+        final byte[] jsonBytes = "{\"key\":\"value\"}".getBytes();
+        SerializedJson serializedJson = SerializedJson.fromBytesAndOptionals(jsonBytes, documentId, routingField);
+        assertThat(serializedJson, instanceOf(SerializedJsonImpl.class));
+        assertThat(serializedJson.getDocumentId().get(), equalTo(documentId));
+        assertThat(serializedJson.getRoutingField().get(), equalTo(routingField));
+        assertThat(serializedJson.getSerializedJson(), equalTo(jsonBytes));
+    }
+
     @Test
     void fromString_returns_SerializedJsonNode_with_correctValues() {
         String documentId = RandomStringUtils.randomAlphabetic(10);
@@ -11,6 +11,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -74,6 +75,35 @@ public class DocumentBuilderTest {
         assertThat(doc, is(equalTo(String.format("{\"data\": %s}", expectedResult))));
     }
 
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"missingObject", "/"})
+    public void buildBytesWillReturnFullObject(final String documentRootKey) {
+
+        final byte[] doc = DocumentBuilder.buildBytes(event, documentRootKey, null, null, null);
+
+        assertThat(new String(doc, StandardCharsets.UTF_8), is(equalTo(expectedOutput)));
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"missingObject", "/"})
+    public void buildBytesWillReturnObjectWithTags(final String documentRootKey) {
+
+        final byte[] doc = DocumentBuilder.buildBytes(event, documentRootKey, tagsKey, null, null);
+
+        assertThat(new String(doc, StandardCharsets.UTF_8), is(equalTo(expectedOutputWithTags)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideSingleItemKeys")
+    public void buildBytesWillReturnSingleObject(final String documentRootKey, final Object expectedResult) {
+
+        final byte[] doc = DocumentBuilder.buildBytes(event, documentRootKey, null, null, null);
+
+        assertThat(new String(doc, StandardCharsets.UTF_8), is(equalTo(String.format("{\"data\": %s}", expectedResult))));
+    }
+
     private static Stream<Arguments> provideSingleItemKeys() {
         return Stream.of(
             Arguments.of("foo", 42),
@@ -333,9 +333,29 @@ public class IndexConfigurationTests {
         assertEquals(60_000L, indexConfiguration.getFlushTimeout());
         assertEquals(false, indexConfiguration.isEstimateBulkSizeUsingCompression());
         assertEquals(2, indexConfiguration.getMaxLocalCompressionsForEstimation());
+        assertEquals(0, indexConfiguration.getMaxInFlightBulkRequests());
         assertEquals("${spanId}", indexConfiguration.getDocumentId());
     }
 
+    @Test
+    public void testReadIndexConfig_withMaxInFlightBulkRequests() {
+        final Map<String, Object> metadata = initializeConfigMetaData(
+                IndexType.TRACE_ANALYTICS_RAW.getValue(), null, null, null, null, null, null);
+        metadata.put(IndexConfiguration.MAX_IN_FLIGHT_BULK_REQUESTS, 4);
+        final PluginSetting pluginSetting = getPluginSetting(metadata);
+        final IndexConfiguration indexConfiguration = IndexConfiguration.readIndexConfig(pluginSetting);
+        assertEquals(4, indexConfiguration.getMaxInFlightBulkRequests());
+    }
+
+    @Test
+    public void testReadIndexConfig_withNegativeMaxInFlightBulkRequests_throws() {
+        final Map<String, Object> metadata = initializeConfigMetaData(
+                IndexType.TRACE_ANALYTICS_RAW.getValue(), null, null, null, null, null, null);
+        metadata.put(IndexConfiguration.MAX_IN_FLIGHT_BULK_REQUESTS, -1);
+        final PluginSetting pluginSetting = getPluginSetting(metadata);
+        assertThrows(IllegalArgumentException.class, () -> IndexConfiguration.readIndexConfig(pluginSetting));
+    }
+
     @Test
     public void testReadIndexConfig_InvalidIndexTypeValueString() {
         final Map<String, Object> metadata = initializeConfigMetaData(
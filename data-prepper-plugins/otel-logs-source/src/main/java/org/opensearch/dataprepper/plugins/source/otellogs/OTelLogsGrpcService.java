@@ -82,22 +82,15 @@ public class OTelLogsGrpcService extends LogsServiceGrpc.LogsServiceImplBase {
     }
 
     private void processRequest(final ExportLogsServiceRequest request, final StreamObserver<ExportLogsServiceResponse> responseObserver) {
-        final List<OpenTelemetryLog> logs;
-
-        try {
-            logs = oTelProtoDecoder.parseExportLogsServiceRequest(request, Instant.now());
-        } catch (Exception e) {
-            LOG.error("Failed to parse the request {} due to:", request, e);
-            throw new BadRequestException(e.getMessage(), e);
-        }
-
-        final List<Record<Object>> records = logs.stream().map(log -> new Record<Object>(log)).collect(Collectors.toList());
         try {
             if (buffer.isByteBuffer()) {
+                // The logs are decoded by the buffer when they are read, so they are not parsed here.
                 buffer.writeBytes(request.toByteArray(), null, bufferWriteTimeoutInMillis);
             } else {
-                buffer.writeAll(records, bufferWriteTimeoutInMillis);
+                buffer.writeAll(parseRecords(request), bufferWriteTimeoutInMillis);
             }
+        } catch (final BadRequestException e) {
+            throw e;
         } catch (Exception e) {
             if (ServiceRequestContext.current().isTimedOut()) {
                 LOG.warn("Exception writing to buffer but request already timed out.", e);
@@ -117,4 +110,17 @@ public class OTelLogsGrpcService extends LogsServiceGrpc.LogsServiceImplBase {
         responseObserver.onNext(ExportLogsServiceResponse.newBuilder().build());
         responseObserver.onCompleted();
     }
+
+    private List<Record<Object>> parseRecords(final ExportLogsServiceRequest request) {
+        final List<OpenTelemetryLog> logs;
+
+        try {
+            logs = oTelProtoDecoder.parseExportLogsServiceRequest(request, Instant.now());
+        } catch (Exception e) {
+            LOG.error("Failed to parse the request {} due to:", request, e);
+            throw new BadRequestException(e.getMessage(), e);
+        }
+
+        return logs.stream().map(log -> new Record<Object>(log)).collect(Collectors.toList());
+    }
 }
@@ -51,9 +51,11 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 
@@ -166,6 +168,23 @@ public class OTelLogsGrpcServiceTest {
         assertThat(capturedBytes.length, equalTo(LOGS_REQUEST.toByteArray().length));
     }
 
+    @Test
+    public void export_with_ByteBuffer_does_not_parse_the_request() throws Exception {
+        when(buffer.isByteBuffer()).thenReturn(true);
+        objectUnderTest = generateOTelLogsGrpcService(mockOTelProtoDecoder);
+
+        try (MockedStatic<ServiceRequestContext> mockedStatic = mockStatic(ServiceRequestContext.class)) {
+            mockedStatic.when(ServiceRequestContext::current).thenReturn(serviceRequestContext);
+            objectUnderTest.export(LOGS_REQUEST, responseObserver);
+        }
+
+        verify(mockOTelProtoDecoder, never()).parseExportLogsServiceRequest(any(), any(Instant.class));
+        verify(buffer, times(1)).writeBytes(any(byte[].class), eq(null), anyInt());
+        verify(responseObserver, times(1)).onNext(ExportLogsServiceResponse.newBuilder().build());
+        verify(responseObserver, times(1)).onCompleted();
+        verify(successRequestsCounter, times(1)).increment();
+    }
+
     @Test
     public void export_BufferTimeout_responseObserverOnError() throws Exception {
         objectUnderTest = generateOTelLogsGrpcService(new OTelProtoCodec.OTelProtoDecoder());
@@ -198,7 +217,8 @@ public class OTelLogsGrpcServiceTest {
             assertThrows(BadRequestException.class, () -> objectUnderTest.export(LOGS_REQUEST, responseObserver));
         }
 
-        verifyNoInteractions(buffer);
+        verify(buffer).isByteBuffer();
+        verifyNoMoreInteractions(buffer);
         verifyNoInteractions(responseObserver);
         verify(requestsReceivedCounter, times(1)).increment();
         verifyNoInteractions(successRequestsCounter);
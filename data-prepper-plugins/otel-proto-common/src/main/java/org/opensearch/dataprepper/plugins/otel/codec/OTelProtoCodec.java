@@ -85,6 +85,8 @@ public class OTelProtoCodec {
 
     private static final ObjectMapper OBJECT_MAPPER =  new ObjectMapper();
     private static final long NANO_MULTIPLIER = 1_000 * 1_000 * 1_000;
+    private static final long SECONDS_PER_DAY = 24 * 60 * 60;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
     protected static final String SERVICE_NAME = "service.name";
     protected static final String SPAN_ATTRIBUTES = "span.attributes";
     static final String RESOURCE_ATTRIBUTES = "resource.attributes";
@@ -152,8 +154,71 @@ public class OTelProtoCodec {
             return Objects.hash(scale, sign);
         }
     }
+    /**
+     * Formats a time in nanoseconds since the epoch the same way as {@link Instant#toString()}, without creating an
+     * {@link Instant} or a formatter.
+     *
+     * @param unixNano the nanoseconds since the epoch
+     * @return the time in ISO-8601 format
+     */
     public static String convertUnixNanosToISO8601(final long unixNano) {
-        return Instant.ofEpochSecond(0L, unixNano).toString();
+        if (unixNano < 0) {
+            return Instant.ofEpochSecond(0L, unixNano).toString();
+        }
+
+        final long epochSecond = unixNano / NANO_MULTIPLIER;
+        final int nanos = (int) (unixNano % NANO_MULTIPLIER);
+        final long epochDay = epochSecond / SECONDS_PER_DAY;
+        final int secondOfDay = (int) (epochSecond % SECONDS_PER_DAY);
+
+        // Converts the days since the epoch into a civil date, see http://howardhinnant.github.io/date_algorithms.html
+        final long shiftedDay = epochDay + 719_468;
+        final long era = shiftedDay / 146_097;
+        final int dayOfEra = (int) (shiftedDay - era * 146_097);
+        final int yearOfEra = (dayOfEra - dayOfEra / 1_460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        final int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        final int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        final int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        final int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        final int year = (int) (yearOfEra + era * 400) + (month <= 2 ? 1 : 0);
+
+        final char[] chars = new char[30];
+        writeDigits(chars, 0, year, 4);
+        chars[4] = '-';
+        writeDigits(chars, 5, month, 2);
+        chars[7] = '-';
+        writeDigits(chars, 8, day, 2);
+        chars[10] = 'T';
+        writeDigits(chars, 11, secondOfDay / 3_600, 2);
+        chars[13] = ':';
+        writeDigits(chars, 14, secondOfDay / 60 % 60, 2);
+        chars[16] = ':';
+        writeDigits(chars, 17, secondOfDay % 60, 2);
+
+        // Like Instant#toString, the fraction is written in groups of three digits and left out when it is zero.
+        int length = 19;
+        if (nanos != 0) {
+            chars[length++] = '.';
+            if (nanos % 1_000_000 == 0) {
+                writeDigits(chars, length, nanos / 1_000_000, 3);
+                length += 3;
+            } else if (nanos % 1_000 == 0) {
+                writeDigits(chars, length, nanos / 1_000, 6);
+                length += 6;
+            } else {
+                writeDigits(chars, length, nanos, 9);
+                length += 9;
+            }
+        }
+        chars[length++] = 'Z';
+        return new String(chars, 0, length);
+    }
+
+    private static void writeDigits(final char[] chars, final int offset, int value, final int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
     }
 
     public static long timeISO8601ToNanos(final String timeISO08601) {
@@ -162,10 +227,14 @@ public class OTelProtoCodec {
     }
 
     public static class OTelProtoDecoder {
+        private final OTelProtoSpanDecoder spanDecoder = new OTelProtoSpanDecoder();
 
         public List<Span> parseExportTraceServiceRequest(final ExportTraceServiceRequest exportTraceServiceRequest, final Instant timeReceived) {
-            return exportTraceServiceRequest.getResourceSpansList().stream()
-                    .flatMap(rs -> parseResourceSpans(rs, timeReceived).stream()).collect(Collectors.toList());
+            final List<Span> spans = new ArrayList<>();
+            for (final ResourceSpans resourceSpans : exportTraceServiceRequest.getResourceSpansList()) {
+                spanDecoder.decodeResourceSpans(resourceSpans, timeReceived, spans);
+            }
+            return spans;
         }
 
         public Map<String, ExportTraceServiceRequest> splitExportTraceServiceRequestByTraceId(final ExportTraceServiceRequest exportTraceServiceRequest) {
@@ -1364,6 +1433,13 @@ public class OTelProtoCodec {
     }
 
     public static String convertByteStringToString(ByteString bs) {
-        return Hex.encodeHexString(bs.toByteArray());
+        final int size = bs.size();
+        final char[] chars = new char[size * 2];
+        for (int i = 0; i < size; i++) {
+            final int value = bs.byteAt(i) & 0xFF;
+            chars[2 * i] = HEX_DIGITS[value >>> 4];
+            chars[2 * i + 1] = HEX_DIGITS[value & 0x0F];
+        }
+        return new String(chars);
     }
 }
@@ -0,0 +1,262 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.otel.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.opentelemetry.proto.common.v1.AnyValue;
+import io.opentelemetry.proto.common.v1.InstrumentationLibrary;
+import io.opentelemetry.proto.common.v1.InstrumentationScope;
+import io.opentelemetry.proto.common.v1.KeyValue;
+import io.opentelemetry.proto.resource.v1.Resource;
+import io.opentelemetry.proto.trace.v1.InstrumentationLibrarySpans;
+import io.opentelemetry.proto.trace.v1.ResourceSpans;
+import io.opentelemetry.proto.trace.v1.ScopeSpans;
+import io.opentelemetry.proto.trace.v1.Status;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+import org.opensearch.dataprepper.model.trace.Span;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Decodes OpenTelemetry protobuf spans into {@link JacksonSpan}s by building the JSON of each span directly.
+ * <p>
+ * The spans are the same as the ones created by {@link OTelProtoCodec.OTelProtoDecoder#parseSpan}, but no
+ * intermediate maps, span events, links or trace group fields are created and converted. The resource and
+ * scope attributes are converted once for all of their spans, and the most recently used transformed attribute
+ * keys are cached.
+ * This class is thread-safe.
+ */
+class OTelProtoSpanDecoder {
+    static final int MAX_CACHED_KEYS = 10_000;
+
+    private static final String TRACE_ID_KEY = "traceId";
+    private static final String SPAN_ID_KEY = "spanId";
+    private static final String TRACE_STATE_KEY = "traceState";
+    private static final String PARENT_SPAN_ID_KEY = "parentSpanId";
+    private static final String NAME_KEY = "name";
+    private static final String KIND_KEY = "kind";
+    private static final String START_TIME_KEY = "startTime";
+    private static final String END_TIME_KEY = "endTime";
+    private static final String TIME_KEY = "time";
+    private static final String ATTRIBUTES_KEY = "attributes";
+    private static final String DROPPED_ATTRIBUTES_COUNT_KEY = "droppedAttributesCount";
+    private static final String EVENTS_KEY = "events";
+    private static final String DROPPED_EVENTS_COUNT_KEY = "droppedEventsCount";
+    private static final String LINKS_KEY = "links";
+    private static final String DROPPED_LINKS_COUNT_KEY = "droppedLinksCount";
+    private static final String SERVICE_NAME_KEY = "serviceName";
+    private static final String TRACE_GROUP_KEY = "traceGroup";
+    private static final String DURATION_IN_NANOS_KEY = "durationInNanos";
+    private static final String TRACE_GROUP_FIELDS_KEY = "traceGroupFields";
+    private static final String STATUS_CODE_KEY = "statusCode";
+
+    private final JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+    private final Cache<String, String> spanAttributeKeys = createKeyCache();
+    private final Cache<String, String> resourceAttributeKeys = createKeyCache();
+    private final Cache<String, String> attributeKeys = createKeyCache();
+
+    /**
+     * Decodes the spans of a {@link ResourceSpans}.
+     *
+     * @param resourceSpans the resource spans
+     * @param timeReceived the time the spans were received
+     * @param spans the list to add the spans to
+     */
+    void decodeResourceSpans(final ResourceSpans resourceSpans, final Instant timeReceived, final List<Span> spans) {
+        final Resource resource = resourceSpans.getResource();
+        final String serviceName = OTelProtoCodec.getServiceName(resource).orElse(null);
+        final ObjectNode resourceAttributes = convertAttributes(resource.getAttributesList(), resourceAttributeKeys,
+                OTelProtoCodec.RESOURCE_ATTRIBUTES_REPLACE_DOT_WITH_AT);
+
+        if (resourceSpans.getScopeSpansCount() > 0) {
+            for (final ScopeSpans scopeSpans : resourceSpans.getScopeSpansList()) {
+                final ObjectNode scopeAttributes = getScopeAttributes(scopeSpans.getScope());
+                for (final io.opentelemetry.proto.trace.v1.Span span : scopeSpans.getSpansList()) {
+                    spans.add(decodeSpan(span, scopeAttributes, serviceName, resourceAttributes, timeReceived));
+                }
+            }
+        } else {
+            for (final InstrumentationLibrarySpans instrumentationLibrarySpans : resourceSpans.getInstrumentationLibrarySpansList()) {
+                final ObjectNode scopeAttributes = getInstrumentationLibraryAttributes(instrumentationLibrarySpans.getInstrumentationLibrary());
+                for (final io.opentelemetry.proto.trace.v1.Span span : instrumentationLibrarySpans.getSpansList()) {
+                    spans.add(decodeSpan(span, scopeAttributes, serviceName, resourceAttributes, timeReceived));
+                }
+            }
+        }
+    }
+
+    private Span decodeSpan(final io.opentelemetry.proto.trace.v1.Span span, final ObjectNode scopeAttributes,
+                            final String serviceName, final ObjectNode resourceAttributes, final Instant timeReceived) {
+        final ObjectNode spanNode = nodeFactory.objectNode();
+        final boolean isRootSpan = span.getParentSpanId().isEmpty();
+        final String endTime = OTelProtoCodec.convertUnixNanosToISO8601(span.getEndTimeUnixNano());
+        final long durationInNanos = span.getEndTimeUnixNano() - span.getStartTimeUnixNano();
+
+        spanNode.put(SPAN_ID_KEY, OTelProtoCodec.convertByteStringToString(span.getSpanId()));
+        spanNode.put(TRACE_ID_KEY, OTelProtoCodec.convertByteStringToString(span.getTraceId()));
+        spanNode.put(TRACE_STATE_KEY, span.getTraceState());
+        spanNode.put(PARENT_SPAN_ID_KEY, OTelProtoCodec.convertByteStringToString(span.getParentSpanId()));
+        spanNode.put(NAME_KEY, span.getName());
+        spanNode.put(SERVICE_NAME_KEY, serviceName);
+        spanNode.put(KIND_KEY, span.getKind().name());
+        spanNode.put(START_TIME_KEY, OTelProtoCodec.convertUnixNanosToISO8601(span.getStartTimeUnixNano()));
+        spanNode.put(END_TIME_KEY, endTime);
+
+        final ObjectNode attributes = convertAttributes(span.getAttributesList(), spanAttributeKeys,
+                OTelProtoCodec.SPAN_ATTRIBUTES_REPLACE_DOT_WITH_AT);
+        attributes.setAll(resourceAttributes);
+        attributes.setAll(scopeAttributes);
+        addStatusAttributes(span.getStatus(), attributes);
+        spanNode.set(ATTRIBUTES_KEY, attributes);
+        spanNode.put(DROPPED_ATTRIBUTES_COUNT_KEY, span.getDroppedAttributesCount());
+
+        final ArrayNode events = spanNode.putArray(EVENTS_KEY);
+        for (final io.opentelemetry.proto.trace.v1.Span.Event event : span.getEventsList()) {
+            events.add(convertEvent(event));
+        }
+        spanNode.put(DROPPED_EVENTS_COUNT_KEY, span.getDroppedEventsCount());
+
+        final ArrayNode links = spanNode.putArray(LINKS_KEY);
+        for (final io.opentelemetry.proto.trace.v1.Span.Link link : span.getLinksList()) {
+            links.add(convertLink(link));
+        }
+        spanNode.put(DROPPED_LINKS_COUNT_KEY, span.getDroppedLinksCount());
+
+        spanNode.put(TRACE_GROUP_KEY, isRootSpan ? span.getName() : null);
+        spanNode.put(DURATION_IN_NANOS_KEY, durationInNanos);
+
+        final ObjectNode traceGroupFields = spanNode.putObject(TRACE_GROUP_FIELDS_KEY);
+        if (isRootSpan) {
+            traceGroupFields.put(END_TIME_KEY, endTime);
+            traceGroupFields.put(DURATION_IN_NANOS_KEY, durationInNanos);
+            traceGroupFields.put(STATUS_CODE_KEY, span.getStatus().getCodeValue());
+        } else {
+            traceGroupFields.putNull(END_TIME_KEY);
+            traceGroupFields.putNull(DURATION_IN_NANOS_KEY);
+            traceGroupFields.putNull(STATUS_CODE_KEY);
+        }
+
+        return JacksonSpan.builder()
+                .withJsonNode(spanNode)
+                .withTimeReceived(timeReceived)
+                .build();
+    }
+
+    private ObjectNode convertEvent(final io.opentelemetry.proto.trace.v1.Span.Event event) {
+        checkArgument(!event.getName().isEmpty(), "name cannot be an empty string");
+
+        final ObjectNode eventNode = nodeFactory.objectNode();
+        eventNode.put(NAME_KEY, event.getName());
+        eventNode.put(TIME_KEY, OTelProtoCodec.convertUnixNanosToISO8601(event.getTimeUnixNano()));
+        eventNode.set(ATTRIBUTES_KEY, convertAttributes(event.getAttributesList(), attributeKeys, OTelProtoCodec.REPLACE_DOT_WITH_AT));
+        eventNode.put(DROPPED_ATTRIBUTES_COUNT_KEY, event.getDroppedAttributesCount());
+        return eventNode;
+    }
+
+    private ObjectNode convertLink(final io.opentelemetry.proto.trace.v1.Span.Link link) {
+        final String traceId = OTelProtoCodec.convertByteStringToString(link.getTraceId());
+        checkArgument(!traceId.isEmpty(), "traceId cannot be an empty string");
+        final String spanId = OTelProtoCodec.convertByteStringToString(link.getSpanId());
+        checkArgument(!spanId.isEmpty(), "spanId cannot be an empty String");
+
+        final ObjectNode linkNode = nodeFactory.objectNode();
+        linkNode.put(TRACE_ID_KEY, traceId);
+        linkNode.put(SPAN_ID_KEY, spanId);
+        linkNode.put(TRACE_STATE_KEY, link.getTraceState());
+        linkNode.set(ATTRIBUTES_KEY, convertAttributes(link.getAttributesList(), attributeKeys, OTelProtoCodec.REPLACE_DOT_WITH_AT));
+        linkNode.put(DROPPED_ATTRIBUTES_COUNT_KEY, link.getDroppedAttributesCount());
+        return linkNode;
+    }
+
+    private ObjectNode getScopeAttributes(final InstrumentationScope instrumentationScope) {
+        return getScopeAttributes(instrumentationScope.getName(), instrumentationScope.getVersion());
+    }
+
+    private ObjectNode getInstrumentationLibraryAttributes(final InstrumentationLibrary instrumentationLibrary) {
+        return getScopeAttributes(instrumentationLibrary.getName(), instrumentationLibrary.getVersion());
+    }
+
+    private ObjectNode getScopeAttributes(final String name, final String version) {
+        final ObjectNode scopeAttributes = nodeFactory.objectNode();
+        if (!name.isEmpty()) {
+            scopeAttributes.put(OTelProtoCodec.INSTRUMENTATION_SCOPE_NAME, name);
+        }
+        if (!version.isEmpty()) {
+            scopeAttributes.put(OTelProtoCodec.INSTRUMENTATION_SCOPE_VERSION, version);
+        }
+        return scopeAttributes;
+    }
+
+    private void addStatusAttributes(final Status status, final ObjectNode attributes) {
+        attributes.put(OTelProtoCodec.STATUS_CODE, status.getCodeValue());
+        if (!status.getMessage().isEmpty()) {
+            attributes.put(OTelProtoCodec.STATUS_MESSAGE, status.getMessage());
+        }
+    }
+
+    private ObjectNode convertAttributes(final List<KeyValue> keyValues, final Cache<String, String> keyCache,
+                                         final Function<String, String> keyTransformer) {
+        final ObjectNode attributes = nodeFactory.objectNode();
+        for (int i = 0; i < keyValues.size(); i++) {
+            final KeyValue keyValue = keyValues.get(i);
+            final String key = transformKey(keyValue.getKey(), keyCache, keyTransformer);
+            if (attributes.replace(key, convertAnyValue(keyValue.getValue())) != null) {
+                // Matches the failure of collecting the attributes with Collectors.toMap.
+                throw new IllegalStateException(String.format("Duplicate key %s", key));
+            }
+        }
+        return attributes;
+    }
+
+    /**
+     * The keys come from clients, so the cache is bounded and evicts the least used keys rather than keeping the
+     * first distinct keys it sees.
+     */
+    private static Cache<String, String> createKeyCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(MAX_CACHED_KEYS)
+                .build();
+    }
+
+    private static String transformKey(final String key, final Cache<String, String> keyCache,
+                                       final Function<String, String> keyTransformer) {
+        String transformedKey = keyCache.getIfPresent(key);
+        if (transformedKey == null) {
+            transformedKey = keyTransformer.apply(key);
+            keyCache.put(key, transformedKey);
+        }
+        return transformedKey;
+    }
+
+    private JsonNode convertAnyValue(final AnyValue value) {
+        switch (value.getValueCase()) {
+            case VALUE_NOT_SET:
+            case STRING_VALUE:
+                return nodeFactory.textNode(value.getStringValue());
+            case BOOL_VALUE:
+                return nodeFactory.booleanNode(value.getBoolValue());
+            case INT_VALUE:
+                return nodeFactory.numberNode(value.getIntValue());
+            case DOUBLE_VALUE:
+                return nodeFactory.numberNode(value.getDoubleValue());
+            case ARRAY_VALUE:
+            case KVLIST_VALUE:
+                // Arrays and key value lists are stored as JSON strings.
+                return nodeFactory.textNode((String) OTelProtoCodec.convertAnyValue(value));
+            default:
+                throw new OTelDecodingException("Unknown case");
+        }
+    }
+}
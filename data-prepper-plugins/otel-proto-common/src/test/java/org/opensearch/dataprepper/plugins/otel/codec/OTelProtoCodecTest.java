@@ -257,6 +257,117 @@ public class OTelProtoCodecTest {
                 assertThat(attributes.containsKey(OTelProtoCodec.STATUS_CODE), is(true));
             }
         }
+
+        @Test
+        public void testParseExportTraceServiceRequest_CreatesTheSameSpansAsParseResourceSpans() throws IOException {
+            for (final String requestJsonFile : Arrays.asList(TEST_REQUEST_TRACE_JSON_FILE, TEST_REQUEST_INSTRUMENTATION_LIBRARY_TRACE_JSON_FILE,
+                    TEST_REQUEST_BOTH_SPAN_TYPES_JSON_FILE, TEST_REQUEST_MULTIPLE_TRACES_FILE)) {
+                final ExportTraceServiceRequest exportTraceServiceRequest = buildExportTraceServiceRequestFromJsonFile(requestJsonFile);
+                assertSameSpansAsParseResourceSpans(exportTraceServiceRequest);
+            }
+        }
+
+        @Test
+        public void testParseExportTraceServiceRequest_WithEventsLinksAndNestedAttributes_CreatesTheSameSpansAsParseResourceSpans() {
+            final KeyValue nestedAttribute = KeyValue.newBuilder().setKey("nested.key").setValue(AnyValue.newBuilder()
+                    .setKvlistValue(KeyValueList.newBuilder()
+                            .addValues(KeyValue.newBuilder().setKey("inner.key").setValue(AnyValue.newBuilder().setIntValue(3).build()).build())
+                            .build()).build()).build();
+            final KeyValue arrayAttribute = KeyValue.newBuilder().setKey("array").setValue(AnyValue.newBuilder()
+                    .setArrayValue(ArrayValue.newBuilder()
+                            .addValues(AnyValue.newBuilder().setStringValue("a").build())
+                            .addValues(AnyValue.newBuilder().setBoolValue(true).build())
+                            .build()).build()).build();
+            final io.opentelemetry.proto.trace.v1.Span rootSpan = io.opentelemetry.proto.trace.v1.Span.newBuilder()
+                    .setTraceId(ByteString.copyFrom(getRandomBytes(16)))
+                    .setSpanId(ByteString.copyFrom(getRandomBytes(8)))
+                    .setName("root")
+                    .setKind(io.opentelemetry.proto.trace.v1.Span.SpanKind.SPAN_KIND_SERVER)
+                    .setStartTimeUnixNano(1598013600000000321L)
+                    .setEndTimeUnixNano(1598013600123000000L)
+                    .setStatus(Status.newBuilder().setCodeValue(2).setMessage("error").build())
+                    .addAttributes(KeyValue.newBuilder().setKey("http.status_code").setValue(AnyValue.newBuilder().setIntValue(500).build()).build())
+                    .addAttributes(KeyValue.newBuilder().setKey("ratio").setValue(AnyValue.newBuilder().setDoubleValue(0.5).build()).build())
+                    .addAttributes(nestedAttribute)
+                    .addAttributes(arrayAttribute)
+                    .addEvents(io.opentelemetry.proto.trace.v1.Span.Event.newBuilder()
+                            .setName("exception")
+                            .setTimeUnixNano(1598013600100000000L)
+                            .setDroppedAttributesCount(1)
+                            .addAttributes(KeyValue.newBuilder().setKey("exception.type").setValue(AnyValue.newBuilder().setStringValue("IOException").build()).build())
+                            .build())
+                    .addLinks(io.opentelemetry.proto.trace.v1.Span.Link.newBuilder()
+                            .setTraceId(ByteString.copyFrom(getRandomBytes(16)))
+                            .setSpanId(ByteString.copyFrom(getRandomBytes(8)))
+                            .setTraceState("state")
+                            .addAttributes(KeyValue.newBuilder().setKey("link.key").setValue(AnyValue.newBuilder().setBoolValue(false).build()).build())
+                            .build())
+                    .setDroppedEventsCount(2)
+                    .setDroppedLinksCount(3)
+                    .build();
+            final io.opentelemetry.proto.trace.v1.Span childSpan = rootSpan.toBuilder()
+                    .setSpanId(ByteString.copyFrom(getRandomBytes(8)))
+                    .setParentSpanId(rootSpan.getSpanId())
+                    .setName("child")
+                    .clearEvents()
+                    .clearLinks()
+                    .build();
+            final ExportTraceServiceRequest exportTraceServiceRequest = ExportTraceServiceRequest.newBuilder()
+                    .addResourceSpans(ResourceSpans.newBuilder()
+                            .setResource(Resource.newBuilder()
+                                    .addAttributes(KeyValue.newBuilder().setKey("service.name").setValue(AnyValue.newBuilder().setStringValue("service").build()).build())
+                                    .addAttributes(nestedAttribute)
+                                    .build())
+                            .addScopeSpans(ScopeSpans.newBuilder()
+                                    .setScope(InstrumentationScope.newBuilder().setName("scope").setVersion("1.0").build())
+                                    .addSpans(rootSpan)
+                                    .addSpans(childSpan)
+                                    .build())
+                            .build())
+                    .build();
+
+            final List<Span> spans = assertSameSpansAsParseResourceSpans(exportTraceServiceRequest);
+
+            assertThat(spans.size(), equalTo(2));
+            assertThat(spans.get(0).getServiceName(), equalTo("service"));
+            assertThat(spans.get(0).getTraceGroup(), equalTo("root"));
+            assertThat(spans.get(1).getTraceGroup(), nullValue());
+        }
+
+        @Test
+        public void testParseExportTraceServiceRequest_WithDuplicateAttributeKeys_Throws() {
+            final KeyValue attribute = KeyValue.newBuilder().setKey("key").setValue(AnyValue.newBuilder().setStringValue("value").build()).build();
+            final ExportTraceServiceRequest exportTraceServiceRequest = ExportTraceServiceRequest.newBuilder()
+                    .addResourceSpans(ResourceSpans.newBuilder()
+                            .addScopeSpans(ScopeSpans.newBuilder()
+                                    .addSpans(io.opentelemetry.proto.trace.v1.Span.newBuilder()
+                                            .setTraceId(ByteString.copyFrom(getRandomBytes(16)))
+                                            .setSpanId(ByteString.copyFrom(getRandomBytes(8)))
+                                            .setName("span")
+                                            .addAttributes(attribute)
+                                            .addAttributes(attribute)
+                                            .build())
+                                    .build())
+                            .build())
+                    .build();
+
+            assertThrows(IllegalStateException.class, () -> decoderUnderTest.parseExportTraceServiceRequest(exportTraceServiceRequest, Instant.now()));
+        }
+
+        private List<Span> assertSameSpansAsParseResourceSpans(final ExportTraceServiceRequest exportTraceServiceRequest) {
+            final Instant timeReceived = Instant.now();
+            final List<Span> spans = decoderUnderTest.parseExportTraceServiceRequest(exportTraceServiceRequest, timeReceived);
+            final List<Span> expectedSpans = exportTraceServiceRequest.getResourceSpansList().stream()
+                    .flatMap(resourceSpans -> decoderUnderTest.parseResourceSpans(resourceSpans, timeReceived).stream())
+                    .collect(Collectors.toList());
+
+            assertThat(spans.size(), equalTo(expectedSpans.size()));
+            for (int i = 0; i < spans.size(); i++) {
+                assertThat(((JacksonSpan) spans.get(i)).getJsonNode(), equalTo(((JacksonSpan) expectedSpans.get(i)).getJsonNode()));
+                assertThat(spans.get(i).getMetadata().getTimeReceived(), equalTo(timeReceived));
+            }
+            return spans;
+        }
         @Test
         public void testGetSpanEvent() {
             final String testName = "test name";
@@ -454,6 +565,28 @@ public class OTelProtoCodecTest {
 
         }
 
+        @Test
+        public void testConvertUnixNanosToISO8601_IsTheSameAsInstantToString() {
+            final long[] times = {0L, 1L, 1_000L, 1_000_000L, 1_000_000_000L, 651242400000000321L, 1598013600000000000L,
+                    1598013600120000000L, 1598013600123456000L, 951782400000000000L, Long.MAX_VALUE, -1L, -1_500_000_000L};
+            for (final long time : times) {
+                assertThat(OTelProtoCodec.convertUnixNanosToISO8601(time), equalTo(Instant.ofEpochSecond(0L, time).toString()));
+            }
+            for (int i = 0; i < 1000; i++) {
+                final long time = RANDOM.nextLong() & Long.MAX_VALUE;
+                assertThat(OTelProtoCodec.convertUnixNanosToISO8601(time), equalTo(Instant.ofEpochSecond(0L, time).toString()));
+            }
+        }
+
+        @Test
+        public void testConvertByteStringToString_IsTheSameAsHexEncoding() {
+            assertThat(OTelProtoCodec.convertByteStringToString(ByteString.EMPTY), equalTo(""));
+            for (int length = 1; length <= 32; length++) {
+                final byte[] bytes = getRandomBytes(length);
+                assertThat(OTelProtoCodec.convertByteStringToString(ByteString.copyFrom(bytes)), equalTo(Hex.encodeHexString(bytes)));
+            }
+        }
+
         @Test
         public void testTraceGroup() {
             final io.opentelemetry.proto.trace.v1.Span span1 = io.opentelemetry.proto.trace.v1.Span.newBuilder()
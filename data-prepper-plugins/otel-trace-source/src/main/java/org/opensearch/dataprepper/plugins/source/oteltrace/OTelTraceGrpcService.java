@@ -86,26 +86,14 @@ public class OTelTraceGrpcService extends TraceServiceGrpc.TraceServiceImplBase
     }
 
     private void processRequest(final ExportTraceServiceRequest request, final StreamObserver<ExportTraceServiceResponse> responseObserver) {
-        final Collection<Span> spans;
-
-        try {
-            spans = oTelProtoDecoder.parseExportTraceServiceRequest(request, Instant.now());
-        } catch (final Exception e) {
-            LOG.warn(DataPrepperMarkers.SENSITIVE, "Failed to parse request with error '{}'. Request body: {}.", e.getMessage(), request);
-            throw new BadRequestException(e.getMessage(), e);
-        }
-
         try {
             if (buffer.isByteBuffer()) {
-                Map<String, ExportTraceServiceRequest> requestsMap = oTelProtoDecoder.splitExportTraceServiceRequestByTraceId(request);
-                ExportTraceServiceRequest tmp;
-                for (Map.Entry<String, ExportTraceServiceRequest> entry: requestsMap.entrySet()) {
-                    buffer.writeBytes(entry.getValue().toByteArray(), entry.getKey(), bufferWriteTimeoutInMillis);
-                }
+                writeRequestBytes(request);
             } else {
-                final List<Record<Object>> records = spans.stream().map(span -> new Record<Object>(span)).collect(Collectors.toList());
-                buffer.writeAll(records, bufferWriteTimeoutInMillis);
+                writeSpans(request);
             }
+        } catch (final BadRequestException e) {
+            throw e;
         } catch (final Exception e) {
             if (ServiceRequestContext.current().isTimedOut()) {
                 LOG.warn("Exception writing to buffer but request already timed out.", e);
@@ -125,4 +113,35 @@ public class OTelTraceGrpcService extends TraceServiceGrpc.TraceServiceImplBase
         responseObserver.onNext(ExportTraceServiceResponse.newBuilder().build());
         responseObserver.onCompleted();
     }
+
+    /**
+     * Writes the request to a byte buffer, split by trace id. The spans are decoded by the buffer when they are
+     * read, so they are not parsed here.
+     */
+    private void writeRequestBytes(final ExportTraceServiceRequest request) throws Exception {
+        final Map<String, ExportTraceServiceRequest> requestsMap;
+        try {
+            requestsMap = oTelProtoDecoder.splitExportTraceServiceRequestByTraceId(request);
+        } catch (final Exception e) {
+            LOG.warn(DataPrepperMarkers.SENSITIVE, "Failed to split request with error '{}'. Request body: {}.", e.getMessage(), request);
+            throw new BadRequestException(e.getMessage(), e);
+        }
+
+        for (Map.Entry<String, ExportTraceServiceRequest> entry: requestsMap.entrySet()) {
+            buffer.writeBytes(entry.getValue().toByteArray(), entry.getKey(), bufferWriteTimeoutInMillis);
+        }
+    }
+
+    private void writeSpans(final ExportTraceServiceRequest request) throws Exception {
+        final Collection<Span> spans;
+        try {
+            spans = oTelProtoDecoder.parseExportTraceServiceRequest(request, Instant.now());
+        } catch (final Exception e) {
+            LOG.warn(DataPrepperMarkers.SENSITIVE, "Failed to parse request with error '{}'. Request body: {}.", e.getMessage(), request);
+            throw new BadRequestException(e.getMessage(), e);
+        }
+
+        final List<Record<Object>> records = spans.stream().map(span -> new Record<Object>(span)).collect(Collectors.toList());
+        buffer.writeAll(records, bufferWriteTimeoutInMillis);
+    }
 }
@@ -40,6 +40,7 @@ import java.time.Instant;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeoutException;
 
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -48,13 +49,16 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -175,6 +179,40 @@ public class OTelTraceGrpcServiceTest {
         assertThat(capturedBytes.length, equalTo(SUCCESS_REQUEST.toByteArray().length));
     }
 
+    @Test
+    public void export_with_ByteBuffer_does_not_parse_the_request() throws Exception {
+        when(buffer.isByteBuffer()).thenReturn(true);
+        when(mockOTelProtoDecoder.splitExportTraceServiceRequestByTraceId(SUCCESS_REQUEST)).thenReturn(Map.of("TEST_TRACE_ID", SUCCESS_REQUEST));
+        objectUnderTest = generateOTelTraceGrpcService(mockOTelProtoDecoder);
+
+        try (MockedStatic<ServiceRequestContext> mockedStatic = mockStatic(ServiceRequestContext.class)) {
+            mockedStatic.when(ServiceRequestContext::current).thenReturn(serviceRequestContext);
+            objectUnderTest.export(SUCCESS_REQUEST, responseObserver);
+        }
+
+        verify(mockOTelProtoDecoder, never()).parseExportTraceServiceRequest(any(), any(Instant.class));
+        verify(buffer, times(1)).writeBytes(any(byte[].class), eq("TEST_TRACE_ID"), anyInt());
+        verify(responseObserver, times(1)).onNext(ExportTraceServiceResponse.newBuilder().build());
+        verify(responseObserver, times(1)).onCompleted();
+        verify(successRequestsCounter, times(1)).increment();
+    }
+
+    @Test
+    public void export_with_ByteBuffer_BadRequest_when_split_fails() throws Exception {
+        when(buffer.isByteBuffer()).thenReturn(true);
+        when(mockOTelProtoDecoder.splitExportTraceServiceRequestByTraceId(SUCCESS_REQUEST)).thenThrow(new RuntimeException("test message"));
+        objectUnderTest = generateOTelTraceGrpcService(mockOTelProtoDecoder);
+
+        try (MockedStatic<ServiceRequestContext> mockedStatic = mockStatic(ServiceRequestContext.class)) {
+            mockedStatic.when(ServiceRequestContext::current).thenReturn(serviceRequestContext);
+            assertThrows(BadRequestException.class, () -> objectUnderTest.export(SUCCESS_REQUEST, responseObserver));
+        }
+
+        verify(buffer, never()).writeBytes(any(byte[].class), anyString(), anyInt());
+        verifyNoInteractions(responseObserver);
+        verifyNoInteractions(successRequestsCounter);
+    }
+
     @Test
     public void export_BufferTimeout_responseObserverOnError() throws Exception {
         objectUnderTest = generateOTelTraceGrpcService(new OTelProtoCodec.OTelProtoDecoder());
@@ -207,7 +245,8 @@ public class OTelTraceGrpcServiceTest {
             assertThrows(BadRequestException.class, () -> objectUnderTest.export(SUCCESS_REQUEST, responseObserver));
         }
 
-        verifyNoInteractions(buffer);
+        verify(buffer).isByteBuffer();
+        verifyNoMoreInteractions(buffer);
         verifyNoInteractions(responseObserver);
         verify(requestsReceivedCounter, times(1)).increment();
         verifyNoInteractions(successRequestsCounter);
@@ -0,0 +1,101 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.dataprepper.plugins.codec.parquet;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericEnumSymbol;
+import org.apache.avro.generic.GenericFixed;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.generic.IndexedRecord;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts an Avro {@link GenericRecord} into a Jackson {@link JsonNode} tree.
+ * <p>
+ * The trees are the same as parsing the JSON text written by {@link GenericRecordJsonEncoder}, but no text is
+ * written or parsed.
+ */
+class GenericRecordJsonNodeConverter {
+    private final JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+
+    ObjectNode convert(final GenericRecord record) {
+        return convertRecord(record);
+    }
+
+    private ObjectNode convertRecord(final IndexedRecord record) {
+        final ObjectNode objectNode = nodeFactory.objectNode();
+        final List<Schema.Field> fields = record.getSchema().getFields();
+        for (int i = 0; i < fields.size(); i++) {
+            final Schema.Field field = fields.get(i);
+            objectNode.set(field.name(), convertDatum(record.get(field.pos())));
+        }
+        return objectNode;
+    }
+
+    private JsonNode convertDatum(final Object datum) {
+        if (datum == null) {
+            return nodeFactory.nullNode();
+        } else if (datum instanceof IndexedRecord) {
+            return convertRecord((IndexedRecord) datum);
+        } else if (datum instanceof Collection) {
+            final Collection<?> elements = (Collection<?>) datum;
+            final ArrayNode arrayNode = nodeFactory.arrayNode(elements.size());
+            for (final Object element : elements) {
+                arrayNode.add(convertDatum(element));
+            }
+            return arrayNode;
+        } else if (datum instanceof Map) {
+            final ObjectNode objectNode = nodeFactory.objectNode();
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) datum).entrySet()) {
+                objectNode.set(String.valueOf(entry.getKey()), convertDatum(entry.getValue()));
+            }
+            return objectNode;
+        } else if (datum instanceof CharSequence || datum instanceof GenericEnumSymbol) {
+            return nodeFactory.textNode(datum.toString());
+        } else if (datum instanceof ByteBuffer) {
+            // GenericRecordJsonEncoder writes the whole backing array of the buffer as a "bytes" object.
+            final ObjectNode bytesNode = nodeFactory.objectNode();
+            bytesNode.put("bytes", new String(((ByteBuffer) datum).array(), StandardCharsets.ISO_8859_1));
+            return bytesNode;
+        } else if (datum instanceof Integer) {
+            return nodeFactory.numberNode((Integer) datum);
+        } else if (datum instanceof Long) {
+            // Longs which fit into an int are parsed from the JSON text as ints.
+            final long value = (Long) datum;
+            return value == (int) value ? nodeFactory.numberNode((int) value) : nodeFactory.numberNode(value);
+        } else if (datum instanceof Float) {
+            final Float value = (Float) datum;
+            if (value.isNaN() || value.isInfinite()) {
+                return nodeFactory.textNode(value.toString());
+            }
+            return nodeFactory.numberNode(Double.parseDouble(value.toString()));
+        } else if (datum instanceof Double) {
+            final Double value = (Double) datum;
+            if (value.isNaN() || value.isInfinite()) {
+                return nodeFactory.textNode(value.toString());
+            }
+            return nodeFactory.numberNode(value);
+        } else if (datum instanceof Boolean) {
+            return nodeFactory.booleanNode((Boolean) datum);
+        } else if (datum instanceof GenericFixed) {
+            final byte[] bytes = ((GenericFixed) datum).bytes();
+            final ArrayNode arrayNode = nodeFactory.arrayNode(bytes.length);
+            for (final byte value : bytes) {
+                arrayNode.add((int) value);
+            }
+            return arrayNode;
+        }
+        return nodeFactory.textNode(datum.toString());
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.codec.parquet;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * A comparison of a Parquet column with a constant value. Row groups whose statistics or dictionaries show that
+ * no row can match are skipped without being read, and the remaining rows are filtered as they are read.
+ */
+public class ParquetColumnFilter {
+    @JsonProperty("column")
+    @NotEmpty
+    private String column;
+
+    @JsonProperty("operator")
+    @NotNull
+    private ParquetFilterOperator operator;
+
+    @JsonProperty("value")
+    @NotNull
+    private String value;
+
+    /**
+     * The path of the column to compare. Columns in nested groups are separated by a dot.
+     *
+     * @return The column path.
+     */
+    public String getColumn() {
+        return column;
+    }
+
+    /**
+     * The comparison to apply.
+     *
+     * @return The operator.
+     */
+    public ParquetFilterOperator getOperator() {
+        return operator;
+    }
+
+    /**
+     * The value to compare the column with. It is converted to the physical type of the column.
+     *
+     * @return The value.
+     */
+    public String getValue() {
+        return value;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.codec.parquet;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * The comparison which a {@link ParquetColumnFilter} applies to a column.
+ */
+public enum ParquetFilterOperator {
+    EQUALS("eq"),
+    NOT_EQUALS("not_eq"),
+    LESS_THAN("lt"),
+    LESS_THAN_OR_EQUALS("lt_eq"),
+    GREATER_THAN("gt"),
+    GREATER_THAN_OR_EQUALS("gt_eq");
+
+    private static final Map<String, ParquetFilterOperator> OPTIONS_MAP = Arrays.stream(ParquetFilterOperator.values())
+            .collect(Collectors.toMap(
+                    value -> value.option,
+                    value -> value
+            ));
+
+    private final String option;
+
+    ParquetFilterOperator(final String option) {
+        this.option = option;
+    }
+
+    @JsonCreator
+    static ParquetFilterOperator fromOptionValue(final String option) {
+        return OPTIONS_MAP.get(option.toLowerCase());
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.codec.parquet;
+
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.filter2.predicate.FilterApi;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.filter2.predicate.Operators;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
+
+import java.util.List;
+
+/**
+ * Creates Parquet filters from the configured {@link ParquetColumnFilter}s. The column types are only known
+ * once the schema of a file has been read, so a filter is created for each file.
+ */
+class ParquetFilterPredicateFactory {
+
+    /**
+     * Creates a filter which matches the rows matching all of the column filters.
+     *
+     * @param columnFilters the configured column filters
+     * @param fileSchema the schema of the file being read
+     * @return the filter, or {@link FilterCompat#NOOP} if there are no column filters
+     * @throws IllegalArgumentException if a column does not exist, is not a primitive column, or has a type which
+     * cannot be filtered
+     */
+    FilterCompat.Filter createFilter(final List<ParquetColumnFilter> columnFilters, final MessageType fileSchema) {
+        FilterPredicate predicate = null;
+        for (final ParquetColumnFilter columnFilter : columnFilters) {
+            final FilterPredicate columnPredicate = createPredicate(columnFilter, fileSchema);
+            predicate = predicate == null ? columnPredicate : FilterApi.and(predicate, columnPredicate);
+        }
+        return predicate == null ? FilterCompat.NOOP : FilterCompat.get(predicate);
+    }
+
+    private FilterPredicate createPredicate(final ParquetColumnFilter columnFilter, final MessageType fileSchema) {
+        final String column = columnFilter.getColumn();
+        final String[] path = column.split("\\.");
+        if (!fileSchema.containsPath(path)) {
+            throw new IllegalArgumentException(String.format("The filter column %s does not exist in the file.", column));
+        }
+        final Type type = fileSchema.getType(path);
+        if (!type.isPrimitive()) {
+            throw new IllegalArgumentException(String.format("The filter column %s is not a primitive column.", column));
+        }
+
+        final ParquetFilterOperator operator = columnFilter.getOperator();
+        final String value = columnFilter.getValue();
+        final PrimitiveType.PrimitiveTypeName typeName = type.asPrimitiveType().getPrimitiveTypeName();
+        switch (typeName) {
+            case INT32:
+                return compare(FilterApi.intColumn(column), Integer.valueOf(value), operator);
+            case INT64:
+                return compare(FilterApi.longColumn(column), Long.valueOf(value), operator);
+            case FLOAT:
+                return compare(FilterApi.floatColumn(column), Float.valueOf(value), operator);
+            case DOUBLE:
+                return compare(FilterApi.doubleColumn(column), Double.valueOf(value), operator);
+            case BINARY:
+                return compare(FilterApi.binaryColumn(column), Binary.fromString(value), operator);
+            case BOOLEAN:
+                return equate(FilterApi.booleanColumn(column), Boolean.valueOf(value), operator);
+            default:
+                throw new IllegalArgumentException(String.format("The filter column %s has the type %s, which cannot be filtered.", column, typeName));
+        }
+    }
+
+    private static <T extends Comparable<T>, C extends Operators.Column<T> & Operators.SupportsLtGt> FilterPredicate compare(
+            final C column, final T value, final ParquetFilterOperator operator) {
+        switch (operator) {
+            case LESS_THAN:
+                return FilterApi.lt(column, value);
+            case LESS_THAN_OR_EQUALS:
+                return FilterApi.ltEq(column, value);
+            case GREATER_THAN:
+                return FilterApi.gt(column, value);
+            case GREATER_THAN_OR_EQUALS:
+                return FilterApi.gtEq(column, value);
+            default:
+                return equate(column, value, operator);
+        }
+    }
+
+    private static <T extends Comparable<T>, C extends Operators.Column<T> & Operators.SupportsEqNotEq> FilterPredicate equate(
+            final C column, final T value, final ParquetFilterOperator operator) {
+        switch (operator) {
+            case EQUALS:
+                return FilterApi.eq(column, value);
+            case NOT_EQUALS:
+                return FilterApi.notEq(column, value);
+            default:
+                throw new IllegalArgumentException(String.format("The operator %s cannot be applied to the column %s.",
+                        operator, column.getColumnPath().toDotString()));
+        }
+    }
+}
@@ -7,8 +7,24 @@ package org.opensearch.dataprepper.plugins.codec.parquet;
 
 import org.apache.avro.generic.GenericRecord;
 import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.HadoopReadOptions;
+import org.apache.parquet.ParquetReadOptions;
 import org.apache.parquet.avro.AvroParquetReader;
+import org.apache.parquet.avro.AvroReadSupport;
+import org.apache.parquet.avro.AvroSchemaConverter;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.hadoop.api.InitContext;
+import org.apache.parquet.hadoop.api.ReadSupport;
+import org.apache.parquet.hadoop.metadata.ParquetMetadata;
+import org.apache.parquet.io.ColumnIOFactory;
+import org.apache.parquet.io.MessageColumnIO;
+import org.apache.parquet.io.RecordReader;
+import org.apache.parquet.io.api.RecordMaterializer;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.Type;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.codec.DecompressionEngine;
@@ -27,15 +43,24 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import static org.apache.parquet.avro.AvroReadSupport.READ_INT96_AS_FIXED;
 
 /**
  * An implementation of {@link InputCodec} which parses parquet records into fields.
+ * <p>
+ * Only the configured columns are read, and row groups which cannot match the configured filters are skipped.
+ * Column chunks are requested with vectored reads, so input files which support them fetch the chunks of a row
+ * group in parallel.
  */
-@DataPrepperPlugin(name = "parquet", pluginType = InputCodec.class)
+@DataPrepperPlugin(name = "parquet", pluginType = InputCodec.class, pluginConfigurationType = ParquetInputCodecConfig.class)
 public class ParquetInputCodec implements InputCodec {
 
     static final String EVENT_TYPE = "event";
@@ -44,16 +69,28 @@ public class ParquetInputCodec implements InputCodec {
 
     static final String FILE_SUFFIX = ".parquet";
 
+    static final String VECTORED_IO_ENABLED = "parquet.hadoop.vectored.io.enabled";
+
     private static final Logger LOG = LoggerFactory.getLogger(ParquetInputCodec.class);
 
     private final Configuration configuration;
     private final EventFactory eventFactory;
+    private final ParquetInputCodecConfig config;
+    private final ParquetFilterPredicateFactory filterPredicateFactory;
 
-    @DataPrepperPluginConstructor
     public ParquetInputCodec(final EventFactory eventFactory) {
+        this(new ParquetInputCodecConfig(), eventFactory);
+    }
+
+    @DataPrepperPluginConstructor
+    public ParquetInputCodec(final ParquetInputCodecConfig config, final EventFactory eventFactory) {
+        Objects.requireNonNull(config);
+        this.config = config;
         this.eventFactory = eventFactory;
+        this.filterPredicateFactory = new ParquetFilterPredicateFactory();
         configuration = new Configuration();
         configuration.setBoolean(READ_INT96_AS_FIXED, true);
+        configuration.setBoolean(VECTORED_IO_ENABLED, true);
     }
 
     @Override
@@ -80,26 +117,119 @@ public class ParquetInputCodec implements InputCodec {
     }
 
     private void parseParquetFile(final InputFile inputFile, final Consumer<Record<Event>> eventConsumer) throws IOException {
+        final GenericRecordJsonNodeConverter converter = new GenericRecordJsonNodeConverter();
+        final Consumer<GenericRecord> recordConsumer = record -> {
+            final Event event = eventFactory.eventBuilder(EventBuilder.class)
+                    .withEventType(EVENT_TYPE)
+                    .withJsonNodeData(converter.convert(record))
+                    .build();
+
+            eventConsumer.accept(new Record<>(event));
+        };
+
+        try {
+            if (config.getColumns() == null && config.getFilters().isEmpty()) {
+                readRecords(inputFile, recordConsumer);
+            } else {
+                readSelectedRecords(inputFile, recordConsumer);
+            }
+        } catch (Exception e){
+            LOG.error("An exception occurred while parsing parquet InputStream ", e);
+            throw new IOException(e);
+        }
+    }
+
+    private void readRecords(final InputFile inputFile, final Consumer<GenericRecord> recordConsumer) throws IOException {
         try (ParquetReader<GenericRecord> reader = AvroParquetReader.<GenericRecord>builder(inputFile)
                 .withConf(this.configuration)
                 .build()) {
-            GenericRecordJsonEncoder encoder = new GenericRecordJsonEncoder();
             GenericRecord record = null;
 
             while ((record = reader.read()) != null) {
-                final String json = encoder.serialize(record);
-
-                final Event event = eventFactory.eventBuilder(EventBuilder.class)
-                        .withEventType(EVENT_TYPE)
-                        .withData(json)
-                        .build();
+                recordConsumer.accept(record);
+            }
+        }
+    }
 
-                eventConsumer.accept(new Record<>(event));
+    /**
+     * Reads the configured columns of the records which match the filters. The filters and the projection need
+     * the file schema, so the footer is read first and the same footer is then used to read the row groups,
+     * rather than letting a {@link ParquetReader} read the footer again.
+     */
+    private void readSelectedRecords(final InputFile inputFile, final Consumer<GenericRecord> recordConsumer) throws IOException {
+        final ParquetMetadata footer;
+        try (ParquetFileReader footerReader = ParquetFileReader.open(inputFile, HadoopReadOptions.builder(this.configuration).build())) {
+            footer = footerReader.getFooter();
+        }
+        final MessageType fileSchema = footer.getFileMetaData().getSchema();
+        final Map<String, String> keyValueMetadata = footer.getFileMetaData().getKeyValueMetaData();
+        final FilterCompat.Filter filter = filterPredicateFactory.createFilter(config.getFilters(), fileSchema);
+
+        final Configuration readConfiguration = new Configuration(this.configuration);
+        final ReadSupport<GenericRecord> readSupport = createReadSupport(fileSchema, readConfiguration);
+        final ReadSupport.ReadContext readContext = readSupport.init(
+                new InitContext(readConfiguration, toSetMultiMap(keyValueMetadata), fileSchema));
+        final RecordMaterializer<GenericRecord> recordMaterializer =
+                readSupport.prepareForRead(readConfiguration, keyValueMetadata, fileSchema, readContext);
+        final MessageType requestedSchema = readContext.getRequestedSchema();
+        final MessageColumnIO columnIO = new ColumnIOFactory(footer.getFileMetaData().getCreatedBy())
+                .getColumnIO(requestedSchema, fileSchema, true);
+
+        final ParquetReadOptions readOptions = HadoopReadOptions.builder(readConfiguration)
+                .withRecordFilter(filter)
+                .build();
+        try (ParquetFileReader fileReader = new ParquetFileReader(inputFile, footer, readOptions, inputFile.newStream())) {
+            fileReader.setRequestedSchema(requestedSchema);
+
+            PageReadStore rowGroup;
+            while ((rowGroup = fileReader.readNextFilteredRowGroup()) != null) {
+                final RecordReader<GenericRecord> recordReader = columnIO.getRecordReader(rowGroup, recordMaterializer, filter);
+                for (long i = 0; i < rowGroup.getRowCount(); i++) {
+                    final GenericRecord record = recordReader.read();
+                    if (record != null && !recordReader.shouldSkipCurrentRecord()) {
+                        recordConsumer.accept(record);
+                    }
+                }
             }
-        } catch (Exception e){
-            LOG.error("An exception occurred while parsing parquet InputStream ", e);
-            throw new IOException(e);
         }
     }
 
+    private ReadSupport<GenericRecord> createReadSupport(final MessageType fileSchema, final Configuration readConfiguration) {
+        if (config.getColumns() == null) {
+            return new AvroReadSupport<>();
+        }
+
+        final MessageType projection = project(fileSchema, config.getColumns());
+        AvroReadSupport.setAvroReadSchema(readConfiguration, new AvroSchemaConverter(readConfiguration).convert(projection));
+        return new ProjectedReadSupport(projection);
+    }
+
+    private static Map<String, Set<String>> toSetMultiMap(final Map<String, String> keyValueMetadata) {
+        return keyValueMetadata.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> Collections.singleton(entry.getValue())));
+    }
+
+    private static MessageType project(final MessageType fileSchema, final List<String> columns) {
+        final List<Type> projectedFields = fileSchema.getFields().stream()
+                .filter(field -> columns.contains(field.getName()))
+                .collect(Collectors.toList());
+        return new MessageType(fileSchema.getName(), projectedFields);
+    }
+
+    /**
+     * Reads the columns of a projection of the file schema. The projection is requested as it is rather than
+     * through an Avro schema, which would not keep the list structure of the file.
+     */
+    private static class ProjectedReadSupport extends AvroReadSupport<GenericRecord> {
+        private final MessageType projection;
+
+        private ProjectedReadSupport(final MessageType projection) {
+            this.projection = projection;
+        }
+
+        @Override
+        public ReadContext init(final InitContext context) {
+            return new ReadContext(projection, super.init(context).getReadSupportMetadata());
+        }
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.codec.parquet;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Configuration class for {@link ParquetInputCodec}.
+ */
+public class ParquetInputCodecConfig {
+    @JsonProperty("columns")
+    private List<String> columns;
+
+    @JsonProperty("filters")
+    @Valid
+    private List<ParquetColumnFilter> filters = Collections.emptyList();
+
+    /**
+     * The top-level columns to read. Only these columns are read from the file and included in the events.
+     * All columns are read by default.
+     *
+     * @return The list of column names, or null to read all columns.
+     */
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    /**
+     * The filters which rows must match to become events. All of the filters must match.
+     *
+     * @return The list of filters.
+     */
+    public List<ParquetColumnFilter> getFilters() {
+        return filters;
+    }
+
+    @AssertTrue(message = "columns must not be an empty list. To read all columns, delete columns from the config.")
+    boolean isValidColumns() {
+        return Objects.isNull(columns) || columns.size() > 0;
+    }
+
+    @AssertTrue(message = "Every column in filters must also be included in columns.")
+    boolean areFilterColumnsIncluded() {
+        if (Objects.isNull(columns) || Objects.isNull(filters)) {
+            return true;
+        }
+        return filters.stream()
+                .map(ParquetColumnFilter::getColumn)
+                .filter(Objects::nonNull)
+                .allMatch(column -> columns.contains(column.split("\\.", 2)[0]));
+    }
+}
@@ -0,0 +1,114 @@
+package org.opensearch.dataprepper.plugins.codec.parquet;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.util.Utf8;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class GenericRecordJsonNodeConverterTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final Schema SCHEMA = new Schema.Parser().parse(
+            "{\"namespace\": \"org.example.test\"," +
+                    " \"type\": \"record\"," +
+                    " \"name\": \"TestMessage\"," +
+                    " \"fields\": [" +
+                    "     {\"name\": \"nested\", \"type\": [\"null\", \"TestMessage\"]}, " +
+                    "     {\"name\": \"id\", \"type\": \"string\"}," +
+                    "     {\"name\": \"value\", \"type\": \"int\"}," +
+                    "     {\"name\": \"floatValue\", \"type\": \"float\"}," +
+                    "     {\"name\": \"doubleValue\", \"type\": \"double\"}," +
+                    "     {\"name\": \"active\", \"type\": \"boolean\"}," +
+                    "     {\"name\": \"alternateIds\", \"type\": {\"type\": \"array\", \"items\": \"string\"}}," +
+                    "     {\"name\": \"metadata\", \"type\": {\"type\": \"map\", \"values\": \"string\"}}," +
+                    "     {\"name\": \"lastUpdated\", \"type\": \"long\", \"logicalType\": \"timestamp-millis\"}," +
+                    "     {\"name\": \"count\", \"type\": \"long\"}," +
+                    "     {\"name\": \"rawData\", \"type\": \"bytes\"}," +
+                    "     {\"name\": \"checksum\", \"type\": {\"type\": \"fixed\", \"name\": \"Checksum\", \"size\": 3}}," +
+                    "     {\"name\": \"suit\", \"type\": {\"type\": \"enum\", \"name\": \"Suit\", " +
+                    "                \"symbols\" : [\"SPADES\", \"HEARTS\", \"DIAMONDS\", \"CLUBS\"]}}" +
+                    " ]}");
+
+    private GenericRecordJsonEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        encoder = new GenericRecordJsonEncoder();
+    }
+
+    private GenericRecordJsonNodeConverter createObjectUnderTest() {
+        return new GenericRecordJsonNodeConverter();
+    }
+
+    private GenericRecord createRecord(final String id) {
+        final GenericRecord record = new GenericData.Record(SCHEMA);
+        record.put("id", new Utf8(id));
+        record.put("value", 42);
+        record.put("floatValue", 0.1f);
+        record.put("doubleValue", 12.5);
+        record.put("active", true);
+        record.put("alternateIds", Arrays.asList("altid1", new Utf8("altid2")));
+        record.put("metadata", Collections.singletonMap(new Utf8("key"), "value \"quoted\"\n"));
+        record.put("lastUpdated", 1684509331977L);
+        record.put("count", 7L);
+        record.put("rawData", ByteBuffer.wrap("raw".getBytes()));
+        record.put("checksum", new GenericData.Fixed(SCHEMA.getField("checksum").schema(), new byte[] {1, 0, -1}));
+        record.put("suit", new GenericData.EnumSymbol(SCHEMA.getField("suit").schema(), "HEARTS"));
+        return record;
+    }
+
+    @Test
+    void convert_returns_the_same_tree_as_parsing_the_encoded_json() throws Exception {
+        final GenericRecord record = createRecord("parent");
+        record.put("nested", createRecord("child"));
+
+        final ObjectNode objectNode = createObjectUnderTest().convert(record);
+
+        assertThat(objectNode, equalTo(OBJECT_MAPPER.readTree(encoder.serialize(record))));
+    }
+
+    @Test
+    void convert_with_empty_record_returns_null_fields() throws Exception {
+        final GenericRecord record = new GenericData.Record(SCHEMA);
+
+        final ObjectNode objectNode = createObjectUnderTest().convert(record);
+
+        assertThat(objectNode, equalTo(OBJECT_MAPPER.readTree(encoder.serialize(record))));
+        assertThat(objectNode.size(), equalTo(SCHEMA.getFields().size()));
+    }
+
+    @Test
+    void convert_writes_not_a_number_and_infinity_as_text() throws Exception {
+        final GenericRecord record = createRecord("id");
+        record.put("floatValue", Float.NaN);
+        record.put("doubleValue", Double.NEGATIVE_INFINITY);
+
+        final ObjectNode objectNode = createObjectUnderTest().convert(record);
+
+        assertThat(objectNode.get("floatValue").textValue(), equalTo("NaN"));
+        assertThat(objectNode.get("doubleValue").textValue(), equalTo("-Infinity"));
+        assertThat(objectNode, equalTo(OBJECT_MAPPER.readTree(encoder.serialize(record))));
+    }
+
+    @Test
+    void convert_keeps_long_values_which_do_not_fit_into_an_int() throws Exception {
+        final GenericRecord record = createRecord("id");
+        record.put("count", Long.MAX_VALUE);
+
+        final ObjectNode objectNode = createObjectUnderTest().convert(record);
+
+        assertThat(objectNode.get("count").longValue(), equalTo(Long.MAX_VALUE));
+        assertThat(objectNode, equalTo(OBJECT_MAPPER.readTree(encoder.serialize(record))));
+    }
+}
@@ -44,11 +44,14 @@ import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 import static org.opensearch.dataprepper.plugins.codec.parquet.ParquetInputCodec.EVENT_TYPE;
 import static org.opensearch.dataprepper.plugins.codec.parquet.ParquetInputCodec.FILE_PREFIX;
 import static org.opensearch.dataprepper.plugins.codec.parquet.ParquetInputCodec.FILE_SUFFIX;
@@ -200,6 +203,89 @@ public class ParquetInputCodecTest {
         }
     }
 
+    @Test
+    public void parseInputFile_with_columns_reads_only_the_projected_columns() throws IOException {
+        final ParquetInputCodecConfig config = mock(ParquetInputCodecConfig.class);
+        when(config.getColumns()).thenReturn(List.of("id", "value"));
+        when(config.getFilters()).thenReturn(Collections.emptyList());
+        parquetInputCodec = new ParquetInputCodec(config, testEventFactory);
+
+        parquetInputCodec.parse(new LocalInputFile(testDataFile), new NoneDecompressionEngine(), mockConsumer);
+
+        final ArgumentCaptor<Record<Event>> recordArgumentCaptor = ArgumentCaptor.forClass(Record.class);
+        verify(mockConsumer, times(10)).accept(recordArgumentCaptor.capture());
+
+        final List<Record<Event>> actualRecords = recordArgumentCaptor.getAllValues();
+        for (int i = 0; i < 10; i++) {
+            final Event event = actualRecords.get(i).getData();
+            assertThat(event.get("id", String.class), equalTo("id" + i));
+            assertThat(event.get("value", Integer.class), equalTo(i));
+            assertThat(event.get("alternateIds", List.class), nullValue());
+            assertThat(event.get("metadata", Map.class), nullValue());
+            assertThat(event.get("lastUpdated", Long.class), nullValue());
+        }
+    }
+
+    @Test
+    public void parseInputFile_with_filters_reads_only_the_matching_rows() throws IOException {
+        final ParquetColumnFilter columnFilter = mock(ParquetColumnFilter.class);
+        when(columnFilter.getColumn()).thenReturn("value");
+        when(columnFilter.getOperator()).thenReturn(ParquetFilterOperator.GREATER_THAN);
+        when(columnFilter.getValue()).thenReturn("4");
+        final ParquetInputCodecConfig config = mock(ParquetInputCodecConfig.class);
+        when(config.getFilters()).thenReturn(List.of(columnFilter));
+        parquetInputCodec = new ParquetInputCodec(config, testEventFactory);
+
+        parquetInputCodec.parse(new LocalInputFile(testDataFile), new NoneDecompressionEngine(), mockConsumer);
+
+        final ArgumentCaptor<Record<Event>> recordArgumentCaptor = ArgumentCaptor.forClass(Record.class);
+        verify(mockConsumer, times(5)).accept(recordArgumentCaptor.capture());
+
+        final List<Record<Event>> actualRecords = recordArgumentCaptor.getAllValues();
+        for (int i = 0; i < 5; i++) {
+            final Event event = actualRecords.get(i).getData();
+            assertThat(event.get("id", String.class), equalTo("id" + (i + 5)));
+            assertThat(event.get("value", Integer.class), equalTo(i + 5));
+            assertThat(event.get("alternateIds", List.class), notNullValue());
+        }
+    }
+
+    @Test
+    public void parseInputFile_with_columns_and_filters_reads_the_matching_rows_of_the_projected_columns() throws IOException {
+        final ParquetColumnFilter columnFilter = mock(ParquetColumnFilter.class);
+        when(columnFilter.getColumn()).thenReturn("id");
+        when(columnFilter.getOperator()).thenReturn(ParquetFilterOperator.EQUALS);
+        when(columnFilter.getValue()).thenReturn("id3");
+        final ParquetInputCodecConfig config = mock(ParquetInputCodecConfig.class);
+        when(config.getColumns()).thenReturn(List.of("id"));
+        when(config.getFilters()).thenReturn(List.of(columnFilter));
+        parquetInputCodec = new ParquetInputCodec(config, testEventFactory);
+
+        parquetInputCodec.parse(new LocalInputFile(testDataFile), new NoneDecompressionEngine(), mockConsumer);
+
+        final ArgumentCaptor<Record<Event>> recordArgumentCaptor = ArgumentCaptor.forClass(Record.class);
+        verify(mockConsumer).accept(recordArgumentCaptor.capture());
+
+        final Event event = recordArgumentCaptor.getValue().getData();
+        assertThat(event.get("id", String.class), equalTo("id3"));
+        assertThat(event.get("value", Integer.class), nullValue());
+    }
+
+    @Test
+    public void parseInputFile_with_filter_on_missing_column_throws() {
+        final ParquetColumnFilter columnFilter = mock(ParquetColumnFilter.class);
+        when(columnFilter.getColumn()).thenReturn("unknown");
+        final ParquetInputCodecConfig config = mock(ParquetInputCodecConfig.class);
+        when(config.getFilters()).thenReturn(List.of(columnFilter));
+        parquetInputCodec = new ParquetInputCodec(config, testEventFactory);
+
+        final IOException exception = assertThrows(IOException.class, () ->
+                parquetInputCodec.parse(new LocalInputFile(testDataFile), new NoneDecompressionEngine(), mockConsumer));
+
+        assertThat(exception.getCause(), instanceOf(IllegalArgumentException.class));
+        verifyNoInteractions(mockConsumer);
+    }
+
     private static void generateTestData(final File file) throws IOException {
         Schema schema = new Schema.Parser().parse(SCHEMA_JSON);
 
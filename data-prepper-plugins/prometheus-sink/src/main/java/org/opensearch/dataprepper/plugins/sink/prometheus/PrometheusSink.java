@@ -107,13 +107,17 @@ public class PrometheusSink extends AbstractSink<Record<Event>> {
     }
 
     /**
-     * @param records Records to be output
+     * @param records Records to be output. Empty collections are passed on, so that accumulated samples are
+     *                sent once the event collect timeout has passed.
      */
     @Override
     public void doOutput(final Collection<Record<Event>> records) {
-        if (records.isEmpty()) {
-            return;
-        }
         prometheusSinkService.output(records);
     }
+
+    @Override
+    public void shutdown() {
+        super.shutdown();
+        prometheusSinkService.shutdown();
+    }
 }
\ No newline at end of file
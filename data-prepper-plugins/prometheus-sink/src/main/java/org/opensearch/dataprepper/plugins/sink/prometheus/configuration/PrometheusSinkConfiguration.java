@@ -6,6 +6,7 @@ package org.opensearch.dataprepper.plugins.sink.prometheus.configuration;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import org.apache.commons.lang3.StringUtils;
 import org.opensearch.dataprepper.model.configuration.PluginModel;
@@ -55,6 +56,8 @@ public class PrometheusSinkConfiguration {
 
     private static final String DEFAULT_REMOTE_WRITE_VERSION = "0.1.0";
 
+    static final int DEFAULT_MAX_IN_FLIGHT_REQUESTS = 0;
+
 
     @NotNull
     @JsonProperty("url")
@@ -127,6 +130,15 @@ public class PrometheusSinkConfiguration {
     @JsonProperty("request_timout")
     private Duration requestTimout;
 
+    @JsonProperty("threshold")
+    @Valid
+    @NotNull
+    private ThresholdOptions thresholdOptions = new ThresholdOptions();
+
+    @JsonProperty("max_in_flight_requests")
+    @Min(0)
+    private int maxInFlightRequests = DEFAULT_MAX_IN_FLIGHT_REQUESTS;
+
     private boolean sslCertAndKeyFileInS3;
 
     public String getUrl() {
@@ -278,6 +290,14 @@ public class PrometheusSinkConfiguration {
         return requestTimout;
     }
 
+    public ThresholdOptions getThresholdOptions() {
+        return thresholdOptions;
+    }
+
+    public int getMaxInFlightRequests() {
+        return maxInFlightRequests;
+    }
+
     public boolean isHttpUrl() {
         URL parsedUrl = PrometheusSinkUtil.getURLByUrlString(url);
         return parsedUrl.getProtocol().equals(HTTP);
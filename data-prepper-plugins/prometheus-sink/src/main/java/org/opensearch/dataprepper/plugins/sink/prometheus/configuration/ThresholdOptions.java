@@ -0,0 +1,66 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.dataprepper.plugins.sink.prometheus.configuration;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.hibernate.validator.constraints.time.DurationMax;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.opensearch.dataprepper.model.types.ByteCount;
+
+import java.time.Duration;
+
+/**
+ * The thresholds which flush the samples accumulated by the Prometheus sink as a single remote write request.
+ */
+public class ThresholdOptions {
+
+    static final int DEFAULT_EVENT_COUNT = 2000;
+
+    static final String DEFAULT_MAXIMUM_SIZE = "1mb";
+
+    static final Duration DEFAULT_EVENT_COLLECT_TIMEOUT = Duration.ofSeconds(5);
+
+    @JsonProperty("event_count")
+    @Min(value = 1, message = "event_count should be between 1 and 10000000")
+    @Max(value = 10000000, message = "event_count should be between 1 and 10000000")
+    private int eventCount = DEFAULT_EVENT_COUNT;
+
+    @JsonProperty("maximum_size")
+    @NotNull
+    private String maximumSize = DEFAULT_MAXIMUM_SIZE;
+
+    @JsonProperty("event_collect_timeout")
+    @DurationMin(seconds = 1)
+    @DurationMax(seconds = 3600)
+    @NotNull
+    private Duration eventCollectTimeOut = DEFAULT_EVENT_COLLECT_TIMEOUT;
+
+    /**
+     * Read the maximum number of samples in a remote write request.
+     * @return event count.
+     */
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * Read the maximum uncompressed size of a remote write request.
+     * @return maximum byte count.
+     */
+    public ByteCount getMaximumSize() {
+        return ByteCount.parse(maximumSize);
+    }
+
+    /**
+     * Read the maximum time samples are held before they are sent.
+     * @return event collect time out.
+     */
+    public Duration getEventCollectTimeOut() {
+        return eventCollectTimeOut;
+    }
+}
@@ -4,20 +4,24 @@
  */
 package org.opensearch.dataprepper.plugins.sink.prometheus.service;
 
-import com.arpnetworking.metrics.prometheus.Remote;
 import com.arpnetworking.metrics.prometheus.Types;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micrometer.core.instrument.Counter;
 import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.io.HttpClientConnectionManager;
 import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.ClassicHttpRequest;
 import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.HttpStatus;
 import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apache.hc.core5.http.io.support.ClassicRequestBuilder;
 import org.apache.hc.core5.util.Timeout;
+import org.opensearch.dataprepper.common.concurrent.BoundedAsyncDispatcher;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.event.Event;
@@ -37,6 +41,7 @@ import org.opensearch.dataprepper.plugins.sink.prometheus.certificate.HttpClient
 import org.opensearch.dataprepper.plugins.sink.prometheus.configuration.AuthTypeOptions;
 import org.opensearch.dataprepper.plugins.sink.prometheus.configuration.HTTPMethodOptions;
 import org.opensearch.dataprepper.plugins.sink.prometheus.configuration.PrometheusSinkConfiguration;
+import org.opensearch.dataprepper.plugins.sink.prometheus.configuration.ThresholdOptions;
 import org.opensearch.dataprepper.plugins.sink.prometheus.dlq.DlqPushHandler;
 import org.opensearch.dataprepper.plugins.sink.prometheus.dlq.FailedDlqData;
 import org.opensearch.dataprepper.plugins.sink.prometheus.handler.BasicAuthPrometheusSinkHandler;
@@ -55,13 +60,14 @@ import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Date;
-import java.util.LinkedList;
 import java.util.Map;
 import java.util.List;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Objects;
 import java.util.concurrent.locks.Lock;
@@ -71,14 +77,13 @@ import java.util.regex.Pattern;
 import static org.opensearch.dataprepper.plugins.sink.prometheus.handler.BearerTokenAuthPrometheusSinkHandler.AUTHORIZATION;
 
 /**
- * This service class contains logic for sending data to Http Endpoints
+ * This service class contains logic for sending data to Http Endpoints. The samples of the metric events are
+ * accumulated into a single remote write request, which is sent once one of the configured thresholds is reached.
  */
 public class PrometheusSinkService {
 
     private static final Logger LOG = LoggerFactory.getLogger(PrometheusSinkService.class);
 
-    private final Collection<EventHandle> bufferedEventHandles;
-
     private final PrometheusSinkConfiguration prometheusSinkConfiguration;
 
     private final Map<String,HttpAuthOptions> httpAuthOptions;
@@ -87,6 +92,20 @@ public class PrometheusSinkService {
 
     private final Lock reentrantLock;
 
+    private final Clock clock;
+
+    private final int maximumEvents;
+
+    private final long maximumSizeBytes;
+
+    private final Duration eventCollectTimeout;
+
+    private final BoundedAsyncDispatcher<RemoteWriteBatch> remoteWriteDispatcher;
+
+    private final CloseableHttpClient httpClient;
+
+    private RemoteWriteBatch currentBatch;
+
     private final HttpClientBuilder httpClientBuilder;
 
     private final OAuthAccessTokenManager oAuthAccessTokenManager;
@@ -112,15 +131,36 @@ public class PrometheusSinkService {
 
     public static final String PROMETHEUS_SINK_RECORDS_FAILED_COUNTER = "prometheusSinkRecordsFailedToPushEndPoint";
 
+    public static final String REMOTE_WRITE_REQUESTS_IN_FLIGHT = "remoteWriteRequestsInFlight";
+
+    private static final Duration IN_FLIGHT_REQUESTS_SHUTDOWN_TIMEOUT = Duration.ofMinutes(1);
+
+    private static final String METRIC_EVENT_TYPE = "METRIC";
+
+    private static final String METRIC_NAME_LABEL = "__name__";
+
     public PrometheusSinkService(final PrometheusSinkConfiguration prometheusSinkConfiguration,
                                  final DlqPushHandler dlqPushHandler,
                                  final HttpClientBuilder httpClientBuilder,
                                  final PluginMetrics pluginMetrics,
                                  final PluginSetting httpPluginSetting){
+        this(prometheusSinkConfiguration, dlqPushHandler, httpClientBuilder, pluginMetrics, httpPluginSetting, Clock.systemUTC());
+    }
+
+    PrometheusSinkService(final PrometheusSinkConfiguration prometheusSinkConfiguration,
+                          final DlqPushHandler dlqPushHandler,
+                          final HttpClientBuilder httpClientBuilder,
+                          final PluginMetrics pluginMetrics,
+                          final PluginSetting httpPluginSetting,
+                          final Clock clock){
         this.prometheusSinkConfiguration = prometheusSinkConfiguration;
         this.dlqPushHandler = dlqPushHandler;
         this.reentrantLock = new ReentrantLock();
-        this.bufferedEventHandles = new LinkedList<>();
+        this.clock = clock;
+        final ThresholdOptions thresholdOptions = prometheusSinkConfiguration.getThresholdOptions();
+        this.maximumEvents = thresholdOptions.getEventCount();
+        this.maximumSizeBytes = thresholdOptions.getMaximumSize().getBytes();
+        this.eventCollectTimeout = thresholdOptions.getEventCollectTimeOut();
         this.httpClientBuilder = httpClientBuilder;
         this.httpPluginSetting = httpPluginSetting;
         this.oAuthAccessTokenManager = new OAuthAccessTokenManager();
@@ -143,103 +183,117 @@ public class PrometheusSinkService {
         this.prometheusSinkRecordsSuccessCounter = pluginMetrics.counter(PROMETHEUS_SINK_RECORDS_SUCCESS_COUNTER);
         this.prometheusSinkRecordsFailedCounter = pluginMetrics.counter(PROMETHEUS_SINK_RECORDS_FAILED_COUNTER);
         this.httpAuthOptions = buildAuthHttpSinkObjectsByConfig(prometheusSinkConfiguration);
+        this.httpClient = httpAuthOptions.get(prometheusSinkConfiguration.getUrl()).getHttpClientBuilder().build();
+        // Concurrent requests can arrive out of order, so samples are only guaranteed to be sent in order when max_in_flight_requests is 0.
+        this.remoteWriteDispatcher = new BoundedAsyncDispatcher<>(
+                prometheusSinkConfiguration.getMaxInFlightRequests(), this::sendBatch, "prometheus-sink-remote-write");
+        pluginMetrics.gauge(REMOTE_WRITE_REQUESTS_IN_FLIGHT, remoteWriteDispatcher, BoundedAsyncDispatcher::getInFlightRequests);
     }
 
     /**
-     * This method process buffer records and send to Http End points based on configured codec
+     * This method adds the samples of the metric events to the current remote write request and sends the request
+     * when a threshold is reached. It is also called without records, so that samples are not held beyond the
+     * event collect timeout.
      * @param records Collection of Event
      */
     public void output(final Collection<Record<Event>> records) {
         reentrantLock.lock();
         try {
-            records.forEach(record -> {
+            for (final Record<Event> record : records) {
                 final Event event = record.getData();
-                byte[] bytes = null;
-                if (event.getMetadata().getEventType().equals("METRIC")) {
-                    Remote.WriteRequest message = null;
-                    if (event instanceof JacksonGauge) {
-                        final JacksonGauge jacksonGauge = (JacksonGauge) event;
-                        message = buildRemoteWriteRequest(jacksonGauge.getTime(),
-                                jacksonGauge.getStartTime(), jacksonGauge.getValue(), jacksonGauge.getAttributes(),jacksonGauge.getName());
-                    } else if (event instanceof JacksonSum) {
-                        final JacksonSum jacksonSum = (JacksonSum) event;
-                        message = buildRemoteWriteRequest(jacksonSum.getTime(),
-                                jacksonSum.getStartTime(), jacksonSum.getValue(), jacksonSum.getAttributes(), jacksonSum.getName());
-                    } else if (event instanceof JacksonSummary) {
-                        final JacksonSummary jacksonSummary = (JacksonSummary) event;
-                        message = buildRemoteWriteRequest(jacksonSummary.getTime(),
-                                jacksonSummary.getStartTime(), jacksonSummary.getSum(), jacksonSummary.getAttributes(), jacksonSummary.getName());
-                    } else if (event instanceof JacksonHistogram) {
-                        final JacksonHistogram jacksonHistogram = (JacksonHistogram) event;
-                        message = buildRemoteWriteRequest(jacksonHistogram.getTime(),
-                                jacksonHistogram.getStartTime(), jacksonHistogram.getSum(), jacksonHistogram.getAttributes(), jacksonHistogram.getName());
-                    } else if (event instanceof JacksonExponentialHistogram) {
-                        final JacksonExponentialHistogram jacksonExpHistogram = (JacksonExponentialHistogram) event;
-                        message = buildRemoteWriteRequest(jacksonExpHistogram.getTime(),
-                                jacksonExpHistogram.getStartTime(), jacksonExpHistogram.getSum(), jacksonExpHistogram.getAttributes(), jacksonExpHistogram.getName());
-                    } else {
-                        LOG.error("No valid Event type found");
-                    }
-                    if( message.toByteArray() != null)
-                        bytes = message.toByteArray();
+                if (currentBatch == null) {
+                    currentBatch = new RemoteWriteBatch(clock.instant());
+                }
+                if (METRIC_EVENT_TYPE.equals(event.getMetadata().getEventType())) {
+                    addSample(event, currentBatch);
                 }
-                if (event.getEventHandle() != null) {
-                    this.bufferedEventHandles.add(event.getEventHandle());
+                currentBatch.addEvent(event.getEventHandle());
+                if (currentBatch.getSampleCount() >= maximumEvents || currentBatch.getEstimatedSizeBytes() >= maximumSizeBytes) {
+                    flush();
                 }
-                if(bytes != null){
-                    HttpEndPointResponse failedHttpEndPointResponses = pushToEndPoint(bytes);
-
-                    if (failedHttpEndPointResponses != null) {
-                        logFailedData(failedHttpEndPointResponses);
-                        releaseEventHandles(Boolean.FALSE);
-                    } else {
-                        LOG.info("data pushed to the end point successfully");
-                        releaseEventHandles(Boolean.TRUE);
-                    }
-                }});
-
-        }finally {
+            }
+            if (currentBatch != null && currentBatch.getAge(clock.instant()).compareTo(eventCollectTimeout) >= 0) {
+                flush();
+            }
+        } finally {
             reentrantLock.unlock();
         }
     }
 
     /**
-     * * This method build Remote.WriteRequest
-     *  @param time time
-     *  @param startTime start time
-     *  @param value value
-     *  @param attributeMap attributes
-     *  @param metricName metricName
+     * Sends the samples which have not been sent yet and waits for the in-flight remote write requests.
      */
-    private static Remote.WriteRequest buildRemoteWriteRequest(final String time, final String startTime,
-                                                               final Double value, final Map<String, Object> attributeMap, final String metricName) {
-        final Remote.WriteRequest.Builder writeRequestBuilder = Remote.WriteRequest.newBuilder();
+    public void shutdown() {
+        reentrantLock.lock();
+        try {
+            flush();
+        } finally {
+            reentrantLock.unlock();
+        }
+        remoteWriteDispatcher.shutdown(IN_FLIGHT_REQUESTS_SHUTDOWN_TIMEOUT);
+        try {
+            httpClient.close();
+        } catch (final IOException e) {
+            LOG.warn("Failed to close the http client.", e);
+        }
+    }
 
-        final Types.TimeSeries.Builder timeSeriesBuilder = Types.TimeSeries.newBuilder();
+    private void flush() {
+        if (currentBatch == null || currentBatch.isEmpty()) {
+            return;
+        }
+        final RemoteWriteBatch batch = currentBatch;
+        currentBatch = null;
+        remoteWriteDispatcher.dispatch(batch);
+    }
 
-        final List<Types.Label> arrayList = new ArrayList<>();
+    /**
+     * * This method adds the sample of a metric event to the time series with the same labels
+     *  @param event metric event
+     *  @param batch the remote write request being accumulated
+     */
+    private static void addSample(final Event event, final RemoteWriteBatch batch) {
+        if (event instanceof JacksonGauge) {
+            final JacksonGauge jacksonGauge = (JacksonGauge) event;
+            addSample(batch, jacksonGauge.getTime(), jacksonGauge.getStartTime(), jacksonGauge.getValue(),
+                    jacksonGauge.getAttributes(), jacksonGauge.getName());
+        } else if (event instanceof JacksonSum) {
+            final JacksonSum jacksonSum = (JacksonSum) event;
+            addSample(batch, jacksonSum.getTime(), jacksonSum.getStartTime(), jacksonSum.getValue(),
+                    jacksonSum.getAttributes(), jacksonSum.getName());
+        } else if (event instanceof JacksonSummary) {
+            final JacksonSummary jacksonSummary = (JacksonSummary) event;
+            addSample(batch, jacksonSummary.getTime(), jacksonSummary.getStartTime(), jacksonSummary.getSum(),
+                    jacksonSummary.getAttributes(), jacksonSummary.getName());
+        } else if (event instanceof JacksonHistogram) {
+            final JacksonHistogram jacksonHistogram = (JacksonHistogram) event;
+            addSample(batch, jacksonHistogram.getTime(), jacksonHistogram.getStartTime(), jacksonHistogram.getSum(),
+                    jacksonHistogram.getAttributes(), jacksonHistogram.getName());
+        } else if (event instanceof JacksonExponentialHistogram) {
+            final JacksonExponentialHistogram jacksonExpHistogram = (JacksonExponentialHistogram) event;
+            addSample(batch, jacksonExpHistogram.getTime(), jacksonExpHistogram.getStartTime(), jacksonExpHistogram.getSum(),
+                    jacksonExpHistogram.getAttributes(), jacksonExpHistogram.getName());
+        } else {
+            LOG.error("No valid Event type found");
+        }
+    }
+
+    private static void addSample(final RemoteWriteBatch batch, final String time, final String startTime,
+                                  final Double value, final Map<String, Object> attributeMap, final String metricName) {
+        final List<Types.Label> labels = new ArrayList<>();
 
-        setMetricName(metricName, arrayList);
-        prepareLabelList(attributeMap, arrayList);
+        setMetricName(metricName, labels);
+        prepareLabelList(attributeMap, labels);
+        labels.sort(Comparator.comparing(Types.Label::getName));
 
-        final Types.Sample.Builder prometheusSampleBuilder = Types.Sample.newBuilder();
-        long timeStampVal;
+        final long timeStampVal;
         if (time != null) {
             timeStampVal = getTimeStampVal(time);
         } else {
             timeStampVal = getTimeStampVal(startTime);
         }
 
-        prometheusSampleBuilder.setValue(value).setTimestamp(timeStampVal);
-        final Types.Sample prometheusSample = prometheusSampleBuilder.build();
-
-        timeSeriesBuilder.addAllLabels(arrayList);
-        timeSeriesBuilder.addAllSamples(Arrays.asList(prometheusSample));
-
-        final Types.TimeSeries timeSeries = timeSeriesBuilder.build();
-        writeRequestBuilder.addAllTimeseries(Arrays.asList(timeSeries));
-
-        return writeRequestBuilder.build();
+        batch.addSample(labels, Types.Sample.newBuilder().setValue(value).setTimestamp(timeStampVal).build());
     }
 
     private static void prepareLabelList(final Map<String, Object> hashMap, final List<Types.Label> arrayList) {
@@ -291,42 +345,64 @@ public class PrometheusSinkService {
         logFailureForDlqObjects(failedDlqData);
     }
 
-    private void releaseEventHandles(final boolean result) {
-        for (final EventHandle eventHandle : bufferedEventHandles) {
+    /**
+     * * This method sends a remote write request with the accumulated samples and releases the event handles
+     *  @param batch the accumulated remote write request
+     */
+    private void sendBatch(final RemoteWriteBatch batch) {
+        if (!batch.hasSamples()) {
+            releaseEventHandles(batch, true);
+            return;
+        }
+        final HttpEndPointResponse failedHttpEndPointResponses = pushToEndPoint(batch.toWriteRequest().toByteArray(), batch.getSampleCount());
+        if (failedHttpEndPointResponses != null) {
+            logFailedData(failedHttpEndPointResponses);
+            releaseEventHandles(batch, false);
+        } else {
+            releaseEventHandles(batch, true);
+        }
+    }
+
+    private static void releaseEventHandles(final RemoteWriteBatch batch, final boolean result) {
+        for (final EventHandle eventHandle : batch.getEventHandles()) {
             eventHandle.release(result);
         }
-        bufferedEventHandles.clear();
     }
 
     /**
      * * This method pushes bufferData to configured HttpEndPoints
      *  @param data byte[] data.
+     *  @param sampleCount number of samples in the data.
      */
-    private HttpEndPointResponse pushToEndPoint(final byte[] data) {
+    private HttpEndPointResponse pushToEndPoint(final byte[] data, final int sampleCount) {
         HttpEndPointResponse httpEndPointResponses = null;
         final ClassicRequestBuilder classicHttpRequestBuilder =
                 httpAuthOptions.get(prometheusSinkConfiguration.getUrl()).getClassicHttpRequestBuilder();
 
-        classicHttpRequestBuilder.addHeader("Content-Encoding", prometheusSinkConfiguration.getEncoding());
-        classicHttpRequestBuilder.addHeader("Content-Type", prometheusSinkConfiguration.getContentType());
-        classicHttpRequestBuilder.addHeader("X-Prometheus-Remote-Write-Version", prometheusSinkConfiguration.getRemoteWriteVersion());
-
         try {
             final byte[] compressedBufferData = Snappy.compress(data);
             final HttpEntity entity = new ByteArrayEntity(compressedBufferData,
                     ContentType.create(prometheusSinkConfiguration.getContentType()), prometheusSinkConfiguration.getEncoding());
 
-            classicHttpRequestBuilder.setEntity(entity);
-            if(AuthTypeOptions.BEARER_TOKEN.equals(prometheusSinkConfiguration.getAuthType()))
-                accessTokenIfExpired(prometheusSinkConfiguration.getAuthentication().getBearerTokenOptions().getTokenExpired(),prometheusSinkConfiguration.getUrl());
+            final ClassicHttpRequest request;
+            synchronized (classicHttpRequestBuilder) {
+                if(AuthTypeOptions.BEARER_TOKEN.equals(prometheusSinkConfiguration.getAuthType()))
+                    accessTokenIfExpired(prometheusSinkConfiguration.getAuthentication().getBearerTokenOptions().getTokenExpired(),prometheusSinkConfiguration.getUrl());
+                request = classicHttpRequestBuilder
+                        .setHeader("Content-Encoding", prometheusSinkConfiguration.getEncoding())
+                        .setHeader("Content-Type", prometheusSinkConfiguration.getContentType())
+                        .setHeader("X-Prometheus-Remote-Write-Version", prometheusSinkConfiguration.getRemoteWriteVersion())
+                        .setEntity(entity)
+                        .build();
+            }
 
-            httpAuthOptions.get(prometheusSinkConfiguration.getUrl()).getHttpClientBuilder().build()
-                    .execute(classicHttpRequestBuilder.build(), HttpClientContext.create());
-            LOG.info("Records successfully pushed to endpoint {}", prometheusSinkConfiguration.getUrl());
-            prometheusSinkRecordsSuccessCounter.increment();
+            try (final CloseableHttpResponse response = httpClient.execute(request, HttpClientContext.create())) {
+                EntityUtils.consume(response.getEntity());
+            }
+            LOG.debug("{} samples successfully pushed to endpoint {}", sampleCount, prometheusSinkConfiguration.getUrl());
+            prometheusSinkRecordsSuccessCounter.increment(sampleCount);
         } catch (IOException e) {
-            prometheusSinkRecordsFailedCounter.increment();
-            LOG.info("Records failed to push endpoint {}");
+            prometheusSinkRecordsFailedCounter.increment(sampleCount);
             LOG.error("Exception while pushing buffer data to end point. URL : {}, Exception : ", prometheusSinkConfiguration.getUrl(), e);
             httpEndPointResponses = new HttpEndPointResponse(prometheusSinkConfiguration.getUrl(), HttpStatus.SC_INTERNAL_SERVER_ERROR, e.getMessage());
         }
@@ -447,7 +523,7 @@ public class PrometheusSinkService {
 
     private static void setMetricName(final String metricName, final List<Types.Label> arrayList) {
         final Types.Label.Builder labelBuilder = Types.Label.newBuilder();
-        labelBuilder.setName("__name__").setValue(metricName);
+        labelBuilder.setName(METRIC_NAME_LABEL).setValue(metricName);
         final Types.Label label = labelBuilder.build();
         arrayList.add(label);
     }
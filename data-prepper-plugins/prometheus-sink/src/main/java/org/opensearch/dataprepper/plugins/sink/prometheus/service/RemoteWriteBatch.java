@@ -0,0 +1,113 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.dataprepper.plugins.sink.prometheus.service;
+
+import com.arpnetworking.metrics.prometheus.Remote;
+import com.arpnetworking.metrics.prometheus.Types;
+import org.opensearch.dataprepper.model.event.EventHandle;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Accumulates the samples of many metric events into a single remote write request. Samples with the same
+ * labels share one time series, so the labels of a series are only written once per request. The samples
+ * of each time series are sent in timestamp order, since remote write endpoints reject out-of-order samples.
+ */
+class RemoteWriteBatch {
+    private static final int FIELD_OVERHEAD_BYTES = 6;
+    private static final Comparator<Types.Sample> SAMPLE_TIMESTAMP_ORDER = Comparator.comparingLong(Types.Sample::getTimestamp);
+
+    private final Map<List<Types.Label>, Types.TimeSeries.Builder> timeSeriesByLabels = new LinkedHashMap<>();
+    private final List<EventHandle> eventHandles = new ArrayList<>();
+    private final Instant createdTime;
+    private int sampleCount;
+    private int eventCount;
+    private long estimatedSizeBytes;
+
+    RemoteWriteBatch(final Instant createdTime) {
+        this.createdTime = createdTime;
+    }
+
+    /**
+     * Adds a sample to the time series with the given labels.
+     *
+     * @param labels the labels of the time series, sorted by name
+     * @param sample the sample to add
+     */
+    void addSample(final List<Types.Label> labels, final Types.Sample sample) {
+        Types.TimeSeries.Builder timeSeriesBuilder = timeSeriesByLabels.get(labels);
+        if (timeSeriesBuilder == null) {
+            timeSeriesBuilder = Types.TimeSeries.newBuilder().addAllLabels(labels);
+            timeSeriesByLabels.put(labels, timeSeriesBuilder);
+            for (final Types.Label label : labels) {
+                estimatedSizeBytes += label.getSerializedSize() + FIELD_OVERHEAD_BYTES;
+            }
+        }
+        timeSeriesBuilder.addSamples(sample);
+        estimatedSizeBytes += sample.getSerializedSize() + FIELD_OVERHEAD_BYTES;
+        sampleCount++;
+    }
+
+    /**
+     * Counts an event towards this batch. The event handle, if any, is released once the batch is sent.
+     *
+     * @param eventHandle the handle of the event, or null
+     */
+    void addEvent(final EventHandle eventHandle) {
+        eventCount++;
+        if (eventHandle != null) {
+            eventHandles.add(eventHandle);
+        }
+    }
+
+    boolean isEmpty() {
+        return eventCount == 0;
+    }
+
+    boolean hasSamples() {
+        return sampleCount > 0;
+    }
+
+    int getSampleCount() {
+        return sampleCount;
+    }
+
+    int getEventCount() {
+        return eventCount;
+    }
+
+    int getTimeSeriesCount() {
+        return timeSeriesByLabels.size();
+    }
+
+    long getEstimatedSizeBytes() {
+        return estimatedSizeBytes;
+    }
+
+    Duration getAge(final Instant now) {
+        return Duration.between(createdTime, now);
+    }
+
+    List<EventHandle> getEventHandles() {
+        return Collections.unmodifiableList(eventHandles);
+    }
+
+    Remote.WriteRequest toWriteRequest() {
+        final Remote.WriteRequest.Builder writeRequestBuilder = Remote.WriteRequest.newBuilder();
+        for (final Types.TimeSeries.Builder timeSeriesBuilder : timeSeriesByLabels.values()) {
+            final List<Types.Sample> samples = new ArrayList<>(timeSeriesBuilder.getSamplesList());
+            samples.sort(SAMPLE_TIMESTAMP_ORDER);
+            writeRequestBuilder.addTimeseries(timeSeriesBuilder.clearSamples().addAllSamples(samples));
+        }
+        return writeRequestBuilder.build();
+    }
+}
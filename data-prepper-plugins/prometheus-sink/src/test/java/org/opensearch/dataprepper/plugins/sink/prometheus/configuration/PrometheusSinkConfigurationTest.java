@@ -137,6 +137,35 @@ public class PrometheusSinkConfigurationTest {
     @Test
     void get_acm_cert_issue_time_out_millis_test() {assertThat(new PrometheusSinkConfiguration().getAcmCertIssueTimeOutMillis(), equalTo(new Long(PrometheusSinkConfiguration.DEFAULT_ACM_CERT_ISSUE_TIME_OUT_MILLIS)));}
 
+    @Test
+    void default_threshold_options_test() {
+        final ThresholdOptions thresholdOptions = new PrometheusSinkConfiguration().getThresholdOptions();
+        assertThat(thresholdOptions.getEventCount(), equalTo(ThresholdOptions.DEFAULT_EVENT_COUNT));
+        assertThat(thresholdOptions.getMaximumSize().getBytes(), equalTo(1024L * 1024L));
+        assertThat(thresholdOptions.getEventCollectTimeOut(), equalTo(ThresholdOptions.DEFAULT_EVENT_COLLECT_TIMEOUT));
+    }
+
+    @Test
+    void default_max_in_flight_requests_test() {
+        assertThat(new PrometheusSinkConfiguration().getMaxInFlightRequests(), equalTo(PrometheusSinkConfiguration.DEFAULT_MAX_IN_FLIGHT_REQUESTS));
+    }
+
+    @Test
+    void threshold_and_max_in_flight_requests_test() throws JsonProcessingException {
+        final String SINK_YAML =
+                "        url: \"http://localhost:8080/test\"\n" +
+                "        max_in_flight_requests: 4\n" +
+                "        threshold:\n" +
+                "          event_count: 500\n" +
+                "          maximum_size: 2mb\n";
+        final PrometheusSinkConfiguration prometheusSinkConfiguration = objectMapper.readValue(SINK_YAML, PrometheusSinkConfiguration.class);
+
+        assertThat(prometheusSinkConfiguration.getMaxInFlightRequests(), equalTo(4));
+        assertThat(prometheusSinkConfiguration.getThresholdOptions().getEventCount(), equalTo(500));
+        assertThat(prometheusSinkConfiguration.getThresholdOptions().getMaximumSize().getBytes(), equalTo(2L * 1024L * 1024L));
+        assertThat(prometheusSinkConfiguration.getThresholdOptions().getEventCollectTimeOut(), equalTo(ThresholdOptions.DEFAULT_EVENT_COLLECT_TIMEOUT));
+    }
+
     @Test
     void http_sink_pipeline_test_with_provided_config_options() throws JsonProcessingException {
         final PrometheusSinkConfiguration prometheusSinkConfiguration = objectMapper.readValue(SINK_YAML, PrometheusSinkConfiguration.class);
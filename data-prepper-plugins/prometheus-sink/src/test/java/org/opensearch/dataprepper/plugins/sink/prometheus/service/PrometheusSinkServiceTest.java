@@ -4,6 +4,8 @@
  */
 package org.opensearch.dataprepper.plugins.sink.prometheus.service;
 
+import com.arpnetworking.metrics.prometheus.Remote;
+import com.arpnetworking.metrics.prometheus.Types;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
@@ -15,14 +17,17 @@ import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.protocol.HttpClientContext;
 import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.opensearch.dataprepper.aws.api.AwsCredentialsSupplier;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.event.DefaultEventMetadata;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventHandle;
 import org.opensearch.dataprepper.model.event.EventMetadata;
 import org.opensearch.dataprepper.model.metric.JacksonGauge;
 import org.opensearch.dataprepper.model.metric.JacksonHistogram;
@@ -34,17 +39,28 @@ import org.opensearch.dataprepper.plugins.sink.prometheus.configuration.AuthType
 import org.opensearch.dataprepper.plugins.sink.prometheus.configuration.AuthenticationOptions;
 import org.opensearch.dataprepper.plugins.sink.prometheus.configuration.PrometheusSinkConfiguration;
 import org.opensearch.dataprepper.plugins.sink.prometheus.dlq.DlqPushHandler;
+import org.opensearch.dataprepper.plugins.sink.prometheus.dlq.FailedDlqData;
 import org.opensearch.dataprepper.test.helper.ReflectivelySetField;
+import org.xerial.snappy.Snappy;
 
 import java.io.IOException;
+import java.time.Clock;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.lenient;
@@ -121,9 +137,23 @@ public class PrometheusSinkServiceTest {
         lenient().when(closeableHttpClient.execute(any(ClassicHttpRequest.class),any(HttpClientContext.class))).thenReturn(closeableHttpResponse);
         when(pluginMetrics.counter(PrometheusSinkService.PROMETHEUS_SINK_RECORDS_SUCCESS_COUNTER)).thenReturn(prometheusSinkRecordsSuccessCounter);
         when(pluginMetrics.counter(PrometheusSinkService.PROMETHEUS_SINK_RECORDS_FAILED_COUNTER)).thenReturn(prometheusSinkRecordsFailedCounter);
+        this.clock = mock(Clock.class);
+        lenient().when(clock.instant()).thenReturn(Instant.parse("2023-09-01T00:00:00Z"));
 
     }
 
+    private Clock clock;
+
+    PrometheusSinkService createObjectUnderTest(final Clock clock, final PrometheusSinkConfiguration httpSinkConfig) {
+        return new PrometheusSinkService(
+                httpSinkConfig,
+                dlqPushHandler,
+                httpClientBuilder,
+                pluginMetrics,
+                pluginSetting,
+                clock);
+    }
+
     PrometheusSinkService createObjectUnderTest(final int eventCount, final PrometheusSinkConfiguration httpSinkConfig) throws NoSuchFieldException, IllegalAccessException {
         return new PrometheusSinkService(
                 httpSinkConfig,
@@ -264,4 +294,125 @@ public class PrometheusSinkServiceTest {
         Collection<Record<Event>> records = List.of();
         objectUnderTest.output(records);
     }
+
+    @Test
+    void output_groups_the_samples_of_all_events_into_one_remote_write_request() throws Exception {
+        final PrometheusSinkService objectUnderTest = createObjectUnderTest(clock, prometheusSinkConfiguration);
+
+        objectUnderTest.output(List.of(
+                gaugeRecord("requests", Map.of("host", "a", "az", "1"), 1.0, null),
+                gaugeRecord("requests", Map.of("host", "b", "az", "1"), 2.0, null),
+                gaugeRecord("requests", Map.of("host", "a", "az", "1"), 3.0, null)));
+        verify(closeableHttpClient, never()).execute(any(ClassicHttpRequest.class), any(HttpClientContext.class));
+
+        objectUnderTest.shutdown();
+
+        final List<ClassicHttpRequest> requests = captureRequests(1);
+        final Remote.WriteRequest writeRequest = Remote.WriteRequest.parseFrom(Snappy.uncompress(EntityUtils.toByteArray(requests.get(0).getEntity())));
+        assertThat(writeRequest.getTimeseriesCount(), equalTo(2));
+        assertThat(labelNames(writeRequest.getTimeseries(0)), contains("__name__", "az", "host"));
+        assertThat(writeRequest.getTimeseries(0).getSamplesCount(), equalTo(2));
+        assertThat(writeRequest.getTimeseries(1).getSamplesCount(), equalTo(1));
+        assertThat(requests.get(0).getHeaders("Content-Encoding").length, equalTo(1));
+        verify(prometheusSinkRecordsSuccessCounter).increment(3.0);
+    }
+
+    @Test
+    void output_sends_a_remote_write_request_when_the_event_count_is_reached() throws Exception {
+        final PrometheusSinkConfiguration configuration = objectMapper.readValue(SINK_YAML +
+                "        threshold:\n" +
+                "          event_count: 2\n", PrometheusSinkConfiguration.class);
+        final PrometheusSinkService objectUnderTest = createObjectUnderTest(clock, configuration);
+
+        final List<Record<Event>> records = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            records.add(gaugeRecord("requests", Map.of("host", "host-" + i), i, null));
+        }
+        objectUnderTest.output(records);
+
+        captureRequests(2);
+
+        objectUnderTest.shutdown();
+
+        captureRequests(3);
+    }
+
+    @Test
+    void output_sends_the_remote_write_request_after_the_event_collect_timeout() throws Exception {
+        final Instant startTime = Instant.parse("2023-09-01T00:00:00Z");
+        when(clock.instant()).thenReturn(startTime, startTime, startTime.plusSeconds(6));
+        final PrometheusSinkService objectUnderTest = createObjectUnderTest(clock, prometheusSinkConfiguration);
+
+        objectUnderTest.output(List.of(gaugeRecord("requests", Map.of("host", "a"), 1.0, null)));
+        verify(closeableHttpClient, never()).execute(any(ClassicHttpRequest.class), any(HttpClientContext.class));
+
+        objectUnderTest.output(List.of());
+
+        captureRequests(1);
+    }
+
+    @Test
+    void output_releases_event_handles_after_the_remote_write_request() throws Exception {
+        final EventHandle eventHandle = mock(EventHandle.class);
+        final PrometheusSinkService objectUnderTest = createObjectUnderTest(clock, prometheusSinkConfiguration);
+
+        objectUnderTest.output(List.of(gaugeRecord("requests", Map.of("host", "a"), 1.0, eventHandle)));
+        verify(eventHandle, never()).release(any(Boolean.class));
+
+        objectUnderTest.shutdown();
+
+        verify(eventHandle).release(true);
+    }
+
+    @Test
+    void failed_remote_write_request_releases_event_handles_and_sends_to_dlq() throws Exception {
+        final EventHandle eventHandle = mock(EventHandle.class);
+        when(closeableHttpClient.execute(any(ClassicHttpRequest.class), any(HttpClientContext.class))).thenThrow(new IOException("internal server error"));
+        final PrometheusSinkService objectUnderTest = createObjectUnderTest(clock, prometheusSinkConfiguration);
+
+        objectUnderTest.output(List.of(
+                gaugeRecord("requests", Map.of("host", "a"), 1.0, eventHandle),
+                gaugeRecord("requests", Map.of("host", "b"), 2.0, null)));
+        objectUnderTest.shutdown();
+
+        verify(eventHandle).release(false);
+        verify(prometheusSinkRecordsFailedCounter).increment(2.0);
+        verify(dlqPushHandler).perform(eq(pluginSetting), any(FailedDlqData.class));
+    }
+
+    @Test
+    void shutdown_without_records_does_not_send_a_remote_write_request() throws Exception {
+        final PrometheusSinkService objectUnderTest = createObjectUnderTest(clock, prometheusSinkConfiguration);
+
+        objectUnderTest.output(List.of());
+        objectUnderTest.shutdown();
+
+        verify(closeableHttpClient, never()).execute(any(ClassicHttpRequest.class), any(HttpClientContext.class));
+        verify(closeableHttpClient).close();
+    }
+
+    private List<ClassicHttpRequest> captureRequests(final int expectedRequests) throws IOException {
+        final ArgumentCaptor<ClassicHttpRequest> requestCaptor = ArgumentCaptor.forClass(ClassicHttpRequest.class);
+        verify(closeableHttpClient, times(expectedRequests)).execute(requestCaptor.capture(), any(HttpClientContext.class));
+        return requestCaptor.getAllValues();
+    }
+
+    private static List<String> labelNames(final Types.TimeSeries timeSeries) {
+        final List<String> labelNames = new ArrayList<>();
+        for (final Types.Label label : timeSeries.getLabelsList()) {
+            labelNames.add(label.getName());
+        }
+        return labelNames;
+    }
+
+    private static Record<Event> gaugeRecord(final String name, final Map<String, Object> attributes, final double value, final EventHandle eventHandle) {
+        final JacksonGauge gauge = mock(JacksonGauge.class);
+        when(gauge.getMetadata()).thenReturn(new DefaultEventMetadata.Builder().withEventType("METRIC").build());
+        when(gauge.getName()).thenReturn(name);
+        when(gauge.getTime()).thenReturn("2023-09-01T00:00:00.000Z");
+        when(gauge.getValue()).thenReturn(value);
+        when(gauge.getAttributes()).thenReturn(attributes);
+        lenient().when(gauge.getEventHandle()).thenReturn(eventHandle);
+        return new Record<>(gauge);
+    }
 }
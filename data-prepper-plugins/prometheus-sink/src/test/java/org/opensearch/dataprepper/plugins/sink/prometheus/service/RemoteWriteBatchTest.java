@@ -0,0 +1,111 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.dataprepper.plugins.sink.prometheus.service;
+
+import com.arpnetworking.metrics.prometheus.Remote;
+import com.arpnetworking.metrics.prometheus.Types;
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.event.EventHandle;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.mockito.Mockito.mock;
+
+class RemoteWriteBatchTest {
+    private static final Instant CREATED_TIME = Instant.parse("2023-09-01T00:00:00Z");
+
+    private static Types.Label label(final String name, final String value) {
+        return Types.Label.newBuilder().setName(name).setValue(value).build();
+    }
+
+    private static Types.Sample sample(final double value, final long timestamp) {
+        return Types.Sample.newBuilder().setValue(value).setTimestamp(timestamp).build();
+    }
+
+    @Test
+    void new_batch_is_empty() {
+        final RemoteWriteBatch objectUnderTest = new RemoteWriteBatch(CREATED_TIME);
+
+        assertThat(objectUnderTest.isEmpty(), equalTo(true));
+        assertThat(objectUnderTest.hasSamples(), equalTo(false));
+        assertThat(objectUnderTest.getEstimatedSizeBytes(), equalTo(0L));
+        assertThat(objectUnderTest.getEventHandles(), empty());
+        assertThat(objectUnderTest.toWriteRequest().getTimeseriesCount(), equalTo(0));
+    }
+
+    @Test
+    void addSample_groups_samples_with_the_same_labels_into_one_time_series() {
+        final List<Types.Label> requestLabels = List.of(label("__name__", "requests"), label("host", "a"));
+        final List<Types.Label> otherHostLabels = List.of(label("__name__", "requests"), label("host", "b"));
+        final RemoteWriteBatch objectUnderTest = new RemoteWriteBatch(CREATED_TIME);
+
+        objectUnderTest.addSample(requestLabels, sample(1, 1000));
+        objectUnderTest.addSample(otherHostLabels, sample(2, 1000));
+        objectUnderTest.addSample(List.of(label("__name__", "requests"), label("host", "a")), sample(3, 2000));
+
+        assertThat(objectUnderTest.getSampleCount(), equalTo(3));
+        assertThat(objectUnderTest.getTimeSeriesCount(), equalTo(2));
+
+        final Remote.WriteRequest writeRequest = objectUnderTest.toWriteRequest();
+        assertThat(writeRequest.getTimeseriesCount(), equalTo(2));
+        assertThat(writeRequest.getTimeseries(0).getLabelsList(), equalTo(requestLabels));
+        assertThat(writeRequest.getTimeseries(0).getSamplesList(), contains(sample(1, 1000), sample(3, 2000)));
+        assertThat(writeRequest.getTimeseries(1).getLabelsList(), equalTo(otherHostLabels));
+        assertThat(writeRequest.getTimeseries(1).getSamplesList(), contains(sample(2, 1000)));
+    }
+
+    @Test
+    void toWriteRequest_sorts_the_samples_of_each_time_series_by_timestamp() {
+        final List<Types.Label> labels = List.of(label("__name__", "requests"));
+        final RemoteWriteBatch objectUnderTest = new RemoteWriteBatch(CREATED_TIME);
+
+        objectUnderTest.addSample(labels, sample(3, 3000));
+        objectUnderTest.addSample(labels, sample(1, 1000));
+        objectUnderTest.addSample(labels, sample(2, 2000));
+
+        final Remote.WriteRequest writeRequest = objectUnderTest.toWriteRequest();
+        assertThat(writeRequest.getTimeseries(0).getSamplesList(), contains(sample(1, 1000), sample(2, 2000), sample(3, 3000)));
+        assertThat(objectUnderTest.toWriteRequest(), equalTo(writeRequest));
+    }
+
+    @Test
+    void estimated_size_is_at_least_the_serialized_size_of_the_write_request() {
+        final RemoteWriteBatch objectUnderTest = new RemoteWriteBatch(CREATED_TIME);
+        for (int i = 0; i < 100; i++) {
+            objectUnderTest.addSample(List.of(label("__name__", "requests"), label("host", "host-" + (i % 10))), sample(i, i));
+        }
+
+        assertThat(objectUnderTest.getEstimatedSizeBytes() >= objectUnderTest.toWriteRequest().getSerializedSize(), equalTo(true));
+        assertThat(objectUnderTest.getEstimatedSizeBytes(), greaterThan(0L));
+    }
+
+    @Test
+    void addEvent_counts_events_and_keeps_event_handles() {
+        final EventHandle eventHandle = mock(EventHandle.class);
+        final RemoteWriteBatch objectUnderTest = new RemoteWriteBatch(CREATED_TIME);
+
+        objectUnderTest.addEvent(eventHandle);
+        objectUnderTest.addEvent(null);
+
+        assertThat(objectUnderTest.isEmpty(), equalTo(false));
+        assertThat(objectUnderTest.hasSamples(), equalTo(false));
+        assertThat(objectUnderTest.getEventCount(), equalTo(2));
+        assertThat(objectUnderTest.getEventHandles(), contains(eventHandle));
+    }
+
+    @Test
+    void getAge_returns_the_time_since_the_batch_was_created() {
+        final RemoteWriteBatch objectUnderTest = new RemoteWriteBatch(CREATED_TIME);
+
+        assertThat(objectUnderTest.getAge(CREATED_TIME.plusSeconds(3)), equalTo(Duration.ofSeconds(3)));
+    }
+}
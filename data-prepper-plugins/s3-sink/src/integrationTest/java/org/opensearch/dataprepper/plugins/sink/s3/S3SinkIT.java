@@ -6,6 +6,7 @@
 package org.opensearch.dataprepper.plugins.sink.s3;
 
 import org.apache.commons.io.IOUtils;
+import org.hamcrest.Matcher;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -68,6 +69,7 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import static org.awaitility.Awaitility.await;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -84,6 +86,8 @@ import static org.mockito.Mockito.when;
 public class S3SinkIT {
     private static final Logger LOG = LoggerFactory.getLogger(S3SinkIT.class);
     private static final Random RANDOM = new Random();
+    private static final int MAX_CONCURRENT_UPLOADS = 16;
+    private static final Duration UPLOAD_TIMEOUT = Duration.ofMinutes(2);
 
     private static List<String> reusableRandomStrings;
 
@@ -170,6 +174,7 @@ public class S3SinkIT {
         when(s3SinkConfig.getDefaultBucket()).thenReturn(null);
         when(s3SinkConfig.getBucketOwners()).thenReturn(null);
         when(s3SinkConfig.getDefaultBucketOwner()).thenReturn(null);
+        when(s3SinkConfig.getMaxConcurrentUploads()).thenReturn(MAX_CONCURRENT_UPLOADS);
     }
 
     private S3Sink createObjectUnderTest() {
@@ -223,10 +228,7 @@ public class S3SinkIT {
 
         LOG.info("Listing S3 path prefix: {}", pathPrefix);
 
-        final ListObjectsV2Response listObjectsResponse = s3Client.listObjectsV2(ListObjectsV2Request.builder()
-                .bucket(bucketName)
-                .prefix(pathPrefix + "/")
-                .build());
+        final ListObjectsV2Response listObjectsResponse = listObjectsAfterUploads(pathPrefix + "/", equalTo(1));
 
         assertThat(listObjectsResponse.contents(), notNullValue());
         assertThat(listObjectsResponse.contents().size(), equalTo(1));
@@ -304,10 +306,7 @@ public class S3SinkIT {
         for (int folderNumber = 0; folderNumber < 100; folderNumber++) {
             LOG.info("Listing S3 path prefix: {}", staticPrefix + "folder-" + folderNumber + "/");
 
-            final ListObjectsV2Response listObjectsResponse = s3Client.listObjectsV2(ListObjectsV2Request.builder()
-                    .bucket(bucketName)
-                    .prefix(staticPrefix + "folder-" + folderNumber + "/")
-                    .build());
+            final ListObjectsV2Response listObjectsResponse = listObjectsAfterUploads(staticPrefix + "folder-" + folderNumber + "/", equalTo(1));
 
             assertThat(listObjectsResponse.contents(), notNullValue());
             assertThat(listObjectsResponse.contents().size(), equalTo(1));
@@ -392,10 +391,7 @@ public class S3SinkIT {
         for (int folderNumber = 0; folderNumber < 100; folderNumber++) {
             LOG.info("Listing S3 path prefix: {}", staticPrefix + "folder-" + folderNumber + "/");
 
-            final ListObjectsV2Response listObjectsResponse = s3Client.listObjectsV2(ListObjectsV2Request.builder()
-                    .bucket(bucketName)
-                    .prefix(staticPrefix + "folder-" + folderNumber + "/")
-                    .build());
+            final ListObjectsV2Response listObjectsResponse = listObjectsAfterUploads(staticPrefix + "folder-" + folderNumber + "/", greaterThanOrEqualTo(1));
 
             assertThat(listObjectsResponse.contents(), notNullValue());
             assertThat(listObjectsResponse.contents().size(), greaterThanOrEqualTo(1));
@@ -424,6 +420,18 @@ public class S3SinkIT {
         }
     }
 
+    /**
+     * Objects are uploaded in the background, so this waits until the expected number of objects exist.
+     */
+    private ListObjectsV2Response listObjectsAfterUploads(final String prefix, final Matcher<Integer> objectCountMatcher) {
+        return await().atMost(UPLOAD_TIMEOUT)
+                .until(() -> s3Client.listObjectsV2(ListObjectsV2Request.builder()
+                                .bucket(bucketName)
+                                .prefix(prefix)
+                                .build()),
+                        response -> objectCountMatcher.matches(response.contents().size()));
+    }
+
     private File decompressFileIfNecessary(OutputScenario outputScenario, CompressionScenario compressionScenario, String pathPrefix, File target) throws IOException {
 
         if (outputScenario.isCompressionInternal() || !compressionScenario.requiresDecompression())
@@ -98,6 +98,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -105,6 +107,8 @@ class S3SinkServiceIT {
 
     private static final String PATH_PREFIX = UUID.randomUUID() + "/%{yyyy}/%{MM}/%{dd}/";
     private static final int numberOfRecords = 2;
+    private static final int MAX_CONCURRENT_UPLOADS = 16;
+    private static final Duration UPLOAD_TIMEOUT = Duration.ofMinutes(1);
     private S3Client s3Client;
 
     private S3AsyncClient s3AsyncClient;
@@ -171,6 +175,7 @@ class S3SinkServiceIT {
         when(thresholdOptions.getMaximumSize()).thenReturn(ByteCount.parse("2mb"));
         when(thresholdOptions.getEventCollectTimeOut()).thenReturn(Duration.parse("PT3M"));
         when(s3SinkConfig.getThresholdOptions()).thenReturn(thresholdOptions);
+        when(s3SinkConfig.getMaxConcurrentUploads()).thenReturn(MAX_CONCURRENT_UPLOADS);
 
         lenient().when(pluginMetrics.counter(S3SinkService.OBJECTS_SUCCEEDED)).thenReturn(snapshotSuccessCounter);
         lenient().when(pluginMetrics.counter(S3SinkService.OBJECTS_FAILED)).thenReturn(snapshotFailedCounter);
@@ -194,6 +199,7 @@ class S3SinkServiceIT {
         int s3ObjectCountBeforeIngest = gets3ObjectCount();
         S3SinkService s3SinkService = createObjectUnderTest();
         s3SinkService.output(setEventQueue());
+        awaitSuccessfulUpload();
         int s3ObjectCountAfterIngest = gets3ObjectCount();
         assertThat(s3ObjectCountAfterIngest, equalTo(s3ObjectCountBeforeIngest + 1));
     }
@@ -212,6 +218,7 @@ class S3SinkServiceIT {
         Collection<Record<Event>> recordsData = setEventQueue();
 
         s3SinkService.output(recordsData);
+        awaitSuccessfulUpload();
         String objectData = new String(getS3Object());
 
         final ObjectMapper objectMapperForDeserialization = new ObjectMapper();
@@ -244,6 +251,7 @@ class S3SinkServiceIT {
         Collection<Record<Event>> recordsData = setEventQueue();
 
         s3SinkService.output(recordsData);
+        awaitSuccessfulUpload();
         byte[] s3ObjectBytes = getS3Object();
 
         ByteArrayInputStream s3ObjectInputStream = new ByteArrayInputStream(s3ObjectBytes);
@@ -279,6 +287,13 @@ class S3SinkServiceIT {
         return new S3SinkService(s3SinkConfig, codecContext, Duration.ofSeconds(5), pluginMetrics, s3GroupManager);
     }
 
+    /**
+     * Objects are uploaded in the background, so this waits until the upload has completed.
+     */
+    private void awaitSuccessfulUpload() {
+        verify(snapshotSuccessCounter, timeout(UPLOAD_TIMEOUT.toMillis())).increment();
+    }
+
     private int gets3ObjectCount() {
         int s3ObjectCount = 0;
         ListObjectsRequest listObjects = ListObjectsRequest.builder()
@@ -375,6 +390,7 @@ class S3SinkServiceIT {
         Collection<Record<Event>> recordsData = getRecordList();
 
         s3SinkService.output(recordsData);
+        awaitSuccessfulUpload();
 
         List<HashMap<String, Object>> actualRecords = createParquetRecordsList(new ByteArrayInputStream(getS3Object()));
         int index = 0;
@@ -50,6 +50,7 @@ public class S3Sink extends AbstractSink<Record<Event>> {
     private static final Logger LOG = LoggerFactory.getLogger(S3Sink.class);
 
     private static final Duration RETRY_FLUSH_BACKOFF = Duration.ofSeconds(5);
+    private static final Duration UPLOADS_SHUTDOWN_TIMEOUT = Duration.ofMinutes(1);
     private final S3SinkConfig s3SinkConfig;
     private volatile boolean sinkInitialized;
     private final S3SinkService s3SinkService;
@@ -156,4 +157,10 @@ public class S3Sink extends AbstractSink<Record<Event>> {
     public void doOutput(final Collection<Record<Event>> records) {
         s3SinkService.output(records);
     }
+
+    @Override
+    public void shutdown() {
+        super.shutdown();
+        s3SinkService.shutdown(UPLOADS_SHUTDOWN_TIMEOUT);
+    }
 }
@@ -7,6 +7,7 @@ package org.opensearch.dataprepper.plugins.sink.s3;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -29,6 +30,7 @@ public class S3SinkConfig {
 
     private static final int DEFAULT_CONNECTION_RETRIES = 5;
     private static final int DEFAULT_UPLOAD_RETRIES = 5;
+    private static final int DEFAULT_MAX_CONCURRENT_UPLOADS = 16;
 
     @JsonProperty("aws")
     @NotNull
@@ -77,6 +79,10 @@ public class S3SinkConfig {
     @JsonProperty("max_retries")
     private int maxUploadRetries = DEFAULT_UPLOAD_RETRIES;
 
+    @JsonProperty("max_concurrent_uploads")
+    @Min(1)
+    private int maxConcurrentUploads = DEFAULT_MAX_CONCURRENT_UPLOADS;
+
     @JsonProperty("bucket_owners")
     private Map<String, @AwsAccountId String> bucketOwners;
 
@@ -159,6 +165,14 @@ public class S3SinkConfig {
         return maxUploadRetries;
     }
 
+    /**
+     * The maximum number of S3 objects which are uploaded in the background at the same time.
+     * @return maximum concurrent uploads value.
+     */
+    public int getMaxConcurrentUploads() {
+        return maxConcurrentUploads;
+    }
+
     public CompressionOption getCompression() {
         return compression;
     }
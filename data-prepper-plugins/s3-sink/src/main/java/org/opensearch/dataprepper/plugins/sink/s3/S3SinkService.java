@@ -27,6 +27,8 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
@@ -48,7 +50,9 @@ public class S3SinkService {
     static final String NUMBER_OF_GROUPS_FORCE_FLUSHED = "s3SinkObjectsForceFlushed";
     static final String S3_OBJECTS_SIZE = "s3SinkObjectSizeBytes";
     private final S3SinkConfig s3SinkConfig;
-    private final Lock reentrantLock;
+    private final Lock aggregateThresholdLock;
+    private final Semaphore uploadPermits;
+    private final int maxConcurrentUploads;
     private final int maxEvents;
     private final ByteCount maxBytes;
     private final Duration maxCollectionDuration;
@@ -78,7 +82,9 @@ public class S3SinkService {
         this.s3SinkConfig = s3SinkConfig;
         this.codecContext = codecContext;
         this.retrySleepTime = retrySleepTime;
-        reentrantLock = new ReentrantLock();
+        aggregateThresholdLock = new ReentrantLock();
+        maxConcurrentUploads = s3SinkConfig.getMaxConcurrentUploads();
+        uploadPermits = new Semaphore(maxConcurrentUploads);
 
         maxEvents = s3SinkConfig.getThresholdOptions().getEventCount();
         maxBytes = s3SinkConfig.getThresholdOptions().getMaximumSize();
@@ -100,23 +106,24 @@ public class S3SinkService {
     }
 
     /**
+     * Writes the records into the buffers of their groups. Each group is locked separately, so workers writing
+     * to different groups do not wait on each other. Full buffers are uploaded in the background and the event
+     * handles are released when the upload completes, while new events are written into fresh buffers.
+     *
      * @param records received records and add into buffer.
      */
     void output(Collection<Record<Event>> records) {
-        // Don't acquire the lock if there's no work to be done
         if (records.isEmpty() && s3GroupManager.hasNoGroups()) {
             return;
         }
 
         List<Event> failedEvents = new ArrayList<>();
         Exception sampleException = null;
-        reentrantLock.lock();
-        try {
-            final List<CompletableFuture<?>> completableFutures = new ArrayList<>();
-            for (Record<Event> record : records) {
-                final Event event = record.getData();
+        for (Record<Event> record : records) {
+            final Event event = record.getData();
+            try {
+                final S3Group s3Group = s3GroupManager.getOrCreateLockedGroupForEvent(event);
                 try {
-                    final S3Group s3Group = s3GroupManager.getOrCreateGroupForEvent(event);
                     final Buffer currentBuffer = s3Group.getBuffer();
                     final OutputCodec codec = s3Group.getOutputCodec();
 
@@ -129,36 +136,38 @@ public class S3SinkService {
                     currentBuffer.setEventCount(count);
                     s3Group.addEventHandle(event.getEventHandle());
 
-                    flushToS3IfNeeded(completableFutures, s3Group, false);
-                } catch (Exception ex) {
-                    if(sampleException == null) {
-                        sampleException = ex;
-                    }
-
-                    failedEvents.add(event);
+                    flushToS3IfNeeded(s3Group, false);
+                } finally {
+                    s3Group.unlock();
+                }
+            } catch (Exception ex) {
+                if(sampleException == null) {
+                    sampleException = ex;
                 }
-            }
-
-            for (final S3Group s3Group : s3GroupManager.getS3GroupEntries()) {
-                flushToS3IfNeeded(completableFutures, s3Group, false);
-            }
 
-            if (s3SinkConfig.getAggregateThresholdOptions() != null) {
-                checkAggregateThresholdsAndFlushIfNeeded(completableFutures);
+                failedEvents.add(event);
             }
+        }
 
-            if (!completableFutures.isEmpty()) {
+        for (final S3Group s3Group : s3GroupManager.getS3GroupEntries()) {
+            // A group which is locked by another worker is being written to, and that worker checks its thresholds
+            if (s3Group.tryLock()) {
                 try {
-                    CompletableFuture.allOf(completableFutures.toArray(new CompletableFuture[0]))
-                            .thenRun(() -> LOG.debug("All {} requests to S3 have completed", completableFutures.size()))
-                            .join();
-                } catch (final Exception e) {
-                    LOG.warn("There was an exception while waiting for all requests to complete", e);
+                    if (!s3Group.isFlushed()) {
+                        flushToS3IfNeeded(s3Group, false);
+                    }
+                } finally {
+                    s3Group.unlock();
                 }
+            }
+        }
 
+        if (s3SinkConfig.getAggregateThresholdOptions() != null && aggregateThresholdLock.tryLock()) {
+            try {
+                checkAggregateThresholdsAndFlushIfNeeded();
+            } finally {
+                aggregateThresholdLock.unlock();
             }
-        } finally {
-            reentrantLock.unlock();
         }
 
         if(!failedEvents.isEmpty()) {
@@ -171,13 +180,16 @@ public class S3SinkService {
     }
 
     /**
+     * Flushes the group if it exceeds its thresholds. The caller must hold the lock of the group.
+     *
      * @return whether the flush was attempted
      */
-    private boolean flushToS3IfNeeded(final List<CompletableFuture<?>> completableFutures, final S3Group s3Group, final boolean forceFlush) {
+    private boolean flushToS3IfNeeded(final S3Group s3Group, final boolean forceFlush) {
         LOG.trace("Flush to S3 check: currentBuffer.size={}, currentBuffer.events={}, currentBuffer.duration={}",
                 s3Group.getBuffer().getSize(), s3Group.getBuffer().getEventCount(), s3Group.getBuffer().getDuration());
         if (forceFlush || ThresholdCheck.checkThresholdExceed(s3Group.getBuffer(), maxEvents, maxBytes, maxCollectionDuration)) {
 
+            s3Group.markFlushed();
             s3GroupManager.removeGroup(s3Group);
             try {
 
@@ -202,8 +214,7 @@ public class S3SinkService {
                     }
                 };
 
-                final Optional<CompletableFuture<?>> completableFuture = s3Group.getBuffer().flushToS3(consumeOnGroupCompletion, this::handleFailures);
-                completableFuture.ifPresent(completableFutures::add);
+                startUpload(s3Group, consumeOnGroupCompletion);
 
                 return true;
             } catch (final IOException e) {
@@ -214,11 +225,50 @@ public class S3SinkService {
         return false;
     }
 
+    /**
+     * Starts the upload of the buffer of the group without waiting for it to complete. This blocks only
+     * while the maximum number of concurrent uploads are in flight.
+     */
+    private void startUpload(final S3Group s3Group, final Consumer<Boolean> consumeOnGroupCompletion) {
+        uploadPermits.acquireUninterruptibly();
+        final Optional<CompletableFuture<?>> completableFuture;
+        try {
+            completableFuture = s3Group.getBuffer().flushToS3(consumeOnGroupCompletion, this::handleFailures);
+        } catch (final RuntimeException e) {
+            uploadPermits.release();
+            throw e;
+        }
+
+        if (completableFuture.isPresent()) {
+            completableFuture.get().whenComplete((result, throwable) -> uploadPermits.release());
+        } else {
+            uploadPermits.release();
+        }
+    }
+
+    /**
+     * Waits for the uploads which are in flight to complete, so their event handles are released before the
+     * sink shuts down.
+     *
+     * @param timeout the maximum time to wait for the uploads
+     */
+    void shutdown(final Duration timeout) {
+        try {
+            if (uploadPermits.tryAcquire(maxConcurrentUploads, timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                uploadPermits.release(maxConcurrentUploads);
+            } else {
+                LOG.warn("Timed out waiting for {} uploads to S3 to complete.", maxConcurrentUploads - uploadPermits.availablePermits());
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private void handleFailures(final Throwable e) {
         LOG.error("Exception occurred while uploading records to s3 bucket: {}", e.getMessage());
     }
 
-    private void checkAggregateThresholdsAndFlushIfNeeded(final List<CompletableFuture<?>> completableFutures) {
+    private void checkAggregateThresholdsAndFlushIfNeeded() {
         long currentTotalGroupSize = s3GroupManager.recalculateAndGetGroupSize();
         LOG.debug("Total groups size is {} bytes", currentTotalGroupSize);
 
@@ -231,8 +281,16 @@ public class S3SinkService {
             for (final S3Group s3Group : s3GroupManager.getS3GroupsSortedBySize()) {
                 LOG.info("Forcing a flush of object with key {} due to aggregate_threshold of {} bytes being reached", s3Group.getBuffer().getKey(), aggregateThresholdBytes);
 
-                final boolean flushed = flushToS3IfNeeded(completableFutures, s3Group, true);
-                numberOfObjectsForceFlushed.increment();
+                boolean flushed = false;
+                s3Group.lock();
+                try {
+                    if (!s3Group.isFlushed()) {
+                        flushed = flushToS3IfNeeded(s3Group, true);
+                        numberOfObjectsForceFlushed.increment();
+                    }
+                } finally {
+                    s3Group.unlock();
+                }
 
                 if (flushed) {
                     currentTotalGroupSize -= s3Group.getBuffer().getSize();
@@ -11,7 +11,13 @@ import org.opensearch.dataprepper.plugins.sink.s3.accumulator.Buffer;
 
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * A group of events which are written to the same S3 object. Writers must hold the lock of the group while
+ * writing to its buffer. Once a group has been flushed it no longer accepts events, and writers should get a
+ * new group from the {@link S3GroupManager}.
+ */
 public class S3Group implements Comparable<S3Group> {
 
     private final Buffer buffer;
@@ -22,6 +28,10 @@ public class S3Group implements Comparable<S3Group> {
 
     private final Collection<EventHandle> groupEventHandles;
 
+    private final ReentrantLock lock;
+
+    private boolean flushed;
+
     public S3Group(final S3GroupIdentifier s3GroupIdentifier,
                    final Buffer buffer,
                    final OutputCodec outputCodec) {
@@ -29,12 +39,55 @@ public class S3Group implements Comparable<S3Group> {
         this.s3GroupIdentifier = s3GroupIdentifier;
         this.outputCodec = outputCodec;
         this.groupEventHandles = new LinkedList<>();
+        this.lock = new ReentrantLock();
+        this.flushed = false;
+    }
+
+    public void lock() {
+        lock.lock();
+    }
+
+    public boolean tryLock() {
+        return lock.tryLock();
+    }
+
+    public void unlock() {
+        lock.unlock();
+    }
+
+    /**
+     * Whether the group has been flushed. This must be called while holding the lock of the group.
+     * @return true if the group has been flushed and no longer accepts events
+     */
+    public boolean isFlushed() {
+        return flushed;
+    }
+
+    /**
+     * Marks the group as flushed. This must be called while holding the lock of the group.
+     */
+    public void markFlushed() {
+        flushed = true;
     }
 
     public Buffer getBuffer() {
         return buffer;
     }
 
+    /**
+     * Returns the size of the buffer while holding the lock of the group, so the size is not read while
+     * another thread is writing events to the buffer.
+     * @return the size of the buffer in bytes
+     */
+    public long getBufferSize() {
+        lock.lock();
+        try {
+            return buffer.getSize();
+        } finally {
+            lock.unlock();
+        }
+    }
+
     public OutputCodec getOutputCodec() {
         return outputCodec;
     }
@@ -18,7 +18,8 @@ import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 
 import java.util.Collection;
-import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -61,38 +62,67 @@ public class S3GroupManager {
     public int getNumberOfGroups() { return allGroups.size(); }
 
     public void removeGroup(final S3Group s3Group) {
-        allGroups.remove(s3Group.getS3GroupIdentifier());
+        allGroups.remove(s3Group.getS3GroupIdentifier(), s3Group);
     }
 
     public Collection<S3Group> getS3GroupEntries() {
         return allGroups.values();
     }
 
+    /**
+     * Returns the groups from largest to smallest. The sizes are read once before sorting, so groups which are
+     * written to while sorting keep a consistent order.
+     */
     public Collection<S3Group> getS3GroupsSortedBySize() {
-        return allGroups.values().stream().sorted(Collections.reverseOrder()).collect(Collectors.toList());
+        final Map<S3Group, Long> groupSizes = new IdentityHashMap<>();
+        for (final S3Group s3Group : allGroups.values()) {
+            groupSizes.put(s3Group, s3Group.getBufferSize());
+        }
+        return groupSizes.keySet().stream()
+                .sorted(Comparator.comparingLong(groupSizes::get).reversed())
+                .collect(Collectors.toList());
     }
 
     public S3Group getOrCreateGroupForEvent(final Event event) {
 
         final S3GroupIdentifier s3GroupIdentifier = s3GroupIdentifierFactory.getS3GroupIdentifierForEvent(event);
 
-        if (allGroups.containsKey(s3GroupIdentifier)) {
-            return allGroups.get(s3GroupIdentifier);
-        } else {
-            final Buffer bufferForNewGroup =  bufferFactory.getBuffer(s3Client, s3GroupIdentifier::getFullBucketName, s3GroupIdentifier::getGroupIdentifierFullObjectKey, s3SinkConfig.getDefaultBucket(), bucketOwnerProvider);
-            final OutputCodec outputCodec = codecFactory.provideCodec();
-            final S3Group s3Group = new S3Group(s3GroupIdentifier, bufferForNewGroup, outputCodec);
-            allGroups.put(s3GroupIdentifier, s3Group);
-            LOG.debug("Created a new S3 group. Total number of groups: {}", allGroups.size());
-            return s3Group;
+        final S3Group existingGroup = allGroups.get(s3GroupIdentifier);
+        if (existingGroup != null) {
+            return existingGroup;
         }
+        return allGroups.computeIfAbsent(s3GroupIdentifier, this::createGroup);
+    }
+
+    /**
+     * Gets or creates the group for the event and locks it. A group which was flushed by another thread while
+     * waiting for its lock is skipped, so the returned group always accepts events.
+     * The caller must unlock the returned group.
+     */
+    public S3Group getOrCreateLockedGroupForEvent(final Event event) {
+        while (true) {
+            final S3Group s3Group = getOrCreateGroupForEvent(event);
+            s3Group.lock();
+            if (!s3Group.isFlushed()) {
+                return s3Group;
+            }
+            s3Group.unlock();
+        }
+    }
+
+    private S3Group createGroup(final S3GroupIdentifier s3GroupIdentifier) {
+        final Buffer bufferForNewGroup =  bufferFactory.getBuffer(s3Client, s3GroupIdentifier::getFullBucketName, s3GroupIdentifier::getGroupIdentifierFullObjectKey, s3SinkConfig.getDefaultBucket(), bucketOwnerProvider);
+        final OutputCodec outputCodec = codecFactory.provideCodec();
+        final S3Group s3Group = new S3Group(s3GroupIdentifier, bufferForNewGroup, outputCodec);
+        LOG.debug("Created a new S3 group. Total number of groups: {}", allGroups.size() + 1);
+        return s3Group;
     }
 
     public long recalculateAndGetGroupSize() {
         long totalSize = 0;
 
         for (final S3Group s3Group : allGroups.values()) {
-            totalSize += s3Group.getBuffer().getSize();
+            totalSize += s3Group.getBufferSize();
         }
 
         return totalSize;
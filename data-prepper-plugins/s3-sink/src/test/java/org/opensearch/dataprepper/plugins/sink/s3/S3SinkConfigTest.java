@@ -22,6 +22,7 @@ class S3SinkConfigTest {
 
     private static final int MAX_CONNECTION_RETRIES = 5;
     private static final int MAX_UPLOAD_RETRIES = 5;
+    private static final int MAX_CONCURRENT_UPLOADS = 16;
 
     @Test
     void default_buffer_type_option_test() {
@@ -38,6 +39,11 @@ class S3SinkConfigTest {
         assertThat(new S3SinkConfig().getMaxUploadRetries(), equalTo(MAX_UPLOAD_RETRIES));
     }
 
+    @Test
+    void default_max_concurrent_uploads_test() {
+        assertThat(new S3SinkConfig().getMaxConcurrentUploads(), equalTo(MAX_CONCURRENT_UPLOADS));
+    }
+
     @Test
     void get_bucket_name_test() throws NoSuchFieldException, IllegalAccessException {
         final String bucketName = UUID.randomUUID().toString();
@@ -12,7 +12,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
-import org.mockito.MockedStatic;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSet;
 import org.opensearch.dataprepper.model.codec.OutputCodec;
@@ -49,6 +48,8 @@ import java.util.Optional;
 import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -57,6 +58,7 @@ import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
@@ -64,7 +66,6 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -75,6 +76,7 @@ class S3SinkServiceTest {
 
     public static final int MAX_EVENTS = 10;
     public static final int MAX_RETRIES = 3;
+    public static final int MAX_CONCURRENT_UPLOADS = 100;
     public static final String BUCKET_NAME = UUID.randomUUID().toString();
     public static final String S3_REGION = "us-east-1";
     public static final String MAXIMUM_SIZE = "1kb";
@@ -127,6 +129,7 @@ class S3SinkServiceTest {
 
         when(objectKeyOptions.getNamePattern()).thenReturn(OBJECT_KEY_NAME_PATTERN);
         when(s3SinkConfig.getMaxUploadRetries()).thenReturn(MAX_RETRIES);
+        when(s3SinkConfig.getMaxConcurrentUploads()).thenReturn(MAX_CONCURRENT_UPLOADS);
         when(s3SinkConfig.getThresholdOptions()).thenReturn(thresholdOptions);
         when(s3SinkConfig.getThresholdOptions().getEventCount()).thenReturn(MAX_EVENTS);
         when(s3SinkConfig.getThresholdOptions().getMaximumSize()).thenReturn(ByteCount.parse(MAXIMUM_SIZE));
@@ -186,22 +189,18 @@ class S3SinkServiceTest {
         final Event event = JacksonEvent.fromMessage(UUID.randomUUID().toString());
 
         final S3Group s3Group = mock(S3Group.class);
+
+        when(s3Group.tryLock()).thenReturn(true);
         when(s3Group.getBuffer()).thenReturn(buffer);
         when(s3Group.getOutputCodec()).thenReturn(codec);
 
-        when(s3GroupManager.getOrCreateGroupForEvent(any(Event.class))).thenReturn(s3Group);
+        when(s3GroupManager.getOrCreateLockedGroupForEvent(any(Event.class))).thenReturn(s3Group);
         when(s3GroupManager.getS3GroupEntries()).thenReturn(Collections.singletonList(s3Group));
         doNothing().when(codec).writeEvent(event, outputStream);
         S3SinkService s3SinkService = createObjectUnderTest();
         assertNotNull(s3SinkService);
 
-        try (final MockedStatic<CompletableFuture> completableFutureMockedStatic = mockStatic(CompletableFuture.class)) {
-            final CompletableFuture<Void> mockCompletableFuture = mock(CompletableFuture.class);
-            when(mockCompletableFuture.thenRun(any(Runnable.class))).thenReturn(mockCompletableFuture);
-            when(mockCompletableFuture.join()).thenReturn(null);
-            completableFutureMockedStatic.when(() -> CompletableFuture.allOf(any())).thenReturn(mockCompletableFuture);
-            s3SinkService.output(generateRandomStringEventRecord());
-        }
+        s3SinkService.output(generateRandomStringEventRecord());
 
         final ArgumentCaptor<Consumer<Boolean>> argumentCaptorForCompletion = ArgumentCaptor.forClass(Consumer.class);
         verify(buffer, times(51)).flushToS3(argumentCaptorForCompletion.capture(), any(Consumer.class));
@@ -236,21 +235,16 @@ class S3SinkServiceTest {
         final OutputStream outputStream = mock(OutputStream.class);
         final Event event = JacksonEvent.fromMessage(UUID.randomUUID().toString());
         final S3Group s3Group = mock(S3Group.class);
+        when(s3Group.tryLock()).thenReturn(true);
         when(s3Group.getBuffer()).thenReturn(buffer);
         when(s3Group.getOutputCodec()).thenReturn(codec);
 
-        when(s3GroupManager.getOrCreateGroupForEvent(any(Event.class))).thenReturn(s3Group);
+        when(s3GroupManager.getOrCreateLockedGroupForEvent(any(Event.class))).thenReturn(s3Group);
         when(s3GroupManager.getS3GroupEntries()).thenReturn(Collections.singletonList(s3Group));
         doNothing().when(codec).writeEvent(event, outputStream);
         S3SinkService s3SinkService = createObjectUnderTest();
         assertNotNull(s3SinkService);
-        try (final MockedStatic<CompletableFuture> completableFutureMockedStatic = mockStatic(CompletableFuture.class)) {
-            final CompletableFuture<Void> mockCompletableFuture = mock(CompletableFuture.class);
-            when(mockCompletableFuture.thenRun(any(Runnable.class))).thenReturn(mockCompletableFuture);
-            when(mockCompletableFuture.join()).thenReturn(null);
-            completableFutureMockedStatic.when(() -> CompletableFuture.allOf(any())).thenReturn(mockCompletableFuture);
-            s3SinkService.output(generateRandomStringEventRecord());
-        }
+        s3SinkService.output(generateRandomStringEventRecord());
     }
 
     @Test
@@ -264,23 +258,18 @@ class S3SinkServiceTest {
         final OutputStream outputStream = mock(OutputStream.class);
         final Event event = JacksonEvent.fromMessage(UUID.randomUUID().toString());
         final S3Group s3Group = mock(S3Group.class);
+        when(s3Group.tryLock()).thenReturn(true);
         when(s3Group.getBuffer()).thenReturn(buffer);
         when(s3Group.getOutputCodec()).thenReturn(codec);
 
-        when(s3GroupManager.getOrCreateGroupForEvent(any(Event.class))).thenReturn(s3Group);
+        when(s3GroupManager.getOrCreateLockedGroupForEvent(any(Event.class))).thenReturn(s3Group);
         when(s3GroupManager.getS3GroupEntries()).thenReturn(Collections.singletonList(s3Group));
 
         doNothing().when(codec).writeEvent(event, outputStream);
         S3SinkService s3SinkService = createObjectUnderTest();
         assertNotNull(s3SinkService);
         assertThat(s3SinkService, instanceOf(S3SinkService.class));
-        try (final MockedStatic<CompletableFuture> completableFutureMockedStatic = mockStatic(CompletableFuture.class)) {
-            final CompletableFuture<Void> mockCompletableFuture = mock(CompletableFuture.class);
-            when(mockCompletableFuture.thenRun(any(Runnable.class))).thenReturn(mockCompletableFuture);
-            when(mockCompletableFuture.join()).thenReturn(null);
-            completableFutureMockedStatic.when(() -> CompletableFuture.allOf(any())).thenReturn(mockCompletableFuture);
-            s3SinkService.output(generateRandomStringEventRecord());
-        }
+        s3SinkService.output(generateRandomStringEventRecord());
     }
 
     @Test
@@ -297,21 +286,16 @@ class S3SinkServiceTest {
         final OutputStream outputStream = mock(OutputStream.class);
         final Event event = JacksonEvent.fromMessage(UUID.randomUUID().toString());
         final S3Group s3Group = mock(S3Group.class);
+        when(s3Group.tryLock()).thenReturn(true);
         when(s3Group.getBuffer()).thenReturn(buffer);
         when(s3Group.getOutputCodec()).thenReturn(codec);
 
-        when(s3GroupManager.getOrCreateGroupForEvent(any(Event.class))).thenReturn(s3Group);
+        when(s3GroupManager.getOrCreateLockedGroupForEvent(any(Event.class))).thenReturn(s3Group);
         when(s3GroupManager.getS3GroupEntries()).thenReturn(Collections.singletonList(s3Group));
 
         doNothing().when(codec).writeEvent(event, outputStream);
         final S3SinkService s3SinkService = createObjectUnderTest();
-        try (final MockedStatic<CompletableFuture> completableFutureMockedStatic = mockStatic(CompletableFuture.class)) {
-            final CompletableFuture<Void> mockCompletableFuture = mock(CompletableFuture.class);
-            when(mockCompletableFuture.thenRun(any(Runnable.class))).thenReturn(mockCompletableFuture);
-            when(mockCompletableFuture.join()).thenReturn(null);
-            completableFutureMockedStatic.when(() -> CompletableFuture.allOf(any())).thenReturn(mockCompletableFuture);
-            s3SinkService.output(generateRandomStringEventRecord());
-        }
+        s3SinkService.output(generateRandomStringEventRecord());
     }
 
     @Test
@@ -327,10 +311,12 @@ class S3SinkServiceTest {
                 .thenReturn(outputStream2);
 
         final S3Group s3Group = mock(S3Group.class);
+
+        when(s3Group.tryLock()).thenReturn(true);
         when(s3Group.getBuffer()).thenReturn(buffer);
         when(s3Group.getOutputCodec()).thenReturn(codec);
 
-        when(s3GroupManager.getOrCreateGroupForEvent(any(Event.class))).thenReturn(s3Group);
+        when(s3GroupManager.getOrCreateLockedGroupForEvent(any(Event.class))).thenReturn(s3Group);
         when(s3GroupManager.getS3GroupEntries()).thenReturn(Collections.singletonList(s3Group));
 
         doNothing().when(codec).writeEvent(any(), eq(outputStream1));
@@ -341,13 +327,7 @@ class S3SinkServiceTest {
         assertThat(s3SinkService, instanceOf(S3SinkService.class));
 
 
-        try (final MockedStatic<CompletableFuture> completableFutureMockedStatic = mockStatic(CompletableFuture.class)) {
-            final CompletableFuture<Void> mockCompletableFuture = mock(CompletableFuture.class);
-            when(mockCompletableFuture.thenRun(any(Runnable.class))).thenReturn(mockCompletableFuture);
-            when(mockCompletableFuture.join()).thenReturn(null);
-            completableFutureMockedStatic.when(() -> CompletableFuture.allOf(any())).thenReturn(mockCompletableFuture);
-            s3SinkService.output(generateEventRecords(2));
-        }
+        s3SinkService.output(generateEventRecords(2));
         verify(codec).writeEvent(any(), eq(outputStream1));
         verify(codec).writeEvent(any(), eq(outputStream2));
     }
@@ -361,11 +341,13 @@ class S3SinkServiceTest {
         doNothing().when(codec).writeEvent(event, outputStream);
 
         final S3Group s3Group = mock(S3Group.class);
+
+        when(s3Group.tryLock()).thenReturn(true);
         when(s3Group.getOutputCodec()).thenReturn(codec);
         Buffer buffer = mock(Buffer.class);
         when(s3Group.getBuffer()).thenReturn(buffer);
 
-        when(s3GroupManager.getOrCreateGroupForEvent(any(Event.class))).thenReturn(s3Group);
+        when(s3GroupManager.getOrCreateLockedGroupForEvent(any(Event.class))).thenReturn(s3Group);
         when(s3GroupManager.getS3GroupEntries()).thenReturn(Collections.singletonList(s3Group));
 
         S3SinkService s3SinkService = createObjectUnderTest();
@@ -389,23 +371,18 @@ class S3SinkServiceTest {
         final S3SinkService s3SinkService = createObjectUnderTest();
         final Event event = JacksonEvent.fromMessage(UUID.randomUUID().toString());
         final S3Group s3Group = mock(S3Group.class);
+        when(s3Group.tryLock()).thenReturn(true);
         when(s3Group.getBuffer()).thenReturn(buffer);
         when(s3Group.getOutputCodec()).thenReturn(codec);
 
-        when(s3GroupManager.getOrCreateGroupForEvent(any(Event.class))).thenReturn(s3Group);
+        when(s3GroupManager.getOrCreateLockedGroupForEvent(any(Event.class))).thenReturn(s3Group);
         when(s3GroupManager.getS3GroupEntries()).thenReturn(Collections.emptyList());
 
         final OutputStream outputStream = mock(OutputStream.class);
         doNothing().when(codec).writeEvent(event, outputStream);
 
 
-        try (final MockedStatic<CompletableFuture> completableFutureMockedStatic = mockStatic(CompletableFuture.class)) {
-            final CompletableFuture<Void> mockCompletableFuture = mock(CompletableFuture.class);
-            when(mockCompletableFuture.thenRun(any(Runnable.class))).thenReturn(mockCompletableFuture);
-            when(mockCompletableFuture.join()).thenReturn(null);
-            completableFutureMockedStatic.when(() -> CompletableFuture.allOf(any())).thenReturn(mockCompletableFuture);
-            s3SinkService.output(Collections.singletonList(new Record<>(event)));
-        }
+        s3SinkService.output(Collections.singletonList(new Record<>(event)));
         final ArgumentCaptor<Consumer<Boolean>> argumentCaptorForCompletion = ArgumentCaptor.forClass(Consumer.class);
         verify(buffer, times(1)).flushToS3(argumentCaptorForCompletion.capture(), any(Consumer.class));
 
@@ -426,22 +403,18 @@ class S3SinkServiceTest {
         final Event event = JacksonEvent.fromMessage(UUID.randomUUID().toString());
 
         final S3Group s3Group = mock(S3Group.class);
+
+        when(s3Group.tryLock()).thenReturn(true);
         when(s3Group.getBuffer()).thenReturn(buffer);
         when(s3Group.getOutputCodec()).thenReturn(codec);
 
-        when(s3GroupManager.getOrCreateGroupForEvent(event)).thenReturn(s3Group);
+        when(s3GroupManager.getOrCreateLockedGroupForEvent(event)).thenReturn(s3Group);
         when(s3GroupManager.getS3GroupEntries()).thenReturn(Collections.singletonList(s3Group));
 
         doNothing().when(codec).writeEvent(event, outputStream);
         final S3SinkService s3SinkService = createObjectUnderTest();
 
-        try (final MockedStatic<CompletableFuture> completableFutureMockedStatic = mockStatic(CompletableFuture.class)) {
-            final CompletableFuture<Void> mockCompletableFuture = mock(CompletableFuture.class);
-            when(mockCompletableFuture.thenRun(any(Runnable.class))).thenReturn(mockCompletableFuture);
-            when(mockCompletableFuture.join()).thenReturn(null);
-            completableFutureMockedStatic.when(() -> CompletableFuture.allOf(any())).thenReturn(mockCompletableFuture);
-            s3SinkService.output(Collections.emptyList());
-        }
+        s3SinkService.output(Collections.emptyList());
         verify(buffer, times(1)).flushToS3(any(Consumer.class), any(Consumer.class));
     }
 
@@ -464,10 +437,11 @@ class S3SinkServiceTest {
         final OutputStream outputStream = mock(OutputStream.class);
         final Event event = JacksonEvent.fromMessage(UUID.randomUUID().toString());
         final S3Group s3Group = mock(S3Group.class);
+        when(s3Group.tryLock()).thenReturn(true);
         when(s3Group.getBuffer()).thenReturn(buffer);
         when(s3Group.getOutputCodec()).thenReturn(codec);
 
-        when(s3GroupManager.getOrCreateGroupForEvent(any(Event.class))).thenReturn(s3Group);
+        when(s3GroupManager.getOrCreateLockedGroupForEvent(any(Event.class))).thenReturn(s3Group);
         when(s3GroupManager.getS3GroupEntries()).thenReturn(Collections.singletonList(s3Group));
 
         doNothing().when(codec).writeEvent(event, outputStream);
@@ -475,13 +449,7 @@ class S3SinkServiceTest {
         final Collection<Record<Event>> records = generateRandomStringEventRecord();
         final List<DefaultEventHandle> eventHandles = records.stream().map(Record::getData).map(Event::getEventHandle).map(this::castToDefaultHandle).collect(Collectors.toList());
 
-        try (final MockedStatic<CompletableFuture> completableFutureMockedStatic = mockStatic(CompletableFuture.class)) {
-            final CompletableFuture<Void> mockCompletableFuture = mock(CompletableFuture.class);
-            when(mockCompletableFuture.thenRun(any(Runnable.class))).thenReturn(mockCompletableFuture);
-            when(mockCompletableFuture.join()).thenReturn(null);
-            completableFutureMockedStatic.when(() -> CompletableFuture.allOf(any())).thenReturn(mockCompletableFuture);
-            s3SinkService.output(records);
-        }
+        s3SinkService.output(records);
 
         final ArgumentCaptor<Consumer<Boolean>> argumentCaptorForCompletion = ArgumentCaptor.forClass(Consumer.class);
         verify(buffer, times(51)).flushToS3(argumentCaptorForCompletion.capture(), any(Consumer.class));
@@ -506,10 +474,11 @@ class S3SinkServiceTest {
         final OutputStream outputStream = mock(OutputStream.class);
         final Event event1 = JacksonEvent.fromMessage(UUID.randomUUID().toString());
         final S3Group s3Group = mock(S3Group.class);
+        when(s3Group.tryLock()).thenReturn(true);
         when(s3Group.getBuffer()).thenReturn(buffer);
         when(s3Group.getOutputCodec()).thenReturn(codec);
 
-        when(s3GroupManager.getOrCreateGroupForEvent(any(Event.class))).thenReturn(s3Group);
+        when(s3GroupManager.getOrCreateLockedGroupForEvent(any(Event.class))).thenReturn(s3Group);
 
         doNothing().when(codec).writeEvent(event1, outputStream);
         final S3SinkService s3SinkService = createObjectUnderTest();
@@ -519,14 +488,8 @@ class S3SinkServiceTest {
         final Collection<Record<Event>> records2 = generateRandomStringEventRecord();
         final List<DefaultEventHandle> eventHandles2 = records2.stream().map(Record::getData).map(Event::getEventHandle).map(this::castToDefaultHandle).collect(Collectors.toList());
 
-        try (final MockedStatic<CompletableFuture> completableFutureMockedStatic = mockStatic(CompletableFuture.class)) {
-            final CompletableFuture<Void> mockCompletableFuture = mock(CompletableFuture.class);
-            when(mockCompletableFuture.thenRun(any(Runnable.class))).thenReturn(mockCompletableFuture);
-            when(mockCompletableFuture.join()).thenReturn(null);
-            completableFutureMockedStatic.when(() -> CompletableFuture.allOf(any())).thenReturn(mockCompletableFuture);
-            s3SinkService.output(records);
-            s3SinkService.output(records2);
-        }
+        s3SinkService.output(records);
+        s3SinkService.output(records2);
 
         final ArgumentCaptor<Consumer<Boolean>> argumentCaptorForCompletion = ArgumentCaptor.forClass(Consumer.class);
         verify(buffer, times(100)).flushToS3(argumentCaptorForCompletion.capture(), any(Consumer.class));
@@ -557,10 +520,11 @@ class S3SinkServiceTest {
         Event event1 = records.get(0).getData();
         Event event2 = records.get(1).getData();
         final S3Group s3Group = mock(S3Group.class);
+        when(s3Group.tryLock()).thenReturn(true);
         when(s3Group.getBuffer()).thenReturn(buffer);
         when(s3Group.getOutputCodec()).thenReturn(codec);
 
-        when(s3GroupManager.getOrCreateGroupForEvent(any(Event.class))).thenReturn(s3Group);
+        when(s3GroupManager.getOrCreateLockedGroupForEvent(any(Event.class))).thenReturn(s3Group);
         when(s3GroupManager.getS3GroupEntries()).thenReturn(List.of(s3Group));
 
         DefaultEventHandle eventHandle1 = (DefaultEventHandle)event1.getEventHandle();
@@ -571,13 +535,7 @@ class S3SinkServiceTest {
         doThrow(RuntimeException.class).when(codec).writeEvent(event1, outputStream);
 
 
-        try (final MockedStatic<CompletableFuture> completableFutureMockedStatic = mockStatic(CompletableFuture.class)) {
-            final CompletableFuture<Void> mockCompletableFuture = mock(CompletableFuture.class);
-            when(mockCompletableFuture.thenRun(any(Runnable.class))).thenReturn(mockCompletableFuture);
-            when(mockCompletableFuture.join()).thenReturn(null);
-            completableFutureMockedStatic.when(() -> CompletableFuture.allOf(any())).thenReturn(mockCompletableFuture);
-            createObjectUnderTest().output(records);
-        }
+        createObjectUnderTest().output(records);
 
         InOrder inOrder = inOrder(codec, s3Group);
         inOrder.verify(codec).start(eq(outputStream), eq(event1), any());
@@ -609,31 +567,34 @@ class S3SinkServiceTest {
 
         final Event firstGroupEvent = mock(Event.class);
         final S3Group firstGroup = mock(S3Group.class);
+        when(firstGroup.tryLock()).thenReturn(true);
         final Buffer firstGroupBuffer = mock(Buffer.class);
         when(firstGroup.getOutputCodec()).thenReturn(codec);
         when(firstGroupBuffer.getOutputStream()).thenReturn(mock(OutputStream.class));
         when(firstGroupBuffer.getSize()).thenReturn(bufferOneSize);
         when(firstGroup.getBuffer()).thenReturn(firstGroupBuffer);
-        when(s3GroupManager.getOrCreateGroupForEvent(firstGroupEvent)).thenReturn(firstGroup);
+        when(s3GroupManager.getOrCreateLockedGroupForEvent(firstGroupEvent)).thenReturn(firstGroup);
 
         final Event secondGroupEvent = mock(Event.class);
         final S3Group secondGroup = mock(S3Group.class);
+        when(secondGroup.tryLock()).thenReturn(true);
         final Buffer secondGroupBuffer = mock(Buffer.class);
         when(secondGroup.getOutputCodec()).thenReturn(codec);
         when(secondGroupBuffer.getSize()).thenReturn(bufferTwoSize);
         when(secondGroupBuffer.getOutputStream()).thenReturn(mock(OutputStream.class));
         when(secondGroup.getBuffer()).thenReturn(secondGroupBuffer);
-        when(s3GroupManager.getOrCreateGroupForEvent(secondGroupEvent)).thenReturn(secondGroup);
+        when(s3GroupManager.getOrCreateLockedGroupForEvent(secondGroupEvent)).thenReturn(secondGroup);
 
         final Event thirdGroupEvent = mock(Event.class);
         final S3Group thirdGroup = mock(S3Group.class);
+        when(thirdGroup.tryLock()).thenReturn(true);
         when(thirdGroup.getOutputCodec()).thenReturn(codec);
 
         final Buffer thirdGroupBuffer = mock(Buffer.class);
         when(thirdGroupBuffer.getSize()).thenReturn(bufferThreeSize);
         when(thirdGroupBuffer.getOutputStream()).thenReturn(mock(OutputStream.class));
         when(thirdGroup.getBuffer()).thenReturn(thirdGroupBuffer);
-        when(s3GroupManager.getOrCreateGroupForEvent(thirdGroupEvent)).thenReturn(thirdGroup);
+        when(s3GroupManager.getOrCreateLockedGroupForEvent(thirdGroupEvent)).thenReturn(thirdGroup);
 
         when(s3GroupManager.getS3GroupEntries()).thenReturn(List.of(firstGroup, secondGroup, thirdGroup));
         when(s3GroupManager.getS3GroupsSortedBySize()).thenReturn(List.of(thirdGroup, firstGroup, secondGroup));
@@ -643,13 +604,7 @@ class S3SinkServiceTest {
 
         final S3SinkService s3SinkService = createObjectUnderTest();
 
-        try (final MockedStatic<CompletableFuture> completableFutureMockedStatic = mockStatic(CompletableFuture.class)) {
-            final CompletableFuture<Void> mockCompletableFuture = mock(CompletableFuture.class);
-            when(mockCompletableFuture.thenRun(any(Runnable.class))).thenReturn(mockCompletableFuture);
-            when(mockCompletableFuture.join()).thenReturn(null);
-            completableFutureMockedStatic.when(() -> CompletableFuture.allOf(any())).thenReturn(mockCompletableFuture);
-            s3SinkService.output(List.of(new Record<>(firstGroupEvent), new Record<>(secondGroupEvent), new Record<>(thirdGroupEvent)));
-        }
+        s3SinkService.output(List.of(new Record<>(firstGroupEvent), new Record<>(secondGroupEvent), new Record<>(thirdGroupEvent)));
 
         verify(thirdGroupBuffer).flushToS3(any(Consumer.class), any(Consumer.class));
         verify(firstGroupBuffer).flushToS3(any(Consumer.class), any(Consumer.class));
@@ -665,6 +620,146 @@ class S3SinkServiceTest {
         verify(s3ObjectsForceFlushedCounter, times(2)).increment();
     }
 
+    @Test
+    void output_returns_before_upload_completes_and_releases_event_handles_on_completion() throws IOException {
+        final InMemoryBuffer buffer = mock(InMemoryBuffer.class);
+        when(buffer.getEventCount()).thenReturn(10);
+        when(buffer.getKey()).thenReturn(UUID.randomUUID().toString());
+        final CompletableFuture<Object> uploadFuture = new CompletableFuture<>();
+        when(buffer.flushToS3(any(Consumer.class), any(Consumer.class))).thenReturn(Optional.of(uploadFuture));
+
+        final S3Group s3Group = mock(S3Group.class);
+        when(s3Group.getBuffer()).thenReturn(buffer);
+        when(s3Group.getOutputCodec()).thenReturn(codec);
+        when(s3GroupManager.getOrCreateLockedGroupForEvent(any(Event.class))).thenReturn(s3Group);
+        when(s3GroupManager.getS3GroupEntries()).thenReturn(Collections.emptyList());
+
+        final S3SinkService s3SinkService = createObjectUnderTest();
+        s3SinkService.output(generateEventRecords(1));
+
+        final ArgumentCaptor<Consumer<Boolean>> argumentCaptorForCompletion = ArgumentCaptor.forClass(Consumer.class);
+        verify(buffer).flushToS3(argumentCaptorForCompletion.capture(), any(Consumer.class));
+        verify(s3Group).markFlushed();
+        verify(s3GroupManager).removeGroup(s3Group);
+        verify(s3Group).unlock();
+        verify(s3Group, never()).releaseEventHandles(anyBoolean());
+
+        argumentCaptorForCompletion.getValue().accept(true);
+        uploadFuture.complete(null);
+
+        verify(s3Group).releaseEventHandles(true);
+        verify(snapshotSuccessCounter).increment();
+    }
+
+    @Test
+    void output_waits_for_an_upload_permit_when_max_concurrent_uploads_are_in_flight() throws Exception {
+        when(s3SinkConfig.getMaxConcurrentUploads()).thenReturn(1);
+
+        final CompletableFuture<Object> firstUploadFuture = new CompletableFuture<>();
+        final S3Group firstGroup = createGroupWithFullBuffer(firstUploadFuture);
+        final S3Group secondGroup = createGroupWithFullBuffer(CompletableFuture.completedFuture(null));
+
+        final Event firstEvent = JacksonEvent.fromMessage(UUID.randomUUID().toString());
+        final Event secondEvent = JacksonEvent.fromMessage(UUID.randomUUID().toString());
+        when(s3GroupManager.getOrCreateLockedGroupForEvent(firstEvent)).thenReturn(firstGroup);
+        when(s3GroupManager.getOrCreateLockedGroupForEvent(secondEvent)).thenReturn(secondGroup);
+        when(s3GroupManager.getS3GroupEntries()).thenReturn(Collections.emptyList());
+
+        final S3SinkService s3SinkService = createObjectUnderTest();
+        s3SinkService.output(Collections.singletonList(new Record<>(firstEvent)));
+
+        final CountDownLatch secondOutputComplete = new CountDownLatch(1);
+        final Thread secondOutputThread = new Thread(() -> {
+            s3SinkService.output(Collections.singletonList(new Record<>(secondEvent)));
+            secondOutputComplete.countDown();
+        });
+        secondOutputThread.start();
+
+        assertThat(secondOutputComplete.await(200, TimeUnit.MILLISECONDS), equalTo(false));
+        verify(secondGroup.getBuffer(), never()).flushToS3(any(Consumer.class), any(Consumer.class));
+
+        firstUploadFuture.complete(null);
+
+        assertThat(secondOutputComplete.await(5, TimeUnit.SECONDS), equalTo(true));
+        verify(secondGroup.getBuffer()).flushToS3(any(Consumer.class), any(Consumer.class));
+        secondOutputThread.join();
+    }
+
+    @Test
+    void output_does_not_flush_groups_which_are_locked_by_another_worker_or_already_flushed() throws IOException {
+        final InMemoryBuffer lockedGroupBuffer = mock(InMemoryBuffer.class);
+        final S3Group lockedGroup = mock(S3Group.class);
+        when(lockedGroup.tryLock()).thenReturn(false);
+        lenient().when(lockedGroup.getBuffer()).thenReturn(lockedGroupBuffer);
+
+        final InMemoryBuffer flushedGroupBuffer = mock(InMemoryBuffer.class);
+        final S3Group flushedGroup = mock(S3Group.class);
+        when(flushedGroup.tryLock()).thenReturn(true);
+        when(flushedGroup.isFlushed()).thenReturn(true);
+        lenient().when(flushedGroup.getBuffer()).thenReturn(flushedGroupBuffer);
+
+        when(s3GroupManager.getS3GroupEntries()).thenReturn(List.of(lockedGroup, flushedGroup));
+
+        final S3SinkService s3SinkService = createObjectUnderTest();
+        s3SinkService.output(Collections.emptyList());
+
+        verify(lockedGroupBuffer, never()).flushToS3(any(Consumer.class), any(Consumer.class));
+        verify(lockedGroup, never()).unlock();
+        verify(flushedGroupBuffer, never()).flushToS3(any(Consumer.class), any(Consumer.class));
+        verify(flushedGroup).unlock();
+    }
+
+    @Test
+    void shutdown_waits_for_uploads_in_flight_to_complete() throws Exception {
+        final CompletableFuture<Object> uploadFuture = new CompletableFuture<>();
+        final S3Group s3Group = createGroupWithFullBuffer(uploadFuture);
+        when(s3GroupManager.getOrCreateLockedGroupForEvent(any(Event.class))).thenReturn(s3Group);
+        when(s3GroupManager.getS3GroupEntries()).thenReturn(Collections.emptyList());
+
+        final S3SinkService s3SinkService = createObjectUnderTest();
+        s3SinkService.output(generateEventRecords(1));
+
+        final CountDownLatch shutdownComplete = new CountDownLatch(1);
+        final Thread shutdownThread = new Thread(() -> {
+            s3SinkService.shutdown(Duration.ofSeconds(30));
+            shutdownComplete.countDown();
+        });
+        shutdownThread.start();
+
+        assertThat(shutdownComplete.await(200, TimeUnit.MILLISECONDS), equalTo(false));
+
+        uploadFuture.complete(null);
+
+        assertThat(shutdownComplete.await(5, TimeUnit.SECONDS), equalTo(true));
+        shutdownThread.join();
+    }
+
+    @Test
+    void shutdown_returns_after_the_timeout_when_uploads_do_not_complete() {
+        final S3Group s3Group = createGroupWithFullBuffer(new CompletableFuture<>());
+        when(s3GroupManager.getOrCreateLockedGroupForEvent(any(Event.class))).thenReturn(s3Group);
+        when(s3GroupManager.getS3GroupEntries()).thenReturn(Collections.emptyList());
+
+        final S3SinkService s3SinkService = createObjectUnderTest();
+        s3SinkService.output(generateEventRecords(1));
+
+        s3SinkService.shutdown(Duration.ofMillis(50));
+
+        verify(s3Group, never()).releaseEventHandles(anyBoolean());
+    }
+
+    private S3Group createGroupWithFullBuffer(final CompletableFuture<?> uploadFuture) {
+        final InMemoryBuffer buffer = mock(InMemoryBuffer.class);
+        when(buffer.getEventCount()).thenReturn(MAX_EVENTS);
+        when(buffer.getKey()).thenReturn(UUID.randomUUID().toString());
+        when(buffer.flushToS3(any(Consumer.class), any(Consumer.class))).thenReturn(Optional.of(uploadFuture));
+
+        final S3Group s3Group = mock(S3Group.class);
+        when(s3Group.getBuffer()).thenReturn(buffer);
+        when(s3Group.getOutputCodec()).thenReturn(codec);
+        return s3Group;
+    }
+
     private Collection<Record<Event>> generateRandomStringEventRecord() {
         return generateEventRecords(50);
     }
@@ -257,4 +257,40 @@ public class S3GroupManagerTest {
         assertThat(objectUnderTest.getNumberOfGroups(), equalTo(2));
         assertThat(sortedGroupsAfterRemoval, contains(thirdGroup, firstGroup));
     }
+
+    @Test
+    void getOrCreateLockedGroupForEvent_returns_a_new_locked_group_when_the_existing_group_was_flushed() {
+        final Event event = mock(Event.class);
+        final S3GroupIdentifier s3GroupIdentifier = mock(S3GroupIdentifier.class);
+        when(s3GroupIdentifierFactory.getS3GroupIdentifierForEvent(event)).thenReturn(s3GroupIdentifier);
+
+        final String defaultBucket = UUID.randomUUID().toString();
+        when(s3SinkConfig.getDefaultBucket()).thenReturn(defaultBucket);
+
+        final Buffer buffer = mock(Buffer.class);
+        final Buffer secondBuffer = mock(Buffer.class);
+        when(bufferFactory.getBuffer(eq(s3Client), any(Supplier.class), any(Supplier.class), eq(defaultBucket), eq(bucketOwnerProvider)))
+                .thenReturn(buffer).thenReturn(secondBuffer);
+        when(codecFactory.provideCodec()).thenReturn(mock(OutputCodec.class));
+
+        final S3GroupManager objectUnderTest = createObjectUnderTest();
+
+        final S3Group firstGroup = objectUnderTest.getOrCreateLockedGroupForEvent(event);
+        assertThat(firstGroup.getBuffer(), equalTo(buffer));
+        assertThat(firstGroup.isFlushed(), equalTo(false));
+        firstGroup.unlock();
+
+        firstGroup.lock();
+        firstGroup.markFlushed();
+        objectUnderTest.removeGroup(firstGroup);
+        firstGroup.unlock();
+
+        final S3Group secondGroup = objectUnderTest.getOrCreateLockedGroupForEvent(event);
+        assertThat(secondGroup.getBuffer(), equalTo(secondBuffer));
+        assertThat(secondGroup.isFlushed(), equalTo(false));
+        secondGroup.unlock();
+
+        objectUnderTest.removeGroup(firstGroup);
+        assertThat(objectUnderTest.getS3GroupEntries(), contains(secondGroup));
+    }
 }
@@ -9,6 +9,8 @@ import org.opensearch.dataprepper.plugins.sink.s3.accumulator.Buffer;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
@@ -57,4 +59,50 @@ public class S3GroupTest {
         assertThat(largeGroup.compareTo(smallGroup), equalTo(1));
         assertThat(largeGroup.compareTo(anotherLargeGroup), equalTo(0));
     }
+
+    @Test
+    void markFlushed_marks_the_group_as_flushed() {
+        final S3Group objectUnderTest = new S3Group(mock(S3GroupIdentifier.class), mock(Buffer.class), mock(OutputCodec.class));
+
+        objectUnderTest.lock();
+        assertThat(objectUnderTest.isFlushed(), equalTo(false));
+        objectUnderTest.markFlushed();
+        assertThat(objectUnderTest.isFlushed(), equalTo(true));
+        objectUnderTest.unlock();
+    }
+
+    @Test
+    void getBufferSize_waits_for_the_lock_of_the_group() throws InterruptedException {
+        final Buffer buffer = mock(Buffer.class);
+        when(buffer.getSize()).thenReturn(100L);
+        final S3Group objectUnderTest = new S3Group(mock(S3GroupIdentifier.class), buffer, mock(OutputCodec.class));
+
+        objectUnderTest.lock();
+        final AtomicLong bufferSize = new AtomicLong(-1);
+        final Thread otherThread = new Thread(() -> bufferSize.set(objectUnderTest.getBufferSize()));
+        otherThread.start();
+        otherThread.join(200);
+        assertThat(bufferSize.get(), equalTo(-1L));
+
+        objectUnderTest.unlock();
+        otherThread.join();
+
+        assertThat(bufferSize.get(), equalTo(100L));
+    }
+
+    @Test
+    void tryLock_fails_while_another_thread_holds_the_lock() throws InterruptedException {
+        final S3Group objectUnderTest = new S3Group(mock(S3GroupIdentifier.class), mock(Buffer.class), mock(OutputCodec.class));
+
+        objectUnderTest.lock();
+        final AtomicBoolean lockedByOtherThread = new AtomicBoolean(true);
+        final Thread otherThread = new Thread(() -> lockedByOtherThread.set(objectUnderTest.tryLock()));
+        otherThread.start();
+        otherThread.join();
+        objectUnderTest.unlock();
+
+        assertThat(lockedByOtherThread.get(), equalTo(false));
+        assertThat(objectUnderTest.tryLock(), equalTo(true));
+        objectUnderTest.unlock();
+    }
 }
@@ -8,6 +8,7 @@ import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 
 import java.time.Duration;
+import java.util.concurrent.ExecutorService;
 
 public class S3InputFile implements InputFile {
 
@@ -21,6 +22,7 @@ public class S3InputFile implements InputFile {
 
     private final BucketOwnerProvider bucketOwnerProvider;
     private final S3ObjectPluginMetrics s3ObjectPluginMetrics;
+    private final ExecutorService rangedReadExecutor;
 
     private HeadObjectResponse metadata;
 
@@ -28,12 +30,14 @@ public class S3InputFile implements InputFile {
             final S3Client s3Client,
             final S3ObjectReference s3ObjectReference,
             final BucketOwnerProvider bucketOwnerProvider,
-            final S3ObjectPluginMetrics s3ObjectPluginMetrics
+            final S3ObjectPluginMetrics s3ObjectPluginMetrics,
+            final ExecutorService rangedReadExecutor
     ) {
         this.s3Client = s3Client;
         this.s3ObjectReference = s3ObjectReference;
         this.bucketOwnerProvider = bucketOwnerProvider;
         this.s3ObjectPluginMetrics = s3ObjectPluginMetrics;
+        this.rangedReadExecutor = rangedReadExecutor;
     }
 
     /**
@@ -53,7 +57,7 @@ public class S3InputFile implements InputFile {
     @Override
     public SeekableInputStream newStream() {
         return new S3InputStream(
-            s3Client, s3ObjectReference, bucketOwnerProvider, getMetadata(), s3ObjectPluginMetrics, DEFAULT_RETRY_DELAY, DEFAULT_RETRIES);
+            s3Client, s3ObjectReference, bucketOwnerProvider, getMetadata(), s3ObjectPluginMetrics, DEFAULT_RETRY_DELAY, DEFAULT_RETRIES, rangedReadExecutor);
     }
 
     /**
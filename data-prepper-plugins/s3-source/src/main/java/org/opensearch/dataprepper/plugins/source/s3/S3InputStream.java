@@ -7,6 +7,8 @@ import dev.failsafe.FailsafeException;
 import dev.failsafe.RetryPolicy;
 import dev.failsafe.function.CheckedSupplier;
 import org.apache.http.ConnectionClosedException;
+import org.apache.parquet.bytes.ByteBufferAllocator;
+import org.apache.parquet.io.ParquetFileRange;
 import org.apache.parquet.io.SeekableInputStream;
 import org.opensearch.dataprepper.plugins.source.s3.ownership.BucketOwnerProvider;
 import org.slf4j.Logger;
@@ -27,6 +29,9 @@ import java.net.SocketTimeoutException;
 import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.LongAdder;
 
 class S3InputStream extends SeekableInputStream {
@@ -56,6 +61,10 @@ class S3InputStream extends SeekableInputStream {
 
     private final GetObjectRequest.Builder getObjectRequestBuilder;
 
+    private final GetObjectRequest rangedGetObjectRequest;
+
+    private final ExecutorService rangedReadExecutor;
+
     private InputStream stream;
 
     private final byte[] temp = new byte[COPY_BUFFER_SIZE];
@@ -80,9 +89,11 @@ class S3InputStream extends SeekableInputStream {
             final HeadObjectResponse metadata,
             final S3ObjectPluginMetrics s3ObjectPluginMetrics,
             final Duration retryDelay,
-            final int retries
+            final int retries,
+            final ExecutorService rangedReadExecutor
     ) {
         this.s3Client = s3Client;
+        this.rangedReadExecutor = rangedReadExecutor;
         this.s3ObjectReference = s3ObjectReference;
         this.metadata = metadata;
         this.s3ObjectPluginMetrics = s3ObjectPluginMetrics;
@@ -95,6 +106,8 @@ class S3InputStream extends SeekableInputStream {
         bucketOwnerProvider.getBucketOwner(this.s3ObjectReference.getBucketName())
                 .ifPresent(getObjectRequestBuilder::expectedBucketOwner);
 
+        this.rangedGetObjectRequest = getObjectRequestBuilder.build();
+
         this.retryPolicyReturningByteArray = RetryPolicy.<byte[]>builder()
             .handle(RETRYABLE_EXCEPTIONS)
             .withDelay(retryDelay)
@@ -445,6 +458,70 @@ class S3InputStream extends SeekableInputStream {
         }
     }
 
+    /**
+     * Vectored reads are available when the stream has an executor for ranged reads. Each range is read with
+     * its own ranged GET request.
+     *
+     * @param allocator the allocator for the buffers of the ranges
+     * @return true if ranges can be read in parallel
+     */
+    @Override
+    public boolean readVectoredAvailable(final ByteBufferAllocator allocator) {
+        return rangedReadExecutor != null;
+    }
+
+    /**
+     * Read a list of ranges of the S3 object in parallel. This does not change the position of the stream.
+     * <p>
+     * The data of each range is set as a future on the range, which completes with a buffer holding the
+     * whole range, or fails if the range could not be read.
+     *
+     * @param ranges the ranges to read
+     * @param allocator the allocator for the buffers of the ranges
+     */
+    @Override
+    public void readVectored(final List<ParquetFileRange> ranges, final ByteBufferAllocator allocator) {
+        Preconditions.checkState(!closed, "Cannot read: already closed");
+        Preconditions.checkState(rangedReadExecutor != null, "Cannot read ranges: no executor for ranged reads");
+
+        for (final ParquetFileRange range : ranges) {
+            range.setDataReadFuture(CompletableFuture.supplyAsync(
+                    () -> readRange(range.getOffset(), range.getLength(), allocator), rangedReadExecutor));
+        }
+    }
+
+    private ByteBuffer readRange(final long offset, final int length, final ByteBufferAllocator allocator) {
+        final byte[] bytes;
+        try {
+            bytes = Failsafe.with(retryPolicyReturningByteArray).get(() -> getRange(offset, length));
+        } catch (FailsafeException e) {
+            LOG.error("Failed to read range with Retries", e);
+            throw new CompletionException(e.getCause());
+        }
+        this.bytesCounter.add(bytes.length);
+
+        final ByteBuffer buffer = allocator.allocate(bytes.length);
+        buffer.put(bytes);
+        buffer.flip();
+        return buffer;
+    }
+
+    private byte[] getRange(final long offset, final int length) throws IOException {
+        final GetObjectRequest request = rangedGetObjectRequest.toBuilder()
+                .range(String.format("bytes=%s-%s", offset, offset + length - 1))
+                .build();
+
+        final byte[] bytes = new byte[length];
+        try (final InputStream rangeStream = s3Client.getObject(request, ResponseTransformer.toInputStream())) {
+            readFully(rangeStream, bytes, 0, length);
+        } catch (final S3Exception ex) {
+            LOG.error("Error reading range from S3 object: s3ObjectReference={}", s3ObjectReference);
+            recordS3Exception(ex);
+            throw ex;
+        }
+        return bytes;
+    }
+
     /**
      * Position the stream for reading bytes starting at next offset
      * @throws IOException if stream cannot be set correctly
@@ -18,6 +18,7 @@ import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.CompressionType;
 
 import java.time.Duration;
+import java.util.concurrent.ExecutorService;
 import java.util.function.BiConsumer;
 
 public class S3ObjectRequest {
@@ -38,6 +39,7 @@ public class S3ObjectRequest {
     private final S3SelectCSVOption s3SelectCSVOption;
     private final S3SelectJsonOption s3SelectJsonOption;
     private final String expressionType;
+    private final ExecutorService rangedReadExecutor;
 
 
     private S3ObjectRequest(Builder builder) {
@@ -59,6 +61,7 @@ public class S3ObjectRequest {
         this.s3SelectCSVOption = builder.s3SelectCSVOption;
         this.s3SelectJsonOption = builder.s3SelectJsonOption;
         this.expressionType = builder.expressionType;
+        this.rangedReadExecutor = builder.rangedReadExecutor;
     }
 
     public Buffer<Record<Event>> getBuffer() {
@@ -129,6 +132,10 @@ public class S3ObjectRequest {
         return expressionType;
     }
 
+    public ExecutorService getRangedReadExecutor() {
+        return rangedReadExecutor;
+    }
+
     public static class Builder {
         private final Buffer<Record<Event>> buffer;
         private final int numberOfRecordsToAccumulate;
@@ -147,6 +154,7 @@ public class S3ObjectRequest {
         private S3SelectCSVOption s3SelectCSVOption;
         private S3SelectJsonOption s3SelectJsonOption;
         private String expressionType;
+        private ExecutorService rangedReadExecutor;
 
         public Builder(final Buffer<Record<Event>> buffer,
                        final int numberOfRecordsToAccumulate,
@@ -226,5 +234,10 @@ public class S3ObjectRequest {
             return this;
         }
 
+        public Builder rangedReadExecutor(ExecutorService rangedReadExecutor) {
+            this.rangedReadExecutor = rangedReadExecutor;
+            return this;
+        }
+
     }
 }
\ No newline at end of file
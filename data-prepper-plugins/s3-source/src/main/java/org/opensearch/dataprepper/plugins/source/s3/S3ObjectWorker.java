@@ -21,6 +21,7 @@ import software.amazon.awssdk.services.s3.S3Client;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
@@ -43,6 +44,7 @@ class S3ObjectWorker implements S3ObjectHandler {
     private final int numberOfRecordsToAccumulate;
     private final BiConsumer<Event, S3ObjectReference> eventConsumer;
     private final S3ObjectPluginMetrics s3ObjectPluginMetrics;
+    private final ExecutorService rangedReadExecutor;
 
     public S3ObjectWorker(final S3ObjectRequest s3ObjectRequest) {
         this.buffer = s3ObjectRequest.getBuffer();
@@ -54,6 +56,7 @@ class S3ObjectWorker implements S3ObjectHandler {
         this.eventConsumer = s3ObjectRequest.getEventConsumer();
         this.s3Client = s3ObjectRequest.getS3Client();
         this.s3ObjectPluginMetrics = s3ObjectRequest.getS3ObjectPluginMetrics();
+        this.rangedReadExecutor = s3ObjectRequest.getRangedReadExecutor();
     }
 
     public void parseS3Object(final S3ObjectReference s3ObjectReference,
@@ -87,7 +90,7 @@ class S3ObjectWorker implements S3ObjectHandler {
         LOG.info("Read S3 object: {}", s3ObjectReference);
         AtomicLong lastCheckpointTime = new AtomicLong(System.currentTimeMillis());
 
-        final S3InputFile inputFile = new S3InputFile(s3Client, s3ObjectReference, bucketOwnerProvider, s3ObjectPluginMetrics);
+        final S3InputFile inputFile = new S3InputFile(s3Client, s3ObjectReference, bucketOwnerProvider, s3ObjectPluginMetrics, rangedReadExecutor);
 
         final CompressionOption fileCompressionOption = compressionOption != CompressionOption.AUTOMATIC ?
                 compressionOption : CompressionOption.fromFileName(s3ObjectReference.getKey());
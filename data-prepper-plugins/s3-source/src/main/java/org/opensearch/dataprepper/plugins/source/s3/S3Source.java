@@ -6,6 +6,7 @@
 package org.opensearch.dataprepper.plugins.source.s3;
 
 import org.opensearch.dataprepper.aws.api.AwsCredentialsSupplier;
+import org.opensearch.dataprepper.common.concurrent.BackgroundThreadFactory;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSetManager;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
@@ -31,6 +32,8 @@ import software.amazon.awssdk.services.s3.model.CompressionType;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.BiConsumer;
 
 @DataPrepperPlugin(name = "s3", pluginType = Source.class, pluginConfigurationType = S3SourceConfig.class)
@@ -46,6 +49,7 @@ public class S3Source implements Source<Record<Event>>, UsesSourceCoordination {
     private final AwsCredentialsSupplier awsCredentialsSupplier;
     private final boolean acknowledgementsEnabled;
     private SourceCoordinator<S3SourceProgressState> sourceCoordinator;
+    private ExecutorService rangedReadExecutor;
 
 
     @DataPrepperPluginConstructor
@@ -109,12 +113,15 @@ public class S3Source implements Source<Record<Event>>, UsesSourceCoordination {
             final PluginModel codecConfiguration = s3SourceConfig.getCodec();
             final PluginSetting codecPluginSettings = new PluginSetting(codecConfiguration.getPluginName(), codecConfiguration.getPluginSettings());
             final InputCodec codec = pluginFactory.loadPlugin(InputCodec.class, codecPluginSettings);
+            rangedReadExecutor = Executors.newFixedThreadPool(s3SourceConfig.getRangedReadThreads(),
+                    BackgroundThreadFactory.defaultExecutorThreadFactory("s3-source-ranged-read"));
             final S3ObjectRequest s3ObjectRequest = s3ObjectRequestBuilder
                     .bucketOwnerProvider(bucketOwnerProvider)
                     .codec(codec)
                     .eventConsumer(eventMetadataModifier)
                     .s3Client(s3ClientBuilderFactory.getS3Client())
                     .compressionOption(s3SourceConfig.getCompression())
+                    .rangedReadExecutor(rangedReadExecutor)
                     .build();
             s3Handler = new S3ObjectWorker(s3ObjectRequest);
         }
@@ -139,6 +146,10 @@ public class S3Source implements Source<Record<Event>>, UsesSourceCoordination {
         if (Objects.nonNull(s3ScanService) && Objects.nonNull(sourceCoordinator)) {
             s3ScanService.stop();
         }
+
+        if (Objects.nonNull(rangedReadExecutor)) {
+            rangedReadExecutor.shutdownNow();
+        }
     }
 
     @Override
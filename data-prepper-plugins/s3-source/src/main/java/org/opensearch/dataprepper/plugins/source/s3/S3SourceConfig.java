@@ -29,6 +29,7 @@ public class S3SourceConfig {
     static final Duration DEFAULT_BUFFER_TIMEOUT = Duration.ofSeconds(10);
     static final Duration DEFAULT_BACKOFF_MILLIS = Duration.ofMillis(30000);
     static final int DEFAULT_NUMBER_OF_WORKERS = 1;
+    static final int DEFAULT_RANGED_READ_THREADS = 16;
     static final int DEFAULT_NUMBER_OF_RECORDS_TO_ACCUMULATE = 100;
     static final String DEFAULT_METADATA_ROOT_KEY = "s3/";
 
@@ -54,6 +55,11 @@ public class S3SourceConfig {
     @Valid
     private int numWorkers = DEFAULT_NUMBER_OF_WORKERS;
 
+    @JsonProperty("ranged_read_threads")
+    @Min(1)
+    @Max(1000)
+    private int rangedReadThreads = DEFAULT_RANGED_READ_THREADS;
+
     @JsonProperty("aws")
     @NotNull
     @Valid
@@ -137,6 +143,10 @@ public class S3SourceConfig {
         return numWorkers;
     }
 
+    public int getRangedReadThreads() {
+        return rangedReadThreads;
+    }
+
     public CompressionOption getCompression() {
         return compression;
     }
@@ -44,7 +44,7 @@ public class S3InputFileTest {
     }
 
     private S3InputFile createObjectUnderTest() {
-        return new S3InputFile(s3Client, s3ObjectReference, bucketOwnerProvider, s3ObjectPluginMetrics);
+        return new S3InputFile(s3Client, s3ObjectReference, bucketOwnerProvider, s3ObjectPluginMetrics, null);
     }
 
     @Test
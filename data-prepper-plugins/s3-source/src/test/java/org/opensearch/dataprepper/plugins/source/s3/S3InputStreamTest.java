@@ -2,6 +2,9 @@ package org.opensearch.dataprepper.plugins.source.s3;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
+import org.apache.parquet.bytes.HeapByteBufferAllocator;
+import org.apache.parquet.io.ParquetFileRange;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,9 +25,14 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -60,6 +68,7 @@ class S3InputStreamTest {
     private DistributionSummary s3ObjectSizeProcessedSummary;
     private Counter s3ObjectsFailedNotFoundCounter;
     private Counter s3ObjectsFailedAccessDeniedCounter;
+    private ExecutorService rangedReadExecutor;
     private String bucketName;
     private String key;
 
@@ -79,9 +88,16 @@ class S3InputStreamTest {
         when(s3ObjectPluginMetrics.getS3ObjectsFailedAccessDeniedCounter()).thenReturn(s3ObjectsFailedAccessDeniedCounter);
     }
 
+    @AfterEach
+    void tearDown() {
+        if (rangedReadExecutor != null) {
+            rangedReadExecutor.shutdownNow();
+        }
+    }
+
     private S3InputStream createObjectUnderTest() {
         return new S3InputStream(
-                s3Client, s3ObjectReference, bucketOwnerProvider, metadata, s3ObjectPluginMetrics, RETRY_DELAY, RETRIES);
+                s3Client, s3ObjectReference, bucketOwnerProvider, metadata, s3ObjectPluginMetrics, RETRY_DELAY, RETRIES, rangedReadExecutor);
     }
 
     @Test
@@ -561,6 +577,53 @@ class S3InputStreamTest {
         verify(s3ObjectsFailedAccessDeniedCounter).increment();
     }
 
+    @Test
+    void testReadVectoredNotAvailableWithoutExecutor() {
+        final S3InputStream s3InputStream = createObjectUnderTest();
+
+        assertThat(s3InputStream.readVectoredAvailable(new HeapByteBufferAllocator()), equalTo(false));
+    }
+
+    @Test
+    void testReadVectoredReadsEachRangeWithRangedRequest() throws Exception {
+        rangedReadExecutor = Executors.newFixedThreadPool(2);
+        when(s3Client.getObject(any(GetObjectRequest.class), any(ResponseTransformer.class))).thenAnswer(invocation -> {
+            final GetObjectRequest request = invocation.getArgument(0);
+            final String range = request.range();
+            return new ByteArrayInputStream(range.getBytes());
+        });
+        final S3InputStream s3InputStream = createObjectUnderTest();
+        final ParquetFileRange firstRange = new ParquetFileRange(0, 10);
+        final ParquetFileRange secondRange = new ParquetFileRange(100, 11);
+
+        assertThat(s3InputStream.readVectoredAvailable(new HeapByteBufferAllocator()), equalTo(true));
+        s3InputStream.readVectored(List.of(firstRange, secondRange), new HeapByteBufferAllocator());
+
+        assertThat(StandardCharsets.UTF_8.decode(firstRange.getDataReadFuture().get()).toString(), equalTo("bytes=0-9"));
+        assertThat(StandardCharsets.UTF_8.decode(secondRange.getDataReadFuture().get()).toString(), equalTo("bytes=100-110"));
+        assertEquals(0, s3InputStream.getPos());
+
+        s3InputStream.close();
+        verify(s3ObjectSizeProcessedSummary).record(21.0);
+    }
+
+    @Test
+    void testReadVectoredFailsRangeWhenRequestFails() {
+        rangedReadExecutor = Executors.newFixedThreadPool(2);
+        when(s3Client.getObject(any(GetObjectRequest.class), any(ResponseTransformer.class))).thenThrow(
+            S3Exception.builder()
+                .statusCode(HttpStatusCode.NOT_FOUND)
+                .build());
+        final S3InputStream s3InputStream = createObjectUnderTest();
+        final ParquetFileRange range = new ParquetFileRange(0, 10);
+
+        s3InputStream.readVectored(List.of(range), new HeapByteBufferAllocator());
+
+        final ExecutionException exception = assertThrows(ExecutionException.class, () -> range.getDataReadFuture().get());
+        assertThat(exception.getCause() instanceof S3Exception, equalTo(true));
+        verify(s3ObjectsFailedNotFoundCounter).increment();
+    }
+
     private static Stream<Class<? extends Throwable>> retryableExceptions() {
         return S3InputStream.RETRYABLE_EXCEPTIONS.stream();
     }
@@ -36,6 +36,11 @@ class S3SourceConfigTest {
         assertThat(new S3SourceConfig().getOnErrorOption(), equalTo(OnErrorOption.RETAIN_MESSAGES));
     }
 
+    @Test
+    void default_ranged_read_threads_test() {
+        assertThat(new S3SourceConfig().getRangedReadThreads(), equalTo(S3SourceConfig.DEFAULT_RANGED_READ_THREADS));
+    }
+
     @Test
     void default_request_timeout_test() {
         assertThat(new S3SourceConfig().getBufferTimeout(), equalTo(DEFAULT_BUFFER_TIMEOUT));
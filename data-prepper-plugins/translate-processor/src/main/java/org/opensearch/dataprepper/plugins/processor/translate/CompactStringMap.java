@@ -0,0 +1,128 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.translate;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable map of strings which keeps its keys and values in two open addressing arrays rather than
+ * in one node object per entry. Equal values share a single instance, since large translation tables
+ * usually map many keys to few values.
+ */
+class CompactStringMap extends AbstractMap<String, Object> {
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private final String[] keys;
+    private final Object[] values;
+    private final int mask;
+    private final int size;
+
+    CompactStringMap(final Map<String, Object> map) {
+        final int capacity = tableSizeFor(map.size());
+        keys = new String[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+
+        final Map<Object, Object> canonicalValues = new HashMap<>();
+        int entries = 0;
+        for (final Map.Entry<String, Object> entry : map.entrySet()) {
+            final String key = entry.getKey();
+            if (key == null) {
+                throw new IllegalArgumentException("Keys must not be null");
+            }
+            final int slot = findSlot(key);
+            if (keys[slot] == null) {
+                entries++;
+            }
+            keys[slot] = key;
+            values[slot] = entry.getValue() == null ? null : canonicalValues.computeIfAbsent(entry.getValue(), value -> value);
+        }
+        size = entries;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return key instanceof String && keys[findSlot((String) key)] != null;
+    }
+
+    @Override
+    public Object get(final Object key) {
+        return key instanceof String ? values[findSlot((String) key)] : null;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Returns the slot which holds the key, or the empty slot where it would be stored.
+     */
+    private int findSlot(final String key) {
+        final int hash = key.hashCode();
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        while (keys[slot] != null && !keys[slot].equals(key)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int tableSizeFor(final int expectedSize) {
+        // Keeps the load factor at or below two thirds, with at least one empty slot to end every probe.
+        final long minimumCapacity = Math.max(2L, expectedSize + (expectedSize >> 1) + 1L);
+        if (minimumCapacity > MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException("Too many entries: " + expectedSize);
+        }
+        return Integer.highestOneBit((int) minimumCapacity - 1) << 1;
+    }
+
+    private class EntryIterator implements Iterator<Entry<String, Object>> {
+        private int nextSlot = advance(0);
+
+        private int advance(int slot) {
+            while (slot < keys.length && keys[slot] == null) {
+                slot++;
+            }
+            return slot;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextSlot < keys.length;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final Entry<String, Object> entry = new SimpleImmutableEntry<>(keys[nextSlot], values[nextSlot]);
+            nextSlot = advance(nextSlot + 1);
+            return entry;
+        }
+    }
+}
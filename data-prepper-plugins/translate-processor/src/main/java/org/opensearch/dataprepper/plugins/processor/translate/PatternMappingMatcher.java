@@ -0,0 +1,154 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.translate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Matches a source value against the configured patterns, in the order in which they are configured.
+ * <p>
+ * Patterns without any regex syntax are looked up in a map. The other patterns are only evaluated if
+ * the source value contains the literal text which every match of the pattern starts with. For exact
+ * matching, the patterns are also partitioned by the first character of that text, so only the
+ * patterns which can match the first character of a source value are evaluated.
+ */
+class PatternMappingMatcher {
+    private static final String META_CHARACTERS = "\\^$.|?*+()[]{}";
+    private static final String QUANTIFIERS = "?*+{";
+
+    private final boolean exact;
+    private final List<PatternEntry> patternEntries = new ArrayList<>();
+    private final Map<String, PatternEntry> literalPatternEntries = new HashMap<>();
+    private final Map<Character, List<PatternEntry>> patternEntriesByFirstCharacter = new HashMap<>();
+    private final List<PatternEntry> patternEntriesWithoutPrefix = new ArrayList<>();
+
+    PatternMappingMatcher(final Map<Pattern, Object> compiledPatterns, final boolean exact) {
+        this.exact = exact;
+        for (final Map.Entry<Pattern, Object> compiledPattern : compiledPatterns.entrySet()) {
+            final Pattern pattern = compiledPattern.getKey();
+            final PatternEntry patternEntry = new PatternEntry(patternEntries.size(), pattern,
+                    getLiteralPrefix(pattern.pattern()), compiledPattern.getValue());
+            patternEntries.add(patternEntry);
+
+            if (isLiteral(pattern.pattern())) {
+                literalPatternEntries.putIfAbsent(pattern.pattern(), patternEntry);
+            } else if (patternEntry.literalPrefix.isEmpty()) {
+                patternEntriesWithoutPrefix.add(patternEntry);
+            } else {
+                patternEntriesByFirstCharacter
+                        .computeIfAbsent(patternEntry.literalPrefix.charAt(0), character -> new ArrayList<>())
+                        .add(patternEntry);
+            }
+        }
+    }
+
+    boolean isEmpty() {
+        return patternEntries.isEmpty();
+    }
+
+    Optional<Object> match(final String sourceValue) {
+        return exact ? matchExactly(sourceValue) : matchPartially(sourceValue);
+    }
+
+    private Optional<Object> matchExactly(final String sourceValue) {
+        PatternEntry matchingEntry = literalPatternEntries.get(sourceValue);
+        final int maximumIndex = matchingEntry != null ? matchingEntry.index : Integer.MAX_VALUE;
+
+        final List<PatternEntry> prefixedEntries = sourceValue.isEmpty() ? Collections.emptyList() :
+                patternEntriesByFirstCharacter.getOrDefault(sourceValue.charAt(0), Collections.emptyList());
+        int prefixedPosition = 0;
+        int unprefixedPosition = 0;
+        while (true) {
+            final PatternEntry prefixedEntry = prefixedPosition < prefixedEntries.size() ? prefixedEntries.get(prefixedPosition) : null;
+            final PatternEntry unprefixedEntry = unprefixedPosition < patternEntriesWithoutPrefix.size() ?
+                    patternEntriesWithoutPrefix.get(unprefixedPosition) : null;
+            final PatternEntry patternEntry;
+            if (prefixedEntry != null && (unprefixedEntry == null || prefixedEntry.index < unprefixedEntry.index)) {
+                patternEntry = prefixedEntry;
+                prefixedPosition++;
+            } else {
+                patternEntry = unprefixedEntry;
+                unprefixedPosition++;
+            }
+
+            if (patternEntry == null || patternEntry.index >= maximumIndex) {
+                break;
+            }
+            if (sourceValue.startsWith(patternEntry.literalPrefix) && patternEntry.pattern.matcher(sourceValue).matches()) {
+                matchingEntry = patternEntry;
+                break;
+            }
+        }
+        return matchingEntry != null ? Optional.of(matchingEntry.value) : Optional.empty();
+    }
+
+    private Optional<Object> matchPartially(final String sourceValue) {
+        for (final PatternEntry patternEntry : patternEntries) {
+            if (!sourceValue.contains(patternEntry.literalPrefix)) {
+                continue;
+            }
+            final Matcher matcher = patternEntry.pattern.matcher(sourceValue);
+            if (matcher.matches()) {
+                return Optional.of(patternEntry.value);
+            }
+            if (matcher.find()) {
+                return Optional.of(matcher.replaceAll((String) patternEntry.value));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isLiteral(final String regex) {
+        for (int i = 0; i < regex.length(); i++) {
+            if (META_CHARACTERS.indexOf(regex.charAt(i)) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the literal text at the start of the regex which every match starts with, or an empty string
+     * if the regex may match without it.
+     */
+    static String getLiteralPrefix(final String regex) {
+        if (regex.indexOf('|') >= 0) {
+            return "";
+        }
+        int end = 0;
+        while (end < regex.length() && META_CHARACTERS.indexOf(regex.charAt(end)) < 0) {
+            end++;
+        }
+        if (end < regex.length() && QUANTIFIERS.indexOf(regex.charAt(end)) >= 0 && end > 0) {
+            end--;
+            if (end > 0 && Character.isHighSurrogate(regex.charAt(end - 1))) {
+                end--;
+            }
+        }
+        return regex.substring(0, end);
+    }
+
+    private static class PatternEntry {
+        private final int index;
+        private final Pattern pattern;
+        private final String literalPrefix;
+        private final Object value;
+
+        private PatternEntry(final int index, final Pattern pattern, final String literalPrefix, final Object value) {
+            this.index = index;
+            this.pattern = pattern;
+            this.literalPrefix = literalPrefix;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.translate;
+
+import org.apache.commons.lang3.Range;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Looks up the value of the range which contains a key with a binary search over the sorted ranges.
+ * The ranges must not overlap, which {@link MappingsParser} makes sure of.
+ */
+class RangeMappingIndex {
+    private final float[] minimums;
+    private final float[] maximums;
+    private final Object[] values;
+
+    RangeMappingIndex(final Map<Range<Float>, Object> rangeMappings) {
+        final List<Map.Entry<Range<Float>, Object>> sortedEntries = new ArrayList<>(rangeMappings.entrySet());
+        sortedEntries.sort(Comparator.comparing(entry -> entry.getKey().getMinimum()));
+
+        minimums = new float[sortedEntries.size()];
+        maximums = new float[sortedEntries.size()];
+        values = new Object[sortedEntries.size()];
+        for (int i = 0; i < sortedEntries.size(); i++) {
+            final Map.Entry<Range<Float>, Object> entry = sortedEntries.get(i);
+            minimums[i] = entry.getKey().getMinimum();
+            maximums[i] = entry.getKey().getMaximum();
+            values[i] = entry.getValue();
+        }
+    }
+
+    boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    Optional<Object> find(final float key) {
+        int low = 0;
+        int high = minimums.length - 1;
+        int candidate = -1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            if (Float.compare(minimums[middle], key) <= 0) {
+                candidate = middle;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        if (candidate >= 0 && Float.compare(key, maximums[candidate]) <= 0) {
+            return Optional.of(values[candidate]);
+        }
+        return Optional.empty();
+    }
+}
@@ -8,7 +8,6 @@ import org.apache.commons.lang3.Range;
 import org.opensearch.dataprepper.plugins.processor.mutateevent.TargetType;
 import org.opensearch.dataprepper.typeconverter.TypeConverter;
 
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -19,8 +18,10 @@ import java.util.stream.Stream;
 public class TargetsParameterConfig {
     private final TypeConverter converter;
     private final LinkedHashMap<Range<Float>, Object> rangeMappings = new LinkedHashMap<>();
-    private final Map<String, Object> individualMappings = new HashMap<>();
-    private final Map<Pattern, Object> compiledPatterns = new HashMap<>();
+    private final Map<Pattern, Object> compiledPatterns = new LinkedHashMap<>();
+    private Map<String, Object> individualMappings = new CompactStringMap(Map.of());
+    private RangeMappingIndex rangeMappingIndex = new RangeMappingIndex(Map.of());
+    private PatternMappingMatcher patternMappingMatcher = new PatternMappingMatcher(Map.of(), true);
     @JsonProperty("target")
     @NotNull
     @NotEmpty
@@ -88,6 +89,14 @@ public class TargetsParameterConfig {
         return compiledPatterns;
     }
 
+    RangeMappingIndex fetchRangeMappingIndex() {
+        return rangeMappingIndex;
+    }
+
+    PatternMappingMatcher fetchPatternMappingMatcher() {
+        return patternMappingMatcher;
+    }
+
     public TypeConverter getConverter() {
         return converter;
     }
@@ -135,9 +144,14 @@ public class TargetsParameterConfig {
 
     public void parseMappings() {
         MappingsParser parser = new MappingsParser(this);
-        individualMappings.putAll(parser.fetchIndividualMappings());
+        individualMappings = new CompactStringMap(parser.fetchIndividualMappings());
+        rangeMappings.clear();
         rangeMappings.putAll(parser.fetchRangeMappings());
+        compiledPatterns.clear();
         compiledPatterns.putAll(parser.fetchCompiledPatterns());
+        rangeMappingIndex = new RangeMappingIndex(rangeMappings);
+        final boolean exact = regexParameterConfig == null || regexParameterConfig.getExact();
+        patternMappingMatcher = new PatternMappingMatcher(compiledPatterns, exact);
     }
 
 }
@@ -5,7 +5,8 @@
 
 package org.opensearch.dataprepper.plugins.processor.translate;
 
-import org.apache.commons.lang3.Range;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
@@ -23,13 +24,11 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedHashMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static org.opensearch.dataprepper.logging.DataPrepperMarkers.EVENT;
@@ -42,6 +41,7 @@ public class TranslateProcessor extends AbstractProcessor<Record<Event>, Record<
     private final List<MappingsParameterConfig> mappingsConfig;
     private final JacksonEvent.Builder eventBuilder= JacksonEvent.builder();
     private final JsonExtractor jsonExtractor = new JsonExtractor();
+    private final Map<TargetsParameterConfig, Cache<String, Optional<Object>>> resultCaches = new HashMap<>();
 
     @DataPrepperPluginConstructor
     public TranslateProcessor(PluginMetrics pluginMetrics, final TranslateProcessorConfig translateProcessorConfig, final ExpressionEvaluator expressionEvaluator) {
@@ -50,6 +50,25 @@ public class TranslateProcessor extends AbstractProcessor<Record<Event>, Record<
         mappingsConfig = translateProcessorConfig.getCombinedMappingsConfigs();
         Optional.ofNullable(mappingsConfig)
                 .ifPresent(configs -> configs.forEach(MappingsParameterConfig::parseMappings));
+        createResultCaches(translateProcessorConfig.getResultCacheSize());
+    }
+
+    private void createResultCaches(final int resultCacheSize) {
+        if (Objects.isNull(mappingsConfig) || resultCacheSize <= 0) {
+            return;
+        }
+        for (MappingsParameterConfig mappingConfig : mappingsConfig) {
+            if (Objects.isNull(mappingConfig.getTargetsParameterConfigs())) {
+                continue;
+            }
+            for (TargetsParameterConfig targetConfig : mappingConfig.getTargetsParameterConfigs()) {
+                if (!targetConfig.fetchRangeMappingIndex().isEmpty() || !targetConfig.fetchPatternMappingMatcher().isEmpty()) {
+                    resultCaches.put(targetConfig, Caffeine.newBuilder()
+                            .maximumSize(resultCacheSize)
+                            .build());
+                }
+            }
+        }
     }
 
     @Override
@@ -172,9 +191,20 @@ public class TranslateProcessor extends AbstractProcessor<Record<Event>, Record<
     }
 
     private Optional<Object> getTargetValueForSource(final String sourceValue, TargetsParameterConfig targetConfig) {
+        final Optional<Object> individualValue = matchesIndividualEntry(sourceValue, targetConfig);
+        if (individualValue.isPresent()) {
+            return individualValue;
+        }
+        final Cache<String, Optional<Object>> resultCache = resultCaches.get(targetConfig);
+        if (resultCache == null) {
+            return getRangeOrPatternValueForSource(sourceValue, targetConfig);
+        }
+        return resultCache.get(sourceValue, value -> getRangeOrPatternValueForSource(value, targetConfig));
+    }
+
+    private Optional<Object> getRangeOrPatternValueForSource(final String sourceValue, TargetsParameterConfig targetConfig) {
         Optional<Object> targetValue = Optional.empty();
         targetValue = targetValue
-                .or(() -> matchesIndividualEntry(sourceValue, targetConfig))
                 .or(() -> matchesRangeEntry(sourceValue, targetConfig))
                 .or(() -> matchesPatternEntry(sourceValue, targetConfig))
                 .or(() -> Optional.ofNullable(targetConfig.getDefaultValue()));
@@ -193,34 +223,11 @@ public class TranslateProcessor extends AbstractProcessor<Record<Event>, Record<
         if (!NumberUtils.isParsable(sourceValue)) {
             return Optional.empty();
         }
-        Float floatKey = Float.parseFloat(sourceValue);
-        LinkedHashMap<Range<Float>, Object> rangeMappings = targetConfig.fetchRangeMappings();
-        for (Map.Entry<Range<Float>, Object> rangeEntry : rangeMappings.entrySet()) {
-            Range<Float> range = rangeEntry.getKey();
-            if (range.contains(floatKey)) {
-                return Optional.of(rangeEntry.getValue());
-            }
-        }
-        return Optional.empty();
+        return targetConfig.fetchRangeMappingIndex().find(Float.parseFloat(sourceValue));
     }
 
     private Optional<Object> matchesPatternEntry(final String sourceValue, TargetsParameterConfig targetConfig) {
-        Map<Pattern, Object> compiledPatterns = targetConfig.fetchCompiledPatterns();
-        if (compiledPatterns.isEmpty()) {
-            return Optional.empty();
-        }
-        final boolean exact = targetConfig.getRegexParameterConfiguration().getExact();
-        for (Pattern pattern : compiledPatterns.keySet()) {
-            Matcher matcher = pattern.matcher(sourceValue);
-            if (matcher.matches()) {
-                return Optional.of(compiledPatterns.get(pattern));
-            }
-            if(!exact && matcher.find()) {
-                String targetValue = (String)compiledPatterns.get(pattern);
-                return Optional.of(matcher.replaceAll(targetValue));
-            }
-        }
-        return Optional.empty();
+        return targetConfig.fetchPatternMappingMatcher().match(sourceValue);
     }
 
     private void addTargetToRecords(Object sourceObject, List<Object> targetValues, Object recordObject, TargetsParameterConfig targetMappings) {
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -17,6 +18,7 @@ import java.util.Objects;
 
 
 public class TranslateProcessorConfig {
+    static final int DEFAULT_RESULT_CACHE_SIZE = 1000;
 
     @JsonProperty("file")
     @Valid
@@ -26,6 +28,10 @@ public class TranslateProcessorConfig {
     @Valid
     private List<MappingsParameterConfig> mappingsParameterConfigs = new ArrayList<>();
 
+    @JsonProperty("result_cache_size")
+    @Min(0)
+    private int resultCacheSize = DEFAULT_RESULT_CACHE_SIZE;
+
     @JsonIgnore
     private List<MappingsParameterConfig> fileMappingsConfigs;
 
@@ -40,6 +46,10 @@ public class TranslateProcessorConfig {
         return mappingsParameterConfigs;
     }
 
+    public int getResultCacheSize() {
+        return resultCacheSize;
+    }
+
     public List<MappingsParameterConfig> getCombinedMappingsConfigs() {
         return combinedMappingsConfigs;
     }
@@ -0,0 +1,76 @@
+package org.opensearch.dataprepper.plugins.processor.translate;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactStringMapTest {
+
+    @Test
+    void test_map_contains_all_entries() {
+        final Map<String, Object> entries = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            entries.put(UUID.randomUUID().toString(), "value" + (i % 10));
+        }
+        entries.put("nullValue", null);
+
+        final CompactStringMap compactStringMap = new CompactStringMap(entries);
+
+        assertThat(compactStringMap.size(), is(entries.size()));
+        assertThat(compactStringMap, equalTo(entries));
+        for (Map.Entry<String, Object> entry : entries.entrySet()) {
+            assertTrue(compactStringMap.containsKey(entry.getKey()));
+            assertThat(compactStringMap.get(entry.getKey()), equalTo(entry.getValue()));
+        }
+        assertTrue(compactStringMap.containsKey("nullValue"));
+        assertThat(compactStringMap.get("nullValue"), nullValue());
+    }
+
+    @Test
+    void test_map_does_not_contain_other_keys() {
+        final CompactStringMap compactStringMap = new CompactStringMap(Map.of("key1", "value1", "key2", "value2"));
+
+        assertFalse(compactStringMap.containsKey("key3"));
+        assertThat(compactStringMap.get("key3"), nullValue());
+        assertFalse(compactStringMap.containsKey(1));
+        assertThat(compactStringMap.get(1), nullValue());
+    }
+
+    @Test
+    void test_equal_values_share_one_instance() {
+        final Map<String, Object> entries = new HashMap<>();
+        entries.put("key1", new String("value"));
+        entries.put("key2", new String("value"));
+
+        final CompactStringMap compactStringMap = new CompactStringMap(entries);
+
+        assertThat(compactStringMap.get("key1"), sameInstance(compactStringMap.get("key2")));
+    }
+
+    @Test
+    void test_empty_map() {
+        final CompactStringMap compactStringMap = new CompactStringMap(Map.of());
+
+        assertTrue(compactStringMap.isEmpty());
+        assertFalse(compactStringMap.containsKey("key"));
+        assertFalse(compactStringMap.entrySet().iterator().hasNext());
+    }
+
+    @Test
+    void test_map_is_immutable() {
+        final CompactStringMap compactStringMap = new CompactStringMap(Map.of("key", "value"));
+
+        assertThrows(UnsupportedOperationException.class, () -> compactStringMap.put("other", "value"));
+    }
+}
@@ -0,0 +1,100 @@
+package org.opensearch.dataprepper.plugins.processor.translate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PatternMappingMatcherTest {
+
+    private PatternMappingMatcher createObjectUnderTest(final boolean exact, final String... patternsAndValues) {
+        final Map<Pattern, Object> compiledPatterns = new LinkedHashMap<>();
+        for (int i = 0; i < patternsAndValues.length; i += 2) {
+            compiledPatterns.put(Pattern.compile(patternsAndValues[i]), patternsAndValues[i + 1]);
+        }
+        return new PatternMappingMatcher(compiledPatterns, exact);
+    }
+
+    @Test
+    void test_exact_match_returns_the_value_of_the_first_matching_pattern() {
+        final PatternMappingMatcher patternMappingMatcher = createObjectUnderTest(true,
+                "^(1[0-9]|20)$", "range",
+                "host-[0-9]+", "numbered host",
+                "host-1", "literal host",
+                ".*-prod", "production",
+                "hostname", "literal");
+
+        assertFalse(patternMappingMatcher.isEmpty());
+        assertThat(patternMappingMatcher.match("15"), is(Optional.of("range")));
+        assertThat(patternMappingMatcher.match("host-1"), is(Optional.of("numbered host")));
+        assertThat(patternMappingMatcher.match("host-prod"), is(Optional.of("production")));
+        assertThat(patternMappingMatcher.match("hostname"), is(Optional.of("literal")));
+        assertThat(patternMappingMatcher.match("hostname-2"), is(Optional.empty()));
+        assertThat(patternMappingMatcher.match(""), is(Optional.empty()));
+    }
+
+    @Test
+    void test_exact_match_prefers_earlier_regex_over_later_literal() {
+        final PatternMappingMatcher patternMappingMatcher = createObjectUnderTest(true,
+                "[a-z]+", "word",
+                "abc", "literal");
+
+        assertThat(patternMappingMatcher.match("abc"), is(Optional.of("word")));
+    }
+
+    @Test
+    void test_exact_match_prefers_earlier_literal_over_later_regex() {
+        final PatternMappingMatcher patternMappingMatcher = createObjectUnderTest(true,
+                "abc", "literal",
+                "[a-z]+", "word");
+
+        assertThat(patternMappingMatcher.match("abc"), is(Optional.of("literal")));
+        assertThat(patternMappingMatcher.match("xyz"), is(Optional.of("word")));
+    }
+
+    @Test
+    void test_partial_match_replaces_the_matching_text() {
+        final PatternMappingMatcher patternMappingMatcher = createObjectUnderTest(false,
+                "^(1[0-9]|20)$", "range",
+                "foo", "bar",
+                "err(or)?", "failure");
+
+        assertThat(patternMappingMatcher.match("15"), is(Optional.of("range")));
+        assertThat(patternMappingMatcher.match("footer"), is(Optional.of("barter")));
+        assertThat(patternMappingMatcher.match("an error"), is(Optional.of("an failure")));
+        assertThat(patternMappingMatcher.match("fo"), is(Optional.empty()));
+    }
+
+    @Test
+    void test_empty_matcher() {
+        final PatternMappingMatcher patternMappingMatcher = createObjectUnderTest(true);
+
+        assertTrue(patternMappingMatcher.isEmpty());
+        assertThat(patternMappingMatcher.match("value"), is(Optional.empty()));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "abc, abc",
+            "abc.*, abc",
+            "abc*, ab",
+            "ab\\d+, ab",
+            "ab{2}, a",
+            "^abc, ''",
+            "(abc), ''",
+            "abc|def, ''",
+            "[ab]c, ''"
+    })
+    void test_getLiteralPrefix(final String regex, final String expectedPrefix) {
+        assertThat(PatternMappingMatcher.getLiteralPrefix(regex), is(expectedPrefix));
+    }
+}
@@ -0,0 +1,56 @@
+package org.opensearch.dataprepper.plugins.processor.translate;
+
+import org.apache.commons.lang3.Range;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RangeMappingIndexTest {
+
+    private RangeMappingIndex createObjectUnderTest(final Map<Range<Float>, Object> rangeMappings) {
+        return new RangeMappingIndex(rangeMappings);
+    }
+
+    @Test
+    void test_find_returns_the_value_of_the_range_containing_the_key() {
+        final Map<Range<Float>, Object> rangeMappings = new LinkedHashMap<>();
+        rangeMappings.put(Range.between(20f, 29f), "twenties");
+        rangeMappings.put(Range.between(1f, 10f), "ones");
+        rangeMappings.put(Range.between(10.5f, 15f), "teens");
+        final RangeMappingIndex rangeMappingIndex = createObjectUnderTest(rangeMappings);
+
+        assertFalse(rangeMappingIndex.isEmpty());
+        assertThat(rangeMappingIndex.find(1f), is(Optional.of("ones")));
+        assertThat(rangeMappingIndex.find(5.5f), is(Optional.of("ones")));
+        assertThat(rangeMappingIndex.find(10f), is(Optional.of("ones")));
+        assertThat(rangeMappingIndex.find(10.5f), is(Optional.of("teens")));
+        assertThat(rangeMappingIndex.find(29f), is(Optional.of("twenties")));
+    }
+
+    @Test
+    void test_find_returns_empty_when_no_range_contains_the_key() {
+        final Map<Range<Float>, Object> rangeMappings = new LinkedHashMap<>();
+        rangeMappings.put(Range.between(1f, 10f), "ones");
+        rangeMappings.put(Range.between(20f, 29f), "twenties");
+        final RangeMappingIndex rangeMappingIndex = createObjectUnderTest(rangeMappings);
+
+        assertThat(rangeMappingIndex.find(0.5f), is(Optional.empty()));
+        assertThat(rangeMappingIndex.find(10.1f), is(Optional.empty()));
+        assertThat(rangeMappingIndex.find(30f), is(Optional.empty()));
+    }
+
+    @Test
+    void test_empty_index() {
+        final RangeMappingIndex rangeMappingIndex = createObjectUnderTest(Map.of());
+
+        assertTrue(rangeMappingIndex.isEmpty());
+        assertThat(rangeMappingIndex.find(1f), is(Optional.empty()));
+    }
+}
@@ -53,6 +53,11 @@ class TranslateProcessorConfigTest {
         assertThat(translateProcessorConfig.getMappingsParameterConfigs(), is(mappingsParameterConfigs));
     }
 
+    @Test
+    void test_default_result_cache_size() {
+        assertThat(translateProcessorConfig.getResultCacheSize(), is(TranslateProcessorConfig.DEFAULT_RESULT_CACHE_SIZE));
+    }
+
     @Nested
     class FilePathTests{
         private File testMappingsFile;
@@ -322,6 +322,27 @@ class TranslateProcessorTest {
         assertThat(translatedPatternKeyRecords.get(0).getData().get("targetField", String.class), is("patternValue1"));
     }
 
+    @Test
+    void test_range_and_pattern_matching_with_result_cache() {
+        when(mockConfig.getResultCacheSize()).thenReturn(10);
+        when(mockRegexConfig.getPatterns()).thenReturn(createMapEntries(createMapping("^error.*", "patternValue1")));
+        targetsParameterConfig = new TargetsParameterConfig(
+                createMapEntries(createMapping("1-10", "rangeValue1"), createMapping("key1", "mappedValue1")),
+                "targetField", mockRegexConfig, null, "defaultValue", null);
+        when(mappingsParameterConfig.getTargetsParameterConfigs()).thenReturn(List.of(targetsParameterConfig));
+        final TranslateProcessor processor = createObjectUnderTest();
+
+        for (int i = 0; i < 2; i++) {
+            final List<Record<Event>> translatedRecords = (List<Record<Event>>) processor.doExecute(
+                    List.of(getEvent("5"), getEvent("errorCode"), getEvent("key1"), getEvent("other")));
+
+            assertThat(translatedRecords.get(0).getData().get("targetField", String.class), is("rangeValue1"));
+            assertThat(translatedRecords.get(1).getData().get("targetField", String.class), is("patternValue1"));
+            assertThat(translatedRecords.get(2).getData().get("targetField", String.class), is("mappedValue1"));
+            assertThat(translatedRecords.get(3).getData().get("targetField", String.class), is("defaultValue"));
+        }
+    }
+
     @Test
     void test_source_array_single_key() {
         when(mappingsParameterConfig.getSource()).thenReturn(new ArrayList(List.of("sourceField")));